@@ -8,6 +8,8 @@ import java.util.Set;
 import org.openqa.selenium.support.Color;
 
 import info.novatec.testit.webtester.api.exceptions.config.SetNullValuesException;
+import info.novatec.testit.webtester.utils.PageReadinessChecks;
+import info.novatec.testit.webtester.utils.PollingStrategies;
 import info.novatec.testit.webtester.utils.Waits;
 
 
@@ -235,6 +237,51 @@ public interface Configuration {
      */
     Configuration setMarkingsColorReadOutline(Color color);
 
+    /**
+     * Returns whether or not markings are buffered. If buffered, markings are
+     * collected per browser and applied to all marked elements with a single
+     * JavaScript execution when a marking is added after the
+     * {@link #getMarkingsBufferedInterval() buffer interval} has passed or
+     * before the browser navigates, a page object is clicked, a form is
+     * submitted, the focus is switched, a screenshot is taken or a page object
+     * is waited on. Markings still buffered when the browser is closed are
+     * dropped.
+     *
+     * @return true if markings are buffered, otherwise false
+     * @since 1.3.0
+     */
+    boolean markingsAreBuffered();
+
+    /**
+     * Sets whether or not markings are buffered.
+     *
+     * @param buffered whether or not markings should be buffered
+     * @return the same configuration for fluent API
+     * @see #markingsAreBuffered()
+     * @since 1.3.0
+     */
+    Configuration setMarkingsBuffered(boolean buffered);
+
+    /**
+     * Returns the number of milliseconds after which buffered markings are
+     * applied together with the next marking. The interval is only checked
+     * when a marking is added, there is no timer applying them on its own.
+     *
+     * @return the number of milliseconds
+     * @since 1.3.0
+     */
+    int getMarkingsBufferedInterval();
+
+    /**
+     * Sets the maximum number of milliseconds markings are buffered before
+     * they are applied together with the next marking.
+     *
+     * @param interval the number of milliseconds
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setMarkingsBufferedInterval(int interval);
+
     /**
      * Returns the default maximum number of seconds to wait when executing wait
      * operations on page objects using the {@link Waits} API.
@@ -273,6 +320,99 @@ public interface Configuration {
      */
     Configuration setWaitInterval(long waitInterval);
 
+    /**
+     * Returns the name of the polling strategy used to determine the delay
+     * between two checks when executing wait operations on page objects using
+     * the {@link Waits} API. Supported are <code>fixed</code>,
+     * <code>backoff</code> and <code>jitter</code>.
+     *
+     * @return the name of the polling strategy
+     * @see PollingStrategies#fromConfiguration(Configuration)
+     * @since 1.3.0
+     */
+    String getWaitPollingStrategy();
+
+    /**
+     * Sets the name of the polling strategy used to determine the delay
+     * between two checks when executing wait operations on page objects using
+     * the {@link Waits} API. Supported are <code>fixed</code>,
+     * <code>backoff</code> and <code>jitter</code>.
+     *
+     * @param strategy the name of the polling strategy
+     * @return the same configuration for fluent API
+     * @see PollingStrategies#fromConfiguration(Configuration)
+     * @since 1.3.0
+     */
+    Configuration setWaitPollingStrategy(String strategy);
+
+    /**
+     * Returns the maximum number of milliseconds to wait between checks when
+     * executing wait operations with a <code>backoff</code> or
+     * <code>jitter</code> polling strategy.
+     *
+     * @return the number of milliseconds
+     * @since 1.3.0
+     */
+    long getWaitIntervalMaximum();
+
+    /**
+     * Sets the maximum number of milliseconds to wait between checks when
+     * executing wait operations with a <code>backoff</code> or
+     * <code>jitter</code> polling strategy.
+     *
+     * @param maximum the maximum interval in milliseconds
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setWaitIntervalMaximum(long maximum);
+
+    /**
+     * Returns whether or not wait operations on page objects should let the
+     * browser watch the page object's element for changes instead of polling
+     * the condition over WebDriver. This is only done for conditions which are
+     * {@link info.novatec.testit.webtester.api.utils.ObservableCondition
+     * observable}.
+     *
+     * @return true if browser side waiting is active, otherwise false
+     * @since 1.3.0
+     */
+    boolean browserSideWaitingIsActivated();
+
+    /**
+     * Sets whether or not wait operations on page objects should let the
+     * browser watch the page object's element for changes instead of polling
+     * the condition over WebDriver.
+     *
+     * @param activated true if browser side waiting should be active
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setBrowserSideWaitingActivated(boolean activated);
+
+    /**
+     * Returns whether or not wait operations on page objects should read a
+     * single {@link info.novatec.testit.webtester.api.utils.ElementSnapshot
+     * snapshot} of the page object's element per check and evaluate the
+     * condition against it. This is only done for conditions which are
+     * {@link info.novatec.testit.webtester.api.utils.SnapshotCondition
+     * snapshot conditions}.
+     *
+     * @return true if condition snapshots are active, otherwise false
+     * @since 1.3.0
+     */
+    boolean conditionSnapshotsAreActivated();
+
+    /**
+     * Sets whether or not wait operations on page objects should read a
+     * single snapshot of the page object's element per check and evaluate
+     * the condition against it.
+     *
+     * @param activated true if condition snapshots should be active
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setConditionSnapshotsActivated(boolean activated);
+
     /**
      * Returns whether or not created browsers should tried to be closed when
      * the JVM is shut down. Depending on your Java and Selenium version this
@@ -297,6 +437,201 @@ public interface Configuration {
      */
     Configuration setCleanupLeftoverBrowsers(boolean browserShouldCloseAutomatically);
 
+    /**
+     * Returns whether or not batched validation is activated. If activated the
+     * tag name and all attributes needed to validate a page object's web
+     * element are read with a single JavaScript execution instead of one
+     * WebDriver command per attribute.
+     *
+     * @return true if batched validation is active, otherwise false
+     * @since 1.3.0
+     */
+    boolean batchedValidationIsActivated();
+
+    /**
+     * Sets whether or not batched validation is activated. If activated the
+     * tag name and all attributes needed to validate a page object's web
+     * element are read with a single JavaScript execution instead of one
+     * WebDriver command per attribute.
+     *
+     * @param activated whether or not batched validation should be activated
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setBatchedValidationActivated(boolean activated);
+
+    /**
+     * Returns whether or not validation caching is activated. If activated web
+     * elements which were successfully validated for a page object class are
+     * remembered and not validated again.
+     *
+     * @return true if validation caching is active, otherwise false
+     * @since 1.3.0
+     */
+    boolean validationCachingIsActivated();
+
+    /**
+     * Sets whether or not validation caching is activated. If activated web
+     * elements which were successfully validated for a page object class are
+     * remembered and not validated again.
+     *
+     * @param activated whether or not validation caching should be activated
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setValidationCachingActivated(boolean activated);
+
+    /**
+     * Returns whether or not page object caching is activated. If activated
+     * page objects keep their resolved web elements until the browser opens
+     * another page, refreshes, navigates, switches its focus to another frame
+     * or window or the element becomes stale.
+     *
+     * @return true if page object caching is active, otherwise false
+     * @since 1.3.0
+     */
+    boolean pageObjectCachingIsActivated();
+
+    /**
+     * Sets whether or not page object caching is activated. If activated page
+     * objects keep their resolved web elements until the browser opens another
+     * page, refreshes, navigates, switches its focus to another frame or window
+     * or the element becomes stale.
+     *
+     * @param activated whether or not page object caching should be activated
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setPageObjectCachingActivated(boolean activated);
+
+    /**
+     * Returns the number of milliseconds the content of a page object list is
+     * reused after it was resolved. As long as the page doesn't change, all
+     * list operations within this window work on the same elements instead of
+     * querying the browser again. A value of 0 means lists are resolved anew
+     * for every operation.
+     *
+     * @return the number of milliseconds
+     * @since 1.3.0
+     */
+    long getPageObjectListMemoization();
+
+    /**
+     * Sets the number of milliseconds the content of a page object list is
+     * reused after it was resolved. As long as the page doesn't change, all
+     * list operations within this window work on the same elements instead of
+     * querying the browser again. A value of 0 means lists are resolved anew
+     * for every operation.
+     *
+     * @param milliseconds the number of milliseconds
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setPageObjectListMemoization(long milliseconds);
+
+    /**
+     * Returns the comma separated names of the built-in page readiness checks
+     * which have to be met after a page was opened, refreshed, navigated to or
+     * a form was submitted. Supported are <code>document</code>,
+     * <code>requests</code>, <code>jquery</code> and <code>angular</code>.
+     *
+     * @return the names of the checks, might be null
+     * @see PageReadinessChecks#fromConfiguration(Configuration)
+     * @since 1.3.0
+     */
+    String getPageReadinessChecks();
+
+    /**
+     * Sets the comma separated names of the built-in page readiness checks
+     * which have to be met after a page was opened, refreshed, navigated to or
+     * a form was submitted.
+     *
+     * @param checks the names of the checks
+     * @return the same configuration for fluent API
+     * @see PageReadinessChecks#fromConfiguration(Configuration)
+     * @since 1.3.0
+     */
+    Configuration setPageReadinessChecks(String checks);
+
+    /**
+     * Returns a custom JavaScript expression which has to evaluate to
+     * <code>true</code> before a page is considered ready.
+     *
+     * @return the JavaScript expression, might be null
+     * @since 1.3.0
+     */
+    String getPageReadinessScript();
+
+    /**
+     * Sets a custom JavaScript expression which has to evaluate to
+     * <code>true</code> before a page is considered ready.
+     *
+     * @param expression the JavaScript expression
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setPageReadinessScript(String expression);
+
+    /**
+     * Returns the maximum number of seconds to wait for a page to become
+     * ready.
+     *
+     * @return the number of seconds
+     * @since 1.3.0
+     */
+    int getPageReadinessTimeout();
+
+    /**
+     * Sets the maximum number of seconds to wait for a page to become ready.
+     *
+     * @param timeout the number of seconds
+     * @return the same configuration for fluent API
+     * @since 1.3.0
+     */
+    Configuration setPageReadinessTimeout(int timeout);
+
+    /**
+     * Returns the maximum number of idle browsers kept by a pooled browser
+     * factory.
+     *
+     * @return the maximum number of idle browsers
+     * @see info.novatec.testit.webtester.browser.factories.PooledBrowserFactory
+     * @since 1.3.0
+     */
+    int getBrowserPoolSize();
+
+    /**
+     * Sets the maximum number of idle browsers kept by a pooled browser
+     * factory.
+     *
+     * @param size the maximum number of idle browsers
+     * @return the same configuration for fluent API
+     * @see info.novatec.testit.webtester.browser.factories.PooledBrowserFactory
+     * @since 1.3.0
+     */
+    Configuration setBrowserPoolSize(int size);
+
+    /**
+     * Returns the maximum number of seconds a browser is kept idle by a pooled
+     * browser factory before it is closed.
+     *
+     * @return the number of seconds
+     * @see info.novatec.testit.webtester.browser.factories.PooledBrowserFactory
+     * @since 1.3.0
+     */
+    int getBrowserPoolMaxIdleTime();
+
+    /**
+     * Sets the maximum number of seconds a browser is kept idle by a pooled
+     * browser factory before it is closed.
+     *
+     * @param maxIdleTime the number of seconds
+     * @return the same configuration for fluent API
+     * @see info.novatec.testit.webtester.browser.factories.PooledBrowserFactory
+     * @since 1.3.0
+     */
+    Configuration setBrowserPoolMaxIdleTime(int maxIdleTime);
+
     /**
      * Removes the property with the given key from this {@link Configuration
      * configuration}.
@@ -0,0 +1,40 @@
+package info.novatec.testit.webtester.api.config;
+
+/**
+ * {@link ConfigurationAdapter Configuration adapters} implementing this
+ * interface can tell whether their source changed since they last adapted a
+ * {@link Configuration configuration}. This allows
+ * {@link ConfigurationBuilder configuration builders} to adapt a configuration
+ * once and hand out copies of it for as long as none of their adapters'
+ * sources changed.
+ * <p>
+ * Adapters which don't implement this interface are considered to change with
+ * every use, so configurations built with them are always adapted anew.
+ *
+ * @see ConfigurationAdapter
+ * @see ConfigurationBuilder
+ * @since 1.3.0
+ */
+public interface TrackableConfigurationAdapter extends ConfigurationAdapter {
+
+    /**
+     * Returned by {@link #getLastModified()} if the changes of an adapter's
+     * source can't be tracked (anymore). Configurations built with such an
+     * adapter are always adapted anew.
+     *
+     * @since 1.3.0
+     */
+    long UNTRACKABLE = -1L;
+
+    /**
+     * Returns a value which changes whenever the source of this adapter
+     * changes. For files this is usually their last modification time. If the
+     * source doesn't exist, 0 is returned. If changes can't be tracked,
+     * {@link #UNTRACKABLE} is returned.
+     *
+     * @return the last modification of this adapter's source
+     * @since 1.3.0
+     */
+    long getLastModified();
+
+}
@@ -26,4 +26,16 @@ public interface PageObjectList<T extends PageObject> extends List<T> {
      */
     PageObjectList<T> filter(Predicate<? super T> condition);
 
+    /**
+     * Creates a new {@link PageObjectList page object list} containing this
+     * lists current content. The new list will not be linked to the original
+     * one and changes to the original list will not be reflected in the new
+     * list. All operations on the snapshot work on the already resolved page
+     * objects and don't need to query the browser again.
+     *
+     * @return a new page object list
+     * @since 1.3.0
+     */
+    PageObjectList<T> snapshot();
+
 }
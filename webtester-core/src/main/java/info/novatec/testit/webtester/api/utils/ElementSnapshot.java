@@ -0,0 +1,91 @@
+package info.novatec.testit.webtester.api.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Snapshot of the state of a {@link PageObject page object's}
+ * {@link WebElement web element} at a single point in time. Snapshots are read
+ * with a single JavaScript execution and are used to evaluate
+ * {@link SnapshotCondition snapshot conditions} without one WebDriver command
+ * per property.
+ * <p>
+ * Since the state is computed with JavaScript, <code>displayed</code>,
+ * <code>enabled</code> and the visible text are close approximations of
+ * Selenium's {@link WebElement#isDisplayed()}, {@link WebElement#isEnabled()}
+ * and {@link WebElement#getText()}. Attributes are resolved like
+ * {@link WebElement#getAttribute(String)}. Only attributes which were
+ * requested when the snapshot was read are available.
+ *
+ * @since 1.3.0
+ */
+public final class ElementSnapshot {
+
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final String tagName;
+    private final String value;
+    private final String visibleText;
+    private final Map<String, String> attributes;
+
+    public ElementSnapshot(boolean displayed, boolean enabled, boolean selected, String tagName, String value,
+        String visibleText, Map<String, String> attributes) {
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.tagName = tagName;
+        this.value = value;
+        this.visibleText = visibleText;
+        this.attributes = Collections.unmodifiableMap(new HashMap<String, String>(attributes));
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getVisibleText() {
+        return visibleText;
+    }
+
+    /**
+     * Returns the value of the attribute with the given name. Attributes which
+     * are not present or weren't requested return <code>null</code>.
+     *
+     * @param attributeName the name of the attribute
+     * @return the value of the attribute or null
+     * @since 1.3.0
+     */
+    public String getAttribute(String attributeName) {
+        return attributes.get(attributeName);
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot [tagName=" + tagName + ", displayed=" + displayed + ", enabled=" + enabled
+            + ", selected=" + selected + ", attributes=" + attributes + ']';
+    }
+
+}
@@ -0,0 +1,33 @@
+package info.novatec.testit.webtester.api.utils;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.utils.Waits;
+
+
+/**
+ * Implemented by conditions whose outcome only depends on state which can be
+ * read from a page object's element with JavaScript. If
+ * {@link Configuration#browserSideWaitingIsActivated() browser side waiting}
+ * is active, {@link Waits wait operations} use this to let the browser watch
+ * the element for changes (via a <code>MutationObserver</code>) instead of
+ * polling the condition over WebDriver. The condition itself is still
+ * evaluated in Java each time the observed state changed.
+ *
+ * @since 1.3.0
+ */
+public interface ObservableCondition {
+
+    /**
+     * Returns a JavaScript expression which computes the state the condition
+     * depends on. The element of the page object is available as the
+     * variable <code>element</code>. The expression's value is compared using
+     * strict equality, so it should evaluate to a primitive value like a
+     * string.
+     *
+     * @return the JavaScript expression or <code>null</code> if the state can
+     * not be observed (e.g. for composite conditions of custom predicates)
+     * @since 1.3.0
+     */
+    String getObservedState();
+
+}
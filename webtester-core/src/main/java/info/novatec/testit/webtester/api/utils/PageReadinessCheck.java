@@ -0,0 +1,31 @@
+package info.novatec.testit.webtester.api.utils;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.utils.Waits;
+
+
+/**
+ * Decides whether or not the page currently displayed by a {@link Browser
+ * browser} is ready to be used. Checks are executed as JavaScript in the
+ * browser - all active checks are combined into a single script, so waiting
+ * for page readiness costs one WebDriver command per check regardless of the
+ * number of active checks.
+ *
+ * @see Waits#waitUntilPageIsReady(Browser)
+ * @since 1.3.0
+ */
+public interface PageReadinessCheck {
+
+    /**
+     * Returns the body of a JavaScript function which returns
+     * <code>true</code> if the page is ready and <code>false</code>
+     * otherwise. The function is executed once per check and should be
+     * side-effect free, except for installing instrumentation it needs for
+     * future checks.
+     *
+     * @return the JavaScript function body
+     * @since 1.3.0
+     */
+    String getScript();
+
+}
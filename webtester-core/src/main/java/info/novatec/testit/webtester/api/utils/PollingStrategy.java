@@ -0,0 +1,34 @@
+package info.novatec.testit.webtester.api.utils;
+
+import info.novatec.testit.webtester.utils.PollingStrategies;
+import info.novatec.testit.webtester.utils.Waits;
+
+
+/**
+ * Implementations of this interface determine how long {@link Waits wait
+ * operations} pause between two checks of their condition.
+ * <p>
+ * A condition is always checked immediately when a wait operation starts and
+ * the operation returns as soon as the condition is met. The strategy is only
+ * asked for a delay after a check failed. Delays are always shortened to the
+ * remaining time of the wait operation.
+ * <p>
+ * Implementations must be thread-safe, since a single instance can be used by
+ * many wait operations at the same time.
+ *
+ * @see PollingStrategies
+ * @since 1.3.0
+ */
+public interface PollingStrategy {
+
+    /**
+     * Returns the number of milliseconds to wait before checking a condition
+     * again after it was checked the given number of times without success.
+     *
+     * @param numberOfChecks the number of checks done so far, starting with 1
+     * @return the delay in milliseconds
+     * @since 1.3.0
+     */
+    long getDelay(int numberOfChecks);
+
+}
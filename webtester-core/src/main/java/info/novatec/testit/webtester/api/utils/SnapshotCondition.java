@@ -0,0 +1,49 @@
+package info.novatec.testit.webtester.api.utils;
+
+import java.util.Set;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.utils.Waits;
+
+
+/**
+ * Implemented by conditions which can be evaluated against an
+ * {@link ElementSnapshot element snapshot}. If
+ * {@link Configuration#conditionSnapshotsAreActivated() condition snapshots}
+ * are active, {@link Waits wait operations} read a single snapshot per check
+ * and evaluate the whole (possibly composite) condition against it instead of
+ * executing one WebDriver command per property.
+ *
+ * @since 1.3.0
+ */
+public interface SnapshotCondition {
+
+    /**
+     * Returns whether or not this condition can be evaluated against a
+     * snapshot. Composite conditions can only be evaluated if all of their
+     * wrapped conditions can.
+     *
+     * @return true if the condition can be evaluated against a snapshot
+     * @since 1.3.0
+     */
+    boolean canEvaluateSnapshot();
+
+    /**
+     * Adds the names of all attributes this condition needs to read to the
+     * given set.
+     *
+     * @param attributeNames the set to add the attribute names to
+     * @since 1.3.0
+     */
+    void collectRequiredAttributes(Set<String> attributeNames);
+
+    /**
+     * Evaluates this condition against the given snapshot.
+     *
+     * @param snapshot the snapshot to evaluate
+     * @return true if the condition is met, false otherwise
+     * @since 1.3.0
+     */
+    boolean evaluate(ElementSnapshot snapshot);
+
+}
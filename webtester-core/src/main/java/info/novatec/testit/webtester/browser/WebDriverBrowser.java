@@ -1,7 +1,5 @@
 package info.novatec.testit.webtester.browser;
 
-import static info.novatec.testit.webtester.eventsystem.EventSystem.fireEvent;
-
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
@@ -27,10 +25,13 @@ import info.novatec.testit.webtester.api.browser.BrowserIdentification;
 import info.novatec.testit.webtester.api.callbacks.BrowserCallback;
 import info.novatec.testit.webtester.api.callbacks.BrowserCallbackWithReturnValue;
 import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.pageobjects.Identification;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
 import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.browser.AcceptedAlertEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.ClosedBrowserEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.ClosedWindowEvent;
@@ -47,11 +48,14 @@ import info.novatec.testit.webtester.eventsystem.events.browser.SwitchedToFrameE
 import info.novatec.testit.webtester.eventsystem.events.browser.SwitchedToWindowEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.TookScreenshotEvent;
 import info.novatec.testit.webtester.internal.pageobjects.PageObjectModel;
+import info.novatec.testit.webtester.internal.pageobjects.WebElementCacheGenerations;
 import info.novatec.testit.webtester.pageobjects.GenericElement;
 import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.Marker;
 import info.novatec.testit.webtester.utils.PageObjectFinder;
 import info.novatec.testit.webtester.utils.PageObjectFinder.IdentificationFinder;
 import info.novatec.testit.webtester.utils.PageObjectFinder.TypedFinder;
+import info.novatec.testit.webtester.utils.Waits;
 
 
 /**
@@ -125,9 +129,14 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 getWebDriver().get(url);
-                fireEvent(new OpenedUrlEvent(browser, url));
+                invalidateCachedWebElements();
+                Waits.waitUntilPageIsReady(browser);
+                if (hasEventListenersFor(OpenedUrlEvent.class)) {
+                    fireEvent(new OpenedUrlEvent(browser, url));
+                }
             }
 
         });
@@ -139,9 +148,14 @@ public class WebDriverBrowser implements Browser {
         return executeAction(new BrowserCallbackWithReturnValue<T>() {
 
             @Override
-            public T execute(Browser browser) {
+            public T execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 getWebDriver().get(url);
-                fireEvent(new OpenedUrlEvent(browser, url));
+                invalidateCachedWebElements();
+                Waits.waitUntilPageIsReady(browser);
+                if (hasEventListenersFor(OpenedUrlEvent.class)) {
+                    fireEvent(new OpenedUrlEvent(browser, url));
+                }
                 return browser.create(pageObjectClass);
             }
 
@@ -158,12 +172,16 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
                 if (!closed) {
                     BrowserRegistry.deregisterBrowser(browser);
                     try {
-                        fireEvent(new ClosedBrowserEvent(browser));
+                        if (hasEventListenersFor(ClosedBrowserEvent.class)) {
+                            fireEvent(new ClosedBrowserEvent(browser));
+                        }
                     } finally {
+                        EventSystem.deregisterListeners(identification);
+                        Marker.discardBufferedMarkings(browser);
                         getWebDriver().quit();
                         closed = true;
                     }
@@ -179,9 +197,14 @@ public class WebDriverBrowser implements Browser {
 
             @Override
             public void execute(Browser browser) {
-                ClosedWindowEvent event = new ClosedWindowEvent(browser);
+                ClosedWindowEvent event =
+                    hasEventListenersFor(ClosedWindowEvent.class) ? new ClosedWindowEvent(browser) : null;
+                Marker.applyBufferedMarkings(browser);
                 getWebDriver().close();
-                fireEvent(event);
+                invalidateCachedWebElements();
+                if (event != null) {
+                    EventSystem.fireEvent(event);
+                }
             }
 
         });
@@ -192,9 +215,11 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
                 getWebDriver().manage().window().maximize();
-                fireEvent(new MaximizedWindowEvent(browser));
+                if (hasEventListenersFor(MaximizedWindowEvent.class)) {
+                    fireEvent(new MaximizedWindowEvent(browser));
+                }
             }
 
         });
@@ -230,9 +255,14 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 getWebDriver().navigate().back();
-                fireEvent(new NavigatedBackwardsEvent(browser));
+                invalidateCachedWebElements();
+                Waits.waitUntilPageIsReady(browser);
+                if (hasEventListenersFor(NavigatedBackwardsEvent.class)) {
+                    fireEvent(new NavigatedBackwardsEvent(browser));
+                }
             }
 
         });
@@ -244,9 +274,14 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 getWebDriver().navigate().forward();
-                fireEvent(new NavigatedForwardsEvent(browser));
+                invalidateCachedWebElements();
+                Waits.waitUntilPageIsReady(browser);
+                if (hasEventListenersFor(NavigatedForwardsEvent.class)) {
+                    fireEvent(new NavigatedForwardsEvent(browser));
+                }
             }
 
         });
@@ -258,9 +293,14 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 getWebDriver().navigate().refresh();
-                fireEvent(new RefreshedPageEvent(browser));
+                invalidateCachedWebElements();
+                Waits.waitUntilPageIsReady(browser);
+                if (hasEventListenersFor(RefreshedPageEvent.class)) {
+                    fireEvent(new RefreshedPageEvent(browser));
+                }
             }
 
         });
@@ -285,12 +325,14 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
                 if (isAlertVisible()) {
                     Alert alert = getWebDriver().switchTo().alert();
-                    String text = alert.getText();
+                    final String text = alert.getText();
                     alert.accept();
-                    fireEvent(new AcceptedAlertEvent(browser, text));
+                    if (hasEventListenersFor(AcceptedAlertEvent.class)) {
+                        fireEvent(new AcceptedAlertEvent(browser, text));
+                    }
                 }
             }
 
@@ -303,12 +345,14 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
                 if (isAlertVisible()) {
                     Alert alert = getWebDriver().switchTo().alert();
-                    String text = alert.getText();
+                    final String text = alert.getText();
                     alert.dismiss();
-                    fireEvent(new DeclinedAlertEvent(browser, text));
+                    if (hasEventListenersFor(DeclinedAlertEvent.class)) {
+                        fireEvent(new DeclinedAlertEvent(browser, text));
+                    }
                 }
             }
 
@@ -318,8 +362,9 @@ public class WebDriverBrowser implements Browser {
 
     private boolean isAlertVisible() {
         try {
-            long timeout = configuration.getWaitTimeout();
-            long interval = configuration.getWaitInterval();
+            ConfigurationSnapshot snapshot = ConfigurationSnapshot.of(configuration);
+            long timeout = snapshot.getWaitTimeout();
+            long interval = snapshot.getWaitInterval();
             new WebDriverWait(getWebDriver(), timeout, interval).until(ExpectedConditions.alertIsPresent());
             return true;
         } catch (TimeoutException e) {
@@ -343,17 +388,18 @@ public class WebDriverBrowser implements Browser {
         return executeAction(new BrowserCallbackWithReturnValue<File>() {
 
             @Override
-            public File execute(Browser browser) {
+            public File execute(final Browser browser) {
 
                 if (!(getWebDriver() instanceof TakesScreenshot)) {
                     return null;
                 }
 
                 TakesScreenshot takesScreenshot = ( TakesScreenshot ) getWebDriver();
+                Marker.applyBufferedMarkings(browser);
                 File tempScreenshot = takesScreenshot.getScreenshotAs(OutputType.FILE);
 
                 String fileName = fileNameWithoutSuffix + ".png";
-                File screenshot = new File(targetFolder, fileName);
+                final File screenshot = new File(targetFolder, fileName);
 
                 try {
                     FileUtils.moveFile(tempScreenshot, screenshot);
@@ -362,7 +408,9 @@ public class WebDriverBrowser implements Browser {
                     return null;
                 }
 
-                fireEvent(new TookScreenshotEvent(browser, screenshot));
+                if (hasEventListenersFor(TookScreenshotEvent.class)) {
+                    fireEvent(new TookScreenshotEvent(browser, screenshot));
+                }
                 return screenshot;
 
             }
@@ -386,10 +434,11 @@ public class WebDriverBrowser implements Browser {
         return executeAction(new BrowserCallbackWithReturnValue<File>() {
 
             @Override
-            public File execute(Browser browser) {
+            public File execute(final Browser browser) {
 
+                Marker.applyBufferedMarkings(browser);
                 String fileName = fileNameWithoutSuffix + ".html";
-                File pageSource = new File(targetFolder, fileName);
+                final File pageSource = new File(targetFolder, fileName);
 
                 try {
                     FileUtils.write(pageSource, getPageSource());
@@ -398,7 +447,9 @@ public class WebDriverBrowser implements Browser {
                     return null;
                 }
 
-                fireEvent(new SavedSourceCodeEvent(browser, pageSource));
+                if (hasEventListenersFor(SavedSourceCodeEvent.class)) {
+                    fireEvent(new SavedSourceCodeEvent(browser, pageSource));
+                }
                 return pageSource;
 
             }
@@ -421,9 +472,13 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 browser.getWebDriver().switchTo().frame(index);
-                fireEvent(new SwitchedToFrameEvent(browser, index));
+                invalidateCachedWebElements();
+                if (hasEventListenersFor(SwitchedToFrameEvent.class)) {
+                    fireEvent(new SwitchedToFrameEvent(browser, index));
+                }
             }
 
         });
@@ -435,9 +490,13 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 browser.getWebDriver().switchTo().frame(nameOrId);
-                fireEvent(new SwitchedToFrameEvent(browser, nameOrId));
+                invalidateCachedWebElements();
+                if (hasEventListenersFor(SwitchedToFrameEvent.class)) {
+                    fireEvent(new SwitchedToFrameEvent(browser, nameOrId));
+                }
             }
 
         });
@@ -449,9 +508,13 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 browser.getWebDriver().switchTo().window(nameOrHandle);
-                fireEvent(new SwitchedToWindowEvent(browser, nameOrHandle));
+                invalidateCachedWebElements();
+                if (hasEventListenersFor(SwitchedToWindowEvent.class)) {
+                    fireEvent(new SwitchedToWindowEvent(browser, nameOrHandle));
+                }
             }
 
         });
@@ -463,9 +526,13 @@ public class WebDriverBrowser implements Browser {
         executeAction(new BrowserCallback() {
 
             @Override
-            public void execute(Browser browser) {
+            public void execute(final Browser browser) {
+                Marker.applyBufferedMarkings(browser);
                 browser.getWebDriver().switchTo().defaultContent();
-                fireEvent(new SwitchedToDefaultContentEvent(browser));
+                invalidateCachedWebElements();
+                if (hasEventListenersFor(SwitchedToDefaultContentEvent.class)) {
+                    fireEvent(new SwitchedToDefaultContentEvent(browser));
+                }
             }
 
         });
@@ -525,7 +592,9 @@ public class WebDriverBrowser implements Browser {
         try {
             callback.execute(this);
         } catch (RuntimeException e) {
-            fireEvent(new ExceptionEvent(this, e));
+            if (hasEventListenersFor(ExceptionEvent.class)) {
+                EventSystem.fireEvent(new ExceptionEvent(this, e));
+            }
             throw e;
         }
     }
@@ -536,12 +605,26 @@ public class WebDriverBrowser implements Browser {
         try {
             value = callback.execute(this);
         } catch (RuntimeException e) {
-            fireEvent(new ExceptionEvent(this, e));
+            if (hasEventListenersFor(ExceptionEvent.class)) {
+                EventSystem.fireEvent(new ExceptionEvent(this, e));
+            }
             throw e;
         }
         return value;
     }
 
+    private void invalidateCachedWebElements() {
+        WebElementCacheGenerations.invalidate(this);
+    }
+
+    private void fireEvent(Event event) {
+        EventSystem.fireEvent(event);
+    }
+
+    private boolean hasEventListenersFor(Class<? extends Event> eventType) {
+        return EventSystem.hasListenersFor(eventType, identification);
+    }
+
     @Override
     public PageObjectFactory getPageObjectFactory() {
         return pageObjectFactory;
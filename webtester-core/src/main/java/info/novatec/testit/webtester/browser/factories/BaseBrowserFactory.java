@@ -39,8 +39,20 @@ public class BaseBrowserFactory<T extends BrowserFactory> implements BrowserFact
 
     @Override
     public Browser createBrowser() {
-        DesiredCapabilities capabilities = getDefaultCapabilities();
-        return createBrowser(capabilities);
+        return createBrowser(createWebDriver());
+    }
+
+    /**
+     * Creates a new {@link WebDriver web driver} using the factory's defaults
+     * without packaging it as a {@link Browser browser}. This is used by
+     * {@link PooledBrowserFactory pooled browser factories} to create the
+     * web drivers of their pooled browsers.
+     *
+     * @return the created web driver
+     * @since 1.3.0
+     */
+    public WebDriver createWebDriver() {
+        return webDriverProducer.apply(getDefaultCapabilities());
     }
 
     protected DesiredCapabilities getDefaultCapabilities() {
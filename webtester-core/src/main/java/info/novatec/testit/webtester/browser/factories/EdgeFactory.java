@@ -35,10 +35,11 @@ public class EdgeFactory extends BaseBrowserFactory<EdgeFactory> {
         });
     }
 
-    public Browser createBrowser() {
+    @Override
+    public WebDriver createWebDriver() {
         EdgeDriverService service = EdgeDriverService.createDefaultService();
         DesiredCapabilities capabilities = getDefaultCapabilities();
-        return createBrowser(new EdgeDriver(service, capabilities));
+        return new EdgeDriver(service, capabilities);
     }
 
 }
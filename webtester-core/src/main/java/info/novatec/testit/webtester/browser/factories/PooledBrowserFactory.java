@@ -0,0 +1,201 @@
+package info.novatec.testit.webtester.browser.factories;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.browser.pool.BrowserPool;
+import info.novatec.testit.webtester.browser.pool.BrowserPoolMetrics;
+import info.novatec.testit.webtester.config.DefaultConfigurationBuilder;
+
+
+/**
+ * {@link BrowserFactory} which leases its {@link Browser browsers} from a
+ * {@link BrowserPool browser pool} filled by another {@link BaseBrowserFactory
+ * factory}. Closing such a browser returns it to the pool, where its state is
+ * reset for the next lease.
+ * <p>
+ * The pool is created with the first browser, so a
+ * {@link #withProxyConfiguration(ProxyConfiguration) proxy configuration} has
+ * to be set before that. Unless specified otherwise, the pool's size and
+ * maximum idle time are taken from the default {@link Configuration
+ * configuration}.
+ * <p>
+ * In order to use a pool with annotations like {@code @CreateUsing}, extend
+ * this class with a public default constructor. Factories created that way
+ * share one pool for each combination of browser factory class and proxy
+ * configuration class:
+ *
+ * <pre>
+ * public class PooledChromeFactory extends PooledBrowserFactory {
+ *     public PooledChromeFactory() {
+ *         super(ChromeFactory.class);
+ *     }
+ * }
+ * </pre>
+ *
+ * Browsers created with {@link #createBrowser(WebDriver)} or
+ * {@link #createBrowser(DesiredCapabilities)} are not pooled.
+ *
+ * @see BrowserPool
+ * @see Configuration#getBrowserPoolSize()
+ * @see Configuration#getBrowserPoolMaxIdleTime()
+ * @since 1.3.0
+ */
+public class PooledBrowserFactory implements BrowserFactory {
+
+    private static final Map<String, BrowserPool> SHARED_POOLS = new HashMap<String, BrowserPool>();
+
+    private final BaseBrowserFactory<?> factory;
+    private final boolean shared;
+    private final int size;
+    private final long maxIdleTime;
+    private final TimeUnit unit;
+
+    private ProxyConfiguration proxyConfiguration;
+    private BrowserPool pool;
+
+    /**
+     * Creates a new factory with its own {@link BrowserPool pool} of browsers
+     * created by the given factory. The pool's size and maximum idle time are
+     * taken from the default {@link Configuration configuration}.
+     *
+     * @param factory the factory to create the pooled browsers with
+     * @since 1.3.0
+     */
+    public PooledBrowserFactory(BaseBrowserFactory<?> factory) {
+        this(factory, false, DefaultConfigurationBuilder.create());
+    }
+
+    /**
+     * Creates a new factory with its own {@link BrowserPool pool} of browsers
+     * created by the given factory.
+     *
+     * @param factory the factory to create the pooled browsers with
+     * @param size the maximum number of idle browsers to keep
+     * @param maxIdleTime the maximum time a browser may be idle before it is
+     * closed - {@code 0} keeps idle browsers until the pool is closed
+     * @param unit the unit of the maximum idle time
+     * @since 1.3.0
+     */
+    public PooledBrowserFactory(BaseBrowserFactory<?> factory, int size, long maxIdleTime, TimeUnit unit) {
+        this(factory, false, size, maxIdleTime, unit);
+    }
+
+    /**
+     * Creates a new factory using the JVM wide {@link BrowserPool pool} of
+     * browsers created by a new instance of the given factory class. The
+     * pool's size and maximum idle time are taken from the default
+     * {@link Configuration configuration}.
+     *
+     * @param factoryClass the class of the factory to create the pooled
+     * browsers with - needs a public default constructor
+     * @throws IllegalArgumentException if the factory class can't be
+     * instantiated
+     * @since 1.3.0
+     */
+    protected PooledBrowserFactory(Class<? extends BaseBrowserFactory<?>> factoryClass) {
+        this(newFactory(factoryClass), true, DefaultConfigurationBuilder.create());
+    }
+
+    private PooledBrowserFactory(BaseBrowserFactory<?> factory, boolean shared, Configuration configuration) {
+        this(factory, shared, configuration.getBrowserPoolSize(), configuration.getBrowserPoolMaxIdleTime(),
+            TimeUnit.SECONDS);
+    }
+
+    private PooledBrowserFactory(BaseBrowserFactory<?> factory, boolean shared, int size, long maxIdleTime,
+        TimeUnit unit) {
+        this.factory = factory;
+        this.shared = shared;
+        this.size = size;
+        this.maxIdleTime = maxIdleTime;
+        this.unit = unit;
+    }
+
+    private static BaseBrowserFactory<?> newFactory(Class<? extends BaseBrowserFactory<?>> factoryClass) {
+        try {
+            return factoryClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalArgumentException("could not instantiate browser factory: " + factoryClass, e);
+        }
+    }
+
+    /**
+     * Leases a {@link Browser browser} from this factory's {@link BrowserPool
+     * pool}. Closing the browser returns it to the pool.
+     *
+     * @return the leased browser
+     * @since 1.3.0
+     */
+    @Override
+    public Browser createBrowser() {
+        return getPool().lease();
+    }
+
+    @Override
+    public Browser createBrowser(DesiredCapabilities capabilities) {
+        return factory.createBrowser(capabilities);
+    }
+
+    @Override
+    public Browser createBrowser(WebDriver webDriver) {
+        return factory.createBrowser(webDriver);
+    }
+
+    @Override
+    public PooledBrowserFactory withProxyConfiguration(ProxyConfiguration configuration) {
+        proxyConfiguration = configuration;
+        factory.withProxyConfiguration(configuration);
+        return this;
+    }
+
+    /**
+     * @return a snapshot of the metrics of this factory's {@link BrowserPool
+     * pool}
+     * @since 1.3.0
+     */
+    public BrowserPoolMetrics getMetrics() {
+        return getPool().getMetrics();
+    }
+
+    /**
+     * Returns the {@link BrowserPool pool} this factory leases its browsers
+     * from. The pool is created on first use.
+     *
+     * @return the pool
+     * @since 1.3.0
+     */
+    public synchronized BrowserPool getPool() {
+        if (pool == null) {
+            pool = shared ? getSharedPool() : newPool();
+        }
+        return pool;
+    }
+
+    private BrowserPool getSharedPool() {
+        String key = factory.getClass().getName();
+        if (proxyConfiguration != null) {
+            key += '|' + proxyConfiguration.getClass().getName();
+        }
+        synchronized (SHARED_POOLS) {
+            BrowserPool sharedPool = SHARED_POOLS.get(key);
+            if (sharedPool == null) {
+                sharedPool = newPool();
+                SHARED_POOLS.put(key, sharedPool);
+            }
+            return sharedPool;
+        }
+    }
+
+    private BrowserPool newPool() {
+        return new BrowserPool(factory, size, maxIdleTime, unit);
+    }
+
+}
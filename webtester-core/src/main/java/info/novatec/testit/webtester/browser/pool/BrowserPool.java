@@ -0,0 +1,345 @@
+package info.novatec.testit.webtester.browser.pool;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.browser.factories.BaseBrowserFactory;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.eventsystem.events.browser.ClosedBrowserEvent;
+import info.novatec.testit.webtester.internal.pageobjects.WebElementCacheGenerations;
+import info.novatec.testit.webtester.utils.Marker;
+
+
+/**
+ * Keeps started {@link Browser browsers} of a {@link BaseBrowserFactory
+ * factory} warm in order to reuse them instead of starting a new browser for
+ * each test.
+ * <p>
+ * {@link #lease() Leased} browsers are {@link PooledBrowser pooled browsers}.
+ * Closing one of them returns it to the pool, where its state is reset:
+ * <ol>
+ * <li>all windows except the main window are closed</li>
+ * <li>the focus is set to the main window's default content</li>
+ * <li>the local and session storage of the current page are cleared</li>
+ * <li>all cookies of the current domain are deleted</li>
+ * <li>the browser navigates to {@code about:blank}</li>
+ * <li>event listeners registered for the browser are notified with a
+ * {@link ClosedBrowserEvent} and deregistered afterwards</li>
+ * </ol>
+ * Browsers which can't be reset, fail the health check before being leased
+ * again or have been idle for longer than the maximum idle time are closed.
+ * The pool keeps at most the configured number of idle browsers, surplus
+ * browsers are closed when they are returned. The number of leased browsers
+ * is not limited.
+ * <p>
+ * Idle browsers are evicted whenever a browser is leased or returned. All
+ * idle browsers are closed when the pool is {@link #close() closed} or the JVM
+ * shuts down.
+ *
+ * @see PooledBrowser
+ * @see BrowserPoolMetrics
+ * @since 1.3.0
+ */
+public final class BrowserPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserPool.class);
+
+    private static final String CLEAR_STORAGE = "try { window.localStorage.clear(); } catch (e) {}"
+        + "try { window.sessionStorage.clear(); } catch (e) {}";
+    private static final String BLANK_PAGE = "about:blank";
+
+    private final BaseBrowserFactory<?> factory;
+    private final int size;
+    private final long maxIdleTimeNanos;
+    private final Thread shutdownHook;
+
+    private final Deque<IdleBrowser> idleBrowsers = new ArrayDeque<IdleBrowser>();
+    private final Set<PooledBrowser> leasedBrowsers = new HashSet<PooledBrowser>();
+    private boolean closed;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    /**
+     * Creates a new pool for browsers created by the given
+     * {@link BaseBrowserFactory factory}.
+     *
+     * @param factory the factory to create the browsers' web drivers with
+     * @param size the maximum number of idle browsers to keep
+     * @param maxIdleTime the maximum time a browser may be idle before it is
+     * closed - {@code 0} keeps idle browsers until the pool is closed
+     * @param unit the unit of the maximum idle time
+     * @throws IllegalArgumentException if size or maximum idle time are
+     * negative
+     * @since 1.3.0
+     */
+    public BrowserPool(BaseBrowserFactory<?> factory, int size, long maxIdleTime, TimeUnit unit) {
+        if (size < 0 || maxIdleTime < 0) {
+            throw new IllegalArgumentException("size and max idle time must not be negative");
+        }
+        this.factory = factory;
+        this.size = size;
+        this.maxIdleTimeNanos = unit.toNanos(maxIdleTime);
+        this.shutdownHook = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                closeIdleBrowsers();
+            }
+
+        }, "browser-pool-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Leases a {@link Browser browser} from this pool. An idle browser is
+     * reused if there is a healthy one, otherwise a new browser is started.
+     * The browser is returned to the pool by {@link Browser#close() closing}
+     * it.
+     *
+     * @return the leased browser
+     * @throws IllegalStateException if the pool is closed
+     * @since 1.3.0
+     */
+    public Browser lease() {
+
+        for (PooledBrowser browser = pollIdleBrowser(); browser != null; browser = pollIdleBrowser()) {
+            if (isHealthy(browser)) {
+                reused.incrementAndGet();
+                browser.renewConfiguration();
+                logger.debug("reusing pooled browser: {}", browser);
+                return browser;
+            }
+            discard(browser);
+        }
+
+        PooledBrowser browser = new PooledBrowser(this, factory.createWebDriver());
+        created.incrementAndGet();
+        if (!addLeasedBrowser(browser)) {
+            browser.quit();
+            throw new IllegalStateException("browser pool is closed");
+        }
+        logger.debug("started new pooled browser: {}", browser);
+        return browser;
+
+    }
+
+    void release(PooledBrowser browser) {
+
+        synchronized (this) {
+            if (!leasedBrowsers.remove(browser)) {
+                return;
+            }
+        }
+
+        try {
+            fireClosedEvent(browser);
+        } finally {
+            returnToPool(browser);
+        }
+
+    }
+
+    private void fireClosedEvent(PooledBrowser browser) {
+        BrowserIdentification identification = browser.getIdentification();
+        if (EventSystem.hasListenersFor(ClosedBrowserEvent.class, identification)) {
+            EventSystem.fireEvent(new ClosedBrowserEvent(browser));
+        }
+    }
+
+    private void returnToPool(PooledBrowser browser) {
+
+        boolean kept = false;
+        if (reset(browser)) {
+            synchronized (this) {
+                if (!closed && idleBrowsers.size() < size) {
+                    idleBrowsers.addLast(new IdleBrowser(browser, System.nanoTime()));
+                    kept = true;
+                }
+            }
+        }
+
+        if (kept) {
+            logger.debug("returned browser to pool: {}", browser);
+        } else {
+            discard(browser);
+        }
+        closeBrowsers(removeExpiredBrowsers(), evicted);
+
+    }
+
+    /**
+     * Closes all idle browsers of this pool. Browsers which are currently
+     * leased are closed when they are returned. A closed pool can't lease any
+     * more browsers.
+     *
+     * @since 1.3.0
+     */
+    public void close() {
+        closeIdleBrowsers();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            logger.trace("JVM is already shutting down: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return a snapshot of this pool's metrics
+     * @since 1.3.0
+     */
+    public BrowserPoolMetrics getMetrics() {
+        int leased;
+        int idle;
+        synchronized (this) {
+            leased = leasedBrowsers.size();
+            idle = idleBrowsers.size();
+        }
+        return new BrowserPoolMetrics(created.get(), reused.get(), evicted.get(), discarded.get(), leased, idle);
+    }
+
+    private void closeIdleBrowsers() {
+        List<PooledBrowser> browsers = new ArrayList<PooledBrowser>();
+        synchronized (this) {
+            closed = true;
+            for (IdleBrowser idleBrowser : idleBrowsers) {
+                browsers.add(idleBrowser.browser);
+            }
+            idleBrowsers.clear();
+        }
+        closeBrowsers(browsers, discarded);
+    }
+
+    private PooledBrowser pollIdleBrowser() {
+        closeBrowsers(removeExpiredBrowsers(), evicted);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("browser pool is closed");
+            }
+            IdleBrowser idleBrowser = idleBrowsers.pollLast();
+            if (idleBrowser == null) {
+                return null;
+            }
+            leasedBrowsers.add(idleBrowser.browser);
+            return idleBrowser.browser;
+        }
+    }
+
+    private synchronized boolean addLeasedBrowser(PooledBrowser browser) {
+        return !closed && leasedBrowsers.add(browser);
+    }
+
+    private synchronized List<PooledBrowser> removeExpiredBrowsers() {
+        List<PooledBrowser> expired = new ArrayList<PooledBrowser>();
+        if (maxIdleTimeNanos > 0) {
+            long now = System.nanoTime();
+            while (!idleBrowsers.isEmpty() && now - idleBrowsers.peekFirst().idleSince >= maxIdleTimeNanos) {
+                expired.add(idleBrowsers.pollFirst().browser);
+            }
+        }
+        return expired;
+    }
+
+    private boolean isHealthy(PooledBrowser browser) {
+        try {
+            return !browser.getWebDriver().getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            logger.debug("pooled browser failed health check: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean reset(PooledBrowser browser) {
+        try {
+
+            WebDriver webDriver = browser.getWebDriver();
+            Set<String> windowHandles = webDriver.getWindowHandles();
+            if (windowHandles.isEmpty()) {
+                return false;
+            }
+
+            String mainWindowHandle = browser.getMainWindowHandle();
+            if (!windowHandles.contains(mainWindowHandle)) {
+                mainWindowHandle = windowHandles.iterator().next();
+                browser.setMainWindowHandle(mainWindowHandle);
+            }
+            for (String windowHandle : windowHandles) {
+                if (!windowHandle.equals(mainWindowHandle)) {
+                    webDriver.switchTo().window(windowHandle).close();
+                }
+            }
+            webDriver.switchTo().window(mainWindowHandle);
+            webDriver.switchTo().defaultContent();
+
+            if (webDriver instanceof JavascriptExecutor) {
+                (( JavascriptExecutor ) webDriver).executeScript(CLEAR_STORAGE);
+            }
+            webDriver.manage().deleteAllCookies();
+            webDriver.get(BLANK_PAGE);
+            return true;
+
+        } catch (WebDriverException e) {
+            logger.warn("Could not reset state of pooled browser: {}", e.getMessage());
+            logger.debug("Stack trace for previous warning:", e);
+            return false;
+        } finally {
+            EventSystem.deregisterListeners(browser.getIdentification());
+            WebElementCacheGenerations.invalidate(browser);
+            Marker.discardBufferedMarkings(browser);
+        }
+    }
+
+    private void discard(PooledBrowser browser) {
+        synchronized (this) {
+            leasedBrowsers.remove(browser);
+        }
+        closeBrowser(browser);
+        discarded.incrementAndGet();
+    }
+
+    private void closeBrowsers(List<PooledBrowser> browsers, AtomicLong counter) {
+        for (PooledBrowser browser : browsers) {
+            closeBrowser(browser);
+            counter.incrementAndGet();
+        }
+    }
+
+    private void closeBrowser(PooledBrowser browser) {
+        try {
+            browser.quit();
+            logger.debug("closed pooled browser: {}", browser);
+        } catch (WebDriverException e) {
+            logger.warn("Exception while closing pooled browser: {}", e.getMessage());
+            logger.debug("Stack trace for previous warning:", e);
+        }
+    }
+
+    private static final class IdleBrowser {
+
+        private final PooledBrowser browser;
+        private final long idleSince;
+
+        IdleBrowser(PooledBrowser browser, long idleSince) {
+            this.browser = browser;
+            this.idleSince = idleSince;
+        }
+
+    }
+
+}
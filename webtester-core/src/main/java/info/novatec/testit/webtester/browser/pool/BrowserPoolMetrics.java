@@ -0,0 +1,83 @@
+package info.novatec.testit.webtester.browser.pool;
+
+/**
+ * Immutable snapshot of the metrics of a {@link BrowserPool browser pool}.
+ *
+ * @see BrowserPool#getMetrics()
+ * @since 1.3.0
+ */
+public final class BrowserPoolMetrics {
+
+    private final long created;
+    private final long reused;
+    private final long evicted;
+    private final long discarded;
+    private final int leased;
+    private final int idle;
+
+    BrowserPoolMetrics(long created, long reused, long evicted, long discarded, int leased, int idle) {
+        this.created = created;
+        this.reused = reused;
+        this.evicted = evicted;
+        this.discarded = discarded;
+        this.leased = leased;
+        this.idle = idle;
+    }
+
+    /**
+     * @return the number of browsers started by the pool
+     * @since 1.3.0
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return the number of leases served with an idle browser
+     * @since 1.3.0
+     */
+    public long getReused() {
+        return reused;
+    }
+
+    /**
+     * @return the number of browsers closed because they were idle for too
+     * long
+     * @since 1.3.0
+     */
+    public long getEvicted() {
+        return evicted;
+    }
+
+    /**
+     * @return the number of browsers closed because they failed a health
+     * check, couldn't be reset or were returned to a full or closed pool
+     * @since 1.3.0
+     */
+    public long getDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * @return the number of browsers currently leased
+     * @since 1.3.0
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return the number of browsers currently idle
+     * @since 1.3.0
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    @Override
+    public String toString() {
+        return "BrowserPoolMetrics [created=" + created + ", reused=" + reused + ", evicted=" + evicted + ", discarded="
+            + discarded + ", leased=" + leased + ", idle=" + idle + "]";
+    }
+
+}
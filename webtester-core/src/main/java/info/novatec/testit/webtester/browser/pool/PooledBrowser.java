@@ -0,0 +1,69 @@
+package info.novatec.testit.webtester.browser.pool;
+
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.config.DefaultConfigurationBuilder;
+import info.novatec.testit.webtester.eventsystem.events.browser.ClosedBrowserEvent;
+import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
+
+
+/**
+ * A {@link WebDriverBrowser browser} owned by a {@link BrowserPool browser
+ * pool}. {@link #close() Closing} it returns it to its pool instead of quitting
+ * the underlying {@link WebDriver web driver}.
+ * <p>
+ * Each time the browser is leased it gets a new default configuration, so
+ * configuration changes made by one user don't affect the next.
+ *
+ * @see BrowserPool
+ * @since 1.3.0
+ */
+public final class PooledBrowser extends WebDriverBrowser {
+
+    private final BrowserPool pool;
+    private String mainWindowHandle;
+
+    PooledBrowser(BrowserPool pool, WebDriver webDriver) {
+        super(webDriver);
+        this.pool = pool;
+        this.mainWindowHandle = webDriver.getWindowHandle();
+        setPageObjectFactory(new DefaultPageObjectFactory());
+        renewConfiguration();
+    }
+
+    /**
+     * Returns this browser to its {@link BrowserPool pool}. The browser's
+     * state is reset and it is kept for the next lease or closed for real if
+     * the pool is full, closed or the state couldn't be reset.
+     * <p>
+     * Like closing any other browser, this fires a {@link ClosedBrowserEvent}
+     * before the browser's event listeners are deregistered.
+     * <p>
+     * The browser must not be used after it was returned.
+     */
+    @Override
+    public void close() {
+        pool.release(this);
+    }
+
+    /**
+     * Quits the underlying {@link WebDriver web driver}.
+     */
+    void quit() {
+        super.close();
+    }
+
+    void renewConfiguration() {
+        setConfiguration(DefaultConfigurationBuilder.create());
+    }
+
+    String getMainWindowHandle() {
+        return mainWindowHandle;
+    }
+
+    void setMainWindowHandle(String mainWindowHandle) {
+        this.mainWindowHandle = mainWindowHandle;
+    }
+
+}
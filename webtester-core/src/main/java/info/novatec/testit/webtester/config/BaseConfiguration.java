@@ -52,6 +52,18 @@ public class BaseConfiguration implements Configuration {
     private Map<String, String> properties = new HashMap<String, String>();
     private List<ConfigurationExporter> configurationExporters = new LinkedList<ConfigurationExporter>();
 
+    /**
+     * Whether or not the properties map is shared with other configurations
+     * and has to be copied before it is changed.
+     */
+    private volatile boolean sharedProperties;
+
+    /**
+     * Typed view of the named properties. Dropped whenever a property is
+     * changed and recreated the next time it is needed.
+     */
+    private volatile ConfigurationSnapshot snapshot;
+
     /* named properties */
 
     @Override
@@ -121,7 +133,7 @@ public class BaseConfiguration implements Configuration {
 
     @Override
     public BaseConfiguration setMarkingsColorUsedBackground(Color color) {
-        return setProperty(key(NamedProperties.MARKINGS_COLOR_USED_BACKGROUND), color.toString());
+        return setProperty(key(NamedProperties.MARKINGS_COLOR_USED_BACKGROUND), color.asHex());
     }
 
     @Override
@@ -131,7 +143,7 @@ public class BaseConfiguration implements Configuration {
 
     @Override
     public BaseConfiguration setMarkingsColorUsedOutline(Color color) {
-        return setProperty(key(NamedProperties.MARKINGS_COLOR_USED_OUTLINE), color.toString());
+        return setProperty(key(NamedProperties.MARKINGS_COLOR_USED_OUTLINE), color.asHex());
     }
 
     @Override
@@ -141,7 +153,7 @@ public class BaseConfiguration implements Configuration {
 
     @Override
     public BaseConfiguration setMarkingsColorReadBackground(Color color) {
-        return setProperty(key(NamedProperties.MARKINGS_COLOR_READ_BACKGROUND), color.toString());
+        return setProperty(key(NamedProperties.MARKINGS_COLOR_READ_BACKGROUND), color.asHex());
     }
 
     @Override
@@ -151,7 +163,27 @@ public class BaseConfiguration implements Configuration {
 
     @Override
     public BaseConfiguration setMarkingsColorReadOutline(Color color) {
-        return setProperty(key(NamedProperties.MARKINGS_COLOR_READ_OUTLINE), color.toString());
+        return setProperty(key(NamedProperties.MARKINGS_COLOR_READ_OUTLINE), color.asHex());
+    }
+
+    @Override
+    public boolean markingsAreBuffered() {
+        return getBooleanProperty(key(NamedProperties.MARKINGS_BUFFERED), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setMarkingsBuffered(boolean buffered) {
+        return setProperty(key(NamedProperties.MARKINGS_BUFFERED), buffered);
+    }
+
+    @Override
+    public int getMarkingsBufferedInterval() {
+        return getIntegerProperty(key(NamedProperties.MARKINGS_BUFFERED_INTERVAL), 500);
+    }
+
+    @Override
+    public BaseConfiguration setMarkingsBufferedInterval(int interval) {
+        return setProperty(key(NamedProperties.MARKINGS_BUFFERED_INTERVAL), interval);
     }
 
     @Override
@@ -174,6 +206,46 @@ public class BaseConfiguration implements Configuration {
         return setProperty(key(NamedProperties.WAIT_INTERVAL), waitInterval);
     }
 
+    @Override
+    public String getWaitPollingStrategy() {
+        return getStringProperty(key(NamedProperties.WAIT_POLLING), "fixed");
+    }
+
+    @Override
+    public BaseConfiguration setWaitPollingStrategy(String strategy) {
+        return setProperty(key(NamedProperties.WAIT_POLLING), strategy);
+    }
+
+    @Override
+    public long getWaitIntervalMaximum() {
+        return getLongProperty(key(NamedProperties.WAIT_INTERVAL_MAXIMUM), 1000L);
+    }
+
+    @Override
+    public BaseConfiguration setWaitIntervalMaximum(long maximum) {
+        return setProperty(key(NamedProperties.WAIT_INTERVAL_MAXIMUM), maximum);
+    }
+
+    @Override
+    public boolean browserSideWaitingIsActivated() {
+        return getBooleanProperty(key(NamedProperties.WAIT_BROWSERSIDE), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setBrowserSideWaitingActivated(boolean activated) {
+        return setProperty(key(NamedProperties.WAIT_BROWSERSIDE), activated);
+    }
+
+    @Override
+    public boolean conditionSnapshotsAreActivated() {
+        return getBooleanProperty(key(NamedProperties.WAIT_SNAPSHOTS), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setConditionSnapshotsActivated(boolean activated) {
+        return setProperty(key(NamedProperties.WAIT_SNAPSHOTS), activated);
+    }
+
     @Override
     public boolean cleanupLeftoverBrowsers() {
         return getBooleanProperty(key(NamedProperties.CLEANUP_LEFTOVER_BROWSERS), Boolean.FALSE);
@@ -184,15 +256,144 @@ public class BaseConfiguration implements Configuration {
         return setProperty(key(NamedProperties.CLEANUP_LEFTOVER_BROWSERS), enabled);
     }
 
+    @Override
+    public boolean batchedValidationIsActivated() {
+        return getBooleanProperty(key(NamedProperties.VALIDATION_BATCHED), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setBatchedValidationActivated(boolean activated) {
+        return setProperty(key(NamedProperties.VALIDATION_BATCHED), activated);
+    }
+
+    @Override
+    public boolean validationCachingIsActivated() {
+        return getBooleanProperty(key(NamedProperties.VALIDATION_CACHING), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setValidationCachingActivated(boolean activated) {
+        return setProperty(key(NamedProperties.VALIDATION_CACHING), activated);
+    }
+
+    @Override
+    public boolean pageObjectCachingIsActivated() {
+        return getBooleanProperty(key(NamedProperties.PAGE_OBJECT_CACHING), Boolean.FALSE);
+    }
+
+    @Override
+    public BaseConfiguration setPageObjectCachingActivated(boolean activated) {
+        return setProperty(key(NamedProperties.PAGE_OBJECT_CACHING), activated);
+    }
+
+    @Override
+    public long getPageObjectListMemoization() {
+        return getLongProperty(key(NamedProperties.PAGE_OBJECT_LISTS_MEMOIZATION), 0L);
+    }
+
+    @Override
+    public BaseConfiguration setPageObjectListMemoization(long milliseconds) {
+        return setProperty(key(NamedProperties.PAGE_OBJECT_LISTS_MEMOIZATION), milliseconds);
+    }
+
+    @Override
+    public String getPageReadinessChecks() {
+        return getStringProperty(key(NamedProperties.PAGE_READINESS));
+    }
+
+    @Override
+    public BaseConfiguration setPageReadinessChecks(String checks) {
+        return setProperty(key(NamedProperties.PAGE_READINESS), checks);
+    }
+
+    @Override
+    public String getPageReadinessScript() {
+        return getStringProperty(key(NamedProperties.PAGE_READINESS_SCRIPT));
+    }
+
+    @Override
+    public BaseConfiguration setPageReadinessScript(String expression) {
+        return setProperty(key(NamedProperties.PAGE_READINESS_SCRIPT), expression);
+    }
+
+    @Override
+    public int getPageReadinessTimeout() {
+        return getIntegerProperty(key(NamedProperties.PAGE_READINESS_TIMEOUT), 10);
+    }
+
+    @Override
+    public BaseConfiguration setPageReadinessTimeout(int timeout) {
+        return setProperty(key(NamedProperties.PAGE_READINESS_TIMEOUT), timeout);
+    }
+
+    @Override
+    public int getBrowserPoolSize() {
+        return getIntegerProperty(key(NamedProperties.BROWSER_POOL_SIZE), 2);
+    }
+
+    @Override
+    public BaseConfiguration setBrowserPoolSize(int size) {
+        return setProperty(key(NamedProperties.BROWSER_POOL_SIZE), size);
+    }
+
+    @Override
+    public int getBrowserPoolMaxIdleTime() {
+        return getIntegerProperty(key(NamedProperties.BROWSER_POOL_MAX_IDLE_TIME), 300);
+    }
+
+    @Override
+    public BaseConfiguration setBrowserPoolMaxIdleTime(int maxIdleTime) {
+        return setProperty(key(NamedProperties.BROWSER_POOL_MAX_IDLE_TIME), maxIdleTime);
+    }
+
     private String key(NamedProperties property) {
         return property.getKey();
     }
 
+    /**
+     * Returns an immutable, typed {@link ConfigurationSnapshot snapshot} of
+     * this configuration's named properties. The snapshot is reused until a
+     * property is set or removed.
+     *
+     * @return the snapshot of this configuration's current values
+     * @since 1.3.0
+     */
+    public ConfigurationSnapshot getSnapshot() {
+        ConfigurationSnapshot current = snapshot;
+        if (current == null) {
+            current = new ConfigurationSnapshot(this);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Creates a copy of this configuration. The copy shares this
+     * configuration's properties until either one of them is changed, so
+     * copying is cheap no matter how many properties there are. Changes to the
+     * copy don't affect this configuration and vice versa. The
+     * {@link ConfigurationExporter exporters} of this configuration are used by
+     * the copy as well.
+     *
+     * @return the copy
+     * @since 1.3.0
+     */
+    public BaseConfiguration copy() {
+        BaseConfiguration copy = new BaseConfiguration();
+        sharedProperties = true;
+        copy.properties = properties;
+        copy.sharedProperties = true;
+        copy.snapshot = snapshot;
+        copy.configurationExporters.addAll(configurationExporters);
+        return copy;
+    }
+
     /* low-level function */
 
     @Override
     public BaseConfiguration removeProperty(String key) {
-        properties.remove(key);
+        ownProperties().remove(key);
+        snapshot = null;
         logger.debug("removed property '{}'", key);
         return this;
     }
@@ -223,10 +424,19 @@ public class BaseConfiguration implements Configuration {
     }
 
     private void changeValue(String key, Object value) {
-        properties.put(key, String.valueOf(value));
+        ownProperties().put(key, String.valueOf(value));
+        snapshot = null;
         logger.debug("changed value of property '{}' to: {}", key, value);
     }
 
+    private Map<String, String> ownProperties() {
+        if (sharedProperties) {
+            properties = new HashMap<String, String>(properties);
+            sharedProperties = false;
+        }
+        return properties;
+    }
+
     private void exportProperty(String key, Object value) {
         if (!configurationExporters.isEmpty()) {
             logger.debug("exporting change of property '{}' to exporters", key);
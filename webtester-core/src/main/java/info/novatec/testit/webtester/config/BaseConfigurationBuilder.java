@@ -1,9 +1,7 @@
 package info.novatec.testit.webtester.config;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -14,6 +12,7 @@ import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
 import info.novatec.testit.webtester.api.config.ConfigurationBuilder;
 import info.novatec.testit.webtester.api.config.ConfigurationExporter;
+import info.novatec.testit.webtester.api.config.TrackableConfigurationAdapter;
 
 
 /**
@@ -21,6 +20,10 @@ import info.novatec.testit.webtester.api.config.ConfigurationExporter;
  * {@link BaseConfiguration base configuration} instances. No default
  * {@link ConfigurationAdapter adapters} or {@link ConfigurationExporter
  * exporters} are set at any time.
+ * <p>
+ * Configurations are created by a {@link ConfigurationPrototype prototype},
+ * which only adapts and exports a configuration again if the sources of its
+ * adapters changed.
  *
  * @see Configuration
  * @see BaseConfiguration
@@ -35,13 +38,37 @@ public class BaseConfigurationBuilder implements ConfigurationBuilder {
     private List<ConfigurationAdapter> adapters = new LinkedList<ConfigurationAdapter>();
     private List<ConfigurationExporter> exporters = new LinkedList<ConfigurationExporter>();
 
+    /**
+     * The prototype used to create configurations. Created on demand and
+     * dropped whenever adapters or exporters are added.
+     */
+    private ConfigurationPrototype prototype;
+
     public BaseConfigurationBuilder() {
         logger.trace("started the build of a new configuration");
     }
 
+    /**
+     * Creates a new builder starting with the {@link ConfigurationAdapter
+     * adapters} and {@link ConfigurationExporter exporters} of the given
+     * {@link ConfigurationPrototype prototype}. As long as no further adapters
+     * or exporters are added, configurations are created by the prototype. This
+     * allows any number of builders to share the same memoized configuration.
+     *
+     * @param prototype the prototype to start with
+     * @since 1.3.0
+     */
+    public BaseConfigurationBuilder(ConfigurationPrototype prototype) {
+        this();
+        this.adapters.addAll(prototype.getAdapters());
+        this.exporters.addAll(prototype.getExporters());
+        this.prototype = prototype;
+    }
+
     @Override
     public ConfigurationBuilder withAdapter(ConfigurationAdapter adapterToAdd) {
         adapters.add(adapterToAdd);
+        prototype = null;
         logger.trace("added adapter to builder: {}", adapterToAdd);
         return this;
     }
@@ -54,6 +81,7 @@ public class BaseConfigurationBuilder implements ConfigurationBuilder {
     @Override
     public ConfigurationBuilder withAdapters(Collection<ConfigurationAdapter> adaptersToAdd) {
         adapters.addAll(adaptersToAdd);
+        prototype = null;
         logger.trace("added adapters to builder: {}", adaptersToAdd);
         return this;
     }
@@ -61,6 +89,7 @@ public class BaseConfigurationBuilder implements ConfigurationBuilder {
     @Override
     public ConfigurationBuilder withExporter(ConfigurationExporter exporterToAdd) {
         exporters.add(exporterToAdd);
+        prototype = null;
         logger.trace("added exporter to builder: {}", exporterToAdd);
         return this;
     }
@@ -73,50 +102,31 @@ public class BaseConfigurationBuilder implements ConfigurationBuilder {
     @Override
     public ConfigurationBuilder withExporters(Collection<ConfigurationExporter> exportersToAdd) {
         exporters.addAll(exportersToAdd);
+        prototype = null;
         logger.trace("added exporters to builder: {}", exportersToAdd);
         return this;
     }
 
+    /**
+     * Builds a new {@link BaseConfiguration base configuration}. If all
+     * adapters are {@link TrackableConfigurationAdapter trackable}, a cheap
+     * copy of the previously built configuration is returned as long as none
+     * of their sources changed. Otherwise the configuration is adapted and
+     * exported anew.
+     *
+     * @return the built configuration
+     * @see ConfigurationPrototype
+     */
     @Override
     public Configuration build() {
-        logger.trace("building new configuration using: {}", Configuration.class);
-        BaseConfiguration configuration = new BaseConfiguration();
-        adaptConfiguration(configuration);
-        exportConfiguration(configuration);
-        return configuration;
-    }
-
-    private void adaptConfiguration(BaseConfiguration configuration) {
-        logger.trace("adapting configuration using: {}", adapters);
-        for (ConfigurationAdapter adapter : adapters) {
-            adapter.adapt(configuration);
-            logger.trace("adapted configuration using: {}", adapter);
-        }
+        return getPrototype().create();
     }
 
-    private void exportConfiguration(BaseConfiguration configuration) {
-
-        logger.trace("exporting properties of configuration using: {}", exporters);
-
-        /* set exporters on configuration to keep being up to date with
-         * configuration changes */
-        configuration.addExporters(exporters);
-
-        /* export finished configuration once through all exporters */
-        Object value;
-        for (String key : sortedKeyList(configuration)) {
-            value = configuration.getProperty(key);
-            for (ConfigurationExporter exporter : exporters) {
-                exporter.export(key, value);
-            }
+    private synchronized ConfigurationPrototype getPrototype() {
+        if (prototype == null) {
+            prototype = new ConfigurationPrototype(adapters, exporters);
         }
-
-    }
-
-    private List<String> sortedKeyList(Configuration configuration) {
-        List<String> keyList = new ArrayList<String>(configuration.getKeys());
-        Collections.sort(keyList);
-        return keyList;
+        return prototype;
     }
 
 }
@@ -0,0 +1,159 @@
+package info.novatec.testit.webtester.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
+import info.novatec.testit.webtester.api.config.ConfigurationExporter;
+import info.novatec.testit.webtester.api.config.TrackableConfigurationAdapter;
+
+
+/**
+ * Creates {@link BaseConfiguration base configurations} from a fixed set of
+ * {@link ConfigurationAdapter adapters} and {@link ConfigurationExporter
+ * exporters}.
+ * <p>
+ * If all adapters are {@link TrackableConfigurationAdapter trackable}, the
+ * configuration is only adapted and exported once. Every call to
+ * {@link #create()} returns a {@link BaseConfiguration#copy() copy} of it
+ * until the source of one of the adapters changes, at which point it is built
+ * anew. If at least one adapter isn't trackable or reports its source as
+ * {@link TrackableConfigurationAdapter#UNTRACKABLE untrackable}, each call
+ * builds a new configuration.
+ * <p>
+ * Instances are thread-safe and can be shared by any number of
+ * {@link BaseConfigurationBuilder builders}.
+ *
+ * @see BaseConfigurationBuilder#BaseConfigurationBuilder(ConfigurationPrototype)
+ * @since 1.3.0
+ */
+public final class ConfigurationPrototype {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationPrototype.class);
+
+    private final List<ConfigurationAdapter> adapters;
+    private final List<ConfigurationExporter> exporters;
+
+    private BaseConfiguration prototype;
+    private List<Long> prototypeModifications;
+
+    /**
+     * Creates a new prototype for the given {@link ConfigurationAdapter
+     * adapters} and {@link ConfigurationExporter exporters}. They are used in
+     * the given order.
+     *
+     * @param adapters the adapters
+     * @param exporters the exporters
+     * @since 1.3.0
+     */
+    public ConfigurationPrototype(Collection<? extends ConfigurationAdapter> adapters,
+        Collection<? extends ConfigurationExporter> exporters) {
+        this.adapters = Collections.unmodifiableList(new ArrayList<ConfigurationAdapter>(adapters));
+        this.exporters = Collections.unmodifiableList(new ArrayList<ConfigurationExporter>(exporters));
+    }
+
+    /**
+     * Creates a new {@link Configuration configuration}. Changes to the
+     * returned configuration don't affect any other configuration created by
+     * this prototype.
+     *
+     * @return the created configuration
+     * @since 1.3.0
+     */
+    public BaseConfiguration create() {
+
+        List<Long> modifications = getModifications();
+        if (modifications == null) {
+            return build();
+        }
+
+        synchronized (this) {
+            if (prototype == null || !modifications.equals(prototypeModifications)) {
+                logger.debug("building configuration prototype using: {}", adapters);
+                prototype = build();
+                prototypeModifications = modifications;
+            }
+            return prototype.copy();
+        }
+
+    }
+
+    /**
+     * @return the adapters used by this prototype
+     * @since 1.3.0
+     */
+    public List<ConfigurationAdapter> getAdapters() {
+        return adapters;
+    }
+
+    /**
+     * @return the exporters used by this prototype
+     * @since 1.3.0
+     */
+    public List<ConfigurationExporter> getExporters() {
+        return exporters;
+    }
+
+    private List<Long> getModifications() {
+        List<Long> modifications = new ArrayList<Long>(adapters.size());
+        for (ConfigurationAdapter adapter : adapters) {
+            if (!(adapter instanceof TrackableConfigurationAdapter)) {
+                return null;
+            }
+            long lastModified = (( TrackableConfigurationAdapter ) adapter).getLastModified();
+            if (lastModified == TrackableConfigurationAdapter.UNTRACKABLE) {
+                return null;
+            }
+            modifications.add(lastModified);
+        }
+        return modifications;
+    }
+
+    private BaseConfiguration build() {
+        logger.trace("building new configuration using: {}", Configuration.class);
+        BaseConfiguration configuration = new BaseConfiguration();
+        adaptConfiguration(configuration);
+        exportConfiguration(configuration);
+        return configuration;
+    }
+
+    private void adaptConfiguration(BaseConfiguration configuration) {
+        logger.trace("adapting configuration using: {}", adapters);
+        for (ConfigurationAdapter adapter : adapters) {
+            adapter.adapt(configuration);
+            logger.trace("adapted configuration using: {}", adapter);
+        }
+    }
+
+    private void exportConfiguration(BaseConfiguration configuration) {
+
+        logger.trace("exporting properties of configuration using: {}", exporters);
+
+        /* set exporters on configuration to keep being up to date with
+         * configuration changes */
+        configuration.addExporters(exporters);
+
+        /* export finished configuration once through all exporters */
+        Object value;
+        for (String key : sortedKeyList(configuration)) {
+            value = configuration.getProperty(key);
+            for (ConfigurationExporter exporter : exporters) {
+                exporter.export(key, value);
+            }
+        }
+
+    }
+
+    private List<String> sortedKeyList(Configuration configuration) {
+        List<String> keyList = new ArrayList<String>(configuration.getKeys());
+        Collections.sort(keyList);
+        return keyList;
+    }
+
+}
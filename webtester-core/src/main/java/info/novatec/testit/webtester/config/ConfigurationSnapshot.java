@@ -0,0 +1,248 @@
+package info.novatec.testit.webtester.config;
+
+import org.openqa.selenium.support.Color;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+
+
+/**
+ * Immutable, typed view of the named properties of a {@link Configuration
+ * configuration} which are read for (almost) every action, wait and marking.
+ * <p>
+ * A {@link BaseConfiguration base configuration} keeps its snapshot until one
+ * of its properties is set or removed, so reading a value from the snapshot
+ * neither involves a map lookup nor parsing a string. Other configuration
+ * implementations can't tell when their values change, so a fresh snapshot
+ * is taken of them every time.
+ * <p>
+ * The marking colors are only read if markings are activated.
+ *
+ * @see #of(Configuration)
+ * @see BaseConfiguration#getSnapshot()
+ * @since 1.3.0
+ */
+public final class ConfigurationSnapshot {
+
+    private final int waitTimeout;
+    private final long waitInterval;
+    private final long waitIntervalMaximum;
+    private final String waitPollingStrategy;
+    private final boolean browserSideWaitingActivated;
+    private final boolean conditionSnapshotsActivated;
+    private final int pageReadinessTimeout;
+    private final boolean pageObjectCachingActivated;
+    private final long pageObjectListMemoization;
+    private final boolean batchedValidationActivated;
+    private final boolean validationCachingActivated;
+
+    private final boolean markingsActivated;
+    private final boolean markingsBuffered;
+    private final int markingsBufferedInterval;
+    private final Color markingsColorUsedBackground;
+    private final Color markingsColorUsedOutline;
+    private final Color markingsColorReadBackground;
+    private final Color markingsColorReadOutline;
+
+    /**
+     * Creates a new snapshot of the current values of the given
+     * {@link Configuration configuration}.
+     *
+     * @param configuration the configuration to take the snapshot of
+     * @since 1.3.0
+     */
+    public ConfigurationSnapshot(Configuration configuration) {
+        this.waitTimeout = configuration.getWaitTimeout();
+        this.waitInterval = configuration.getWaitInterval();
+        this.waitIntervalMaximum = configuration.getWaitIntervalMaximum();
+        this.waitPollingStrategy = configuration.getWaitPollingStrategy();
+        this.browserSideWaitingActivated = configuration.browserSideWaitingIsActivated();
+        this.conditionSnapshotsActivated = configuration.conditionSnapshotsAreActivated();
+        this.pageReadinessTimeout = configuration.getPageReadinessTimeout();
+        this.pageObjectCachingActivated = configuration.pageObjectCachingIsActivated();
+        this.pageObjectListMemoization = configuration.getPageObjectListMemoization();
+        this.batchedValidationActivated = configuration.batchedValidationIsActivated();
+        this.validationCachingActivated = configuration.validationCachingIsActivated();
+        this.markingsActivated = configuration.markingsAreActivated();
+        this.markingsBuffered = configuration.markingsAreBuffered();
+        this.markingsBufferedInterval = configuration.getMarkingsBufferedInterval();
+        if (markingsActivated) {
+            this.markingsColorUsedBackground = configuration.getMarkingsColorUsedBackground();
+            this.markingsColorUsedOutline = configuration.getMarkingsColorUsedOutline();
+            this.markingsColorReadBackground = configuration.getMarkingsColorReadBackground();
+            this.markingsColorReadOutline = configuration.getMarkingsColorReadOutline();
+        } else {
+            this.markingsColorUsedBackground = null;
+            this.markingsColorUsedOutline = null;
+            this.markingsColorReadBackground = null;
+            this.markingsColorReadOutline = null;
+        }
+    }
+
+    /**
+     * Returns the snapshot of the given {@link Configuration configuration}.
+     * For {@link BaseConfiguration base configurations} this is their own
+     * snapshot. For all other configurations a new snapshot of their current
+     * values is created.
+     *
+     * @param configuration the configuration
+     * @return the snapshot of the configuration's values
+     * @since 1.3.0
+     */
+    public static ConfigurationSnapshot of(Configuration configuration) {
+        if (configuration instanceof BaseConfiguration) {
+            return (( BaseConfiguration ) configuration).getSnapshot();
+        }
+        return new ConfigurationSnapshot(configuration);
+    }
+
+    /**
+     * @return the value of {@link Configuration#getWaitTimeout()}
+     * @since 1.3.0
+     */
+    public int getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getWaitInterval()}
+     * @since 1.3.0
+     */
+    public long getWaitInterval() {
+        return waitInterval;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getWaitIntervalMaximum()}
+     * @since 1.3.0
+     */
+    public long getWaitIntervalMaximum() {
+        return waitIntervalMaximum;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getWaitPollingStrategy()}
+     * @since 1.3.0
+     */
+    public String getWaitPollingStrategy() {
+        return waitPollingStrategy;
+    }
+
+    /**
+     * @return the value of
+     * {@link Configuration#browserSideWaitingIsActivated()}
+     * @since 1.3.0
+     */
+    public boolean browserSideWaitingIsActivated() {
+        return browserSideWaitingActivated;
+    }
+
+    /**
+     * @return the value of
+     * {@link Configuration#conditionSnapshotsAreActivated()}
+     * @since 1.3.0
+     */
+    public boolean conditionSnapshotsAreActivated() {
+        return conditionSnapshotsActivated;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getPageReadinessTimeout()}
+     * @since 1.3.0
+     */
+    public int getPageReadinessTimeout() {
+        return pageReadinessTimeout;
+    }
+
+    /**
+     * @return the value of {@link Configuration#pageObjectCachingIsActivated()}
+     * @since 1.3.0
+     */
+    public boolean pageObjectCachingIsActivated() {
+        return pageObjectCachingActivated;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getPageObjectListMemoization()}
+     * @since 1.3.0
+     */
+    public long getPageObjectListMemoization() {
+        return pageObjectListMemoization;
+    }
+
+    /**
+     * @return the value of {@link Configuration#batchedValidationIsActivated()}
+     * @since 1.3.0
+     */
+    public boolean batchedValidationIsActivated() {
+        return batchedValidationActivated;
+    }
+
+    /**
+     * @return the value of {@link Configuration#validationCachingIsActivated()}
+     * @since 1.3.0
+     */
+    public boolean validationCachingIsActivated() {
+        return validationCachingActivated;
+    }
+
+    /**
+     * @return the value of {@link Configuration#markingsAreActivated()}
+     * @since 1.3.0
+     */
+    public boolean markingsAreActivated() {
+        return markingsActivated;
+    }
+
+    /**
+     * @return the value of {@link Configuration#markingsAreBuffered()}
+     * @since 1.3.0
+     */
+    public boolean markingsAreBuffered() {
+        return markingsBuffered;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getMarkingsBufferedInterval()}
+     * @since 1.3.0
+     */
+    public int getMarkingsBufferedInterval() {
+        return markingsBufferedInterval;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getMarkingsColorUsedBackground()}
+     * or <code>null</code> if markings are not activated
+     * @since 1.3.0
+     */
+    public Color getMarkingsColorUsedBackground() {
+        return markingsColorUsedBackground;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getMarkingsColorUsedOutline()}
+     * or <code>null</code> if markings are not activated
+     * @since 1.3.0
+     */
+    public Color getMarkingsColorUsedOutline() {
+        return markingsColorUsedOutline;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getMarkingsColorReadBackground()}
+     * or <code>null</code> if markings are not activated
+     * @since 1.3.0
+     */
+    public Color getMarkingsColorReadBackground() {
+        return markingsColorReadBackground;
+    }
+
+    /**
+     * @return the value of {@link Configuration#getMarkingsColorReadOutline()}
+     * or <code>null</code> if markings are not activated
+     * @since 1.3.0
+     */
+    public Color getMarkingsColorReadOutline() {
+        return markingsColorReadOutline;
+    }
+
+}
@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.config;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
 import info.novatec.testit.webtester.api.config.ConfigurationBuilder;
@@ -21,6 +24,9 @@ import info.novatec.testit.webtester.config.adapters.LocalFileConfigurationAdapt
  * <li>{@link GlobalFileConfigurationAdapter}</li>
  * <li>{@link LocalFileConfigurationAdapter}</li>
  * </ol>
+ * <p>
+ * All instances share the same {@link ConfigurationPrototype prototype}, so
+ * the property files are only read again after one of them changed.
  *
  * @see Configuration
  * @see BaseConfiguration
@@ -30,14 +36,16 @@ import info.novatec.testit.webtester.config.adapters.LocalFileConfigurationAdapt
  */
 public class DefaultConfigurationBuilder extends BaseConfigurationBuilder {
 
+    private static final ConfigurationPrototype PROTOTYPE = new ConfigurationPrototype(
+        Arrays.asList(new DefaultFileConfigurationAdapter(), new GlobalFileConfigurationAdapter(),
+            new LocalFileConfigurationAdapter()), Collections.<ConfigurationExporter> emptyList());
+
     public static Configuration create() {
         return new DefaultConfigurationBuilder().build();
     }
 
     public DefaultConfigurationBuilder() {
-        withAdapter(new DefaultFileConfigurationAdapter());
-        withAdapter(new GlobalFileConfigurationAdapter());
-        withAdapter(new LocalFileConfigurationAdapter());
+        super(PROTOTYPE);
     }
 
 }
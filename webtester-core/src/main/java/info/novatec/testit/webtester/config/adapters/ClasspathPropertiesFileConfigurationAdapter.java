@@ -1,14 +1,20 @@
 package info.novatec.testit.webtester.config.adapters;
 
+import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
+import info.novatec.testit.webtester.api.config.TrackableConfigurationAdapter;
 
 
 /**
@@ -21,13 +27,19 @@ import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
  * @see AbstractPropertiesConfigurationAdapter
  * @since 0.9.7
  */
-public class ClasspathPropertiesFileConfigurationAdapter extends AbstractPropertiesConfigurationAdapter {
+public class ClasspathPropertiesFileConfigurationAdapter extends AbstractPropertiesConfigurationAdapter
+    implements TrackableConfigurationAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(ClasspathPropertiesFileConfigurationAdapter.class);
 
     private static final String FILE_NOT_ON_CLASSPATH =
         "{} properties file {} wasn't found on the classpath - it's properties will not be merged into configuration.";
 
+    /** Classes which only read their properties file and nothing else. */
+    private static final Set<Class<?>> TRACKABLE_CLASSES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(
+        ClasspathPropertiesFileConfigurationAdapter.class, DefaultFileConfigurationAdapter.class,
+        GlobalFileConfigurationAdapter.class, LocalFileConfigurationAdapter.class));
+
     /**
      * Classification how important the existence of a configuration file is.
      *
@@ -131,4 +143,49 @@ public class ClasspathPropertiesFileConfigurationAdapter extends AbstractPropert
 
     }
 
+    /**
+     * Returns the last modification time of the properties file if it is a
+     * file within a folder of the classpath. Files within archives can't change
+     * while the JVM is running, so a constant value of 1 is returned for them.
+     * If the file isn't on the classpath, 0 is returned. If the file can't be
+     * resolved or this adapter isn't {@link #isTrackable() trackable},
+     * {@link #UNTRACKABLE} is returned.
+     *
+     * @return the last modification of the properties file
+     * @since 1.3.0
+     */
+    @Override
+    public long getLastModified() {
+        if (!isTrackable()) {
+            return UNTRACKABLE;
+        }
+        URL resource = getClass().getClassLoader().getResource(propertyFilePath);
+        if (resource == null) {
+            return 0L;
+        }
+        if (!"file".equals(resource.getProtocol())) {
+            return 1L;
+        }
+        try {
+            return new File(resource.toURI()).lastModified();
+        } catch (URISyntaxException e) {
+            logger.debug("could not resolve properties file " + propertyFilePath, e);
+            return UNTRACKABLE;
+        }
+    }
+
+    /**
+     * Returns whether the changes of this adapter's source are fully described
+     * by the last modification of its properties file. This is only the case
+     * for this class and the subclasses of this package, since other
+     * subclasses might read additional sources. Subclasses which only read the
+     * properties file can override this method to opt in.
+     *
+     * @return true if changes of the source can be tracked, false otherwise
+     * @since 1.3.0
+     */
+    protected boolean isTrackable() {
+        return TRACKABLE_CLASSES.contains(getClass());
+    }
+
 }
@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
+import info.novatec.testit.webtester.api.config.TrackableConfigurationAdapter;
 import info.novatec.testit.webtester.internal.TestITUtils;
 
 
@@ -24,7 +25,8 @@ import info.novatec.testit.webtester.internal.TestITUtils;
  * @see AbstractPropertiesConfigurationAdapter
  * @since 0.9.7
  */
-public class TestItHomeFileConfigurationAdapter extends AbstractPropertiesConfigurationAdapter {
+public class TestItHomeFileConfigurationAdapter extends AbstractPropertiesConfigurationAdapter
+    implements TrackableConfigurationAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(TestItHomeFileConfigurationAdapter.class);
     private static final String PROPERTIES_FILE = "testit-webtester.properties";
@@ -57,4 +59,36 @@ public class TestItHomeFileConfigurationAdapter extends AbstractPropertiesConfig
 
     }
 
+    /**
+     * Returns the last modification time of the
+     * <code>$TESTIT_HOME/config/testit-webtester.properties</code> file or 0
+     * if it doesn't exist. If this adapter isn't {@link #isTrackable()
+     * trackable}, {@link #UNTRACKABLE} is returned.
+     *
+     * @return the last modification of the properties file
+     * @since 1.3.0
+     */
+    @Override
+    public long getLastModified() {
+        if (!isTrackable()) {
+            return UNTRACKABLE;
+        }
+        File propertiesFile = new File(TestITUtils.getTestITHomeSubFolder("config"), PROPERTIES_FILE);
+        return propertiesFile.lastModified();
+    }
+
+    /**
+     * Returns whether the changes of this adapter's source are fully described
+     * by the last modification of its properties file. This is only the case
+     * for this class itself, since subclasses might read additional sources.
+     * Subclasses which only read the properties file can override this method
+     * to opt in.
+     *
+     * @return true if changes of the source can be tracked, false otherwise
+     * @since 1.3.0
+     */
+    protected boolean isTrackable() {
+        return getClass() == TestItHomeFileConfigurationAdapter.class;
+    }
+
 }
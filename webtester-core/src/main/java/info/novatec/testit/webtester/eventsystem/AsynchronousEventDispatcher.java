@@ -0,0 +1,253 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.internal.Objects;
+
+
+/**
+ * Delivers {@link Event events} to {@link EventListener listeners} on
+ * background threads. Each dispatcher consists of a number of lanes, each with
+ * its own bounded queue and daemon thread. Events are assigned to lanes based
+ * on their {@link BrowserIdentification browser}, so all events of a browser
+ * are delivered in the order they were fired.
+ * <p>
+ * Events fired by listeners (i.e. from within a dispatcher thread) are always
+ * queued regardless of the queue's capacity in order to prevent dead locks.
+ *
+ * @since 1.3.0
+ */
+@Internal
+final class AsynchronousEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsynchronousEventDispatcher.class);
+
+    private final Lane[] lanes;
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    AsynchronousEventDispatcher(int queueCapacity, BackPressurePolicy policy, int numberOfLanes) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queue capacity must be at least 1: " + queueCapacity);
+        }
+        if (numberOfLanes < 1) {
+            throw new IllegalArgumentException("number of lanes must be at least 1: " + numberOfLanes);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("back pressure policy must not be null");
+        }
+        this.lanes = new Lane[numberOfLanes];
+        for (int i = 0; i < numberOfLanes; i++) {
+            lanes[i] = new Lane(i, queueCapacity, policy);
+        }
+    }
+
+    void start() {
+        for (Lane lane : lanes) {
+            lane.thread.start();
+        }
+    }
+
+    /**
+     * Queues the given {@link Event event} for delivery to the given
+     * {@link EventListener listeners}. Depending on the
+     * {@link BackPressurePolicy policy} this might block the calling thread
+     * while the event's lane is full.
+     *
+     * @param event the event to dispatch
+     * @param listeners the listeners to inform
+     * @return false if the dispatcher was already shut down and the event has
+     * not been queued
+     */
+    boolean dispatch(Event event, List<EventListener> listeners) {
+        return laneFor(event).enqueue(new PendingEvent(event, listeners));
+    }
+
+    /**
+     * Blocks the calling thread until all {@link Event events}, which were
+     * queued before this method was called, have been delivered. Calling this
+     * method from within a dispatcher thread has no effect.
+     */
+    void flush() {
+        if (isDispatcherThread()) {
+            return;
+        }
+        for (Lane lane : lanes) {
+            lane.awaitIdle();
+        }
+    }
+
+    /**
+     * Delivers all pending {@link Event events} and stops the dispatcher
+     * threads afterwards.
+     */
+    void shutdown() {
+        flush();
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+    }
+
+    long getNumberOfDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    private Lane laneFor(Event event) {
+        BrowserIdentification browser = event.getBrowserIdentification();
+        int hash = browser != null ? browser.hashCode() : 0;
+        return lanes[( hash & Integer.MAX_VALUE ) % lanes.length];
+    }
+
+    private static boolean isDispatcherThread() {
+        return Thread.currentThread() instanceof DispatcherThread;
+    }
+
+    private static final class PendingEvent {
+
+        private final Event event;
+        private final List<EventListener> listeners;
+
+        PendingEvent(Event event, List<EventListener> listeners) {
+            this.event = event;
+            this.listeners = listeners;
+        }
+
+        boolean isSupersededBy(Event other) {
+            return event.getClass() == other.getClass()
+                && Objects.equals(event.getBrowserIdentification(), other.getBrowserIdentification());
+        }
+
+    }
+
+    private final class Lane implements Runnable {
+
+        private final LinkedList<PendingEvent> queue = new LinkedList<PendingEvent>();
+        private final int capacity;
+        private final BackPressurePolicy policy;
+        private final Thread thread;
+
+        private boolean delivering;
+        private boolean stopped;
+
+        Lane(int index, int capacity, BackPressurePolicy policy) {
+            this.capacity = capacity;
+            this.policy = policy;
+            this.thread = new DispatcherThread(this, "webtester-event-dispatcher-" + index);
+        }
+
+        synchronized boolean enqueue(PendingEvent pendingEvent) {
+            if (stopped) {
+                return false;
+            }
+            if (queue.size() >= capacity && !isDispatcherThread()) {
+                if (policy == BackPressurePolicy.COALESCE && replaceSupersededEvent(pendingEvent)) {
+                    return true;
+                }
+                if (policy == BackPressurePolicy.DROP || !awaitRoom()) {
+                    droppedEvents.incrementAndGet();
+                    logger.debug("dropped event because of full queue: {}", pendingEvent.event);
+                    return true;
+                }
+            }
+            queue.addLast(pendingEvent);
+            notifyAll();
+            return true;
+        }
+
+        /* the new event takes the place of the superseded one, so the order
+         * relative to other events stays the same */
+        private boolean replaceSupersededEvent(PendingEvent pendingEvent) {
+            ListIterator<PendingEvent> iterator = queue.listIterator();
+            while (iterator.hasNext()) {
+                PendingEvent pending = iterator.next();
+                if (pending.isSupersededBy(pendingEvent.event)) {
+                    iterator.set(pendingEvent);
+                    droppedEvents.incrementAndGet();
+                    logger.debug("coalesced event: {}", pending.event);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean awaitRoom() {
+            try {
+                while (queue.size() >= capacity && !stopped) {
+                    wait();
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        synchronized void awaitIdle() {
+            boolean interrupted = false;
+            while (( !queue.isEmpty() || delivering ) && !stopped) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized void stop() {
+            stopped = true;
+            notifyAll();
+        }
+
+        @Override
+        public void run() {
+            PendingEvent pendingEvent;
+            while (( pendingEvent = take() ) != null) {
+                for (EventListener listener : pendingEvent.listeners) {
+                    EventSystem.tryToInformListenerOfEvent(pendingEvent.event, listener);
+                }
+            }
+        }
+
+        private synchronized PendingEvent take() {
+            delivering = false;
+            notifyAll();
+            while (queue.isEmpty()) {
+                if (stopped) {
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    logger.debug("ignored interruption of event dispatcher thread", e);
+                }
+            }
+            delivering = true;
+            PendingEvent pendingEvent = queue.removeFirst();
+            notifyAll();
+            return pendingEvent;
+        }
+
+    }
+
+    private static final class DispatcherThread extends Thread {
+
+        DispatcherThread(Runnable runnable, String name) {
+            super(runnable, name);
+            setDaemon(true);
+        }
+
+    }
+
+}
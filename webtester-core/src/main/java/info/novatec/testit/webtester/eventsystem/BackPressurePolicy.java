@@ -0,0 +1,42 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import info.novatec.testit.webtester.api.events.Event;
+
+
+/**
+ * Enumeration of strategies to apply when an {@link Event event} is fired
+ * while the bounded queue of the asynchronous {@link EventSystem event system}
+ * dispatcher is full.
+ *
+ * @see EventSystem#enableAsynchronousDispatch(int, BackPressurePolicy)
+ * @since 1.3.0
+ */
+public enum BackPressurePolicy {
+
+    /**
+     * The firing thread is blocked until there is room in the queue. No events
+     * are lost, but slow listeners will slow down the test once the queue is
+     * full.
+     *
+     * @since 1.3.0
+     */
+    BLOCK,
+
+    /**
+     * The fired event is discarded. The firing thread is never blocked, but
+     * listeners will not be informed of the discarded events.
+     *
+     * @since 1.3.0
+     */
+    DROP,
+
+    /**
+     * The oldest pending event of the same type and browser is replaced by the
+     * fired event. If there is no such event the firing thread is blocked like
+     * with {@link #BLOCK}.
+     *
+     * @since 1.3.0
+     */
+    COALESCE
+
+}
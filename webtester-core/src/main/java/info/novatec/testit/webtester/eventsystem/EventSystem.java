@@ -1,11 +1,13 @@
 package info.novatec.testit.webtester.eventsystem;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
 import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.events.EventListener;
 
@@ -17,15 +19,32 @@ import info.novatec.testit.webtester.api.events.EventListener;
  * event listener}. These listeners are informed of {@link Event events} which
  * are {@link #fireEvent(Event) fired} in via this class as well.
  * <p>
+ * Listeners can be registered for all events or only for those of a certain
+ * {@link #registerListener(BrowserIdentification, EventListener, Class...)
+ * browser and event types}. The registry is copy-on-write, so firing events
+ * never has to wait for a lock.
+ * <p>
  * Event listeners will be informed of events in the order they were registered.
- * Each call to an event listener is done synchronously.
+ * By default each call to an event listener is done synchronously on the thread
+ * firing the event. Optionally an
+ * {@link #enableAsynchronousDispatch(int, BackPressurePolicy) asynchronous
+ * dispatch} can be activated. In that case events are put into a bounded queue
+ * and delivered by background threads. Events of the same browser are still
+ * delivered in the order they were fired. Use {@link #flush()} to wait until
+ * all fired events have been delivered (e.g. at the end of a test).
+ * <p>
+ * <b>Note:</b> Listeners which rely on the current state of the browser (like
+ * taking screenshots) might see a different state when used asynchronously.
  *
  * @since 0.9.0
  */
 public final class EventSystem {
 
     private static final Logger logger = LoggerFactory.getLogger(EventSystem.class);
-    private static final List<EventListener> LISTENERS = new LinkedList<EventListener>();
+    private static final List<Class<? extends Event>> NO_EVENT_TYPES = Collections.emptyList();
+    private static final ListenerRegistry REGISTRY = new ListenerRegistry();
+
+    private static volatile AsynchronousEventDispatcher dispatcher;
 
     /**
      * Registers an {@link EventListener event listener}. It will be informed of
@@ -35,35 +54,73 @@ public final class EventSystem {
      * @since 0.9.0
      */
     public static void registerListener(EventListener listener) {
-        synchronized ( LISTENERS ) {
-            LISTENERS.add(listener);
-        }
+        REGISTRY.register(null, listener, NO_EVENT_TYPES);
         logger.debug("registered listener: {}", listener);
     }
 
+    /**
+     * Registers an {@link EventListener event listener} for certain
+     * {@link Event events}. It will only be informed of events which were
+     * reported for the given {@link BrowserIdentification browser} and are of
+     * one of the given types (including sub types).
+     * <p>
+     * Scoping listeners this way saves them from filtering events themselves
+     * and prevents them from being called for events they are not interested
+     * in at all.
+     *
+     * @param browser the browser to inform the listener about or
+     * <code>null</code> in order to inform it about events of all browsers
+     * @param listener the {@link EventListener event listener} to register
+     * @param eventTypes the event types to inform the listener about, if none
+     * are given the listener is informed about all types of events
+     * @since 1.3.0
+     */
+    @SafeVarargs
+    public static void registerListener(BrowserIdentification browser, EventListener listener,
+        Class<? extends Event>... eventTypes) {
+        List<Class<? extends Event>> types = new ArrayList<Class<? extends Event>>(eventTypes.length);
+        for (Class<? extends Event> eventType : eventTypes) {
+            types.add(eventType);
+        }
+        REGISTRY.register(browser, listener, types);
+        logger.debug("registered listener: {} (browser: {}, event types: {})", listener, browser, types);
+    }
+
     /**
      * Deregisters an {@link EventListener event listener}. It will no longer be
      * informed of any {@link Event events} that are reported by the framework.
+     * In case the listener was registered more than once, only its earliest
+     * registration is removed.
      *
      * @param listener the {@link EventListener event listener} to unregister.
      * @since 0.9.0
      */
     public static void deregisterListener(EventListener listener) {
-        synchronized ( LISTENERS ) {
-            LISTENERS.remove(listener);
-        }
+        REGISTRY.deregister(listener);
         logger.debug("deregistered listener: {}", listener);
     }
 
+    /**
+     * Deregisters all {@link EventListener event listeners} which were
+     * registered for the given {@link BrowserIdentification browser}.
+     * Listeners registered for all browsers are not affected. This is done
+     * automatically when a browser is closed.
+     *
+     * @param browser the browser to deregister the listeners of
+     * @since 1.3.0
+     */
+    public static void deregisterListeners(BrowserIdentification browser) {
+        REGISTRY.deregisterAll(browser);
+        logger.debug("deregistered listeners of browser: {}", browser);
+    }
+
     /**
      * Removes all {@link EventListener event listeners} from the registry.
      *
      * @since 0.9.0
      */
     public static void clearListeners() {
-        synchronized ( LISTENERS ) {
-            LISTENERS.clear();
-        }
+        REGISTRY.clear();
         logger.debug("cleared all listener");
     }
 
@@ -78,19 +135,136 @@ public final class EventSystem {
      */
     public static void fireEvent(Event event) {
         logger.debug("firing event: {}", event);
-        for (EventListener listener : threadSafelyGetEventListeners()) {
+        List<EventListener> listeners = REGISTRY.getListenersFor(event);
+        if (listeners.isEmpty()) {
+            return;
+        }
+        AsynchronousEventDispatcher currentDispatcher = dispatcher;
+        if (currentDispatcher != null && currentDispatcher.dispatch(event, listeners)) {
+            return;
+        }
+        for (EventListener listener : listeners) {
             tryToInformListenerOfEvent(event, listener);
         }
     }
 
-    private static List<EventListener> threadSafelyGetEventListeners() {
-        synchronized ( LISTENERS ) {
-            return new LinkedList<EventListener>(LISTENERS);
+    /**
+     * Returns whether or not any {@link EventListener listener} is interested
+     * in {@link Event events} of the given type and
+     * {@link BrowserIdentification browser}. This can be used to skip the
+     * creation of events, which would not be delivered to anyone.
+     *
+     * @param eventType the type of the event
+     * @param browser the browser of the event, might be <code>null</code>
+     * @return true if there is at least one interested listener
+     * @since 1.3.0
+     */
+    public static boolean hasListenersFor(Class<? extends Event> eventType, BrowserIdentification browser) {
+        return REGISTRY.hasListenersFor(eventType, browser);
+    }
+
+    /**
+     * Activates the asynchronous dispatch of {@link Event events} using a
+     * single dispatcher thread. See
+     * {@link #enableAsynchronousDispatch(int, BackPressurePolicy, int)} for
+     * details.
+     *
+     * @param queueCapacity the maximum number of pending events
+     * @param policy the {@link BackPressurePolicy policy} to apply in case
+     * the queue is full
+     * @since 1.3.0
+     */
+    public static void enableAsynchronousDispatch(int queueCapacity, BackPressurePolicy policy) {
+        enableAsynchronousDispatch(queueCapacity, policy, 1);
+    }
+
+    /**
+     * Activates the asynchronous dispatch of {@link Event events}. From now on
+     * fired events are put into a bounded queue and the registered
+     * {@link EventListener listeners} are informed by background threads.
+     * Each browser's events are always handled by the same thread and are
+     * therefore delivered in the order they were fired. If asynchronous
+     * dispatch was already active, the previous dispatcher is
+     * {@link #flush() flushed} and replaced.
+     *
+     * @param queueCapacity the maximum number of pending events per thread
+     * @param policy the {@link BackPressurePolicy policy} to apply in case
+     * the queue is full
+     * @param numberOfThreads the number of dispatcher threads
+     * @throws IllegalArgumentException if the capacity or number of threads is
+     * less than 1 or the policy is <code>null</code>
+     * @since 1.3.0
+     */
+    public static synchronized void enableAsynchronousDispatch(int queueCapacity, BackPressurePolicy policy,
+        int numberOfThreads) {
+        AsynchronousEventDispatcher newDispatcher =
+            new AsynchronousEventDispatcher(queueCapacity, policy, numberOfThreads);
+        newDispatcher.start();
+        AsynchronousEventDispatcher oldDispatcher = dispatcher;
+        dispatcher = newDispatcher;
+        if (oldDispatcher != null) {
+            oldDispatcher.shutdown();
+        }
+        logger.debug("enabled asynchronous event dispatch: capacity={}, policy={}, threads={}", queueCapacity,
+            policy, numberOfThreads);
+    }
+
+    /**
+     * Deactivates the asynchronous dispatch of {@link Event events}. All
+     * pending events are delivered before this method returns. From now on
+     * events are again delivered synchronously.
+     *
+     * @since 1.3.0
+     */
+    public static synchronized void disableAsynchronousDispatch() {
+        AsynchronousEventDispatcher oldDispatcher = dispatcher;
+        dispatcher = null;
+        if (oldDispatcher != null) {
+            oldDispatcher.shutdown();
+            logger.debug("disabled asynchronous event dispatch");
         }
     }
 
+    /**
+     * Returns whether or not {@link Event events} are currently dispatched
+     * asynchronously.
+     *
+     * @return true if asynchronous dispatch is active, otherwise false
+     * @since 1.3.0
+     */
+    public static boolean isAsynchronousDispatchActive() {
+        return dispatcher != null;
+    }
+
+    /**
+     * Blocks until all {@link Event events}, which were fired before calling
+     * this method, have been delivered to the {@link EventListener listeners}.
+     * Does nothing if events are dispatched synchronously or if called by a
+     * listener.
+     *
+     * @since 1.3.0
+     */
+    public static void flush() {
+        AsynchronousEventDispatcher currentDispatcher = dispatcher;
+        if (currentDispatcher != null) {
+            currentDispatcher.flush();
+        }
+    }
+
+    /**
+     * Returns the number of {@link Event events} which were discarded or
+     * coalesced by the current asynchronous dispatcher because of a full queue.
+     *
+     * @return the number of discarded events, 0 if dispatch is synchronous
+     * @since 1.3.0
+     */
+    public static long getNumberOfDroppedEvents() {
+        AsynchronousEventDispatcher currentDispatcher = dispatcher;
+        return currentDispatcher != null ? currentDispatcher.getNumberOfDroppedEvents() : 0L;
+    }
+
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    private static void tryToInformListenerOfEvent(Event event, EventListener listener) {
+    static void tryToInformListenerOfEvent(Event event, EventListener listener) {
         logger.trace("informing listener {} about event {}", listener, event);
         try {
             listener.eventOccurred(event);
@@ -0,0 +1,209 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+
+
+/**
+ * Copy-on-write registry of {@link EventListener listeners} used by the
+ * {@link EventSystem event system}. Listeners can be subscribed for all
+ * browsers or for a single {@link BrowserIdentification browser} and can be
+ * restricted to certain {@link Event event} types.
+ * <p>
+ * Looking up the listeners of an event is lock-free and only considers the
+ * global subscriptions and those of the event's browser. Changes to the
+ * registry are synchronized and replace the affected subscription lists.
+ * Listeners are always returned in the order they were registered.
+ *
+ * @since 1.3.0
+ */
+@Internal
+final class ListenerRegistry {
+
+    private final List<Subscription> globalSubscriptions = new CopyOnWriteArrayList<Subscription>();
+    private final ConcurrentMap<BrowserIdentification, List<Subscription>> browserSubscriptions =
+        new ConcurrentHashMap<BrowserIdentification, List<Subscription>>();
+
+    private long nextSequenceNumber;
+
+    synchronized void register(BrowserIdentification browser, EventListener listener,
+        List<Class<? extends Event>> eventTypes) {
+        Subscription subscription = new Subscription(nextSequenceNumber++, listener, eventTypes);
+        if (browser == null) {
+            globalSubscriptions.add(subscription);
+        } else {
+            List<Subscription> subscriptions = browserSubscriptions.get(browser);
+            if (subscriptions == null) {
+                subscriptions = new CopyOnWriteArrayList<Subscription>();
+                browserSubscriptions.put(browser, subscriptions);
+            }
+            subscriptions.add(subscription);
+        }
+    }
+
+    /**
+     * Removes the earliest subscription of the given {@link EventListener
+     * listener}, regardless of its scope.
+     *
+     * @param listener the listener to remove
+     */
+    synchronized void deregister(EventListener listener) {
+
+        Subscription earliest = findEarliestSubscription(globalSubscriptions, listener, null);
+        BrowserIdentification earliestBrowser = null;
+        for (Map.Entry<BrowserIdentification, List<Subscription>> entry : browserSubscriptions.entrySet()) {
+            Subscription candidate = findEarliestSubscription(entry.getValue(), listener, earliest);
+            if (candidate != earliest) {
+                earliest = candidate;
+                earliestBrowser = entry.getKey();
+            }
+        }
+
+        if (earliest == null) {
+            return;
+        }
+        if (earliestBrowser == null) {
+            globalSubscriptions.remove(earliest);
+        } else {
+            List<Subscription> subscriptions = browserSubscriptions.get(earliestBrowser);
+            subscriptions.remove(earliest);
+            if (subscriptions.isEmpty()) {
+                browserSubscriptions.remove(earliestBrowser);
+            }
+        }
+
+    }
+
+    private static Subscription findEarliestSubscription(List<Subscription> subscriptions, EventListener listener,
+        Subscription currentEarliest) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.listener.equals(listener)) {
+                boolean isEarlier =
+                    currentEarliest == null || subscription.sequenceNumber < currentEarliest.sequenceNumber;
+                return isEarlier ? subscription : currentEarliest;
+            }
+        }
+        return currentEarliest;
+    }
+
+    /**
+     * Removes all subscriptions which were made for the given
+     * {@link BrowserIdentification browser}.
+     *
+     * @param browser the browser
+     */
+    synchronized void deregisterAll(BrowserIdentification browser) {
+        browserSubscriptions.remove(browser);
+    }
+
+    synchronized void clear() {
+        globalSubscriptions.clear();
+        browserSubscriptions.clear();
+    }
+
+    /**
+     * Returns the {@link EventListener listeners} which are interested in the
+     * given {@link Event event} in order of their registration.
+     *
+     * @param event the event
+     * @return the interested listeners, might be empty
+     */
+    List<EventListener> getListenersFor(Event event) {
+
+        Class<? extends Event> eventType = event.getClass();
+        List<Subscription> global = globalSubscriptions;
+        List<Subscription> scoped = scopedSubscriptions(event.getBrowserIdentification());
+        if (global.isEmpty() && scoped.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Subscription[] globalArray = global.toArray(new Subscription[0]);
+        Subscription[] scopedArray = scoped.toArray(new Subscription[0]);
+        List<EventListener> listeners = new ArrayList<EventListener>(globalArray.length + scopedArray.length);
+
+        int g = 0;
+        int s = 0;
+        while (g < globalArray.length || s < scopedArray.length) {
+            Subscription next;
+            if (s >= scopedArray.length
+                || g < globalArray.length && globalArray[g].sequenceNumber < scopedArray[s].sequenceNumber) {
+                next = globalArray[g++];
+            } else {
+                next = scopedArray[s++];
+            }
+            if (next.isInterestedIn(eventType)) {
+                listeners.add(next.listener);
+            }
+        }
+        return listeners;
+
+    }
+
+    /**
+     * Returns whether or not any {@link EventListener listener} is interested
+     * in {@link Event events} of the given type and browser.
+     *
+     * @param eventType the type of the event
+     * @param browser the browser of the event, might be <code>null</code>
+     * @return true if there is at least one interested listener
+     */
+    boolean hasListenersFor(Class<? extends Event> eventType, BrowserIdentification browser) {
+        return containsInterestedSubscription(globalSubscriptions, eventType)
+            || containsInterestedSubscription(scopedSubscriptions(browser), eventType);
+    }
+
+    private static boolean containsInterestedSubscription(List<Subscription> subscriptions,
+        Class<? extends Event> eventType) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.isInterestedIn(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Subscription> scopedSubscriptions(BrowserIdentification browser) {
+        if (browser == null) {
+            return Collections.emptyList();
+        }
+        List<Subscription> subscriptions = browserSubscriptions.get(browser);
+        return subscriptions != null ? subscriptions : Collections.<Subscription> emptyList();
+    }
+
+    private static final class Subscription {
+
+        private final long sequenceNumber;
+        private final EventListener listener;
+        private final List<Class<? extends Event>> eventTypes;
+
+        Subscription(long sequenceNumber, EventListener listener, List<Class<? extends Event>> eventTypes) {
+            this.sequenceNumber = sequenceNumber;
+            this.listener = listener;
+            this.eventTypes = new ArrayList<Class<? extends Event>>(eventTypes);
+        }
+
+        boolean isInterestedIn(Class<? extends Event> eventType) {
+            if (eventTypes.isEmpty()) {
+                return true;
+            }
+            for (Class<? extends Event> type : eventTypes) {
+                if (type.isAssignableFrom(eventType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -9,6 +9,10 @@ import info.novatec.testit.webtester.api.events.Event;
 /**
  * Base class for {@link Event} implementations. Provides the basic properties
  * like {@link BrowserIdentification} and creation date and time.
+ * <p>
+ * In addition to the wall-clock creation time, a monotonic
+ * {@link #getCreationNanoTime() nano time} is captured which can be used to
+ * precisely measure the time between events.
  *
  * @since 0.9.0
  */
@@ -17,10 +21,12 @@ public abstract class AbstractEvent implements Event {
 
     private BrowserIdentification browserIdentification;
     private long creationTimestamp;
+    private long creationNanoTime;
 
     public AbstractEvent(BrowserIdentification browserIdentification) {
         this.browserIdentification = browserIdentification;
         this.creationTimestamp = System.currentTimeMillis();
+        this.creationNanoTime = System.nanoTime();
     }
 
     @Override
@@ -33,6 +39,18 @@ public abstract class AbstractEvent implements Event {
         return new Date(creationTimestamp);
     }
 
+    /**
+     * Returns the value of {@link System#nanoTime()} at the time this
+     * {@link Event event} was created. This value is only meaningful when
+     * compared to the nano time of other events of the same JVM.
+     *
+     * @return the monotonic creation time in nanoseconds
+     * @since 1.3.0
+     */
+    public long getCreationNanoTime() {
+        return creationNanoTime;
+    }
+
     @Override
     public String toString() {
         return getEventMessage();
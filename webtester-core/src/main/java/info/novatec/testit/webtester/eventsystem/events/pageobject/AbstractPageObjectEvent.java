@@ -8,21 +8,29 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
 /**
  * Base class for {@link Event} objects that represent and event of a
  * {@link PageObject}.
+ * <p>
+ * The subject name is rendered from the page object only when it is first
+ * requested.
  *
  * @since 0.9.0
  */
 @SuppressWarnings("serial")
 public abstract class AbstractPageObjectEvent extends AbstractBrowserEvent {
 
+    private transient PageObject pageObject;
     private String subjectName;
 
     protected AbstractPageObjectEvent(PageObject pageObject) {
         super(pageObject.getBrowser());
-        subjectName = pageObject.toString();
+        this.pageObject = pageObject;
     }
 
     @Override
-    public String getSubjectName() {
+    public synchronized String getSubjectName() {
+        if (subjectName == null && pageObject != null) {
+            subjectName = pageObject.toString();
+            pageObject = null;
+        }
         return subjectName;
     }
 
@@ -0,0 +1,45 @@
+package info.novatec.testit.webtester.eventsystem.events.pageobject;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * This {@link Event event} occurs whenever the selection of a select box is
+ * changed in bulk. Instead of one event per selected option it includes the
+ * texts of all selected options before and after the change as properties.
+ *
+ * @since 1.3.0
+ */
+@SuppressWarnings("serial")
+public class SelectedOptionsChangedEvent extends AbstractPageObjectEvent {
+
+    private List<String> before;
+    private List<String> after;
+
+    public SelectedOptionsChangedEvent(PageObject pageObject, List<String> before, List<String> after) {
+        super(pageObject);
+        this.before = Collections.unmodifiableList(new ArrayList<String>(before));
+        this.after = Collections.unmodifiableList(new ArrayList<String>(after));
+    }
+
+    @Override
+    public String getEventMessage() {
+        return format("changed selected options of %s from %s to %s", getSubjectName(), before, after);
+    }
+
+    public List<String> getBefore() {
+        return before;
+    }
+
+    public List<String> getAfter() {
+        return after;
+    }
+
+}
@@ -0,0 +1,211 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.Color;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.MapMaker;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Collects the markings of each {@link Browser browser's} {@link PageObject
+ * page objects} and applies them with a single JavaScript execution.
+ * <p>
+ * Each element is marked only once per batch, the last marking wins. A batch
+ * is applied when the next marking is added after the configured
+ * {@link Configuration#getMarkingsBufferedInterval() interval} has passed or
+ * when it is {@link #flush(Browser) flushed} explicitly. If one of the
+ * elements became stale in the meantime, the remaining elements are marked
+ * one by one and the stale ones are skipped.
+ * <p>
+ * The interval is only checked when a marking is added - there is no timer
+ * and therefore no second thread using the browser. The last markings before
+ * a pause are applied by whatever flushes the buffer next (e.g. a click, a
+ * navigation or a wait) and are {@link #discard(Browser) discarded} if the
+ * browser is closed first.
+ * <p>
+ * Browsers are referenced weakly, so there is no need to remove them manually.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class BufferedMarkings {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferedMarkings.class);
+
+    private static final String MARK_ELEMENTS = "var elements = arguments[0];"
+        + "var backgroundColors = arguments[1];"
+        + "var outlineColors = arguments[2];"
+        + "for (var i = 0; i < elements.length; i++) {"
+        + "  var style = elements[i].style;"
+        + "  style.outlineStyle = 'solid';"
+        + "  style.outlineWidth = '2px';"
+        + "  style.outlineColor = outlineColors[i];"
+        + "  style.backgroundColor = backgroundColors[i];"
+        + "}";
+
+    private static final ConcurrentMap<Browser, Buffer> BUFFERS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Adds a marking with the given colors for the given {@link PageObject
+     * page object} to its {@link Browser browser's} buffer. If the oldest
+     * buffered marking is older than the configured interval, all buffered
+     * markings are applied.
+     *
+     * @param pageObject the page object to mark
+     * @param backgroundColor the background color to use
+     * @param outlineColor the outline color to use
+     * @since 1.3.0
+     */
+    public static void mark(PageObject pageObject, Color backgroundColor, Color outlineColor) {
+        Browser browser = pageObject.getBrowser();
+        ConfigurationSnapshot configuration = ConfigurationSnapshot.of(browser.getConfiguration());
+        long interval = TimeUnit.MILLISECONDS.toNanos(configuration.getMarkingsBufferedInterval());
+        Buffer buffer = getBuffer(browser);
+        synchronized (buffer) {
+            try {
+                buffer.add(pageObject.getWebElement(), backgroundColor.asHex(), outlineColor.asHex());
+            } catch (WebDriverException e) {
+                logException(e);
+            }
+            if (buffer.getAge() >= interval) {
+                apply(browser, buffer);
+            }
+        }
+    }
+
+    /**
+     * Applies all buffered markings of the given {@link Browser browser}. Does
+     * nothing if there are none.
+     *
+     * @param browser the browser
+     * @since 1.3.0
+     */
+    public static void flush(Browser browser) {
+        Buffer buffer = BUFFERS.get(browser);
+        if (buffer != null) {
+            synchronized (buffer) {
+                apply(browser, buffer);
+            }
+        }
+    }
+
+    /**
+     * Drops all buffered markings of the given {@link Browser browser} without
+     * applying them.
+     *
+     * @param browser the browser
+     * @since 1.3.0
+     */
+    public static void discard(Browser browser) {
+        BUFFERS.remove(browser);
+    }
+
+    private static Buffer getBuffer(Browser browser) {
+        Buffer buffer = BUFFERS.get(browser);
+        if (buffer == null) {
+            Buffer newBuffer = new Buffer();
+            buffer = BUFFERS.putIfAbsent(browser, newBuffer);
+            if (buffer == null) {
+                buffer = newBuffer;
+            }
+        }
+        return buffer;
+    }
+
+    private static void apply(Browser browser, Buffer buffer) {
+
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        List<WebElement> elements = new ArrayList<WebElement>();
+        List<String> backgroundColors = new ArrayList<String>();
+        List<String> outlineColors = new ArrayList<String>();
+        for (Entry<WebElement, String[]> entry : buffer.drain().entrySet()) {
+            elements.add(entry.getKey());
+            backgroundColors.add(entry.getValue()[0]);
+            outlineColors.add(entry.getValue()[1]);
+        }
+
+        try {
+            browser.javaScript().execute(MARK_ELEMENTS, elements, backgroundColors, outlineColors);
+        } catch (StaleElementReferenceException e) {
+            applyOneByOne(browser, elements, backgroundColors, outlineColors);
+        } catch (WebDriverException e) {
+            logException(e);
+        }
+
+    }
+
+    private static void applyOneByOne(Browser browser, List<WebElement> elements, List<String> backgroundColors,
+        List<String> outlineColors) {
+        for (int i = 0; i < elements.size(); i++) {
+            try {
+                browser.javaScript()
+                    .execute(MARK_ELEMENTS, Collections.singletonList(elements.get(i)),
+                        Collections.singletonList(backgroundColors.get(i)), Collections.singletonList(outlineColors.get(i)));
+            } catch (StaleElementReferenceException e) {
+                logger.debug("skipped marking of stale element: {}", e.getMessage());
+            } catch (WebDriverException e) {
+                logException(e);
+            }
+        }
+    }
+
+    private static void logException(WebDriverException e) {
+        logger.warn("Exception while marking page objects: {}", e.getMessage());
+        logger.debug("Stack trace for previous warning:", e);
+    }
+
+    private static final class Buffer {
+
+        private Map<WebElement, String[]> markings = new LinkedHashMap<WebElement, String[]>();
+        private long firstMarkingNanoTime;
+
+        void add(WebElement webElement, String backgroundColor, String outlineColor) {
+            if (markings.isEmpty()) {
+                firstMarkingNanoTime = System.nanoTime();
+            }
+            markings.put(webElement, new String[] { backgroundColor, outlineColor });
+        }
+
+        long getAge() {
+            return markings.isEmpty() ? 0L : System.nanoTime() - firstMarkingNanoTime;
+        }
+
+        boolean isEmpty() {
+            return markings.isEmpty();
+        }
+
+        Map<WebElement, String[]> drain() {
+            Map<WebElement, String[]> drained = markings;
+            markings = new LinkedHashMap<WebElement, String[]>();
+            return drained;
+        }
+
+    }
+
+    private BufferedMarkings() {
+        // utility class constructor
+    }
+
+}
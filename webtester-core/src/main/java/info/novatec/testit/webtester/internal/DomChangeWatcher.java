@@ -0,0 +1,143 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.MapMaker;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Lets the browser watch the state of a {@link PageObject page object's}
+ * element as described by an {@link ObservableCondition observable
+ * condition}. The browser is blocked with an asynchronous script which
+ * registers a <code>MutationObserver</code> on the document and returns as
+ * soon as the observed state changed, the element was removed from the DOM or
+ * the given time ran out. Since not all state changes (e.g. computed styles)
+ * are reported as mutations, the state is additionally re-evaluated every
+ * {@value #RECHECK_INTERVAL} milliseconds inside the browser.
+ * <p>
+ * The watcher never decides whether or not a condition is met. It only
+ * replaces the sleep between two checks of a condition in Java. The state
+ * returned by the browser is remembered and used as the expected state of the
+ * next call, so changes which occur between two calls are not lost. Without an
+ * expected state (i.e. on the first call) the browser only reads and returns
+ * the current state, because it might already differ from the state the
+ * condition was checked against.
+ * <p>
+ * The script timeout of a web driver is raised if it might be too short for the
+ * requested watch time. WebDriver does not provide the current value, so it
+ * can't be restored afterwards: the raised timeout stays in effect for all
+ * further asynchronous scripts of that web driver and is never lowered again.
+ * The value set by this class is remembered per (weakly referenced) web
+ * driver.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class DomChangeWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomChangeWatcher.class);
+
+    private static final long RECHECK_INTERVAL = 50L;
+    private static final long SCRIPT_TIMEOUT_BUFFER = 1000L;
+    private static final ConcurrentMap<WebDriver, Long> SCRIPT_TIMEOUTS = new MapMaker().weakKeys().makeMap();
+
+    private static final String SCRIPT_TEMPLATE = ""
+        + "var element = arguments[0], expected = arguments[1], timeout = arguments[2];"
+        + "var done = arguments[arguments.length - 1];"
+        + "var read = function() { try { return String(%s); } catch (e) { return 'error: ' + e; } };"
+        + "var state = read();"
+        + "if (expected === null || state !== expected) { done(state); return; }"
+        + "var finished = false, observer = null, interval, timer;"
+        + "var finish = function(result) {"
+        + "  if (finished) { return; }"
+        + "  finished = true;"
+        + "  if (observer) { observer.disconnect(); }"
+        + "  clearInterval(interval);"
+        + "  clearTimeout(timer);"
+        + "  done(result);"
+        + "};"
+        + "var check = function() {"
+        + "  if (!document.documentElement.contains(element)) { finish('" + ObservedStates.DETACHED + "'); return; }"
+        + "  var current = read();"
+        + "  if (current !== state) { finish(current); }"
+        + "};"
+        + "if (window.MutationObserver) {"
+        + "  observer = new MutationObserver(check);"
+        + "  observer.observe(document.documentElement,"
+        + "    { attributes: true, childList: true, characterData: true, subtree: true });"
+        + "}"
+        + "interval = setInterval(check, " + RECHECK_INTERVAL + ");"
+        + "timer = setTimeout(function() { finish(state); }, timeout);";
+
+    private final String script;
+    private String expectedState;
+
+    /**
+     * Creates a new watcher for the given state expression.
+     *
+     * @param observedState the JavaScript expression computing the state
+     * @see ObservableCondition#getObservedState()
+     * @since 1.3.0
+     */
+    public DomChangeWatcher(String observedState) {
+        this.script = String.format(SCRIPT_TEMPLATE, observedState);
+    }
+
+    /**
+     * Blocks until the observed state of the given {@link PageObject page
+     * object's} element changed or the given amount of milliseconds passed.
+     * If no state is expected yet, the current state is read and returned
+     * immediately. If the browser can't watch the element (e.g. because it is
+     * not present, was removed from the DOM or JavaScript can't be executed)
+     * <code>false</code> is returned and the caller should fall back to a
+     * normal pause.
+     *
+     * @param pageObject the page object to watch
+     * @param maximumMillis the maximum amount of milliseconds to watch
+     * @return true if the browser watched the element, false otherwise
+     * @since 1.3.0
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public boolean awaitChange(PageObject pageObject, long maximumMillis) {
+        try {
+            WebDriver webDriver = pageObject.getBrowser().getWebDriver();
+            if (!( webDriver instanceof JavascriptExecutor )) {
+                return false;
+            }
+            WebElement webElement = pageObject.getWebElement();
+            ensureScriptTimeout(webDriver, maximumMillis + SCRIPT_TIMEOUT_BUFFER);
+            Object state = (( JavascriptExecutor ) webDriver).executeAsyncScript(script, webElement, expectedState,
+                maximumMillis);
+            if (ObservedStates.DETACHED.equals(state)) {
+                expectedState = null;
+                return false;
+            }
+            expectedState = String.valueOf(state);
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("browser could not watch page object, falling back to polling", e);
+            expectedState = null;
+            return false;
+        }
+    }
+
+    private static void ensureScriptTimeout(WebDriver webDriver, long timeout) {
+        Long current = SCRIPT_TIMEOUTS.get(webDriver);
+        if (current == null || current < timeout) {
+            webDriver.manage().timeouts().setScriptTimeout(timeout, TimeUnit.MILLISECONDS);
+            SCRIPT_TIMEOUTS.put(webDriver, timeout);
+        }
+    }
+
+}
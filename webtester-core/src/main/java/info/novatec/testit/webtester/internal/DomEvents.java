@@ -0,0 +1,38 @@
+package info.novatec.testit.webtester.internal;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+
+
+/**
+ * Provides JavaScript snippets for dispatching DOM events from scripts which
+ * change elements directly (instead of simulating user input).
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class DomEvents {
+
+    /**
+     * Declares the function <code>fire(element)</code>, which dispatches one
+     * bubbling <code>input</code> and one bubbling <code>change</code> event on
+     * the given element. Browsers without the <code>Event</code> constructor
+     * (Internet Explorer) get their events created with
+     * <code>document.createEvent(..)</code>.
+     */
+    public static final String FIRE_INPUT_AND_CHANGE = ""
+        + "var createEvent = function(type) { "
+        + "  if (typeof Event === 'function') { return new Event(type, { bubbles: true }); } "
+        + "  var event = document.createEvent('HTMLEvents'); "
+        + "  event.initEvent(type, true, false); "
+        + "  return event; "
+        + "}; "
+        + "var fire = function(element) { "
+        + "  element.dispatchEvent(createEvent('input')); "
+        + "  element.dispatchEvent(createEvent('change')); "
+        + "}; ";
+
+    private DomEvents() {
+        // utility class constructor
+    }
+
+}
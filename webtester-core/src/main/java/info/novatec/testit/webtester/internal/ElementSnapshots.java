@@ -0,0 +1,201 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.validation.ElementProperties;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Reads {@link ElementSnapshot element snapshots} and provides helpers used by
+ * {@link SnapshotCondition snapshot conditions}.
+ * <p>
+ * The snapshot script approximates Selenium's algorithms: an element is
+ * displayed unless it or an ancestor has <code>display: none</code> or an
+ * opacity of zero, it has <code>visibility: hidden</code>, it is a hidden input
+ * or neither it nor any of its children has a size. Options are displayed if
+ * their select is. Form controls are enabled unless they, or an enclosing
+ * fieldset, optgroup or select, are disabled.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class ElementSnapshots {
+
+    /**
+     * JavaScript fragment declaring the function <code>isShown(e)</code>, which
+     * approximates Selenium's check whether an element is displayed. Can be
+     * used by other scripts which need to know if an element is visible.
+     */
+    public static final String IS_SHOWN_SCRIPT = ""
+        + "var hasSize = function(e) { "
+        + "  var rect = e.getBoundingClientRect(); "
+        + "  if (rect.width > 0 && rect.height > 0) { return true; } "
+        + "  for (var c = e.firstElementChild; c; c = c.nextElementSibling) { if (hasSize(c)) { return true; } } "
+        + "  return false; "
+        + "}; "
+        + "var isShown = function(e) { "
+        + "  var t = e.tagName.toLowerCase(); "
+        + "  if (t === 'body') { return true; } "
+        + "  if (t === 'option' || t === 'optgroup') { "
+        + "    var s = e.parentElement; "
+        + "    while (s && s.tagName.toLowerCase() !== 'select') { s = s.parentElement; } "
+        + "    return s ? isShown(s) : false; "
+        + "  } "
+        + "  if (t === 'input' && String(e.type).toLowerCase() === 'hidden') { return false; } "
+        + "  for (var n = e; n && n.nodeType === 1; n = n.parentElement) { "
+        + "    var style = window.getComputedStyle(n); "
+        + "    if (style.display === 'none' || style.opacity === '0') { return false; } "
+        + "  } "
+        + "  var own = window.getComputedStyle(e); "
+        + "  if (own.visibility === 'hidden' || own.visibility === 'collapse') { return false; } "
+        + "  return hasSize(e); "
+        + "}; ";
+
+    private static final String SCRIPT = ""
+        + "var element = arguments[0]; var names = arguments[1]; "
+        + "var tag = element.tagName.toLowerCase(); "
+        + IS_SHOWN_SCRIPT
+        + "var isEnabled = function(e) { "
+        + "  var controls = ['button', 'input', 'optgroup', 'option', 'select', 'textarea']; "
+        + "  if (controls.indexOf(tag) < 0) { return true; } "
+        + "  if (e.disabled === true) { return false; } "
+        + "  for (var p = e.parentElement; p; p = p.parentElement) { "
+        + "    var pt = p.tagName.toLowerCase(); "
+        + "    if ((pt === 'fieldset' || pt === 'optgroup' || pt === 'select') && p.disabled === true) { return false; } "
+        + "  } "
+        + "  return true; "
+        + "}; "
+        + "var displayed = isShown(element); "
+        + "var text = displayed ? String(element.innerText || element.textContent || '') : ''; "
+        + "text = text.replace(/\\u00a0/g, ' ').replace(/[ \\t]*\\n[ \\t]*/g, '\\n').replace(/^\\s+|\\s+$/g, ''); "
+        + ElementProperties.READ_ATTRIBUTES_SCRIPT
+        + "return { displayed: displayed, enabled: isEnabled(element), "
+        + "  selected: tag === 'option' ? element.selected === true : element.checked === true, "
+        + "  tag: tag, value: (element.value === undefined || element.value === null) ? null : String(element.value), "
+        + "  text: text, attributes: attributes };";
+
+    private ElementSnapshots() {
+        // utility class constructor
+    }
+
+    /**
+     * Reads a snapshot of the given {@link PageObject page object's} element
+     * including the given attributes with a single JavaScript execution.
+     *
+     * @param pageObject the page object to read
+     * @param attributeNames the names of the attributes to read
+     * @return the read snapshot
+     * @throws org.openqa.selenium.NoSuchElementException if the page object
+     * is not present
+     * @since 1.3.0
+     */
+    @SuppressWarnings("unchecked")
+    public static ElementSnapshot read(PageObject pageObject, Set<String> attributeNames) {
+
+        Map<String, Object> result = pageObject.getBrowser()
+            .javaScript()
+            .executeWithReturn(SCRIPT, pageObject.getWebElement(), new ArrayList<String>(attributeNames));
+
+        Map<String, String> attributes = new HashMap<String, String>();
+        Object attributeValues = result.get("attributes");
+        if (attributeValues instanceof Map) {
+            for (Map.Entry<String, Object> entry : (( Map<String, Object> ) attributeValues).entrySet()) {
+                Object value = entry.getValue();
+                attributes.put(entry.getKey(), value != null ? String.valueOf(value) : null);
+            }
+        }
+        return new ElementSnapshot(isTrue(result.get("displayed")), isTrue(result.get("enabled")),
+            isTrue(result.get("selected")), asString(result.get("tag")), asString(result.get("value")),
+            asString(result.get("text")), attributes);
+
+    }
+
+    /**
+     * Returns whether or not the given condition is a {@link SnapshotCondition
+     * snapshot condition} which can be evaluated against a snapshot.
+     *
+     * @param condition the condition
+     * @return true if the condition can be evaluated against a snapshot
+     * @since 1.3.0
+     */
+    public static boolean canEvaluate(Object condition) {
+        return condition instanceof SnapshotCondition && (( SnapshotCondition ) condition).canEvaluateSnapshot();
+    }
+
+    /**
+     * Returns whether or not all of the given conditions can be evaluated
+     * against a snapshot.
+     *
+     * @param conditions the conditions
+     * @return true if all conditions can be evaluated against a snapshot
+     * @since 1.3.0
+     */
+    public static boolean canEvaluateAll(Collection<?> conditions) {
+        for (Object condition : conditions) {
+            if (!canEvaluate(condition)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the names of all attributes the given {@link SnapshotCondition
+     * snapshot condition} requires in alphabetical order.
+     *
+     * @param condition the condition
+     * @return the names of the required attributes
+     * @since 1.3.0
+     */
+    public static Set<String> requiredAttributes(SnapshotCondition condition) {
+        Set<String> attributeNames = new TreeSet<String>();
+        condition.collectRequiredAttributes(attributeNames);
+        return attributeNames;
+    }
+
+    /**
+     * Adds the attributes required by the given condition to the given set, if
+     * the condition is a {@link SnapshotCondition snapshot condition}.
+     *
+     * @param condition the condition
+     * @param attributeNames the set to add the attribute names to
+     * @since 1.3.0
+     */
+    public static void collectRequiredAttributes(Object condition, Set<String> attributeNames) {
+        if (condition instanceof SnapshotCondition) {
+            (( SnapshotCondition ) condition).collectRequiredAttributes(attributeNames);
+        }
+    }
+
+    /**
+     * Evaluates the given condition against the given snapshot. Must only be
+     * called for conditions which {@link #canEvaluate(Object) can be
+     * evaluated}.
+     *
+     * @param condition the condition
+     * @param snapshot the snapshot
+     * @return true if the condition is met
+     * @since 1.3.0
+     */
+    public static boolean evaluate(Object condition, ElementSnapshot snapshot) {
+        return (( SnapshotCondition ) condition).evaluate(snapshot);
+    }
+
+    private static boolean isTrue(Object value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    private static String asString(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+
+}
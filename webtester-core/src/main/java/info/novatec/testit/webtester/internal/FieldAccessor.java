@@ -0,0 +1,101 @@
+package info.novatec.testit.webtester.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.internal.annotations.Java8FeaturePossibility;
+
+
+/**
+ * Provides fast read and write access to a single {@link Field field}. The
+ * field is made accessible only once when the accessor is created. All
+ * following operations are executed via pre-adapted {@link MethodHandle method
+ * handles} instead of core reflection.
+ * <p>
+ * Accessors are immutable and can be cached and shared between threads.
+ *
+ * @since 1.3.0
+ */
+@Internal
+@Java8FeaturePossibility("generated setters via LambdaMetafactory")
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates a new {@link FieldAccessor accessor} for the given instance
+     * {@link Field field}.
+     *
+     * @param field the field to create an accessor for
+     * @return the created accessor
+     * @throws IllegalAccessException in case the field could not be made
+     * accessible
+     * @since 1.3.0
+     */
+    public static FieldAccessor forField(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        MethodHandle setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        return new FieldAccessor(field, getter, setter);
+    }
+
+    /**
+     * Returns the value of the field for the given instance.
+     *
+     * @param instance the instance to read the field of
+     * @return the value of the field
+     * @throws ClassCastException if the instance is not of the field's
+     * declaring class
+     * @since 1.3.0
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public Object get(Object instance) {
+        try {
+            return ( Object ) getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Sets the value of the field for the given instance.
+     *
+     * @param instance the instance to set the field of
+     * @param value the value to set
+     * @throws ClassCastException if the instance is not of the field's
+     * declaring class or the value is not of the field's type
+     * @since 1.3.0
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public void set(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+}
@@ -0,0 +1,281 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.NoSuchElementException;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Fills the fields of a form page object in bulk. All fields are looked up by
+ * their <code>name</code> and changed with a single JavaScript execution:
+ * <ul>
+ * <li>text fields and text areas get their value set (respecting their
+ * <code>maxlength</code>) and dispatch one <code>input</code> and one
+ * <code>change</code> event</li>
+ * <li>checkboxes and radio buttons are clicked if their state has to
+ * change - radio buttons and checkboxes sharing their name with other
+ * checkboxes are chosen by their value</li>
+ * <li>selects get the options with the given value(s) selected and dispatch
+ * one <code>input</code> and one <code>change</code> event if their selection
+ * changed</li>
+ * </ul>
+ * All fields are checked before anything is changed. If any of them can't be
+ * found, is disabled, isn't displayed or can't be filled (e.g. hidden inputs),
+ * nothing is changed.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class FormFiller {
+
+    private static final String SCRIPT = ""
+        + "var form = arguments[0], names = arguments[1], values = arguments[2]; "
+        + "var missing = [], disabled = [], invisible = [], invalid = [], fields = []; "
+        + "var unsupported = ['button', 'file', 'hidden', 'image', 'reset', 'submit']; "
+        + ElementSnapshots.IS_SHOWN_SCRIPT
+        + DomEvents.FIRE_INPUT_AND_CHANGE
+        + "var selectedValues = function(s) { "
+        + "  var r = []; "
+        + "  for (var o = 0; o < s.options.length; o++) { if (s.options[o].selected) { r.push(s.options[o].value); } } "
+        + "  return r; "
+        + "}; "
+        + "for (var i = 0; i < names.length; i++) { "
+        + "  var name = names[i], value = values[i], item = form.elements.namedItem(name); "
+        + "  if (!item) { missing.push(name); continue; } "
+        + "  var elements = item.tagName ? [item] : Array.prototype.slice.call(item); "
+        + "  var first = elements[0], tag = first.tagName.toLowerCase(), type = String(first.type || '').toLowerCase(); "
+        + "  var field = { name: name, value: value, element: first }; "
+        + "  if (tag === 'select') { "
+        + "    field.kind = first.multiple ? 'multiselect' : 'select'; "
+        + "    var wanted = first.multiple ? [].concat(value) : [value]; "
+        + "    for (var w = 0; w < wanted.length; w++) { "
+        + "      var found = false; "
+        + "      for (var o = 0; o < first.options.length; o++) { if (first.options[o].value === String(wanted[w])) { found = true; } } "
+        + "      if (!found) { missing.push(name + '=' + wanted[w]); } "
+        + "    } "
+        + "  } else if (type === 'radio' || (type === 'checkbox' && elements.length > 1)) { "
+        + "    field.kind = type; field.check = true; field.element = null; "
+        + "    for (var r = 0; r < elements.length; r++) { if (elements[r].value === String(value)) { field.element = elements[r]; } } "
+        + "    if (!field.element) { missing.push(name + '=' + value); continue; } "
+        + "  } else if (type === 'checkbox') { "
+        + "    field.kind = 'checkbox'; field.check = value === true || String(value) === 'true'; "
+        + "  } else if ((tag === 'input' && unsupported.indexOf(type) < 0) || tag === 'textarea') { "
+        + "    field.kind = 'text'; "
+        + "    if (first.readOnly) { disabled.push(name); continue; } "
+        + "  } else { "
+        + "    invalid.push(name); continue; "
+        + "  } "
+        + "  if (field.element.disabled) { disabled.push(name); continue; } "
+        + "  if (!isShown(field.element)) { invisible.push(name); continue; } "
+        + "  fields.push(field); "
+        + "} "
+        + "if (missing.length > 0 || disabled.length > 0 || invisible.length > 0 || invalid.length > 0) { "
+        + "  return { missing: missing, disabled: disabled, invisible: invisible, invalid: invalid, changes: [] }; "
+        + "} "
+        + "var changes = []; "
+        + "for (var f = 0; f < fields.length; f++) { "
+        + "  var field = fields[f], e = field.element, before, after; "
+        + "  if (field.kind === 'text') { "
+        + "    var text = String(field.value); "
+        + "    if (e.maxLength > 0 && text.length > e.maxLength) { text = text.substring(0, e.maxLength); } "
+        + "    before = e.value; e.value = text; after = e.value; "
+        + "    fire(e); "
+        + "  } else if (field.kind === 'checkbox' || field.kind === 'radio') { "
+        + "    before = e.checked; "
+        + "    if (e.checked !== field.check) { e.click(); } "
+        + "    after = e.checked; "
+        + "  } else { "
+        + "    var wanted = e.multiple ? [].concat(field.value).map(String) : [String(field.value)]; "
+        + "    before = selectedValues(e); "
+        + "    for (var o = 0; o < e.options.length; o++) { "
+        + "      var select = wanted.indexOf(e.options[o].value) >= 0; "
+        + "      if (e.multiple) { e.options[o].selected = select; } else if (select) { e.options[o].selected = true; } "
+        + "    } "
+        + "    after = selectedValues(e); "
+        + "    if (before.join('\\n') !== after.join('\\n')) { fire(e); } "
+        + "  } "
+        + "  changes.push({ name: field.name, kind: field.kind, elementValue: e.getAttribute('value'), "
+        + "    before: before, after: after }); "
+        + "} "
+        + "return { missing: missing, disabled: disabled, invisible: invisible, invalid: invalid, changes: changes };";
+
+    /**
+     * The kinds of fields which can be filled.
+     *
+     * @since 1.3.0
+     */
+    public enum FieldKind {
+        TEXT,
+        CHECKBOX,
+        RADIO,
+        SELECT,
+        MULTISELECT
+    }
+
+    private FormFiller() {
+        // utility class constructor
+    }
+
+    /**
+     * Fills the fields of the given form {@link PageObject page object} with
+     * the given values with a single JavaScript execution. The keys of the
+     * map are the <code>name</code> attributes of the fields. Values of
+     * checkboxes are booleans, values of radio buttons, grouped checkboxes and
+     * selects the value of the element or option to select. Multi-selects
+     * accept collections of values.
+     *
+     * @param form the form to fill
+     * @param values the values to fill in by field name
+     * @return the changes of all filled fields in the order of the given map
+     * @throws NoSuchElementException if a field, radio button or option could
+     * not be found
+     * @throws IllegalStateException if a field is disabled, read-only, not
+     * displayed or can't be filled
+     * @throws IllegalArgumentException if a value is <code>null</code>
+     * @since 1.3.0
+     */
+    public static List<FieldChange> fill(PageObject form, Map<String, ?> values) {
+
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> names = new ArrayList<String>(values.size());
+        List<Object> scriptValues = new ArrayList<Object>(values.size());
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            names.add(entry.getKey());
+            scriptValues.add(toScriptValue(entry.getKey(), entry.getValue()));
+        }
+
+        Map<String, Object> result =
+            form.getBrowser().javaScript().executeWithReturn(SCRIPT, form.getWebElement(), names, scriptValues);
+
+        List<Object> missing = asList(result.get("missing"));
+        if (!missing.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate form fields: " + missing);
+        }
+        List<Object> disabled = asList(result.get("disabled"));
+        if (!disabled.isEmpty()) {
+            throw new IllegalStateException("form fields are disabled or read-only: " + disabled);
+        }
+        List<Object> invisible = asList(result.get("invisible"));
+        if (!invisible.isEmpty()) {
+            throw new IllegalStateException("form fields are not displayed: " + invisible);
+        }
+        List<Object> invalid = asList(result.get("invalid"));
+        if (!invalid.isEmpty()) {
+            throw new IllegalStateException("form fields can't be filled: " + invalid);
+        }
+
+        List<FieldChange> changes = new ArrayList<FieldChange>();
+        for (Object change : asList(result.get("changes"))) {
+            Map<?, ?> map = ( Map<?, ?> ) change;
+            String name = String.valueOf(map.get("name"));
+            FieldKind kind = FieldKind.valueOf(String.valueOf(map.get("kind")).toUpperCase());
+            String elementValue = ( String ) map.get("elementValue");
+            Object before = map.get("before");
+            Object after = map.get("after");
+            changes.add(new FieldChange(name, kind, values.get(name), elementValue, before, after));
+        }
+        return changes;
+
+    }
+
+    private static Object toScriptValue(String name, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value of form field must not be null: " + name);
+        }
+        if (value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Collection) {
+            List<String> strings = new ArrayList<String>();
+            for (Object element : ( Collection<?> ) value) {
+                strings.add(String.valueOf(element));
+            }
+            return strings;
+        }
+        return String.valueOf(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object value) {
+        return value instanceof List ? ( List<Object> ) value : Collections.emptyList();
+    }
+
+    /**
+     * The change of a single field of a filled form.
+     *
+     * @since 1.3.0
+     */
+    public static final class FieldChange {
+
+        private final String name;
+        private final FieldKind kind;
+        private final Object value;
+        private final String elementValue;
+        private final Object before;
+        private final Object after;
+
+        public FieldChange(String name, FieldKind kind, Object value, String elementValue, Object before,
+            Object after) {
+            this.name = name;
+            this.kind = kind;
+            this.value = value;
+            this.elementValue = elementValue;
+            this.before = before;
+            this.after = after;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public FieldKind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the value the field was filled with
+         */
+        public Object getValue() {
+            return value;
+        }
+
+        /**
+         * @return the <code>value</code> attribute of the changed element or
+         * <code>null</code> if it has none - identifies the changed radio
+         * button or checkbox if several elements share the field's name
+         */
+        public String getElementValue() {
+            return elementValue;
+        }
+
+        /**
+         * @return the state before the change: the text of text fields, the
+         * checked state of checkboxes and radio buttons or the list of selected
+         * values of selects
+         */
+        public Object getBefore() {
+            return before;
+        }
+
+        /**
+         * @return the state after the change: the text of text fields, the
+         * checked state of checkboxes and radio buttons or the list of selected
+         * values of selects
+         */
+        public Object getAfter() {
+            return after;
+        }
+
+    }
+
+}
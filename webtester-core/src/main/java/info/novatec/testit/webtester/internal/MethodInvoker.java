@@ -0,0 +1,91 @@
+package info.novatec.testit.webtester.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.internal.annotations.Java8FeaturePossibility;
+
+
+/**
+ * Provides fast invocation of a single parameterless {@link Method method}.
+ * The method is made accessible only once when the invoker is created. All
+ * following invocations are executed via a pre-adapted {@link MethodHandle
+ * method handle} instead of core reflection.
+ * <p>
+ * Just like {@link Method#invoke(Object, Object...)}, any exception thrown by
+ * the invoked method is wrapped in an {@link InvocationTargetException}.
+ * <p>
+ * Invokers are immutable and can be cached and shared between threads.
+ *
+ * @since 1.3.0
+ */
+@Internal
+@Java8FeaturePossibility("generated invokers via LambdaMetafactory")
+public final class MethodInvoker {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Method method;
+    private final MethodHandle handle;
+
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * Creates a new {@link MethodInvoker invoker} for the given parameterless
+     * {@link Method method}. Static methods are supported as well, the
+     * instance given on invocation is ignored in that case.
+     *
+     * @param method the method to create an invoker for
+     * @return the created invoker
+     * @throws IllegalAccessException in case the method could not be made
+     * accessible
+     * @throws IllegalArgumentException in case the method has parameters
+     * @since 1.3.0
+     */
+    public static MethodInvoker forMethod(Method method) throws IllegalAccessException {
+
+        if (method.getParameterTypes().length > 0) {
+            throw new IllegalArgumentException("only methods without parameters are supported: " + method);
+        }
+
+        method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return new MethodInvoker(method, handle.asType(INVOKER_TYPE));
+
+    }
+
+    /**
+     * Invokes the method on the given instance.
+     *
+     * @param instance the instance to invoke the method on
+     * @return the return value of the method or <code>null</code> for
+     * <code>void</code> methods
+     * @throws InvocationTargetException if the invoked method threw an
+     * exception
+     * @since 1.3.0
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public Object invoke(Object instance) throws InvocationTargetException {
+        try {
+            return ( Object ) handle.invokeExact(instance);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+}
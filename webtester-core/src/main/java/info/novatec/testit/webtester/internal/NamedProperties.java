@@ -68,6 +68,20 @@ public enum NamedProperties {
     @DefaultValue("#008000")
     MARKINGS_COLOR_READ_OUTLINE("markings.color.read.outline"),
 
+    @Documentation("Whether or not markings should be collected and applied to all marked elements with a single"
+        + " JavaScript execution instead of one execution per marking. Each element is only marked once per batch. Buffered"
+        + " markings are applied when the buffer interval has passed and before the browser navigates, a page object is"
+        + " clicked, a form is submitted, the focus is switched or a screenshot is taken.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    MARKINGS_BUFFERED("markings.buffered"),
+
+    @Documentation("Maximum number of milliseconds markings are buffered before they are applied together with the next"
+        + " marking if buffered markings are active.")
+    @TypeDefinition(Constants.MILISECONDS_AS_INT)
+    @DefaultValue("500")
+    MARKINGS_BUFFERED_INTERVAL("markings.buffered.interval"),
+
     @Documentation("Default timeout for wait operations.")
     @TypeDefinition(Constants.SECONDS_AS_INT)
     @DefaultValue("2")
@@ -76,7 +90,90 @@ public enum NamedProperties {
     @Documentation("Default interval in which to check a condition for wait operations.")
     @TypeDefinition(Constants.MILISECONDS_AS_INT)
     @DefaultValue("100")
-    WAIT_INTERVAL("wait.interval");
+    WAIT_INTERVAL("wait.interval"),
+
+    @Documentation("Strategy used to determine the delay between two checks of a wait operation's condition. 'fixed' always"
+        + " uses the wait interval, 'backoff' starts with the wait interval and doubles it after each check up to the"
+        + " maximum wait interval, 'jitter' does the same but randomizes each delay between half and all of its value.")
+    @TypeDefinition(Constants.POLLING_STRATEGY)
+    @DefaultValue("fixed")
+    WAIT_POLLING("wait.polling"),
+
+    @Documentation("Upper limit of the delay between two checks of a wait operation's condition when using the 'backoff'"
+        + " or 'jitter' polling strategy.")
+    @TypeDefinition(Constants.MILISECONDS_AS_INT)
+    @DefaultValue("1000")
+    WAIT_INTERVAL_MAXIMUM("wait.interval.maximum"),
+
+    @Documentation("Whether or not wait operations on page objects should let the browser watch the page object's element"
+        + " for changes (using a MutationObserver) instead of polling conditions over WebDriver. Only applies to"
+        + " conditions which support it, all others are polled. The browser watches for at most the maximum wait"
+        + " interval before the condition is checked again.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    WAIT_BROWSERSIDE("wait.browserside"),
+
+    @Documentation("Whether or not wait operations on page objects should read the state of the page object's element"
+        + " (displayed, enabled, selected, tag, value, visible text and required attributes) with a single JavaScript"
+        + " execution per check and evaluate the whole condition against it. Only applies to conditions which support"
+        + " it. Displayed, enabled and visible text are close approximations of Selenium's algorithms.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    WAIT_SNAPSHOTS("wait.snapshots"),
+
+    @Documentation("Whether or not the tag name and all attributes needed to validate a page object's web element should be"
+        + " read with a single JavaScript execution instead of one WebDriver command per attribute.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    VALIDATION_BATCHED("validation.batched"),
+
+    @Documentation("Whether or not web elements which were successfully validated for a page object class should be"
+        + " remembered in order to skip their validation in the future.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    VALIDATION_CACHING("validation.caching"),
+
+    @Documentation("Whether or not page object's resolved web elements will be cached and reused until the page changes"
+        + " or they become stale. Saves WebDriver round trips for nested page objects at the risk of working with outdated"
+        + " elements if the page is changed without WebTester noticing.")
+    @TypeDefinition(Constants.BOOLEAN)
+    @DefaultValue("false")
+    PAGE_OBJECT_CACHING("pageobjects.caching"),
+
+    @Documentation("Number of milliseconds the content of a page object list is reused after it was resolved. As long as"
+        + " the page doesn't change, all list operations within this window work on the same elements instead of querying"
+        + " the browser again. A value of 0 disables this.")
+    @TypeDefinition(Constants.MILISECONDS_AS_INT)
+    @DefaultValue("0")
+    PAGE_OBJECT_LISTS_MEMOIZATION("pageobjects.lists.memoization"),
+
+    @Documentation("Comma separated list of built-in checks which have to be met before a page is considered ready after it"
+        + " was opened, refreshed, navigated to or a form was submitted. 'document' waits for the document to be loaded"
+        + " completely, 'requests' for pending XHR and fetch requests, 'jquery' for active jQuery requests and 'angular'"
+        + " for Angular to become stable. If not set, pages are not waited on.")
+    @TypeDefinition(Constants.READINESS_CHECKS)
+    PAGE_READINESS("page.readiness"),
+
+    @Documentation("Custom JavaScript expression which has to evaluate to true before a page is considered ready. Is"
+        + " checked in addition to the built-in page readiness checks.")
+    @TypeDefinition(Constants.JAVASCRIPT)
+    PAGE_READINESS_SCRIPT("page.readiness.script"),
+
+    @Documentation("Maximum number of seconds to wait for a page to become ready.")
+    @TypeDefinition(Constants.SECONDS_AS_INT)
+    @DefaultValue("10")
+    PAGE_READINESS_TIMEOUT("page.readiness.timeout"),
+
+    @Documentation("Maximum number of idle browsers kept by a pooled browser factory. Browsers which are returned to"
+        + " a full pool are closed.")
+    @TypeDefinition(Constants.INT)
+    @DefaultValue("2")
+    BROWSER_POOL_SIZE("browser.pool.size"),
+
+    @Documentation("Maximum number of seconds a browser is kept idle by a pooled browser factory before it is closed.")
+    @TypeDefinition(Constants.SECONDS_AS_INT)
+    @DefaultValue("300")
+    BROWSER_POOL_MAX_IDLE_TIME("browser.pool.maxIdleTime");
 
     private final String key;
 
@@ -101,8 +198,12 @@ public enum NamedProperties {
         String BOOLEAN = "boolean [true, false]";
         String FOLDER_PATH = "String [absolute or relative path to be initialized as a java.io.File instance]";
         String HEX_COLOR = "String [HEX RGB code starting with'#']";
+        String INT = "int";
         String SECONDS_AS_INT = "int [seconds]";
         String MILISECONDS_AS_INT = "int [miliseconds]";
+        String POLLING_STRATEGY = "String [fixed, backoff, jitter]";
+        String READINESS_CHECKS = "String [comma separated list of: document, requests, jquery, angular]";
+        String JAVASCRIPT = "String [JavaScript expression]";
         String SIMPLE_DATE_FORMAT =
             "String [Java SimpleDateFormat style as described here: https://docs.oracle.com/javase/6/docs/api/java/text/SimpleDateFormat.html]";
         String RESOURCE_URL = "String [Resource URL]";
@@ -0,0 +1,109 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.Collection;
+
+import org.apache.commons.lang.StringEscapeUtils;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+
+
+/**
+ * Provides the JavaScript expressions used by {@link ObservableCondition
+ * observable conditions}.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class ObservedStates {
+
+    public static final String VISIBILITY = "(function(s){return s.display+'/'+s.visibility+'/'"
+        + "+element.offsetWidth+'x'+element.offsetHeight+'/'+(element.offsetParent!==null);})"
+        + "(window.getComputedStyle(element))";
+    public static final String ENABLEMENT = "element.disabled+'/'+element.getAttribute('disabled')";
+    public static final String SELECTION = "element.checked+'/'+element.selected";
+    public static final String TEXT = "element.value+'/'+element.textContent";
+    public static final String VISIBLE_TEXT = "element.innerText+'/'+element.textContent";
+    public static final String PRESENCE = "'present'";
+
+    /** Returned by the browser if the observed element was removed from the DOM. */
+    public static final String DETACHED = "webtester:detached";
+
+    private ObservedStates() {
+        // utility class constructor
+    }
+
+    /**
+     * Returns an expression reading the attribute and property with the given
+     * name.
+     *
+     * @param name the name of the attribute
+     * @return the expression
+     */
+    public static String attribute(String name) {
+        String quotedName = quote(name);
+        return "element.getAttribute(" + quotedName + ")+'/'+element[" + quotedName + "]";
+    }
+
+    /**
+     * Combines the given expressions into a single one. If the state of any of
+     * the given conditions can not be observed, <code>null</code> is
+     * returned.
+     *
+     * @param expressions the expressions to combine
+     * @return the combined expression or <code>null</code>
+     */
+    public static String combine(String... expressions) {
+        StringBuilder combined = new StringBuilder("''");
+        for (String expression : expressions) {
+            if (expression == null) {
+                return null;
+            }
+            combined.append("+'|'+(").append(expression).append(')');
+        }
+        return combined.toString();
+    }
+
+    /**
+     * Returns the observed state of the given condition. If the condition is
+     * not {@link ObservableCondition observable}, <code>null</code> is
+     * returned.
+     *
+     * @param condition the condition
+     * @return the expression or <code>null</code>
+     */
+    public static String of(Object condition) {
+        if (condition instanceof ObservableCondition) {
+            return (( ObservableCondition ) condition).getObservedState();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the combined observed state of all of the given conditions. If
+     * any of the conditions is not {@link ObservableCondition observable},
+     * <code>null</code> is returned.
+     *
+     * @param conditions the conditions
+     * @return the combined expression or <code>null</code>
+     */
+    public static String ofAll(Collection<?> conditions) {
+        String[] expressions = new String[conditions.size()];
+        int i = 0;
+        for (Object condition : conditions) {
+            expressions[i++] = of(condition);
+        }
+        return combine(expressions);
+    }
+
+    /**
+     * Returns the given value as a JavaScript string literal.
+     *
+     * @param value the value to quote
+     * @return the string literal
+     */
+    public static String quote(String value) {
+        return value == null ? "null" : '\'' + StringEscapeUtils.escapeJavaScript(value) + '\'';
+    }
+
+}
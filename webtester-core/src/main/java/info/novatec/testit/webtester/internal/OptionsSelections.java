@@ -0,0 +1,164 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.NoSuchElementException;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Changes the selection of select page objects in bulk. All options are
+ * looked up, selected and deselected with a single JavaScript execution. If
+ * the selection changed, one <code>input</code> and one <code>change</code>
+ * event are dispatched on the select afterwards.
+ * <p>
+ * Options are matched like Selenium's
+ * {@link org.openqa.selenium.support.ui.Select Select} helper does: by their
+ * (whitespace normalized) text, by their value or by their index. On a
+ * multi-select all options matching a text or value are selected, on a single
+ * select only the first one. If any option can't be found or is disabled,
+ * nothing is changed.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class OptionsSelections {
+
+    private static final String SCRIPT = ""
+        + "var select = arguments[0], criterion = arguments[1], keys = arguments[2], replace = arguments[3]; "
+        + "var options = select.options; "
+        + DomEvents.FIRE_INPUT_AND_CHANGE
+        + "var normalize = function(text) { return String(text).replace(/\\s+/g, ' ').replace(/^ | $/g, ''); }; "
+        + "var selectedTexts = function() { "
+        + "  var texts = []; "
+        + "  for (var i = 0; i < options.length; i++) { if (options[i].selected) { texts.push(String(options[i].text)); } } "
+        + "  return texts; "
+        + "}; "
+        + "var matches = function(option, index, key) { "
+        + "  if (criterion === 'index') { return index === Number(key); } "
+        + "  if (criterion === 'value') { return option.value === String(key); } "
+        + "  return normalize(option.text) === normalize(key); "
+        + "}; "
+        + "var targets = [], missing = [], disabled = []; "
+        + "for (var k = 0; k < keys.length; k++) { "
+        + "  var found = false; "
+        + "  for (var i = 0; i < options.length && !(found && !select.multiple); i++) { "
+        + "    if (matches(options[i], i, keys[k])) { "
+        + "      found = true; "
+        + "      if (options[i].disabled) { disabled.push(String(keys[k])); } else { targets.push(i); } "
+        + "    } "
+        + "  } "
+        + "  if (!found) { missing.push(String(keys[k])); } "
+        + "} "
+        + "if (missing.length > 0 || disabled.length > 0) { return { missing: missing, disabled: disabled }; } "
+        + "var before = selectedTexts(); var changed = false; "
+        + "if (replace && select.multiple) { "
+        + "  for (var i = 0; i < options.length; i++) { "
+        + "    if (options[i].selected && targets.indexOf(i) < 0) { options[i].selected = false; changed = true; } "
+        + "  } "
+        + "} "
+        + "for (var t = 0; t < targets.length; t++) { "
+        + "  if (!options[targets[t]].selected) { options[targets[t]].selected = true; changed = true; } "
+        + "} "
+        + "if (changed) { fire(select); } "
+        + "return { missing: missing, disabled: disabled, before: before, after: selectedTexts() };";
+
+    /**
+     * The criteria options can be selected by.
+     *
+     * @since 1.3.0
+     */
+    public enum Criterion {
+
+        TEXT("text"),
+        VALUE("value"),
+        INDEX("index");
+
+        private final String name;
+
+        Criterion(String name) {
+            this.name = name;
+        }
+
+    }
+
+    private OptionsSelections() {
+        // utility class constructor
+    }
+
+    /**
+     * Selects all options matching the given keys of the given select
+     * {@link PageObject page object} with a single JavaScript execution.
+     *
+     * @param select the select to change
+     * @param criterion the criterion to match options by
+     * @param keys the texts, values or indices of the options to select
+     * @param replaceSelection whether or not all other options of a
+     * multi-select should be deselected
+     * @return the texts of all selected options before and after the change
+     * @throws NoSuchElementException if there is no option for one of the keys
+     * @throws UnsupportedOperationException if one of the options is disabled
+     * @since 1.3.0
+     */
+    public static SelectionChange select(PageObject select, Criterion criterion, Collection<?> keys,
+        boolean replaceSelection) {
+
+        Map<String, Object> result = select.getBrowser()
+            .javaScript()
+            .executeWithReturn(SCRIPT, select.getWebElement(), criterion.name, new ArrayList<Object>(keys),
+                replaceSelection);
+
+        List<String> missing = asStrings(result.get("missing"));
+        if (!missing.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate option with " + criterion.name + ": " + missing);
+        }
+        List<String> disabled = asStrings(result.get("disabled"));
+        if (!disabled.isEmpty()) {
+            throw new UnsupportedOperationException("You may not select a disabled option: " + disabled);
+        }
+
+        return new SelectionChange(asStrings(result.get("before")), asStrings(result.get("after")));
+
+    }
+
+    private static List<String> asStrings(Object value) {
+        List<String> strings = new ArrayList<String>();
+        if (value instanceof List) {
+            for (Object element : ( List<?> ) value) {
+                strings.add(String.valueOf(element));
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * The texts of all selected options before and after a bulk selection.
+     *
+     * @since 1.3.0
+     */
+    public static final class SelectionChange {
+
+        private final List<String> before;
+        private final List<String> after;
+
+        SelectionChange(List<String> before, List<String> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        public List<String> getBefore() {
+            return before;
+        }
+
+        public List<String> getAfter() {
+            return after;
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package info.novatec.testit.webtester.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.utils.OptionsSnapshot;
+import info.novatec.testit.webtester.pageobjects.utils.OptionsSnapshot.Option;
+
+
+/**
+ * Reads {@link OptionsSnapshot options snapshots} of select page objects.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class OptionsSnapshots {
+
+    private static final String SCRIPT = ""
+        + "var select = arguments[0]; var options = select.options; "
+        + "var texts = [], values = [], selected = []; "
+        + "for (var i = 0; i < options.length; i++) { "
+        + "  texts.push(String(options[i].text)); "
+        + "  values.push(String(options[i].value)); "
+        + "  selected.push(options[i].selected === true); "
+        + "} "
+        + "return { multiple: select.multiple === true, texts: texts, values: values, selected: selected };";
+
+    private OptionsSnapshots() {
+        // utility class constructor
+    }
+
+    /**
+     * Reads a snapshot of all options of the given select {@link PageObject
+     * page object} with a single JavaScript execution.
+     *
+     * @param select the select to read
+     * @return the read snapshot
+     * @throws org.openqa.selenium.NoSuchElementException if the select is not
+     * present
+     * @since 1.3.0
+     */
+    public static OptionsSnapshot read(PageObject select) {
+
+        Map<String, Object> result = select.getBrowser().javaScript().executeWithReturn(SCRIPT, select.getWebElement());
+
+        List<Object> texts = asList(result.get("texts"));
+        List<Object> values = asList(result.get("values"));
+        List<Object> selected = asList(result.get("selected"));
+
+        List<Option> options = new ArrayList<Option>(texts.size());
+        for (int index = 0; index < texts.size(); index++) {
+            options.add(new Option(index, asString(texts.get(index)), asString(values.get(index)),
+                Boolean.TRUE.equals(selected.get(index))));
+        }
+        return new OptionsSnapshot(Boolean.TRUE.equals(result.get("multiple")), options);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object value) {
+        return value instanceof List ? ( List<Object> ) value : new ArrayList<Object>();
+    }
+
+    private static String asString(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+
+}
@@ -5,11 +5,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
 
@@ -17,7 +17,8 @@ import info.novatec.testit.webtester.api.annotations.Internal;
 @Internal
 public final class ReflectionUtils {
 
-    private static final Map<Class<?>, Set<Field>> FIELDS_OF_CLASS_CACHE = new HashMap<Class<?>, Set<Field>>();
+    private static final Map<Class<?>, Set<Field>> FIELDS_OF_CLASS_CACHE =
+        new ConcurrentHashMap<Class<?>, Set<Field>>();
 
     /* creating instances */
 
@@ -2,11 +2,14 @@ package info.novatec.testit.webtester.internal.pageobjects;
 
 import org.openqa.selenium.ElementNotVisibleException;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnValue;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
 import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.browser.ExceptionEvent;
 import info.novatec.testit.webtester.pageobjects.PageObject;
@@ -32,6 +35,11 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
 @SuppressWarnings("PMD.AvoidCatchingGenericException")
 public class ActionTemplate {
 
+    private static final Logger logger = LoggerFactory.getLogger(ActionTemplate.class);
+
+    /* shared by nested actions of different page objects on the same thread */
+    private static final ThreadLocal<Boolean> SIDE_EFFECT_PERFORMED = new ThreadLocal<Boolean>();
+
     private PageObject pageObject;
 
     public ActionTemplate(PageObject pageObject) {
@@ -42,7 +50,8 @@ public class ActionTemplate {
      * Execute the given callback and handle exceptional cases.
      * <ul>
      * <li>{@link StaleElementReferenceException}
-     * - try to recover by invalidating the page object and retrying the same operation</li>
+     * - if page object caching is active: invalidate the cached web elements and retry the same operation once, unless
+     * the operation already {@link #markSideEffectPerformed() performed its side effect}</li>
      * <li>{@link ElementNotVisibleException}
      * - throw new {@link PageObjectIsInvisibleException} as well as fire exception event</li>
      * <li>{@link RuntimeException}
@@ -53,9 +62,17 @@ public class ActionTemplate {
      * @throws PageObjectIsInvisibleException in case the subject of the callback is invisible
      * @since 1.1.0
      */
-    public void executeAction(PageObjectCallback callback) {
+    public void executeAction(final PageObjectCallback callback) {
         try {
-            callback.execute(pageObject);
+            executeWithRetryOnStaleElement(new PageObjectCallbackWithReturnValue<Void>() {
+
+                @Override
+                public Void execute(PageObject pageObject) {
+                    callback.execute(pageObject);
+                    return null;
+                }
+
+            });
         } catch (ElementNotVisibleException e) {
             throw fireExceptionEventAndReturn(new PageObjectIsInvisibleException(pageObject, e));
         } catch (RuntimeException e) {
@@ -67,7 +84,8 @@ public class ActionTemplate {
      * Execute the given callback, returns the callbacks return value and handle exceptional cases.
      * <ul>
      * <li>{@link StaleElementReferenceException}
-     * - try to recover by invalidating the page object and retrying the same operation</li>
+     * - if page object caching is active: invalidate the cached web elements and retry the same operation once, unless
+     * the operation already {@link #markSideEffectPerformed() performed its side effect}</li>
      * <li>{@link ElementNotVisibleException}
      * - throw new {@link PageObjectIsInvisibleException} as well as fire exception event</li>
      * <li>{@link RuntimeException}
@@ -82,7 +100,7 @@ public class ActionTemplate {
     public <B> B executeAction(PageObjectCallbackWithReturnValue<B> callback) {
         B value;
         try {
-            value = callback.execute(pageObject);
+            value = executeWithRetryOnStaleElement(callback);
         } catch (ElementNotVisibleException e) {
             throw fireExceptionEventAndReturn(new PageObjectIsInvisibleException(pageObject, e));
         } catch (RuntimeException e) {
@@ -91,6 +109,51 @@ public class ActionTemplate {
         return value;
     }
 
+    /**
+     * Marks the currently executed action (and all actions it is nested in) as
+     * having performed its side effect, e.g. a click or typed text. A
+     * {@link StaleElementReferenceException} thrown afterwards will not lead to
+     * the action being retried, since that would repeat the side effect.
+     *
+     * @since 1.3.0
+     */
+    public static void markSideEffectPerformed() {
+        if (SIDE_EFFECT_PERFORMED.get() != null) {
+            SIDE_EFFECT_PERFORMED.set(Boolean.TRUE);
+        }
+    }
+
+    private <B> B executeWithRetryOnStaleElement(PageObjectCallbackWithReturnValue<B> callback) {
+        Boolean outerSideEffectPerformed = SIDE_EFFECT_PERFORMED.get();
+        SIDE_EFFECT_PERFORMED.set(Boolean.FALSE);
+        try {
+            return callback.execute(pageObject);
+        } catch (StaleElementReferenceException e) {
+            if (!ConfigurationSnapshot.of(pageObject.getBrowser().getConfiguration()).pageObjectCachingIsActivated()) {
+                throw e;
+            }
+            WebElementCacheGenerations.invalidate(pageObject.getBrowser());
+            if (SIDE_EFFECT_PERFORMED.get()) {
+                logger.debug("web element of {} became stale after the action was performed - invalidated cache",
+                    pageObject);
+                throw e;
+            }
+            logger.debug("cached web element of {} is stale - invalidating cache and retrying", pageObject);
+            return callback.execute(pageObject);
+        } finally {
+            restoreSideEffectPerformed(outerSideEffectPerformed);
+        }
+    }
+
+    private static void restoreSideEffectPerformed(Boolean outerSideEffectPerformed) {
+        if (outerSideEffectPerformed == null) {
+            SIDE_EFFECT_PERFORMED.remove();
+        } else {
+            /* side effects of nested actions are side effects of the outer action as well */
+            SIDE_EFFECT_PERFORMED.set(outerSideEffectPerformed || SIDE_EFFECT_PERFORMED.get());
+        }
+    }
+
     private <T extends RuntimeException> T fireExceptionEventAndReturn(T exception) {
         EventSystem.fireEvent(new ExceptionEvent(pageObject, exception));
         return exception;
@@ -3,26 +3,14 @@ package info.novatec.testit.webtester.internal.pageobjects;
 import static info.novatec.testit.webtester.utils.Conditions.is;
 import static info.novatec.testit.webtester.utils.Conditions.visible;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.util.Deque;
-import java.util.List;
-import java.util.Set;
-import javax.annotation.PostConstruct;
 
-import org.apache.commons.lang.StringUtils;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.FindBys;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.api.annotations.Internal;
-import info.novatec.testit.webtester.api.annotations.Visible;
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.ConstructorException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectFactoryException.GettingPageObjectFieldException;
@@ -39,9 +27,11 @@ import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
 import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.browser.ExceptionEvent;
-import info.novatec.testit.webtester.internal.ReflectionUtils;
+import info.novatec.testit.webtester.internal.FieldAccessor;
+import info.novatec.testit.webtester.internal.MethodInvoker;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectBlueprint.InjectableField;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectBlueprint.VisibleField;
 import info.novatec.testit.webtester.pageobjects.PageObject;
-import info.novatec.testit.webtester.utils.Identifications;
 import info.novatec.testit.webtester.utils.Waits;
 
 
@@ -54,11 +44,12 @@ import info.novatec.testit.webtester.utils.Waits;
 @SuppressWarnings("unchecked")
 public final class DefaultPageObjectFactory implements PageObjectFactory {
 
-    private static final Logger logger = LoggerFactory.getLogger(DefaultPageObjectFactory.class);
-
     private static final String FIELD_NAME_MODEL = "model";
     private static final String FIELD_NAME_WEB_ELEMENT = "webElement";
 
+    private static final FieldAccessor MODEL_FIELD = pageObjectFieldAccessor(FIELD_NAME_MODEL);
+    private static final FieldAccessor WEB_ELEMENT_FIELD = pageObjectFieldAccessor(FIELD_NAME_WEB_ELEMENT);
+
     @Override
     public <T extends PageObject> T create(Class<T> pageClazz, PageObjectModel model) {
         return create(pageClazz, model, null);
@@ -70,14 +61,16 @@ public final class DefaultPageObjectFactory implements PageObjectFactory {
 
         try {
 
-            T pageInstance = createInstance(pageClazz);
+            PageObjectBlueprint<T> blueprint = PageObjectBlueprint.forClass(pageClazz);
+
+            T pageInstance = createInstance(blueprint);
             initializeModel(pageInstance, model);
             initializeWebElement(pageInstance, webElement);
 
-            initializeOtherPageObjectTypeFields(pageInstance, pageClazz);
+            initializeOtherPageObjectTypeFields(pageInstance, blueprint);
 
-            invokePostConstructMethods(pageInstance, pageClazz);
-            checkVisibilityOfAnnotatedFields(pageInstance, pageClazz);
+            invokePostConstructMethods(pageInstance, blueprint);
+            checkVisibilityOfAnnotatedFields(pageInstance, blueprint);
 
             return pageInstance;
 
@@ -95,140 +88,118 @@ public final class DefaultPageObjectFactory implements PageObjectFactory {
 
     /* details */
 
-    private <T extends PageObject> T createInstance(Class<T> pageClazz) {
+    private static FieldAccessor pageObjectFieldAccessor(String fieldName) {
         try {
-            Constructor<T> classConstructor = pageClazz.getDeclaredConstructor();
-            return ReflectionUtils.forceCreateInstance(classConstructor);
+            return FieldAccessor.forField(PageObject.class.getDeclaredField(fieldName));
         } catch (ReflectiveOperationException e) {
-            throw exception(pageClazz, e).inConstructor();
+            throw new IllegalStateException("could not access field '" + fieldName + "' of page object class", e);
         }
     }
 
-    private <T extends PageObject> void initializeModel(T pageInstance, PageObjectModel model) {
+    private <T extends PageObject> T createInstance(PageObjectBlueprint<T> blueprint) {
         try {
-            Field field = PageObject.class.getDeclaredField(FIELD_NAME_MODEL);
-            ReflectionUtils.forceSetField(field, pageInstance, model);
+            return blueprint.newInstance();
         } catch (ReflectiveOperationException e) {
+            throw exception(blueprint.getPageClass(), e).inConstructor();
+        }
+    }
+
+    private <T extends PageObject> void initializeModel(T pageInstance, PageObjectModel model) {
+        try {
+            MODEL_FIELD.set(pageInstance, model);
+        } catch (ClassCastException e) {
             throw exception(pageInstance, e).inModelFieldInjection();
         }
     }
 
     private <T extends PageObject> void initializeWebElement(T pageInstance, WebElement webElement) {
         try {
-            Field field = PageObject.class.getDeclaredField(FIELD_NAME_WEB_ELEMENT);
-            ReflectionUtils.forceSetField(field, pageInstance, webElement);
-        } catch (ReflectiveOperationException e) {
+            WEB_ELEMENT_FIELD.set(pageInstance, webElement);
+        } catch (ClassCastException e) {
             throw exception(pageInstance, e).inWebElementFieldInjection();
         }
     }
 
-    private <T extends PageObject> void initializeOtherPageObjectTypeFields(T pageInstance, Class<T> pageClazz) {
+    private <T extends PageObject> void initializeOtherPageObjectTypeFields(T pageInstance,
+        PageObjectBlueprint<T> blueprint) {
         Browser browser = pageInstance.getBrowser();
-        Deque<Class<?>> classAncestry = ReflectionUtils.getClassAncestry(pageClazz);
-        while (!classAncestry.isEmpty()) {
-            initializeFieldsOfClass(classAncestry.pop(), pageInstance, browser);
+        for (InjectableField injectableField : blueprint.getInjectableFields()) {
+            initializeField(injectableField, pageInstance, browser);
         }
     }
 
-    private <T extends PageObject> void initializeFieldsOfClass(Class<?> clazz, T pageInstance, Browser browser) {
-        for (Field field : clazz.getDeclaredFields()) {
-            if (shouldInitializeField(field)) {
-                initializeField(field, pageInstance, browser);
-            }
+    private <T extends PageObject> void initializeField(InjectableField injectableField, T pageInstance,
+        Browser browser) {
+        switch (injectableField.getKind()) {
+            case PAGE_OBJECT:
+                initializeFieldAsPageObject(injectableField, pageInstance, browser);
+                break;
+            case PAGE_OBJECT_LIST:
+                initializeFieldAsPageObjectList(injectableField, pageInstance, browser);
+                break;
+            default:
+                Field field = injectableField.getField();
+                throw exception(pageInstance).unsupportedFieldClass(field, injectableField.getUnsupportedClass());
         }
     }
 
-    private boolean shouldInitializeField(Field field) {
-        return field.getAnnotation(IdentifyUsing.class) != null || field.getAnnotation(FindBy.class) != null
-            || field.getAnnotation(FindBys.class) != null;
-    }
+    private <T extends PageObject> void initializeFieldAsPageObject(InjectableField injectableField, T pageInstance,
+        Browser browser) {
 
-    private <T extends PageObject> void initializeField(Field field, T pageInstance, Browser browser) {
-        Class<?> fieldClass = field.getType();
-        if (PageObject.class.isAssignableFrom(fieldClass)) {
-            initializeFieldAsPageObject(field, pageInstance, browser);
-        } else if (List.class.isAssignableFrom(fieldClass) || PageObjectList.class.isAssignableFrom(fieldClass)) {
-            initializeFieldAsPageObjectList(field, pageInstance, browser);
-        } else {
-            throw exception(pageInstance).unsupportedFieldClass(field, field.getType());
-        }
-    }
-
-    private <T extends PageObject> void initializeFieldAsPageObject(Field field, T pageInstance, Browser browser) {
-
-        Identification identification = getIdentificationForField(field);
+        Field field = injectableField.getField();
+        Identification identification = injectableField.getIdentification();
 
         PageObjectModel metaData = PageObjectModel.forPageFragment(browser, identification, pageInstance);
-        metaData.setName(getNameForField(field));
+        metaData.setName(injectableField.getName());
 
         try {
-            PageObject pageObject = create(( Class<? extends PageObject> ) field.getType(), metaData);
-            ReflectionUtils.forceSetField(field, pageInstance, pageObject);
-        } catch (ReflectiveOperationException | ClassCastException e) {
+            PageObject pageObject = create(injectableField.getPageObjectClass(), metaData);
+            injectableField.getAccessor().set(pageInstance, pageObject);
+        } catch (ClassCastException e) {
             throw exception(pageInstance, e).inPageObjectFieldInjection(field);
         }
 
     }
 
     @SuppressWarnings("rawtypes")
-    private <T extends PageObject> void initializeFieldAsPageObjectList(Field field, T pageInstance, Browser browser) {
+    private <T extends PageObject> void initializeFieldAsPageObjectList(InjectableField injectableField,
+        T pageInstance, Browser browser) {
 
-        Identification identification = getIdentificationForField(field);
-        Class<? extends PageObject> listType = getPageObjectClassFromListField(pageInstance, field);
+        Field field = injectableField.getField();
+        Identification identification = injectableField.getIdentification();
+        Class<? extends PageObject> listType = injectableField.getPageObjectClass();
 
         PageObjectModel listMetaData = PageObjectModel.forPageFragment(browser, identification, pageInstance);
-        listMetaData.setName(getNameForField(field));
+        listMetaData.setName(injectableField.getName());
 
         try {
             PageObjectList<? extends PageObject> pageObjectList = new LazyLoadingPageObjectList(listType, listMetaData);
-            ReflectionUtils.forceSetField(field, pageInstance, pageObjectList);
-        } catch (ReflectiveOperationException | ClassCastException e) {
+            injectableField.getAccessor().set(pageInstance, pageObjectList);
+        } catch (ClassCastException e) {
             throw exception(pageInstance, e).inPageObjectFieldInjection(field);
         }
 
     }
 
-    private <T extends PageObject> Class<T> getPageObjectClassFromListField(T pageInstance, Field listField) {
-        ParameterizedType genericType = ( ParameterizedType ) listField.getGenericType();
-        Class<T> genericTypeClass = ( Class<T> ) genericType.getActualTypeArguments()[0];
-        if (!PageObject.class.isAssignableFrom(genericTypeClass)) {
-            throw exception(pageInstance).unsupportedFieldClass(listField, genericTypeClass);
-        }
-        return genericTypeClass;
-    }
-
-    private <T extends PageObject> void invokePostConstructMethods(T pageInstance, Class<T> pageClazz) {
-        Deque<Class<?>> classStack = ReflectionUtils.getClassAncestry(pageClazz);
-        while (!classStack.isEmpty()) {
-            invokePostConstructMethodsOfClass(pageInstance, classStack.pop());
-        }
-    }
-
-    private <T extends PageObject> void invokePostConstructMethodsOfClass(T pageInstance, Class<?> clazz) {
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (shouldExecuteMethod(method)) {
-                tryToInvokePostConstructMethod(pageInstance, method);
-            }
+    private <T extends PageObject> void invokePostConstructMethods(T pageInstance, PageObjectBlueprint<T> blueprint) {
+        for (MethodInvoker invoker : blueprint.getPostConstructMethods()) {
+            tryToInvokePostConstructMethod(pageInstance, invoker);
         }
     }
 
-    private <T extends PageObject> void tryToInvokePostConstructMethod(T pageInstance, Method method) {
+    private <T extends PageObject> void tryToInvokePostConstructMethod(T pageInstance, MethodInvoker invoker) {
         try {
-            ReflectionUtils.forceInvokeMethod(method, pageInstance);
-        } catch (ReflectiveOperationException e) {
-            throw exception(pageInstance, e).whenExecutingPostConstructMethod(method);
+            invoker.invoke(pageInstance);
+        } catch (InvocationTargetException e) {
+            throw exception(pageInstance, e).whenExecutingPostConstructMethod(invoker.getMethod());
         }
     }
 
-    private boolean shouldExecuteMethod(Method method) {
-        return method.getAnnotation(PostConstruct.class) != null;
-    }
-
-    private <T extends PageObject> void checkVisibilityOfAnnotatedFields(T pageInstance, Class<T> pageClazz) {
+    private <T extends PageObject> void checkVisibilityOfAnnotatedFields(T pageInstance,
+        PageObjectBlueprint<T> blueprint) {
         if (shouldCheckVisibilty(pageInstance)) {
-            Deque<Class<?>> classStack = ReflectionUtils.getClassAncestry(pageClazz);
-            while (!classStack.isEmpty()) {
-                checkVisibilityOfAnnotatedFieldsOfClass(pageInstance, classStack.pop());
+            for (VisibleField visibleField : blueprint.getVisibleFields()) {
+                checkVisibilityOfAnnotatedField(pageInstance, visibleField);
             }
         }
     }
@@ -239,140 +210,91 @@ public final class DefaultPageObjectFactory implements PageObjectFactory {
             return true;
         }
 
-        Set<Field> parentFields = ReflectionUtils.getAllFieldsOfClassHierarchy(parent.getClass());
-        for (Field field : parentFields) {
-            if (field.getDeclaringClass().isAssignableFrom(PageObject.class)) {
-                try {
-                    Object fieldValue = ReflectionUtils.forceGetFieldValue(field, parent);
-                    if (fieldValue != null && fieldValue.equals(pageInstance)) {
-                        return isAnnotatedWithVisible(field);
-                    }
-                } catch (ReflectiveOperationException e) {
-                    continue;
-                }
+        PageObjectBlueprint<? extends PageObject> parentBlueprint = PageObjectBlueprint.forClass(parent.getClass());
+        for (VisibleField visibleField : parentBlueprint.getVisibleFields()) {
+            Object fieldValue = visibleField.getAccessor().get(parent);
+            if (fieldValue != null && fieldValue.equals(pageInstance)) {
+                return true;
             }
         }
         return false;
     }
 
-    private <T extends PageObject> void checkVisibilityOfAnnotatedFieldsOfClass(T pageInstance, Class<?> clazz) {
-        for (Field field : clazz.getDeclaredFields()) {
-            checkVisibilityOfAnnotatedFieldOfClass(pageInstance, field);
-        }
-    }
-
-    private <T extends PageObject> void checkVisibilityOfAnnotatedFieldOfClass(T pageInstance, Field field) {
-
-        if (!isAnnotatedWithVisible(field)) {
-            return;
-        }
-
-        if (isPageObjectField(field)) {
-            tryToWaitOnPageObjectsVisibility(pageInstance, field);
-        } else if (isListField(field) || isPageObjectListField(field)) {
-            tryToWaitOnPageObjectListVisibility(pageInstance, field);
+    private <T extends PageObject> void checkVisibilityOfAnnotatedField(T pageInstance, VisibleField visibleField) {
+        if (visibleField.isList()) {
+            tryToWaitOnPageObjectListVisibility(pageInstance, visibleField);
+        } else {
+            tryToWaitOnPageObjectsVisibility(pageInstance, visibleField);
         }
-
-    }
-
-    private boolean isAnnotatedWithVisible(Field field) {
-        return field.getAnnotation(Visible.class) != null;
-    }
-
-    private boolean isPageObjectField(Field field) {
-        return PageObject.class.isAssignableFrom(field.getType());
-    }
-
-    private boolean isListField(Field field) {
-        return List.class.isAssignableFrom(field.getType());
-    }
-
-    private boolean isPageObjectListField(Field field) {
-        return PageObjectList.class.isAssignableFrom(field.getType());
     }
 
-    private <T extends PageObject> void tryToWaitOnPageObjectsVisibility(T pageInstance, Field field) {
+    private <T extends PageObject> void tryToWaitOnPageObjectsVisibility(T pageInstance, VisibleField visibleField) {
         try {
-            waitOnPageObjectsVisibility(pageInstance, field);
+            waitOnPageObjectsVisibility(pageInstance, visibleField);
         } catch (TimeoutException e) {
-            throw exception(pageInstance, e).whenWaitingForVisibilityOfPageObjectField(field);
+            throw exception(pageInstance, e).whenWaitingForVisibilityOfPageObjectField(visibleField.getField());
         }
     }
 
-    private <T extends PageObject> void waitOnPageObjectsVisibility(T pageInstance, Field field) {
-        PageObject pageObject = getPageObjectFromOf(field, pageInstance);
+    private <T extends PageObject> void waitOnPageObjectsVisibility(T pageInstance, VisibleField visibleField) {
+        PageObject pageObject = getPageObjectFromOf(visibleField, pageInstance);
         Waits.waitUntil(pageObject, is(visible()));
     }
 
-    private <T extends PageObject> void tryToWaitOnPageObjectListVisibility(T pageInstance, Field field) {
+    private <T extends PageObject> void tryToWaitOnPageObjectListVisibility(T pageInstance, VisibleField visibleField) {
         try {
-            waitOnPageObjectListsVisibility(pageInstance, field);
+            waitOnPageObjectListsVisibility(pageInstance, visibleField);
         } catch (IllegalStateException e) {
-            throw exception(pageInstance, e).whenWaitingForVisibilityOfPageObjectListField(field);
+            throw exception(pageInstance, e).whenWaitingForVisibilityOfPageObjectListField(visibleField.getField());
         }
     }
 
-    private <T extends PageObject> void waitOnPageObjectListsVisibility(T pageInstance, Field field) {
+    private <T extends PageObject> void waitOnPageObjectListsVisibility(T pageInstance, VisibleField visibleField) {
 
-        PageObjectList<PageObject> list = getPageObjectListFromOf(field, pageInstance);
-        int expected = field.getAnnotation(Visible.class).value();
+        Field field = visibleField.getField();
+        PageObjectList<PageObject> list = getPageObjectListFromOf(visibleField, pageInstance);
+        int expected = visibleField.getExpectedVisible();
 
-        int actual = 0;
-        for (PageObject pageObject : list) {
-            try {
-                Waits.waitUntil(pageObject, is(visible()));
-                actual++;
-            } catch (TimeoutException e) {
-                // ignore timeout for present but not visible objects
-                logger.debug("page object {} of list wasn't visible within the timeout - ignoring");
-            }
+        String message = "Expected %s elements of page object list (%s) to be visible, but there were %s.";
+        try {
+            Waits.waitUntilAtLeast(expected, list, is(visible()));
+        } catch (TimeoutException e) {
+            int actual = countVisiblePageObjects(list);
+            throw new IllegalStateException(String.format(message, expected, field, actual), e);
         }
-
+        // the wait stops checking once enough page objects are visible - all of them have to be counted
+        int actual = countVisiblePageObjects(list);
         if (actual != expected) {
-            String message = "Expected %s elements of page object list (%s) to be visible, but there were %s.";
             throw new IllegalStateException(String.format(message, expected, field, actual));
         }
 
     }
 
-    private <T extends PageObject> PageObject getPageObjectFromOf(Field field, T pageInstance) {
-        try {
-            return ( PageObject ) ReflectionUtils.forceGetFieldValue(field, pageInstance);
-        } catch (ReflectiveOperationException | ClassCastException e) {
-            throw exception(pageInstance, e).whenGettingPageObjectField(field);
+    private int countVisiblePageObjects(PageObjectList<PageObject> list) {
+        int count = 0;
+        for (PageObject pageObject : list) {
+            if (pageObject.isVisible()) {
+                count++;
+            }
         }
+        return count;
     }
 
-    private <T extends PageObject> PageObjectList<PageObject> getPageObjectListFromOf(Field field, T pageInstance) {
+    private <T extends PageObject> PageObject getPageObjectFromOf(VisibleField visibleField, T pageInstance) {
         try {
-            return ( PageObjectList<PageObject> ) ReflectionUtils.forceGetFieldValue(field, pageInstance);
-        } catch (ReflectiveOperationException | ClassCastException e) {
-            throw exception(pageInstance, e).whenGettingPageObjectListField(field);
+            return ( PageObject ) visibleField.getAccessor().get(pageInstance);
+        } catch (ClassCastException e) {
+            throw exception(pageInstance, e).whenGettingPageObjectField(visibleField.getField());
         }
     }
 
-    private Identification getIdentificationForField(Field field) {
-        IdentifyUsing identifyUsing = field.getAnnotation(IdentifyUsing.class);
-        if (identifyUsing != null) {
-            return Identifications.fromAnnotation(identifyUsing);
-        }
-        FindBy findBy = field.getAnnotation(FindBy.class);
-        if (findBy != null) {
-            return Identifications.fromAnnotation(findBy);
-        }
-        FindBys findBys = field.getAnnotation(FindBys.class);
-        if (findBys != null) {
-            return Identifications.fromAnnotation(findBys);
-        }
-        return null;
-    }
-
-    private String getNameForField(Field field) {
-        IdentifyUsing identificationUsing = field.getAnnotation(IdentifyUsing.class);
-        if (identificationUsing != null) {
-            return StringUtils.defaultString(identificationUsing.elementname());
+    private <T extends PageObject> PageObjectList<PageObject> getPageObjectListFromOf(VisibleField visibleField,
+        T pageInstance) {
+        try {
+            return ( PageObjectList<PageObject> ) visibleField.getAccessor().get(pageInstance);
+        } catch (ClassCastException e) {
+            throw exception(pageInstance, e).whenGettingPageObjectListField(visibleField.getField());
         }
-        return StringUtils.EMPTY;
     }
 
     /* exception handling */
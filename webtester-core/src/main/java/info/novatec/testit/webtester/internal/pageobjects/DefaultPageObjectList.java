@@ -1,6 +1,7 @@
 package info.novatec.testit.webtester.internal.pageobjects;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
 
 import com.google.common.base.Predicate;
 
@@ -9,7 +10,15 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
 @SuppressWarnings("serial")
-public class DefaultPageObjectList<E extends PageObject> extends LinkedList<E> implements PageObjectList<E> {
+public class DefaultPageObjectList<E extends PageObject> extends ArrayList<E> implements PageObjectList<E> {
+
+    public DefaultPageObjectList() {
+        super();
+    }
+
+    public DefaultPageObjectList(Collection<? extends E> pageObjects) {
+        super(pageObjects);
+    }
 
     @Override
     public PageObjectList<E> filter(Predicate<? super E> condition) {
@@ -22,4 +31,9 @@ public class DefaultPageObjectList<E extends PageObject> extends LinkedList<E> i
         return filtered;
     }
 
+    @Override
+    public PageObjectList<E> snapshot() {
+        return new DefaultPageObjectList<E>(this);
+    }
+
 }
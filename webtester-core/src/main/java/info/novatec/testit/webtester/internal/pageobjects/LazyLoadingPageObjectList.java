@@ -1,9 +1,11 @@
 package info.novatec.testit.webtester.internal.pageobjects;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.openqa.selenium.SearchContext;
@@ -13,9 +15,26 @@ import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
+/**
+ * {@link PageObjectList Page object list} which resolves its content from the
+ * browser whenever it is accessed. Because of this the list always reflects
+ * the current state of the page.
+ * <p>
+ * In order to keep the number of browser queries low, this list:
+ * <ul>
+ * <li>only creates the requested page object when accessing elements by
+ * index ({@link #get(int)}) and doesn't create any page objects to determine
+ * its {@link #size()}</li>
+ * <li>can be frozen in its current state by creating a {@link #snapshot()}</li>
+ * <li>reuses its last resolved content for the configured
+ * {@link info.novatec.testit.webtester.api.config.Configuration#getPageObjectListMemoization()
+ * memoization window} as long as the browser's page didn't change</li>
+ * </ul>
+ */
 @Internal
 public class LazyLoadingPageObjectList<E extends PageObject> implements PageObjectList<E> {
 
@@ -25,20 +44,65 @@ public class LazyLoadingPageObjectList<E extends PageObject> implements PageObje
     private Class<E> elementClass;
     private PageObjectModel model;
 
+    private volatile Memoized<E> memoized;
+
     public LazyLoadingPageObjectList(Class<E> elementClass, PageObjectModel model) {
         this.elementClass = elementClass;
         this.model = model;
     }
 
-    private PageObjectList<E> getInternalList() {
+    private List<E> getInternalList() {
+        long window = getMemoizationWindow();
+        List<E> memoizedList = getMemoizedList(window);
+        if (memoizedList != null) {
+            return memoizedList;
+        }
+        return memoize(createList(), window);
+    }
+
+    private PageObjectList<E> createList() {
         int number = 0;
+        List<WebElement> elements = findElementsForList();
         PageObjectList<E> list = new DefaultPageObjectList<>();
-        for (WebElement element : findElementsForList()) {
+        for (WebElement element : elements) {
             list.add(wrapElement(element, getElementName(++number)));
         }
         return list;
     }
 
+    /* the memoized list is shared by all callers, so it must not be changed
+     * through iterators or sub lists */
+    private List<E> memoize(PageObjectList<E> list, long window) {
+        List<E> unmodifiableList = Collections.unmodifiableList(list);
+        if (window > 0) {
+            long generation = WebElementCacheGenerations.current(model.getBrowser());
+            memoized = new Memoized<>(unmodifiableList, System.nanoTime(), generation);
+        }
+        return unmodifiableList;
+    }
+
+    private List<E> getMemoizedList() {
+        return getMemoizedList(getMemoizationWindow());
+    }
+
+    private List<E> getMemoizedList(long window) {
+        Memoized<E> current = memoized;
+        if (current == null) {
+            return null;
+        }
+        boolean withinWindow = System.nanoTime() - current.nanoTime < TimeUnit.MILLISECONDS.toNanos(window);
+        boolean sameGeneration = current.generation == WebElementCacheGenerations.current(model.getBrowser());
+        if (withinWindow && sameGeneration) {
+            return current.list;
+        }
+        memoized = null;
+        return null;
+    }
+
+    private long getMemoizationWindow() {
+        return ConfigurationSnapshot.of(model.getBrowser().getConfiguration()).getPageObjectListMemoization();
+    }
+
     private List<WebElement> findElementsForList() {
         SearchContext searchContext = model.getSearchContext();
         return searchContext.findElements(model.getSeleniumBy());
@@ -55,18 +119,32 @@ public class LazyLoadingPageObjectList<E extends PageObject> implements PageObje
         return model.getBrowser().getPageObjectFactory().create(elementClass, elementMetaData, element);
     }
 
-    /* These are all the methods defined by the List interface. They all
-     * delegate to the internal List of this class. The internal list is lazily
-     * created when any of these methods are called for the first time. */
+    @Override
+    public PageObjectList<E> snapshot() {
+        List<E> memoizedList = getMemoizedList();
+        if (memoizedList != null) {
+            return new DefaultPageObjectList<>(memoizedList);
+        }
+        return createList();
+    }
+
+    /* These are all the methods defined by the List interface. Except for
+     * size(), isEmpty() and get(int) they all delegate to the internal List of
+     * this class. The internal list is lazily created when any of these methods
+     * are called and might be reused within the memoization window. */
 
     @Override
     public int size() {
-        return getInternalList().size();
+        List<E> memoizedList = getMemoizedList();
+        if (memoizedList != null) {
+            return memoizedList.size();
+        }
+        return findElementsForList().size();
     }
 
     @Override
     public boolean isEmpty() {
-        return getInternalList().isEmpty();
+        return size() == 0;
     }
 
     @Override
@@ -131,7 +209,12 @@ public class LazyLoadingPageObjectList<E extends PageObject> implements PageObje
 
     @Override
     public E get(int index) {
-        return getInternalList().get(index);
+        List<E> memoizedList = getMemoizedList();
+        if (memoizedList != null) {
+            return memoizedList.get(index);
+        }
+        WebElement element = findElementsForList().get(index);
+        return wrapElement(element, getElementName(index + 1));
     }
 
     @Override
@@ -176,7 +259,21 @@ public class LazyLoadingPageObjectList<E extends PageObject> implements PageObje
 
     @Override
     public PageObjectList<E> filter(Predicate<? super E> condition) {
-        return getInternalList().filter(condition);
+        return new DefaultPageObjectList<>(getInternalList()).filter(condition);
+    }
+
+    private static final class Memoized<E extends PageObject> {
+
+        private final List<E> list;
+        private final long nanoTime;
+        private final long generation;
+
+        Memoized(List<E> list, long nanoTime, long generation) {
+            this.list = list;
+            this.nanoTime = nanoTime;
+            this.generation = generation;
+        }
+
     }
 
 }
@@ -0,0 +1,338 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.lang.StringUtils;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.api.pageobjects.Identification;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.internal.FieldAccessor;
+import info.novatec.testit.webtester.internal.MethodInvoker;
+import info.novatec.testit.webtester.internal.ReflectionUtils;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.Identifications;
+
+
+/**
+ * Holds all reflective information the {@link DefaultPageObjectFactory} needs
+ * in order to initialize instances of a certain {@link PageObject page object}
+ * class: the constructor, all injectable fields (including their
+ * {@link Identification identifications}, names and list element types), all
+ * {@link PostConstruct post construct} methods and all {@link Visible visible}
+ * fields. Fields and methods are accessed via {@link FieldAccessor accessors}
+ * and {@link MethodInvoker invokers} which are created together with the
+ * blueprint.
+ * <p>
+ * Blueprints are immutable and are computed only once per class. They can be
+ * retrieved via {@link #forClass(Class)}.
+ *
+ * @param <T> the type of the page object described by this blueprint
+ * @since 1.3.0
+ */
+@Internal
+@SuppressWarnings("unchecked")
+final class PageObjectBlueprint<T extends PageObject> {
+
+    private static final ConcurrentMap<Class<?>, PageObjectBlueprint<?>> BLUEPRINTS =
+        new ConcurrentHashMap<Class<?>, PageObjectBlueprint<?>>();
+
+    private final Class<T> pageClass;
+    private final Constructor<T> constructor;
+    private final NoSuchMethodException missingConstructor;
+
+    private final List<InjectableField> injectableFields;
+    private final List<MethodInvoker> postConstructMethods;
+    private final List<VisibleField> visibleFields;
+
+    private PageObjectBlueprint(Class<T> pageClass) {
+
+        this.pageClass = pageClass;
+
+        Constructor<T> classConstructor = null;
+        NoSuchMethodException noSuchMethodException = null;
+        try {
+            classConstructor = pageClass.getDeclaredConstructor();
+            classConstructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            noSuchMethodException = e;
+        }
+        this.constructor = classConstructor;
+        this.missingConstructor = noSuchMethodException;
+
+        List<InjectableField> injectables = new ArrayList<InjectableField>();
+        List<MethodInvoker> postConstructs = new ArrayList<MethodInvoker>();
+        List<VisibleField> visibles = new ArrayList<VisibleField>();
+
+        Deque<Class<?>> classAncestry = ReflectionUtils.getClassAncestry(pageClass);
+        while (!classAncestry.isEmpty()) {
+            Class<?> clazz = classAncestry.pop();
+            for (Field field : clazz.getDeclaredFields()) {
+                if (isInjectable(field)) {
+                    injectables.add(new InjectableField(field));
+                }
+                if (isVisibleCheckable(field)) {
+                    visibles.add(new VisibleField(field));
+                }
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.getAnnotation(PostConstruct.class) != null) {
+                    postConstructs.add(invokerFor(method));
+                }
+            }
+        }
+
+        this.injectableFields = Collections.unmodifiableList(injectables);
+        this.postConstructMethods = Collections.unmodifiableList(postConstructs);
+        this.visibleFields = Collections.unmodifiableList(visibles);
+
+    }
+
+    /**
+     * Returns the {@link PageObjectBlueprint blueprint} for the given
+     * {@link PageObject page object} class. The blueprint is computed on the
+     * first request and cached for all subsequent ones.
+     *
+     * @param pageClass the page object class
+     * @param <T> the type of the page object
+     * @return the blueprint for the given class
+     * @since 1.3.0
+     */
+    static <T extends PageObject> PageObjectBlueprint<T> forClass(Class<T> pageClass) {
+        PageObjectBlueprint<?> blueprint = BLUEPRINTS.get(pageClass);
+        if (blueprint == null) {
+            PageObjectBlueprint<T> newBlueprint = new PageObjectBlueprint<T>(pageClass);
+            blueprint = BLUEPRINTS.putIfAbsent(pageClass, newBlueprint);
+            if (blueprint == null) {
+                blueprint = newBlueprint;
+            }
+        }
+        return ( PageObjectBlueprint<T> ) blueprint;
+    }
+
+    private static FieldAccessor accessorFor(Field field) {
+        try {
+            return FieldAccessor.forField(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("could not access field: " + field, e);
+        }
+    }
+
+    private static MethodInvoker invokerFor(Method method) {
+        try {
+            return MethodInvoker.forMethod(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("could not access method: " + method, e);
+        }
+    }
+
+    private static boolean isInjectable(Field field) {
+        return field.getAnnotation(IdentifyUsing.class) != null || field.getAnnotation(FindBy.class) != null
+            || field.getAnnotation(FindBys.class) != null;
+    }
+
+    private static boolean isVisibleCheckable(Field field) {
+        return field.getAnnotation(Visible.class) != null && (isPageObjectField(field) || isListField(field));
+    }
+
+    private static boolean isPageObjectField(Field field) {
+        return PageObject.class.isAssignableFrom(field.getType());
+    }
+
+    private static boolean isListField(Field field) {
+        Class<?> fieldClass = field.getType();
+        return List.class.isAssignableFrom(fieldClass) || PageObjectList.class.isAssignableFrom(fieldClass);
+    }
+
+    T newInstance() throws ReflectiveOperationException {
+        if (constructor == null) {
+            throw missingConstructor;
+        }
+        return constructor.newInstance();
+    }
+
+    Class<T> getPageClass() {
+        return pageClass;
+    }
+
+    List<InjectableField> getInjectableFields() {
+        return injectableFields;
+    }
+
+    List<MethodInvoker> getPostConstructMethods() {
+        return postConstructMethods;
+    }
+
+    List<VisibleField> getVisibleFields() {
+        return visibleFields;
+    }
+
+    /**
+     * Describes a field annotated with {@link IdentifyUsing @IdentifyUsing},
+     * {@link FindBy @FindBy} or {@link FindBys @FindBys} which needs to be
+     * injected with either a {@link PageObject page object} or a
+     * {@link PageObjectList page object list}.
+     *
+     * @since 1.3.0
+     */
+    static final class InjectableField {
+
+        enum Kind {
+            PAGE_OBJECT, PAGE_OBJECT_LIST, UNSUPPORTED
+        }
+
+        private final FieldAccessor accessor;
+        private final Kind kind;
+        private final Identification identification;
+        private final String name;
+        private final Class<? extends PageObject> pageObjectClass;
+        private final Class<?> unsupportedClass;
+
+        private InjectableField(Field field) {
+
+            this.accessor = accessorFor(field);
+
+            this.identification = getIdentificationForField(field);
+            this.name = getNameForField(field);
+
+            Class<?> fieldClass = field.getType();
+            if (PageObject.class.isAssignableFrom(fieldClass)) {
+                this.kind = Kind.PAGE_OBJECT;
+                this.pageObjectClass = ( Class<? extends PageObject> ) fieldClass;
+                this.unsupportedClass = null;
+            } else if (isListField(field)) {
+                Class<?> elementClass = getElementClassOfListField(field);
+                if (elementClass != null && PageObject.class.isAssignableFrom(elementClass)) {
+                    this.kind = Kind.PAGE_OBJECT_LIST;
+                    this.pageObjectClass = ( Class<? extends PageObject> ) elementClass;
+                    this.unsupportedClass = null;
+                } else {
+                    this.kind = Kind.UNSUPPORTED;
+                    this.pageObjectClass = null;
+                    this.unsupportedClass = elementClass != null ? elementClass : fieldClass;
+                }
+            } else {
+                this.kind = Kind.UNSUPPORTED;
+                this.pageObjectClass = null;
+                this.unsupportedClass = fieldClass;
+            }
+
+        }
+
+        private static Class<?> getElementClassOfListField(Field listField) {
+            Type genericType = listField.getGenericType();
+            if (genericType instanceof ParameterizedType) {
+                Type typeArgument = (( ParameterizedType ) genericType).getActualTypeArguments()[0];
+                if (typeArgument instanceof Class) {
+                    return ( Class<?> ) typeArgument;
+                }
+            }
+            return null;
+        }
+
+        private static Identification getIdentificationForField(Field field) {
+            IdentifyUsing identifyUsing = field.getAnnotation(IdentifyUsing.class);
+            if (identifyUsing != null) {
+                return Identifications.fromAnnotation(identifyUsing);
+            }
+            FindBy findBy = field.getAnnotation(FindBy.class);
+            if (findBy != null) {
+                return Identifications.fromAnnotation(findBy);
+            }
+            FindBys findBys = field.getAnnotation(FindBys.class);
+            if (findBys != null) {
+                return Identifications.fromAnnotation(findBys);
+            }
+            return null;
+        }
+
+        private static String getNameForField(Field field) {
+            IdentifyUsing identificationUsing = field.getAnnotation(IdentifyUsing.class);
+            if (identificationUsing != null) {
+                return StringUtils.defaultString(identificationUsing.elementname());
+            }
+            return StringUtils.EMPTY;
+        }
+
+        Field getField() {
+            return accessor.getField();
+        }
+
+        FieldAccessor getAccessor() {
+            return accessor;
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+
+        Identification getIdentification() {
+            return identification;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Class<? extends PageObject> getPageObjectClass() {
+            return pageObjectClass;
+        }
+
+        Class<?> getUnsupportedClass() {
+            return unsupportedClass;
+        }
+
+    }
+
+    /**
+     * Describes a field annotated with {@link Visible @Visible} which is either
+     * a {@link PageObject page object} or a list of page objects.
+     *
+     * @since 1.3.0
+     */
+    static final class VisibleField {
+
+        private final FieldAccessor accessor;
+        private final boolean list;
+        private final int expectedVisible;
+
+        private VisibleField(Field field) {
+            this.accessor = accessorFor(field);
+            this.list = !isPageObjectField(field);
+            this.expectedVisible = field.getAnnotation(Visible.class).value();
+        }
+
+        Field getField() {
+            return accessor.getField();
+        }
+
+        FieldAccessor getAccessor() {
+            return accessor;
+        }
+
+        boolean isList() {
+            return list;
+        }
+
+        int getExpectedVisible() {
+            return expectedVisible;
+        }
+
+    }
+
+}
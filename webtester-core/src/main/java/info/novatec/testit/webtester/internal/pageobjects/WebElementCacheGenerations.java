@@ -0,0 +1,76 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.MapMaker;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * Keeps track of the current 'generation' of each {@link Browser browser's}
+ * DOM. {@link PageObject Page objects} which cache their resolved
+ * {@link org.openqa.selenium.WebElement web elements} remember the generation
+ * in which the element was resolved and only reuse it as long as the
+ * generation didn't change.
+ * <p>
+ * The generation of a browser is advanced every time the cached web elements
+ * might have become invalid: when a new URL is opened, the page is refreshed,
+ * the browser navigated backwards or forwards, the focus was switched to
+ * another frame or window or when a
+ * {@link org.openqa.selenium.StaleElementReferenceException stale element} was
+ * encountered.
+ * <p>
+ * Browsers are referenced weakly, so there is no need to remove them manually.
+ *
+ * @since 1.3.0
+ */
+@Internal
+public final class WebElementCacheGenerations {
+
+    private static final ConcurrentMap<Browser, AtomicLong> GENERATIONS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Returns the current generation of the given {@link Browser browser's}
+     * DOM.
+     *
+     * @param browser the browser
+     * @return the current generation
+     * @since 1.3.0
+     */
+    public static long current(Browser browser) {
+        return getCounter(browser).get();
+    }
+
+    /**
+     * Advances the generation of the given {@link Browser browser's} DOM and by
+     * doing so invalidates all web elements cached by any of the browser's
+     * {@link PageObject page objects}.
+     *
+     * @param browser the browser
+     * @since 1.3.0
+     */
+    public static void invalidate(Browser browser) {
+        getCounter(browser).incrementAndGet();
+    }
+
+    private static AtomicLong getCounter(Browser browser) {
+        AtomicLong counter = GENERATIONS.get(browser);
+        if (counter == null) {
+            AtomicLong newCounter = new AtomicLong();
+            counter = GENERATIONS.putIfAbsent(browser, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return counter;
+    }
+
+    private WebElementCacheGenerations() {
+        // utility class constructor
+    }
+
+}
@@ -0,0 +1,117 @@
+package info.novatec.testit.webtester.internal.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.browser.Browser;
+
+
+/**
+ * Snapshot of the tag name and a set of attributes of a {@link WebElement web
+ * element}. The snapshot is read with a single JavaScript execution instead of
+ * one WebDriver command per attribute.
+ * <p>
+ * Attribute values are resolved the same way Selenium's
+ * {@link WebElement#getAttribute(String)} does: boolean attributes are either
+ * <code>"true"</code> or <code>null</code>, all other attributes return the
+ * element's property of the same name or - if there is no such property - the
+ * value of the attribute.
+ *
+ * @see PropertyValidator
+ * @since 1.3.0
+ */
+@Internal
+public final class ElementProperties {
+
+    /**
+     * JavaScript fragment reading the attributes named in the array
+     * <code>names</code> from <code>element</code> into the object
+     * <code>attributes</code>. Can be used by other scripts which need to read
+     * attributes like Selenium does.
+     */
+    public static final String READ_ATTRIBUTES_SCRIPT = ""
+        + "var booleans = ['async', 'autofocus', 'autoplay', 'checked', 'compact', 'complete', 'controls', 'declare', "
+        + "'defaultchecked', 'defaultselected', 'defer', 'disabled', 'draggable', 'ended', 'formnovalidate', 'hidden', "
+        + "'indeterminate', 'iscontenteditable', 'ismap', 'itemscope', 'loop', 'multiple', 'muted', 'nohref', "
+        + "'noresize', 'noshade', 'novalidate', 'nowrap', 'open', 'paused', 'pubdate', 'readonly', 'required', "
+        + "'reversed', 'scoped', 'seamless', 'seeking', 'selected', 'spellcheck', 'truespeed', 'willvalidate']; "
+        + "var attributes = {}; "
+        + "for (var i = 0; i < names.length; i++) { "
+        + "  var name = names[i]; var lowerName = name.toLowerCase(); var value = null; "
+        + "  if (booleans.indexOf(lowerName) >= 0) { "
+        + "    value = (element[lowerName] === true || element.hasAttribute(name)) ? 'true' : null; "
+        + "  } else { "
+        + "    var property = element[lowerName === 'class' ? 'className' : name]; "
+        + "    if (property !== undefined && property !== null "
+        + "        && typeof property !== 'object' && typeof property !== 'function') { "
+        + "      value = String(property); "
+        + "    } else { "
+        + "      value = element.getAttribute(name); "
+        + "    } "
+        + "  } "
+        + "  attributes[name] = value; "
+        + "} ";
+
+    private static final String SCRIPT = "var element = arguments[0]; var names = arguments[1]; "
+        + READ_ATTRIBUTES_SCRIPT + "return { tag: element.tagName, attributes: attributes };";
+
+    private final String tagName;
+    private final Map<String, String> attributes;
+
+    public ElementProperties(String tagName, Map<String, String> attributes) {
+        this.tagName = tagName;
+        this.attributes = Collections.unmodifiableMap(new HashMap<String, String>(attributes));
+    }
+
+    /**
+     * Reads the tag name and the given attributes of the given
+     * {@link WebElement web element} using a single JavaScript execution.
+     *
+     * @param browser the browser to execute the JavaScript with
+     * @param webElement the web element to read
+     * @param attributeNames the names of the attributes to read
+     * @return the read properties
+     * @since 1.3.0
+     */
+    @SuppressWarnings("unchecked")
+    public static ElementProperties read(Browser browser, WebElement webElement, Set<String> attributeNames) {
+
+        Map<String, Object> result = browser.javaScript()
+            .executeWithReturn(SCRIPT, webElement, new ArrayList<String>(attributeNames));
+
+        String tagName = String.valueOf(result.get("tag"));
+        Map<String, String> attributes = new HashMap<String, String>();
+        Object attributeValues = result.get("attributes");
+        if (attributeValues instanceof Map) {
+            for (Map.Entry<String, Object> entry : (( Map<String, Object> ) attributeValues).entrySet()) {
+                Object value = entry.getValue();
+                attributes.put(entry.getKey(), value != null ? String.valueOf(value) : null);
+            }
+        }
+        return new ElementProperties(tagName, attributes);
+
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Returns the value of the attribute with the given name. Attributes which
+     * are not present or weren't read return <code>null</code>.
+     *
+     * @param attributeName the name of the attribute
+     * @return the value of the attribute or null
+     * @since 1.3.0
+     */
+    public String getAttribute(String attributeName) {
+        return attributes.get(attributeName);
+    }
+
+}
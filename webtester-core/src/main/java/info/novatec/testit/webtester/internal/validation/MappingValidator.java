@@ -1,36 +1,115 @@
 package info.novatec.testit.webtester.internal.validation;
 
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.openqa.selenium.WebElement;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import info.novatec.testit.webtester.api.annotations.Internal;
 import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.annotations.Mappings;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
 import info.novatec.testit.webtester.api.pageobjects.Validator;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
 
 
 /**
  * Allows for the validation of {@link WebElement web elements} for a {@link info.novatec.testit.webtester.pageobjects.PageObject
  * page object} instance by the {@link Mapping} annotations of it's class.
+ * <p>
+ * Mapping validators are immutable and only created once per class. They can
+ * be retrieved via {@link #forClass(Class)}. Since custom {@link Validator
+ * validators} are instantiated only once per mapping as well, they are shared
+ * between all page objects of a class and should not hold any state.
+ * <p>
+ * Depending on the {@link Configuration configuration} of a browser, the
+ * validation can be optimized by {@link #assertValidity(WebElement, Browser)}:
+ * <ul>
+ * <li>batched validation reads the tag name and all attributes needed by any
+ * {@link PropertyValidator property validator} with a single JavaScript
+ * execution and evaluates the constellations locally</li>
+ * <li>validation caching remembers web elements which were already validated
+ * successfully and skips their validation in the future</li>
+ * </ul>
  *
  * @since 1.2.0
  */
 @Internal
-public class MappingValidator {
+public final class MappingValidator {
+
+    private static final ConcurrentMap<Class<?>, MappingValidator> VALIDATORS =
+        new ConcurrentHashMap<Class<?>, MappingValidator>();
+
+    private static final int VALIDATED_ELEMENTS_CACHE_SIZE = 500;
 
     private final Class<?> type;
     private final List<Validator> validConstellations;
-    private final List<String> validConstellationDescriptions;
+    private final String validConstellationDescription;
+
+    private final List<PropertyValidator> propertyValidators;
+    private final List<Validator> otherValidators;
+    private final Set<String> requiredAttributes;
+
+    /* weak (identity) keys, so cached elements don't keep closed browsers reachable */
+    private final Cache<WebElement, Boolean> validatedElements =
+        CacheBuilder.newBuilder().weakKeys().maximumSize(VALIDATED_ELEMENTS_CACHE_SIZE).build();
+
+    private MappingValidator(Class<?> type) {
 
-    public MappingValidator(Class<?> type) {
         this.type = type;
-        this.validConstellations = extractValidationInformation(type);
-        this.validConstellationDescriptions = getValidConstellationDescriptions();
+        this.validConstellations = Collections.unmodifiableList(extractValidationInformation(type));
+        this.validConstellationDescription = getValidConstellationDescription();
+
+        List<PropertyValidator> properties = new ArrayList<>();
+        List<Validator> others = new ArrayList<>();
+        Set<String> attributes = new LinkedHashSet<>();
+        for (Validator constellation : validConstellations) {
+            if (constellation instanceof PropertyValidator) {
+                PropertyValidator propertyValidator = ( PropertyValidator ) constellation;
+                properties.add(propertyValidator);
+                attributes.addAll(propertyValidator.getRequiredAttributes());
+            } else {
+                others.add(constellation);
+            }
+        }
+        this.propertyValidators = Collections.unmodifiableList(properties);
+        this.otherValidators = Collections.unmodifiableList(others);
+        this.requiredAttributes = Collections.unmodifiableSet(attributes);
+
+    }
+
+    /**
+     * Returns the {@link MappingValidator mapping validator} for the given
+     * class. The validator is created on the first request and cached for all
+     * subsequent ones.
+     *
+     * @param type the class to get the validator for
+     * @return the validator for the given class
+     * @since 1.3.0
+     */
+    public static MappingValidator forClass(Class<?> type) {
+        MappingValidator validator = VALIDATORS.get(type);
+        if (validator == null) {
+            MappingValidator newValidator = new MappingValidator(type);
+            validator = VALIDATORS.putIfAbsent(type, newValidator);
+            if (validator == null) {
+                validator = newValidator;
+            }
+        }
+        return validator;
     }
 
     private static List<Validator> extractValidationInformation(Class<?> type) {
@@ -47,7 +126,7 @@ public class MappingValidator {
             }
         }
 
-        List<Validator> validConstellations = new LinkedList<>();
+        List<Validator> validConstellations = new ArrayList<>(mappings.size());
         for (Mapping mapping : mappings) {
             validConstellations.add(convertToValidConstellation(mapping));
         }
@@ -79,12 +158,12 @@ public class MappingValidator {
         }
     }
 
-    private List<String> getValidConstellationDescriptions() {
-        List<String> descriptions = new LinkedList<>();
+    private String getValidConstellationDescription() {
+        List<String> descriptions = new ArrayList<>(validConstellations.size());
         for (Validator constellation : validConstellations) {
             descriptions.add(constellation.describe());
         }
-        return descriptions;
+        return StringUtils.join(descriptions, "\n\t - ");
     }
 
     public boolean canValidate() {
@@ -107,9 +186,60 @@ public class MappingValidator {
         }
     }
 
+    /**
+     * Asserts the validity of the given {@link WebElement web element} using
+     * the optimizations activated in the {@link Configuration configuration}
+     * of the given {@link Browser browser}.
+     *
+     * @param webElement the web element to validate
+     * @param browser the browser the web element belongs to
+     * @throws WrongElementClassException if the web element is not valid
+     * @since 1.3.0
+     */
+    public void assertValidity(WebElement webElement, Browser browser) {
+
+        if (validConstellations.isEmpty()) {
+            return;
+        }
+
+        ConfigurationSnapshot configuration = ConfigurationSnapshot.of(browser.getConfiguration());
+        boolean caching = configuration.validationCachingIsActivated();
+        if (caching && validatedElements.getIfPresent(webElement) != null) {
+            return;
+        }
+
+        if (configuration.batchedValidationIsActivated()) {
+            assertBatchedValidity(webElement, browser);
+        } else {
+            assertValidity(webElement);
+        }
+
+        if (caching) {
+            validatedElements.put(webElement, Boolean.TRUE);
+        }
+
+    }
+
+    private void assertBatchedValidity(WebElement webElement, Browser browser) {
+        if (!propertyValidators.isEmpty()) {
+            ElementProperties properties = ElementProperties.read(browser, webElement, requiredAttributes);
+            for (PropertyValidator constellation : propertyValidators) {
+                if (constellation.isValid(properties)) {
+                    return;
+                }
+            }
+        }
+        for (Validator constellation : otherValidators) {
+            if (constellation.isValid(webElement)) {
+                return;
+            }
+        }
+        throw new WrongElementClassException(getInvalidityMessage(webElement));
+    }
+
     private String getInvalidityMessage(WebElement webElement) {
         return webElement + " is not a valid web element for class: " + type + "\n\tValid elements include: \n\t - "
-            + StringUtils.join(validConstellationDescriptions, "\n\t - ");
+            + validConstellationDescription;
     }
 
 }
@@ -0,0 +1,38 @@
+package info.novatec.testit.webtester.internal.validation;
+
+import java.util.Set;
+
+import info.novatec.testit.webtester.api.annotations.Internal;
+import info.novatec.testit.webtester.api.pageobjects.Validator;
+
+
+/**
+ * A {@link Validator} which is able to validate an element based solely on a
+ * snapshot of its tag name and certain attributes. This allows the
+ * {@link MappingValidator} to read all information needed by any of a class's
+ * validators with a single JavaScript execution.
+ *
+ * @see ElementProperties
+ * @since 1.3.0
+ */
+@Internal
+public interface PropertyValidator extends Validator {
+
+    /**
+     * @return the names of all attributes needed in order to validate an
+     * element via {@link #isValid(ElementProperties)}
+     * @since 1.3.0
+     */
+    Set<String> getRequiredAttributes();
+
+    /**
+     * Validates if the given {@link ElementProperties element properties}
+     * describe an element which is valid.
+     *
+     * @param properties the properties to validate
+     * @return true if the properties describe a valid element, otherwise false
+     * @since 1.3.0
+     */
+    boolean isValid(ElementProperties properties);
+
+}
@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.internal.validation;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.openqa.selenium.WebElement;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
@@ -28,6 +31,17 @@ public class TagAttributeNotPresentValidator extends TagValidator {
         return super.isValid(webElement) && attributeValue == null;
     }
 
+    @Override
+    public Set<String> getRequiredAttributes() {
+        return Collections.singleton(attributeName);
+    }
+
+    @Override
+    public boolean isValid(ElementProperties properties) {
+        String attributeValue = properties.getAttribute(attributeName);
+        return super.isValid(properties) && attributeValue == null;
+    }
+
     @Override
     public String describe() {
         return super.describe() + " and an attribute '" + attributeName + "' not being present";
@@ -1,5 +1,6 @@
 package info.novatec.testit.webtester.internal.validation;
 
+import java.util.Collections;
 import java.util.Set;
 
 import org.openqa.selenium.WebElement;
@@ -35,6 +36,20 @@ public class TagAttributeValueValidator extends TagValidator {
             normalizedAttributeValue);
     }
 
+    @Override
+    public Set<String> getRequiredAttributes() {
+        return Collections.singleton(attributeName);
+    }
+
+    @Override
+    public boolean isValid(ElementProperties properties) {
+        String attributeValue = properties.getAttribute(attributeName);
+        String normalizedAttributeValue = ValidationUtils.normalize(attributeValue);
+        boolean attributeValueNonNullOrEmptyAllowed = attributeValue != null || validValues.contains("");
+        return super.isValid(properties) && attributeValueNonNullOrEmptyAllowed && validValues.contains(
+            normalizedAttributeValue);
+    }
+
     @Override
     public String describe() {
         return super.describe() + " and an attribute '" + attributeName + "' with any value of " + validValues;
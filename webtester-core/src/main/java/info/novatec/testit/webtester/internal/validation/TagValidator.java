@@ -1,5 +1,8 @@
 package info.novatec.testit.webtester.internal.validation;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.openqa.selenium.WebElement;
 
 import info.novatec.testit.webtester.api.annotations.Internal;
@@ -12,7 +15,7 @@ import info.novatec.testit.webtester.api.pageobjects.Validator;
  * <b>Example:</b> <code>@Mapping(tag="div")</code>
  */
 @Internal
-public class TagValidator implements Validator {
+public class TagValidator implements PropertyValidator {
 
     private final String tagName;
 
@@ -26,6 +29,16 @@ public class TagValidator implements Validator {
         return tagName.equalsIgnoreCase(elementTagName);
     }
 
+    @Override
+    public Set<String> getRequiredAttributes() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean isValid(ElementProperties properties) {
+        return tagName.equalsIgnoreCase(properties.getTagName());
+    }
+
     @Override
     public String describe() {
         return "Element having '" + tagName + "' as it's tag";
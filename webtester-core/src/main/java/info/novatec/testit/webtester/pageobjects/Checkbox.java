@@ -63,16 +63,20 @@ public class Checkbox extends PageObject implements Selectable {
 
             @Override
             public void execute(PageObject pageObject) {
-                Checkbox checkbox = ( Checkbox ) pageObject;
-                Boolean oldState = checkbox.isSelected();
+                final Checkbox checkbox = ( Checkbox ) pageObject;
+                final Boolean oldState = checkbox.isSelected();
                 if (oldState != selected) {
 
                     Asserts.assertEnabledAndVisible(checkbox);
                     checkbox.getWebElement().click();
 
-                    Boolean newState = isSelected();
+                    final Boolean newState = isSelected();
                     logger.debug(logMessage(CHANGED_SELECTION), oldState, newState);
-                    fireEventAndMarkAsUsed(new SelectionChangedEvent(checkbox, oldState, newState));
+                    if (hasEventListenersFor(SelectionChangedEvent.class)) {
+                        fireEventAndMarkAsUsed(new SelectionChangedEvent(checkbox, oldState, newState));
+                    } else {
+                        markAsUsed();
+                    }
 
                 }
             }
@@ -1,13 +1,34 @@
 package info.novatec.testit.webtester.pageobjects;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
+import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
+import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.FormSubmittedEvent;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByValueEvent;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectionChangedEvent;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.TextSetEvent;
+import info.novatec.testit.webtester.internal.FormFiller;
+import info.novatec.testit.webtester.internal.FormFiller.FieldChange;
+import info.novatec.testit.webtester.internal.FormFiller.FieldKind;
 import info.novatec.testit.webtester.utils.Asserts;
+import info.novatec.testit.webtester.utils.Identifications;
+import info.novatec.testit.webtester.utils.Marker;
+import info.novatec.testit.webtester.utils.Waits;
 
 
 /**
@@ -24,6 +45,7 @@ public class Form extends PageObject {
     private static final Logger logger = LoggerFactory.getLogger(TextField.class);
 
     private static final String SUBMIT = "Submitted form.";
+    private static final String FILLED = "Filled {} fields of form.";
 
     /**
      * Submits this {@link Form} for processing.
@@ -38,18 +60,165 @@ public class Form extends PageObject {
 
             @Override
             protected void executeAction() {
+                Marker.applyBufferedMarkings(getBrowser());
                 getWebElement().submit();
+                Waits.waitUntilPageIsReady(getBrowser());
             }
 
             @Override
-            protected void executeAfterAction(Form form) {
+            protected void executeAfterAction(final Form form) {
                 logger.debug(SUBMIT);
-                fireEventAndMarkAsUsed(new FormSubmittedEvent(form));
+                if (hasEventListenersFor(FormSubmittedEvent.class)) {
+                    fireEventAndMarkAsUsed(new FormSubmittedEvent(form));
+                } else {
+                    markAsUsed();
+                }
             }
         });
         return this;
     }
 
+    /**
+     * Fills the fields of this {@link Form form} with the given values. The
+     * keys of the map are the <code>name</code> attributes of the fields.
+     * Text fields and text areas take any value as text, checkboxes take
+     * booleans, radio buttons, checkboxes sharing their name and selects take
+     * the value of the radio button, checkbox or option to select and
+     * multi-selects take collections of values. Hidden inputs can't be filled.
+     * <p>
+     * All fields are filled with a single JavaScript execution. Text fields
+     * and selects dispatch one <code>input</code> and one <code>change</code>
+     * event, checkboxes and radio buttons are clicked. The same
+     * {@link TextSetEvent}, {@link SelectionChangedEvent} and
+     * {@link SelectedByValueEvent} events as for filling each field on its own
+     * are fired. If any field can't be found or filled, nothing is changed.
+     *
+     * @param values the values to fill in by field name
+     * @return the same form
+     * @throws NoSuchElementException if a field, radio button or option could
+     * not be found
+     * @throws IllegalStateException if a field is disabled, read-only, not
+     * displayed or can't be filled
+     * @see #fill(Map, Collection)
+     * @since 1.3.0
+     */
+    public Form fill(Map<String, ?> values) {
+        return fill(values, Collections.<String> emptySet());
+    }
+
+    /**
+     * Fills the fields of this {@link Form form} with the given values like
+     * {@link #fill(Map)}. The text fields with the given names are filled by
+     * sending real keystrokes instead. This should be used for fields which
+     * react on keyboard events (e.g. auto completion or input masks).
+     * The fields to type into are looked up and checked before any field is
+     * filled, keystrokes are sent after all other fields were filled.
+     *
+     * @param values the values to fill in by field name
+     * @param fieldsToType the names of the text fields to type into
+     * @return the same form
+     * @throws NoSuchElementException if a field, radio button or option could
+     * not be found
+     * @throws IllegalStateException if a field is disabled, read-only, not
+     * displayed or can't be filled
+     * @throws PageObjectIsDisabledException if a field to type into is
+     * disabled
+     * @throws PageObjectIsInvisibleException if a field to type into is
+     * invisible
+     * @since 1.3.0
+     */
+    public Form fill(final Map<String, ?> values, final Collection<String> fieldsToType) {
+        executeAction(new AbstractFormCallback() {
+
+            private final List<FieldChange> changes = new ArrayList<FieldChange>();
+
+            @Override
+            protected void executeAction() {
+                Map<String, GenericElement> typedFields = new LinkedHashMap<String, GenericElement>();
+                for (String name : fieldsToType) {
+                    if (values.containsKey(name)) {
+                        GenericElement field = getField(name);
+                        Asserts.assertEnabledAndVisible(field);
+                        typedFields.put(name, field);
+                    }
+                }
+                Map<String, Object> scriptedValues = new LinkedHashMap<String, Object>(values);
+                scriptedValues.keySet().removeAll(fieldsToType);
+                changes.addAll(FormFiller.fill(Form.this, scriptedValues));
+                for (Map.Entry<String, GenericElement> typedField : typedFields.entrySet()) {
+                    String name = typedField.getKey();
+                    changes.add(typeText(name, typedField.getValue(), String.valueOf(values.get(name))));
+                }
+            }
+
+            @Override
+            protected void executeAfterAction(Form form) {
+                logger.debug(logMessage(FILLED), changes.size());
+                for (FieldChange change : changes) {
+                    fireFieldEvents(change);
+                }
+                markAsUsed();
+            }
+
+        });
+        return this;
+    }
+
+    private FieldChange typeText(String name, GenericElement field, String text) {
+        WebElement webElement = field.getWebElement();
+        String before = StringUtils.defaultString(webElement.getAttribute("value"));
+        webElement.clear();
+        webElement.sendKeys(text);
+        String after = StringUtils.defaultString(webElement.getAttribute("value"));
+        return new FieldChange(name, FieldKind.TEXT, text, null, before, after);
+    }
+
+    private void fireFieldEvents(FieldChange change) {
+        switch (change.getKind()) {
+            case TEXT:
+                if (hasEventListenersFor(TextSetEvent.class)) {
+                    EventSystem.fireEvent(new TextSetEvent(getField(change.getName()), ( String ) change.getBefore(),
+                        ( String ) change.getAfter(), String.valueOf(change.getValue())));
+                }
+                break;
+            case CHECKBOX:
+            case RADIO:
+                if (hasEventListenersFor(SelectionChangedEvent.class)) {
+                    GenericElement field = getField(change.getName(), change.getElementValue());
+                    EventSystem.fireEvent(new SelectionChangedEvent(field,
+                        Boolean.TRUE.equals(change.getBefore()), Boolean.TRUE.equals(change.getAfter())));
+                }
+                break;
+            default:
+                if (hasEventListenersFor(SelectedByValueEvent.class)) {
+                    GenericElement field = getField(change.getName());
+                    Object value = change.getValue();
+                    Collection<?> selectedValues =
+                        value instanceof Collection ? ( Collection<?> ) value : Collections.singleton(value);
+                    for (Object selectedValue : selectedValues) {
+                        EventSystem.fireEvent(new SelectedByValueEvent(field, String.valueOf(selectedValue)));
+                    }
+                }
+                break;
+        }
+    }
+
+    private GenericElement getField(String name) {
+        return findBy(Identifications.name(name)).asGeneric();
+    }
+
+    private GenericElement getField(String name, String value) {
+        if (value == null) {
+            return getField(name);
+        }
+        String selector = "[name=\"" + escapeCss(name) + "\"][value=\"" + escapeCss(value) + "\"]";
+        return findBy(Identifications.css(selector)).asGeneric();
+    }
+
+    private static String escapeCss(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
     /**
      * Specialized abstract {@link PageObjectCallback page object callback} used
      * to handle common behavior for all {@link Form form} actions.
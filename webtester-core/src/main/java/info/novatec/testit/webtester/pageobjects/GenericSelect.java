@@ -2,12 +2,13 @@ package info.novatec.testit.webtester.pageobjects;
 
 import org.openqa.selenium.WebElement;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnValue;
+import info.novatec.testit.webtester.internal.OptionsSnapshots;
 import info.novatec.testit.webtester.pageobjects.utils.EnhancedSelect;
+import info.novatec.testit.webtester.pageobjects.utils.OptionsSnapshot;
 
 
 @Mapping(tag = "select")
@@ -26,11 +27,7 @@ public class GenericSelect<T extends GenericSelect<T>> extends PageObject {
         return executeAction(new PageObjectCallbackWithReturnValue<List<String>>() {
             @Override
             public List<String> execute(PageObject arg) {
-                List<String> texts = new LinkedList<>();
-                for(WebElement option : getAllOptions()) {
-                    texts.add(option.getText());
-                }
-                return texts;
+                return getOptionsSnapshot().getTexts();
             }
         });
     }
@@ -48,11 +45,7 @@ public class GenericSelect<T extends GenericSelect<T>> extends PageObject {
         return executeAction(new PageObjectCallbackWithReturnValue<List<String>>() {
             @Override
             public List<String> execute(PageObject arg) {
-                List<String> values = new LinkedList<>();
-                for(WebElement option : getAllOptions()) {
-                    values.add(option.getAttribute("value"));
-                }
-                return values;
+                return getOptionsSnapshot().getValues();
             }
         });
     }
@@ -68,7 +61,27 @@ public class GenericSelect<T extends GenericSelect<T>> extends PageObject {
 
             @Override
             public Integer execute(PageObject pageObject) {
-                return getAllOptions().size();
+                return getOptionsSnapshot().getNumberOfOptions();
+            }
+
+        });
+    }
+
+    /**
+     * Returns a snapshot of the texts, values, indices and selection state of
+     * all options. The snapshot is read with a single JavaScript execution
+     * and should be used when more than one property of the options is needed.
+     *
+     * @return the snapshot of all options
+     * @since 1.3.0
+     */
+    public OptionsSnapshot getOptionsSnapshot() {
+        return executeAction(new PageObjectCallbackWithReturnValue<OptionsSnapshot>() {
+
+            @Override
+            public OptionsSnapshot execute(PageObject pageObject) {
+                markAsRead();
+                return OptionsSnapshots.read(pageObject);
             }
 
         });
@@ -1,11 +1,12 @@
 package info.novatec.testit.webtester.pageobjects;
 
-import info.novatec.testit.webtester.api.annotations.Mapping;
 import org.apache.commons.lang.StringUtils;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import info.novatec.testit.webtester.api.annotations.Mapping;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
@@ -13,7 +14,6 @@ import info.novatec.testit.webtester.api.pageobjects.traits.HasText;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextAppendedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextClearedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextSetEvent;
-import info.novatec.testit.webtester.utils.Asserts;
 
 
 /**
@@ -66,15 +66,20 @@ public class GenericTextField <T extends GenericTextField<T>> extends PageObject
     public T clearText() {
         executeAction(new AbstractTextFieldCallback() {
 
-                             @Override
-            public void executeAction(GenericTextField genericTextField) {
-                getWebElement().clear();
+            @Override
+            public void executeAction(GenericTextField genericTextField, WebElement webElement) {
+                webElement.clear();
             }
 
             @Override
-            protected void executeAfterAction(GenericTextField genericTextField, String oldText, String newText) {
+            protected void executeAfterAction(final GenericTextField genericTextField, final String oldText,
+                final String newText) {
                 logger.debug(logMessage(CLEARED_TEXT), oldText, newText);
-                fireEventAndMarkAsUsed(new TextClearedEvent(genericTextField, oldText, newText));
+                if (hasEventListenersFor(TextClearedEvent.class)) {
+                    fireEventAndMarkAsUsed(new TextClearedEvent(genericTextField, oldText, newText));
+                } else {
+                    markAsUsed();
+                }
             }
 
         });
@@ -98,15 +103,25 @@ public class GenericTextField <T extends GenericTextField<T>> extends PageObject
         executeAction(new AbstractTextFieldCallback() {
 
             @Override
-            public void executeAction(GenericTextField genericTextField) {
-                getWebElement().clear();
-                getWebElement().sendKeys(textToSet);
+            public void executeAction(GenericTextField genericTextField, WebElement webElement) {
+                webElement.clear();
+                webElement.sendKeys(textToSet);
             }
 
             @Override
-            protected void executeAfterAction(GenericTextField genericTextField, String oldText, String newText) {
+            protected boolean needsNewText() {
+                return logger.isDebugEnabled() || hasEventListenersFor(TextSetEvent.class);
+            }
+
+            @Override
+            protected void executeAfterAction(final GenericTextField genericTextField, final String oldText,
+                final String newText) {
                 logger.debug(logMessage(SET_TEXT), oldText, newText, textToSet);
-                fireEventAndMarkAsUsed(new TextSetEvent(genericTextField, oldText, newText, textToSet));
+                if (hasEventListenersFor(TextSetEvent.class)) {
+                    fireEventAndMarkAsUsed(new TextSetEvent(genericTextField, oldText, newText, textToSet));
+                } else {
+                    markAsUsed();
+                }
             }
 
         });
@@ -130,14 +145,19 @@ public class GenericTextField <T extends GenericTextField<T>> extends PageObject
         executeAction(new AbstractTextFieldCallback() {
 
             @Override
-            public void executeAction(GenericTextField genericTextField) {
-                getWebElement().sendKeys(textToAppend);
+            public void executeAction(GenericTextField genericTextField, WebElement webElement) {
+                webElement.sendKeys(textToAppend);
             }
 
             @Override
-            protected void executeAfterAction(GenericTextField genericTextField, String oldText, String newText) {
+            protected void executeAfterAction(final GenericTextField genericTextField, final String oldText,
+                final String newText) {
                 logger.debug(logMessage(APPEND_TEXT), oldText, newText, textToAppend);
-                fireEventAndMarkAsUsed(new TextAppendedEvent(genericTextField, oldText, newText, textToAppend));
+                if (hasEventListenersFor(TextAppendedEvent.class)) {
+                    fireEventAndMarkAsUsed(new TextAppendedEvent(genericTextField, oldText, newText, textToAppend));
+                } else {
+                    markAsUsed();
+                }
             }
 
         });
@@ -168,6 +188,9 @@ public class GenericTextField <T extends GenericTextField<T>> extends PageObject
     /**
      * Specialized abstract {@link PageObjectCallback page object callback} used
      * to handle common behavior for all {@link GenericTextField text field} actions.
+     * <p>
+     * The web element of the text field is resolved once per action. Its state
+     * and text are read from and the action is executed on that same element.
      *
      * @since 1.2.0
      */
@@ -176,21 +199,47 @@ public class GenericTextField <T extends GenericTextField<T>> extends PageObject
         @Override
         public final void execute(PageObject pageObject) {
             GenericTextField genericTextField = ( GenericTextField ) pageObject;
-            Asserts.assertEnabledAndVisible(genericTextField);
-            String oldText = genericTextField.getText();
-            executeAction(genericTextField);
-            String newText = genericTextField.getText();
+            WebElement webElement = genericTextField.getWebElement();
+            if (!webElement.isEnabled()) {
+                throw new PageObjectIsDisabledException(genericTextField);
+            }
+            if (!webElement.isDisplayed()) {
+                throw new PageObjectIsInvisibleException(genericTextField);
+            }
+            String oldText = getText(webElement);
+            executeAction(genericTextField, webElement);
+            String newText = needsNewText() ? getText(webElement) : null;
             executeAfterAction(genericTextField, oldText, newText);
         }
 
+        private static String getText(WebElement webElement) {
+            return StringUtils.defaultString(webElement.getAttribute("value"));
+        }
+
+        /**
+         * Returns whether or not the text of the {@link GenericTextField text
+         * field} has to be read after the action was executed. If not,
+         * <code>null</code> is passed to
+         * {@link #executeAfterAction(GenericTextField, String, String)} as the
+         * new text and one WebDriver command is saved.
+         *
+         * @return true if the new text is needed, false otherwise
+         * @since 1.3.0
+         */
+        protected boolean needsNewText() {
+            return true;
+        }
+
         /**
          * Execute an action on a {@link GenericTextField text field}. This action
          * should not include things like firing events or logging output. Use
          * {@link #executeAfterAction(GenericTextField, String, String)} for that.
          *
          * @param genericTextField the text field to execute the action on
+         * @param webElement the already resolved web element of the text field
+         * @since 1.3.0
          */
-        protected abstract void executeAction(GenericTextField genericTextField);
+        protected abstract void executeAction(GenericTextField genericTextField, WebElement webElement);
 
         /**
          * Execute after action tasks like logging or firing events.
@@ -199,7 +248,8 @@ public class GenericTextField <T extends GenericTextField<T>> extends PageObject
          * @param oldText the text of the text field before the action was
          * executed
          * @param newText the text of the text field after the action was
-         * executed
+         * executed or <code>null</code> if it was not {@link #needsNewText()
+         * needed}
          */
         protected abstract void executeAfterAction(GenericTextField genericTextField, String oldText, String newText);
 
@@ -1,6 +1,6 @@
 package info.novatec.testit.webtester.pageobjects;
 
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -13,6 +13,10 @@ import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByIndexEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByTextEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByValueEvent;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedOptionsChangedEvent;
+import info.novatec.testit.webtester.internal.OptionsSelections;
+import info.novatec.testit.webtester.internal.OptionsSelections.Criterion;
+import info.novatec.testit.webtester.internal.OptionsSelections.SelectionChange;
 import info.novatec.testit.webtester.utils.Asserts;
 
 
@@ -33,12 +37,16 @@ public class MultiSelect extends GenericSelect<MultiSelect> {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
-                for (String text : texts) {
+                for (final String text : texts) {
                     getSelect().selectByVisibleText(text);
                     logger.debug("selected option with text: {}", text);
-                    fireEventAndMarkAsUsed(new SelectedByTextEvent(pageObject, text));
+                    if (hasEventListenersFor(SelectedByTextEvent.class)) {
+                        fireEventAndMarkAsUsed(new SelectedByTextEvent(pageObject, text));
+                    } else {
+                        markAsUsed();
+                    }
                 }
             }
 
@@ -57,12 +65,16 @@ public class MultiSelect extends GenericSelect<MultiSelect> {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
-                for (String value : values) {
+                for (final String value : values) {
                     getSelect().selectByValue(value);
                     logger.debug("selected option with value: {}", value);
-                    fireEventAndMarkAsUsed(new SelectedByValueEvent(pageObject, value));
+                    if (hasEventListenersFor(SelectedByValueEvent.class)) {
+                        fireEventAndMarkAsUsed(new SelectedByValueEvent(pageObject, value));
+                    } else {
+                        markAsUsed();
+                    }
                 }
             }
 
@@ -81,12 +93,94 @@ public class MultiSelect extends GenericSelect<MultiSelect> {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
-                for (Integer index : indices) {
+                for (final Integer index : indices) {
                     getSelect().selectByIndex(index);
                     logger.debug("selected option with index: {}", index);
-                    fireEventAndMarkAsUsed(new SelectedByIndexEvent(pageObject, index));
+                    if (hasEventListenersFor(SelectedByIndexEvent.class)) {
+                        fireEventAndMarkAsUsed(new SelectedByIndexEvent(pageObject, index));
+                    } else {
+                        markAsUsed();
+                    }
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Selects all options with the given texts in bulk, adding them to the
+     * current selection. All options are changed with a single JavaScript
+     * execution, the select dispatches one <code>input</code> and one
+     * <code>change</code> event and a single
+     * {@link SelectedOptionsChangedEvent} is fired instead of one event per
+     * option.
+     * <p>
+     * If any of the options does not exist or is disabled, the selection is not
+     * changed.
+     *
+     * @param texts the texts of the options which should be selected
+     * @throws NoSuchElementException in case there is no option with one of
+     * the given texts
+     * @since 1.3.0
+     */
+    public void selectAllByTexts(Collection<String> texts) {
+        selectAll(Criterion.TEXT, texts);
+    }
+
+    /**
+     * Selects all options with the given values in bulk, adding them to the
+     * current selection. All options are changed with a single JavaScript
+     * execution, the select dispatches one <code>input</code> and one
+     * <code>change</code> event and a single
+     * {@link SelectedOptionsChangedEvent} is fired instead of one event per
+     * option.
+     * <p>
+     * If any of the options does not exist or is disabled, the selection is not
+     * changed.
+     *
+     * @param values the values of the options which should be selected
+     * @throws NoSuchElementException in case there is no option with one of
+     * the given values
+     * @since 1.3.0
+     */
+    public void selectAllByValues(Collection<String> values) {
+        selectAll(Criterion.VALUE, values);
+    }
+
+    /**
+     * Selects all options with the given indices in bulk, adding them to the
+     * current selection. All options are changed with a single JavaScript
+     * execution, the select dispatches one <code>input</code> and one
+     * <code>change</code> event and a single
+     * {@link SelectedOptionsChangedEvent} is fired instead of one event per
+     * option.
+     * <p>
+     * If any of the options does not exist or is disabled, the selection is not
+     * changed.
+     *
+     * @param indices the indices of the options which should be selected
+     * @throws NoSuchElementException in case there is no option with one of
+     * the given indices
+     * @since 1.3.0
+     */
+    public void selectAllByIndices(Collection<Integer> indices) {
+        selectAll(Criterion.INDEX, indices);
+    }
+
+    private void selectAll(final Criterion criterion, final Collection<?> keys) {
+        executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(final PageObject pageObject) {
+                Asserts.assertEnabledAndVisible(pageObject);
+                final SelectionChange change = OptionsSelections.select(pageObject, criterion, keys, false);
+                logger.debug(logMessage("selected options by {}: {}"), criterion, keys);
+                if (hasEventListenersFor(SelectedOptionsChangedEvent.class)) {
+                    fireEventAndMarkAsUsed(new SelectedOptionsChangedEvent(pageObject, change.getBefore(), change.getAfter()));
+                } else {
+                    markAsUsed();
                 }
             }
 
@@ -156,12 +250,7 @@ public class MultiSelect extends GenericSelect<MultiSelect> {
      * @since 1.2
      */
     public List<String> getAllSelectedTexts() {
-        List<WebElement> allSelectedOptions = getAllSelectedOptions();
-        List<String> allSelectedTexts = new LinkedList<>();
-        for (WebElement option : allSelectedOptions) {
-            allSelectedTexts.add(option.getText());
-        }
-        return allSelectedTexts;
+        return getOptionsSnapshot().getSelectedTexts();
     }
 
     /**
@@ -172,12 +261,7 @@ public class MultiSelect extends GenericSelect<MultiSelect> {
      * @since 1.2
      */
     public List<String> getAllSelectedValues() {
-        List<WebElement> allSelectedOptions = getAllSelectedOptions();
-        List<String> allSelectedValues = new LinkedList<>();
-        for (WebElement option : allSelectedOptions) {
-            allSelectedValues.add(option.getAttribute("value"));
-        }
-        return allSelectedValues;
+        return getOptionsSnapshot().getSelectedValues();
     }
 
     /**
@@ -188,13 +272,7 @@ public class MultiSelect extends GenericSelect<MultiSelect> {
      * @since 1.2
      */
     public List<Integer> getAllSelectedIndices() {
-        List<WebElement> allSelectedOptions = getAllSelectedOptions();
-        List<Integer> allSelectedIndices = new LinkedList<>();
-        for (WebElement option : allSelectedOptions) {
-            String index = option.getAttribute("index");
-            allSelectedIndices.add(Integer.valueOf(index));
-        }
-        return allSelectedIndices;
+        return getOptionsSnapshot().getSelectedIndices();
     }
 
 
@@ -204,6 +282,6 @@ public class MultiSelect extends GenericSelect<MultiSelect> {
     }
 
     public Integer getNumberOfSelectedOptions() {
-        return getAllSelectedOptions().size();
+        return getOptionsSnapshot().getNumberOfSelectedOptions();
     }
 }
@@ -3,6 +3,7 @@ package info.novatec.testit.webtester.pageobjects;
 import org.apache.commons.lang.StringUtils;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,15 +12,18 @@ import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
 import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnValue;
 import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
 import info.novatec.testit.webtester.api.pageobjects.Identification;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
 import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
 import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.ClickedEvent;
 import info.novatec.testit.webtester.internal.annotations.SetViaInjection;
 import info.novatec.testit.webtester.internal.pageobjects.ActionTemplate;
 import info.novatec.testit.webtester.internal.pageobjects.PageObjectModel;
+import info.novatec.testit.webtester.internal.pageobjects.WebElementCacheGenerations;
 import info.novatec.testit.webtester.internal.validation.MappingValidator;
 import info.novatec.testit.webtester.utils.Identifications;
 import info.novatec.testit.webtester.utils.Marker;
@@ -51,9 +55,14 @@ public class PageObject {
      */
     private WebElement webElement;
 
+    /**
+     * The last resolved {@link WebElement} - only used in case page object caching is activated.
+     */
+    private CachedWebElement cachedWebElement;
+
     protected PageObject() {
         this.actionTemplate = new ActionTemplate(this);
-        this.validator = new MappingValidator(getClass());
+        this.validator = MappingValidator.forClass(getClass());
     }
 
     /**
@@ -73,7 +82,20 @@ public class PageObject {
         if(webElement != null) {
             return validate(webElement);
         }
-        return validate(findWebElement());
+        if (!ConfigurationSnapshot.of(getBrowser().getConfiguration()).pageObjectCachingIsActivated()) {
+            return validate(findWebElement());
+        }
+        return getCachedWebElement();
+    }
+
+    private WebElement getCachedWebElement() {
+        long generation = WebElementCacheGenerations.current(getBrowser());
+        CachedWebElement cached = cachedWebElement;
+        if (cached == null || cached.generation != generation) {
+            cached = new CachedWebElement(validate(findWebElement()), generation);
+            cachedWebElement = cached;
+        }
+        return cached.webElement;
     }
 
     private WebElement findWebElement() {
@@ -93,7 +115,7 @@ public class PageObject {
      */
     protected final WebElement validate(WebElement element) {
         if (validator.canValidate()) {
-            validator.assertValidity(element);
+            validator.assertValidity(element, getBrowser());
         }
         return element;
     }
@@ -140,10 +162,15 @@ public class PageObject {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
+                Marker.applyBufferedMarkings(getBrowser());
                 getWebElement().click();
                 logger.debug(logMessage("clicked"));
-                fireEventAndMarkAsUsed(new ClickedEvent(pageObject));
+                if (hasEventListenersFor(ClickedEvent.class)) {
+                    fireEventAndMarkAsUsed(new ClickedEvent(pageObject));
+                } else {
+                    markAsUsed();
+                }
             }
 
         });
@@ -196,6 +223,17 @@ public class PageObject {
      * @since 1.2.0
      */
     public boolean isPresent() {
+        cachedWebElement = null;
+        try {
+            return tryToResolveWebElement();
+        } catch (StaleElementReferenceException e) {
+            // one of the cached ancestors is no longer part of the DOM
+            WebElementCacheGenerations.invalidate(getBrowser());
+            return tryToResolveWebElement();
+        }
+    }
+
+    private boolean tryToResolveWebElement() {
         try {
             getWebElement();
             return true;
@@ -461,16 +499,32 @@ public class PageObject {
      * @since 0.9.0
      */
     protected final void fireEventAndMarkAsUsed(Event event) {
+        ActionTemplate.markSideEffectPerformed();
         EventSystem.fireEvent(event);
         Marker.markAsUsed(this);
         logger.trace(logMessage("fired event: {}"), event);
     }
 
+    /**
+     * Returns whether or not any {@link EventListener listener} is interested
+     * in {@link Event events} of the given type for this page object's
+     * {@link Browser browser}. Can be used to skip the creation of events,
+     * and the collection of their data, if nobody would be informed of them.
+     *
+     * @param eventType the type of the event
+     * @return true if there is at least one interested listener
+     * @since 1.3.0
+     */
+    protected final boolean hasEventListenersFor(Class<? extends Event> eventType) {
+        return EventSystem.hasListenersFor(eventType, getBrowser().getIdentification());
+    }
+
     protected final void markAsRead() {
         Marker.markAsRead(this);
     }
 
     protected final void markAsUsed() {
+        ActionTemplate.markSideEffectPerformed();
         Marker.markAsUsed(this);
     }
 
@@ -538,4 +592,20 @@ public class PageObject {
 
     }
 
+    /**
+     * A resolved {@link WebElement} and the browser's DOM generation it was
+     * resolved in.
+     */
+    private static final class CachedWebElement {
+
+        private final WebElement webElement;
+        private final long generation;
+
+        CachedWebElement(WebElement webElement, long generation) {
+            this.webElement = webElement;
+            this.generation = generation;
+        }
+
+    }
+
 }
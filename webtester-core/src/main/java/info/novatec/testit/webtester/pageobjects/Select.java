@@ -1,10 +1,9 @@
 package info.novatec.testit.webtester.pageobjects;
 
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.List;
 
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,8 +13,15 @@ import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnV
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByIndexEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByTextEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByValueEvent;
-import info.novatec.testit.webtester.utils.Asserts;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedOptionsChangedEvent;
+import info.novatec.testit.webtester.internal.OptionsSelections;
+import info.novatec.testit.webtester.internal.OptionsSelections.Criterion;
+import info.novatec.testit.webtester.internal.OptionsSelections.SelectionChange;
+import info.novatec.testit.webtester.internal.OptionsSnapshots;
 import info.novatec.testit.webtester.pageobjects.utils.EnhancedSelect;
+import info.novatec.testit.webtester.pageobjects.utils.OptionsSnapshot;
+import info.novatec.testit.webtester.pageobjects.utils.OptionsSnapshot.Option;
+import info.novatec.testit.webtester.utils.Asserts;
 
 
 /**
@@ -54,13 +60,17 @@ public class Select extends PageObject {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
                 deselectIfMultiple();
-                for (String text : texts) {
+                for (final String text : texts) {
                     getSelect().selectByVisibleText(text);
                     logger.debug(logMessage("selected option with text: {}"), text);
-                    fireEventAndMarkAsUsed(new SelectedByTextEvent(pageObject, text));
+                    if (hasEventListenersFor(SelectedByTextEvent.class)) {
+                        fireEventAndMarkAsUsed(new SelectedByTextEvent(pageObject, text));
+                    } else {
+                        markAsUsed();
+                    }
                 }
             }
 
@@ -82,14 +92,18 @@ public class Select extends PageObject {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
                 deselectIfMultiple();
                 EnhancedSelect select = getSelect();
-                for (String value : values) {
+                for (final String value : values) {
                     select.selectByValue(value);
                     logger.debug(logMessage("selected option with value: {}"), value);
-                    fireEventAndMarkAsUsed(new SelectedByValueEvent(pageObject, value));
+                    if (hasEventListenersFor(SelectedByValueEvent.class)) {
+                        fireEventAndMarkAsUsed(new SelectedByValueEvent(pageObject, value));
+                    } else {
+                        markAsUsed();
+                    }
                 }
             }
 
@@ -111,14 +125,96 @@ public class Select extends PageObject {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 Asserts.assertEnabledAndVisible(pageObject);
                 deselectIfMultiple();
                 EnhancedSelect select = getSelect();
-                for (int index : indices) {
+                for (final int index : indices) {
                     select.selectByIndex(index);
                     logger.debug(logMessage("selected option with index: {}"), index);
-                    fireEventAndMarkAsUsed(new SelectedByIndexEvent(pageObject, index));
+                    if (hasEventListenersFor(SelectedByIndexEvent.class)) {
+                        fireEventAndMarkAsUsed(new SelectedByIndexEvent(pageObject, index));
+                    } else {
+                        markAsUsed();
+                    }
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Selects all options with the given texts in bulk, replacing the current
+     * selection. All options are changed with a single JavaScript execution,
+     * the select dispatches one <code>input</code> and one <code>change</code>
+     * event and a single {@link SelectedOptionsChangedEvent} is fired instead
+     * of one event per option.
+     * <p>
+     * If this {@link Select select} is not a multi-select field, the last given
+     * option will be selected. If any of the options does not exist or is
+     * disabled, the selection is not changed.
+     *
+     * @param texts the texts of the options which should be selected
+     * @throws NoSuchElementException in case there is no option with one of
+     * the given texts
+     * @since 1.3.0
+     */
+    public void selectAllByTexts(Collection<String> texts) {
+        selectAll(Criterion.TEXT, texts);
+    }
+
+    /**
+     * Selects all options with the given values in bulk, replacing the current
+     * selection. All options are changed with a single JavaScript execution,
+     * the select dispatches one <code>input</code> and one <code>change</code>
+     * event and a single {@link SelectedOptionsChangedEvent} is fired instead
+     * of one event per option.
+     * <p>
+     * If this {@link Select select} is not a multi-select field, the last given
+     * option will be selected. If any of the options does not exist or is
+     * disabled, the selection is not changed.
+     *
+     * @param values the values of the options which should be selected
+     * @throws NoSuchElementException in case there is no option with one of
+     * the given values
+     * @since 1.3.0
+     */
+    public void selectAllByValues(Collection<String> values) {
+        selectAll(Criterion.VALUE, values);
+    }
+
+    /**
+     * Selects all options with the given indices in bulk, replacing the current
+     * selection. All options are changed with a single JavaScript execution,
+     * the select dispatches one <code>input</code> and one <code>change</code>
+     * event and a single {@link SelectedOptionsChangedEvent} is fired instead
+     * of one event per option.
+     * <p>
+     * If this {@link Select select} is not a multi-select field, the last given
+     * option will be selected. If any of the options does not exist or is
+     * disabled, the selection is not changed.
+     *
+     * @param indices the indices of the options which should be selected
+     * @throws NoSuchElementException in case there is no option with one of
+     * the given indices
+     * @since 1.3.0
+     */
+    public void selectAllByIndices(Collection<Integer> indices) {
+        selectAll(Criterion.INDEX, indices);
+    }
+
+    private void selectAll(final Criterion criterion, final Collection<?> keys) {
+        executeAction(new PageObjectCallback() {
+
+            @Override
+            public void execute(final PageObject pageObject) {
+                Asserts.assertEnabledAndVisible(pageObject);
+                final SelectionChange change = OptionsSelections.select(pageObject, criterion, keys, true);
+                logger.debug(logMessage("selected options by {}: {}"), criterion, keys);
+                if (hasEventListenersFor(SelectedOptionsChangedEvent.class)) {
+                    fireEventAndMarkAsUsed(new SelectedOptionsChangedEvent(pageObject, change.getBefore(), change.getAfter()));
+                } else {
+                    markAsUsed();
                 }
             }
 
@@ -137,12 +233,12 @@ public class Select extends PageObject {
 
             @Override
             public String execute(PageObject pageObject) {
-                try {
-                    return getFirstSelectedOption().getText();
-                } catch (NoSuchElementException e) {
+                Option option = getOptionsSnapshot().getFirstSelectedOption();
+                if (option == null) {
                     logger.warn(logMessage(NOTHING_SELECTED_TEXT));
                     return null;
                 }
+                return option.getText();
             }
 
         });
@@ -160,11 +256,7 @@ public class Select extends PageObject {
 
             @Override
             public List<String> execute(PageObject pageObject) {
-                List<String> selectedTexts = new LinkedList<String>();
-                for (WebElement option : getAllSelectedOptions()) {
-                    selectedTexts.add(option.getText());
-                }
-                return selectedTexts;
+                return getOptionsSnapshot().getSelectedTexts();
             }
 
         });
@@ -182,12 +274,12 @@ public class Select extends PageObject {
 
             @Override
             public String execute(PageObject pageObject) {
-                try {
-                    return getFirstSelectedOption().getAttribute("value");
-                } catch (NoSuchElementException e) {
+                Option option = getOptionsSnapshot().getFirstSelectedOption();
+                if (option == null) {
                     logger.warn(logMessage(NOTHING_SELECTED_VALUE));
                     return null;
                 }
+                return option.getValue();
             }
 
         });
@@ -205,11 +297,7 @@ public class Select extends PageObject {
 
             @Override
             public List<String> execute(PageObject pageObject) {
-                List<String> selectedValues = new LinkedList<String>();
-                for (WebElement option : getAllSelectedOptions()) {
-                    selectedValues.add(option.getAttribute("value"));
-                }
-                return selectedValues;
+                return getOptionsSnapshot().getSelectedValues();
             }
 
         });
@@ -227,13 +315,12 @@ public class Select extends PageObject {
 
             @Override
             public Integer execute(PageObject pageObject) {
-                try {
-                    String indexAsString = getFirstSelectedOption().getAttribute("index");
-                    return Integer.valueOf(indexAsString);
-                } catch (NoSuchElementException e) {
+                Option option = getOptionsSnapshot().getFirstSelectedOption();
+                if (option == null) {
                     logger.warn(logMessage(NOTHING_SELECTED_INDEX));
                     return null;
                 }
+                return option.getIndex();
             }
 
         });
@@ -251,12 +338,7 @@ public class Select extends PageObject {
 
             @Override
             public List<Integer> execute(PageObject pageObject) {
-                List<Integer> selectedIndices = new LinkedList<Integer>();
-                for (WebElement option : getAllSelectedOptions()) {
-                    String indexAsString = option.getAttribute("index");
-                    selectedIndices.add(Integer.valueOf(indexAsString));
-                }
-                return selectedIndices;
+                return getOptionsSnapshot().getSelectedIndices();
             }
 
         });
@@ -276,11 +358,7 @@ public class Select extends PageObject {
 
             @Override
             public List<String> execute(PageObject pageObject) {
-                List<String> texts = new LinkedList<String>();
-                for (WebElement option : getAllOptions()) {
-                    texts.add(option.getText());
-                }
-                return texts;
+                return getOptionsSnapshot().getTexts();
             }
 
         });
@@ -300,11 +378,7 @@ public class Select extends PageObject {
 
             @Override
             public List<String> execute(PageObject pageObject) {
-                List<String> values = new LinkedList<String>();
-                for (WebElement option : getAllOptions()) {
-                    values.add(option.getAttribute("value"));
-                }
-                return values;
+                return getOptionsSnapshot().getValues();
             }
 
         });
@@ -321,7 +395,7 @@ public class Select extends PageObject {
 
             @Override
             public Integer execute(PageObject pageObject) {
-                return getAllSelectedOptions().size();
+                return getOptionsSnapshot().getNumberOfSelectedOptions();
             }
 
         });
@@ -338,7 +412,7 @@ public class Select extends PageObject {
 
             @Override
             public Integer execute(PageObject pageObject) {
-                return getAllOptions().size();
+                return getOptionsSnapshot().getNumberOfOptions();
             }
 
         });
@@ -362,23 +436,28 @@ public class Select extends PageObject {
         });
     }
 
-    private EnhancedSelect getSelect() {
-        return new EnhancedSelect(getWebElement());
-    }
+    /**
+     * Returns a snapshot of the texts, values, indices and selection state of
+     * all options. The snapshot is read with a single JavaScript execution
+     * and should be used when more than one property of the options is needed.
+     *
+     * @return the snapshot of all options
+     * @since 1.3.0
+     */
+    public OptionsSnapshot getOptionsSnapshot() {
+        return executeAction(new PageObjectCallbackWithReturnValue<OptionsSnapshot>() {
 
-    private List<WebElement> getAllOptions() {
-        this.markAsRead();
-        return getSelect().getOptions();
-    }
+            @Override
+            public OptionsSnapshot execute(PageObject pageObject) {
+                markAsRead();
+                return OptionsSnapshots.read(pageObject);
+            }
 
-    private List<WebElement> getAllSelectedOptions() {
-        this.markAsRead();
-        return getSelect().getAllSelectedOptions();
+        });
     }
 
-    private WebElement getFirstSelectedOption() {
-        this.markAsRead();
-        return getSelect().getFirstSelectedOption();
+    private EnhancedSelect getSelect() {
+        return new EnhancedSelect(getWebElement());
     }
 
     private void deselectIfMultiple() {
@@ -11,6 +11,7 @@ import info.novatec.testit.webtester.api.callbacks.PageObjectCallbackWithReturnV
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByIndexEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByTextEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByValueEvent;
+import info.novatec.testit.webtester.pageobjects.utils.OptionsSnapshot.Option;
 
 
 @Mapping(tag = "select", attribute = "!multiple")
@@ -38,10 +39,14 @@ public class SingleSelect extends GenericSelect<SingleSelect> {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 getSelect().selectByVisibleText(text);
                 logger.debug(logMessage("selected option with text: {}"), text);
-                fireEventAndMarkAsUsed(new SelectedByTextEvent(pageObject, text));
+                if (hasEventListenersFor(SelectedByTextEvent.class)) {
+                    fireEventAndMarkAsUsed(new SelectedByTextEvent(pageObject, text));
+                } else {
+                    markAsUsed();
+                }
             }
         });
     }
@@ -59,10 +64,14 @@ public class SingleSelect extends GenericSelect<SingleSelect> {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 getSelect().selectByValue(value);
                 logger.debug(logMessage("selected option with value: {}"), value);
-                fireEventAndMarkAsUsed(new SelectedByValueEvent(pageObject, value));
+                if (hasEventListenersFor(SelectedByValueEvent.class)) {
+                    fireEventAndMarkAsUsed(new SelectedByValueEvent(pageObject, value));
+                } else {
+                    markAsUsed();
+                }
             }
         });
     }
@@ -80,10 +89,14 @@ public class SingleSelect extends GenericSelect<SingleSelect> {
         executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject pageObject) {
+            public void execute(final PageObject pageObject) {
                 getSelect().selectByIndex(index);
                 logger.debug(logMessage("selected option with index: {}"), index);
-                fireEventAndMarkAsUsed(new SelectedByIndexEvent(pageObject, index));
+                if (hasEventListenersFor(SelectedByIndexEvent.class)) {
+                    fireEventAndMarkAsUsed(new SelectedByIndexEvent(pageObject, index));
+                } else {
+                    markAsUsed();
+                }
             }
         });
     }
@@ -101,13 +114,12 @@ public class SingleSelect extends GenericSelect<SingleSelect> {
 
             @Override
             public String execute(PageObject pageObject) {
-                try {
-                    String text = getSelectedOption().getText();
-                    return text;
-                } catch (NoSuchElementException e){
+                Option option = getOptionsSnapshot().getFirstSelectedOption();
+                if (option == null) {
                     logger.warn(logMessage(NO_EXISTING_OPTIONS_TEXT));
                     return null;
                 }
+                return option.getText();
 
             }
         });
@@ -126,13 +138,12 @@ public class SingleSelect extends GenericSelect<SingleSelect> {
 
             @Override
             public String execute(PageObject pageObject) {
-                try {
-                    String value = getSelectedOption().getAttribute("value");
-                    return value;
-                } catch (NoSuchElementException e){
+                Option option = getOptionsSnapshot().getFirstSelectedOption();
+                if (option == null) {
                     logger.warn(logMessage(NO_EXISTING_OPTIONS_VALUE));
                     return null;
                 }
+                return option.getValue();
             }
         });
     }
@@ -150,13 +161,12 @@ public class SingleSelect extends GenericSelect<SingleSelect> {
 
             @Override
             public Integer execute(PageObject pageObject) {
-                try {
-                    String indexAsString = getSelectedOption().getAttribute("index");
-                    return Integer.valueOf(indexAsString);
-                } catch (NoSuchElementException e){
+                Option option = getOptionsSnapshot().getFirstSelectedOption();
+                if (option == null) {
                     logger.warn(logMessage(NO_EXISTING_OPTIONS_INDEX));
                     return null;
                 }
+                return option.getIndex();
             }
         });
     }
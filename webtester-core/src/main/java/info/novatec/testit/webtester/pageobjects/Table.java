@@ -1,7 +1,11 @@
 package info.novatec.testit.webtester.pageobjects;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.api.annotations.Mapping;
@@ -20,6 +24,31 @@ import info.novatec.testit.webtester.api.enumerations.Method;
 @Mapping(tag = "table")
 public class Table extends PageObject {
 
+    private static final String READ_ROWS_SCRIPT = "var table = arguments[0]; var start = arguments[1]; "
+        + "var count = arguments[2]; var rows = []; var children = table.children; "
+        + "for (var i = 0; i < children.length; i++) { "
+        + "  var child = children[i]; "
+        + "  if (child.tagName.toUpperCase() === 'TR') { rows.push(child); continue; } "
+        + "  for (var j = 0; j < child.children.length; j++) { "
+        + "    if (child.children[j].tagName.toUpperCase() === 'TR') { rows.push(child.children[j]); } "
+        + "  } "
+        + "} "
+        + "var end = count < 0 ? rows.length : Math.min(rows.length, start + count); var result = []; "
+        + "for (var r = start; r < end; r++) { "
+        + "  var fields = []; var cells = rows[r].children; "
+        + "  for (var c = 0; c < cells.length; c++) { "
+        + "    var cell = cells[c]; var tag = cell.tagName.toUpperCase(); "
+        + "    if (tag === 'TH' || tag === 'TD') { "
+        + "      var text = (cell.innerText || cell.textContent || '').replace(/^\\s+|\\s+$/g, ''); "
+        + "      fields.push([text, tag === 'TH', cell.rowSpan || 1, cell.colSpan || 1]); "
+        + "    } "
+        + "  } "
+        + "  result.push(fields); "
+        + "} "
+        + "return { total: rows.length, rows: result };";
+
+    private static final int ALL_ROWS = -1;
+
     @IdentifyUsing(method = Method.XPATH, value = "./tr | ./*/tr")
     private List<TableRow> tableRows;
 
@@ -91,4 +120,171 @@ public class Table extends PageObject {
         });
     }
 
+    /**
+     * Returns the visible texts of all {@link TableRow rows} and their
+     * {@link TableField fields} as a matrix. The first dimension are the rows
+     * (including header rows) and the second dimension the fields of each row.
+     * <p>
+     * In contrast to iterating over {@link #getRows()} and reading the text of
+     * each field, all texts are read with a single JavaScript execution.
+     *
+     * @return the texts of all fields of all rows
+     * @see #readRows()
+     * @since 1.3.0
+     */
+    public List<List<String>> toMatrix() {
+        List<TableRowData> rows = readRows();
+        List<List<String>> matrix = new ArrayList<List<String>>(rows.size());
+        for (TableRowData row : rows) {
+            matrix.add(row.getTexts());
+        }
+        return matrix;
+    }
+
+    /**
+     * Reads the data (visible text, header flag as well as row and column span)
+     * of all {@link TableRow rows} and their {@link TableField fields} with a
+     * single JavaScript execution. The rows are the same as returned by
+     * {@link #getRows()}.
+     *
+     * @return the data of all rows
+     * @see #streamRows(int)
+     * @since 1.3.0
+     */
+    public List<TableRowData> readRows() {
+        return executeAction(new PageObjectCallbackWithReturnValue<List<TableRowData>>() {
+
+            @Override
+            public List<TableRowData> execute(PageObject pageObject) {
+                pageObject.markAsRead();
+                return readRowChunk(0, ALL_ROWS).rows;
+            }
+
+        });
+    }
+
+    /**
+     * Returns an {@link Iterable} over the data of all {@link TableRow rows}
+     * of this table. The rows are read lazily in chunks of the given size with
+     * one JavaScript execution per chunk. Only one chunk is kept in memory at
+     * any time, which makes this method suitable for very large tables.
+     * <p>
+     * Since each chunk is read when needed, changes to the table between the
+     * reading of two chunks will be reflected in the following chunks.
+     *
+     * @param chunkSize the maximum number of rows to read with one JavaScript
+     * execution
+     * @return an iterable over the data of all rows
+     * @throws IllegalArgumentException if the chunk size is less than 1
+     * @see #readRows()
+     * @since 1.3.0
+     */
+    public Iterable<TableRowData> streamRows(final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be at least 1 but was: " + chunkSize);
+        }
+        return new Iterable<TableRowData>() {
+
+            @Override
+            public Iterator<TableRowData> iterator() {
+                return new ChunkedRowIterator(chunkSize);
+            }
+
+        };
+    }
+
+    private RowChunk readRowChunk(final int start, final int count) {
+        return executeAction(new PageObjectCallbackWithReturnValue<RowChunk>() {
+
+            @Override
+            public RowChunk execute(PageObject pageObject) {
+                Map<String, Object> result =
+                    getBrowser().javaScript().executeWithReturn(READ_ROWS_SCRIPT, pageObject, start, count);
+                return RowChunk.fromScriptResult(result);
+            }
+
+        });
+    }
+
+    /**
+     * Rows read with one JavaScript execution as well as the total number of
+     * rows of the table at that point in time.
+     */
+    private static final class RowChunk {
+
+        private final List<TableRowData> rows;
+        private final int total;
+
+        private RowChunk(List<TableRowData> rows, int total) {
+            this.rows = rows;
+            this.total = total;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static RowChunk fromScriptResult(Map<String, Object> result) {
+            List<List<List<Object>>> rawRows = ( List<List<List<Object>>> ) result.get("rows");
+            List<TableRowData> rows = new ArrayList<TableRowData>(rawRows.size());
+            for (List<List<Object>> rawRow : rawRows) {
+                List<TableFieldData> fields = new ArrayList<TableFieldData>(rawRow.size());
+                for (List<Object> rawField : rawRow) {
+                    fields.add(toFieldData(rawField));
+                }
+                rows.add(new TableRowData(fields));
+            }
+            int total = (( Number ) result.get("total")).intValue();
+            return new RowChunk(rows, total);
+        }
+
+        private static TableFieldData toFieldData(List<Object> rawField) {
+            String text = String.valueOf(rawField.get(0));
+            boolean header = Boolean.TRUE.equals(rawField.get(1));
+            int rowSpan = (( Number ) rawField.get(2)).intValue();
+            int columnSpan = (( Number ) rawField.get(3)).intValue();
+            return new TableFieldData(text, header, rowSpan, columnSpan);
+        }
+
+    }
+
+    private class ChunkedRowIterator implements Iterator<TableRowData> {
+
+        private final int chunkSize;
+
+        private Iterator<TableRowData> currentChunk = Collections.<TableRowData> emptyList().iterator();
+        private int nextChunkStart;
+        private boolean lastChunkRead;
+
+        ChunkedRowIterator(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!currentChunk.hasNext() && !lastChunkRead) {
+                readNextChunk();
+            }
+            return currentChunk.hasNext();
+        }
+
+        private void readNextChunk() {
+            RowChunk chunk = readRowChunk(nextChunkStart, chunkSize);
+            currentChunk = chunk.rows.iterator();
+            nextChunkStart += chunk.rows.size();
+            lastChunkRead = chunk.rows.isEmpty() || nextChunkStart >= chunk.total;
+        }
+
+        @Override
+        public TableRowData next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentChunk.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("rows can't be removed");
+        }
+
+    }
+
 }
@@ -0,0 +1,62 @@
+package info.novatec.testit.webtester.pageobjects;
+
+/**
+ * Immutable data of a single {@link TableField table field} as it was read by
+ * one of the bulk operations of {@link Table}.
+ *
+ * @see Table#readRows()
+ * @see Table#streamRows(int)
+ * @since 1.3.0
+ */
+public final class TableFieldData {
+
+    private final String text;
+    private final boolean headerField;
+    private final int rowSpan;
+    private final int columnSpan;
+
+    public TableFieldData(String text, boolean headerField, int rowSpan, int columnSpan) {
+        this.text = text;
+        this.headerField = headerField;
+        this.rowSpan = rowSpan;
+        this.columnSpan = columnSpan;
+    }
+
+    /**
+     * @return the visible text of the field
+     * @since 1.3.0
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return true if the field is a header field (TH), otherwise false
+     * @since 1.3.0
+     */
+    public boolean isHeaderField() {
+        return headerField;
+    }
+
+    /**
+     * @return the number of rows this field spans (at least 1)
+     * @since 1.3.0
+     */
+    public int getRowSpan() {
+        return rowSpan;
+    }
+
+    /**
+     * @return the number of columns this field spans (at least 1)
+     * @since 1.3.0
+     */
+    public int getColumnSpan() {
+        return columnSpan;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+}
@@ -0,0 +1,66 @@
+package info.novatec.testit.webtester.pageobjects;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Immutable data of a single {@link TableRow table row} as it was read by one
+ * of the bulk operations of {@link Table}.
+ *
+ * @see Table#readRows()
+ * @see Table#streamRows(int)
+ * @since 1.3.0
+ */
+public final class TableRowData {
+
+    private final List<TableFieldData> fields;
+
+    public TableRowData(List<TableFieldData> fields) {
+        this.fields = Collections.unmodifiableList(new ArrayList<TableFieldData>(fields));
+    }
+
+    /**
+     * Returns whether or not this row is part of the table header. Just like
+     * {@link TableRow#isHeaderRow()} this is done by checking if any of it's
+     * fields is a header field (TH).
+     *
+     * @return true if this is a header row, otherwise false
+     * @since 1.3.0
+     */
+    public boolean isHeaderRow() {
+        for (TableFieldData field : fields) {
+            if (field.isHeaderField()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return all fields of this row as an unmodifiable list
+     * @since 1.3.0
+     */
+    public List<TableFieldData> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the visible texts of all fields of this row
+     * @since 1.3.0
+     */
+    public List<String> getTexts() {
+        List<String> texts = new ArrayList<String>(fields.size());
+        for (TableFieldData field : fields) {
+            texts.add(field.getText());
+        }
+        return texts;
+    }
+
+    @Override
+    public String toString() {
+        return getTexts().toString();
+    }
+
+}
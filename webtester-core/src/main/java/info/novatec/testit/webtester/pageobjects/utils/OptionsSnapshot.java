@@ -0,0 +1,204 @@
+package info.novatec.testit.webtester.pageobjects.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.openqa.selenium.WebElement;
+
+
+/**
+ * Snapshot of all options of a select at a single point in time. Snapshots are
+ * read with a single JavaScript execution instead of one WebDriver command per
+ * option and property.
+ * <p>
+ * Texts are taken from the option's <code>text</code> property which is
+ * trimmed and has its whitespace collapsed. Other than
+ * {@link WebElement#getText()} the text is also available if the select is not
+ * displayed. Values are resolved like {@link WebElement#getAttribute(String)}
+ * and therefore fall back to the text if an option has no value attribute.
+ * <p>
+ * All returned lists are new {@link LinkedList linked lists} in the order of
+ * the options.
+ *
+ * @since 1.3.0
+ */
+public final class OptionsSnapshot {
+
+    private final boolean multiple;
+    private final List<Option> options;
+
+    public OptionsSnapshot(boolean multiple, List<Option> options) {
+        this.multiple = multiple;
+        this.options = Collections.unmodifiableList(new ArrayList<Option>(options));
+    }
+
+    /**
+     * @return whether or not the select allows multiple selected options
+     * @since 1.3.0
+     */
+    public boolean isMultiple() {
+        return multiple;
+    }
+
+    /**
+     * @return all options in the order of the select
+     * @since 1.3.0
+     */
+    public List<Option> getOptions() {
+        return options;
+    }
+
+    /**
+     * @return all selected options in the order of the select
+     * @since 1.3.0
+     */
+    public List<Option> getSelectedOptions() {
+        List<Option> selectedOptions = new LinkedList<Option>();
+        for (Option option : options) {
+            if (option.isSelected()) {
+                selectedOptions.add(option);
+            }
+        }
+        return selectedOptions;
+    }
+
+    /**
+     * @return the first selected option or <code>null</code> if nothing is
+     * selected
+     * @since 1.3.0
+     */
+    public Option getFirstSelectedOption() {
+        for (Option option : options) {
+            if (option.isSelected()) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the texts of all options
+     * @since 1.3.0
+     */
+    public List<String> getTexts() {
+        return texts(options);
+    }
+
+    /**
+     * @return the values of all options
+     * @since 1.3.0
+     */
+    public List<String> getValues() {
+        return values(options);
+    }
+
+    /**
+     * @return the texts of all selected options
+     * @since 1.3.0
+     */
+    public List<String> getSelectedTexts() {
+        return texts(getSelectedOptions());
+    }
+
+    /**
+     * @return the values of all selected options
+     * @since 1.3.0
+     */
+    public List<String> getSelectedValues() {
+        return values(getSelectedOptions());
+    }
+
+    /**
+     * @return the indices of all selected options
+     * @since 1.3.0
+     */
+    public List<Integer> getSelectedIndices() {
+        List<Integer> indices = new LinkedList<Integer>();
+        for (Option option : getSelectedOptions()) {
+            indices.add(option.getIndex());
+        }
+        return indices;
+    }
+
+    /**
+     * @return the number of options
+     * @since 1.3.0
+     */
+    public int getNumberOfOptions() {
+        return options.size();
+    }
+
+    /**
+     * @return the number of selected options
+     * @since 1.3.0
+     */
+    public int getNumberOfSelectedOptions() {
+        return getSelectedOptions().size();
+    }
+
+    private static List<String> texts(List<Option> options) {
+        List<String> texts = new LinkedList<String>();
+        for (Option option : options) {
+            texts.add(option.getText());
+        }
+        return texts;
+    }
+
+    private static List<String> values(List<Option> options) {
+        List<String> values = new LinkedList<String>();
+        for (Option option : options) {
+            values.add(option.getValue());
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "OptionsSnapshot [multiple=" + multiple + ", options=" + options + "]";
+    }
+
+    /**
+     * A single option of an {@link OptionsSnapshot options snapshot}.
+     *
+     * @since 1.3.0
+     */
+    public static final class Option {
+
+        private final int index;
+        private final String text;
+        private final String value;
+        private final boolean selected;
+
+        public Option(int index, String text, String value, boolean selected) {
+            this.index = index;
+            this.text = text;
+            this.value = value;
+            this.selected = selected;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+
+        @Override
+        public String toString() {
+            return "Option [index=" + index + ", text=" + text + ", value=" + value + ", selected=" + selected + "]";
+        }
+
+    }
+
+}
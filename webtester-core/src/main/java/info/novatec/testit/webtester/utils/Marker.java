@@ -5,10 +5,13 @@ import java.util.Map;
 
 import org.openqa.selenium.support.Color;
 
+import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.config.Configuration;
 import info.novatec.testit.webtester.api.enumerations.CSSProperties;
 import info.novatec.testit.webtester.api.utils.CSSProperty;
 import info.novatec.testit.webtester.api.utils.StyleChanger;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
+import info.novatec.testit.webtester.internal.BufferedMarkings;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -16,6 +19,11 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * This class is used to mark {@link PageObject page object} instances with the
  * colors defined in the page object's browser's {@link Configuration
  * configuration}.
+ * <p>
+ * If {@link Configuration#markingsAreBuffered() buffered markings} are
+ * activated, markings are collected and applied in batches. Actions which
+ * might change the page and {@link Waits waits} on page objects
+ * {@link #applyBufferedMarkings(Browser) apply} them beforehand.
  *
  * @since 0.9.6
  */
@@ -32,11 +40,11 @@ public final class Marker {
      * @since 0.9.6
      */
     public static void markAsUsed(PageObject pageObject) {
-        Configuration configuration = pageObject.getBrowser().getConfiguration();
+        ConfigurationSnapshot configuration = ConfigurationSnapshot.of(pageObject.getBrowser().getConfiguration());
         if (configuration.markingsAreActivated()) {
             Color backgroundColor = configuration.getMarkingsColorUsedBackground();
             Color outlineColor = configuration.getMarkingsColorUsedOutline();
-            markElement(pageObject, backgroundColor, outlineColor);
+            markElement(pageObject, configuration, backgroundColor, outlineColor);
         }
     }
 
@@ -49,15 +57,43 @@ public final class Marker {
      * @since 1.2
      */
     public static void markAsRead(PageObject pageObject) {
-        Configuration configuration = pageObject.getBrowser().getConfiguration();
+        ConfigurationSnapshot configuration = ConfigurationSnapshot.of(pageObject.getBrowser().getConfiguration());
         if (configuration.markingsAreActivated()) {
             Color backgroundColor = configuration.getMarkingsColorReadBackground();
             Color outlineColor = configuration.getMarkingsColorReadOutline();
-            markElement(pageObject, backgroundColor, outlineColor);
+            markElement(pageObject, configuration, backgroundColor, outlineColor);
         }
     }
 
-    private static void markElement(PageObject pageObject, Color backgroundColor, Color outlineColor) {
+    /**
+     * Applies all buffered markings of the given {@link Browser browser}. Does
+     * nothing if markings are not buffered or there are no pending markings.
+     *
+     * @param browser the browser whose markings should be applied
+     * @since 1.3.0
+     */
+    public static void applyBufferedMarkings(Browser browser) {
+        BufferedMarkings.flush(browser);
+    }
+
+    /**
+     * Drops all buffered markings of the given {@link Browser browser} without
+     * applying them. Used when the browser is closed.
+     *
+     * @param browser the browser whose markings should be dropped
+     * @since 1.3.0
+     */
+    public static void discardBufferedMarkings(Browser browser) {
+        BufferedMarkings.discard(browser);
+    }
+
+    private static void markElement(PageObject pageObject, ConfigurationSnapshot configuration, Color backgroundColor,
+        Color outlineColor) {
+
+        if (configuration.markingsAreBuffered()) {
+            BufferedMarkings.mark(pageObject, backgroundColor, outlineColor);
+            return;
+        }
 
         Map<CSSProperty, String> cssStyleAttributes = new HashMap<CSSProperty, String>();
         cssStyleAttributes.put(CSSProperties.OUTLINE_STYLE, "solid");
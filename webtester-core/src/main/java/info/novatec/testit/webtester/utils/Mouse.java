@@ -17,6 +17,7 @@ import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.ClickedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.ContextClickedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.DoubleClickedEvent;
+import info.novatec.testit.webtester.internal.pageobjects.ActionTemplate;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -44,9 +45,12 @@ public final class Mouse {
         pageObject.executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject po) {
+            public void execute(final PageObject po) {
                 startActionSequence(po).click(po.getWebElement()).perform();
-                EventSystem.fireEvent(new ClickedEvent(po));
+                ActionTemplate.markSideEffectPerformed();
+                if (EventSystem.hasListenersFor(ClickedEvent.class, po.getBrowser().getIdentification())) {
+                    EventSystem.fireEvent(new ClickedEvent(po));
+                }
                 Marker.markAsUsed(po);
             }
 
@@ -70,9 +74,12 @@ public final class Mouse {
         pageObject.executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject po) {
+            public void execute(final PageObject po) {
                 startActionSequence(po).doubleClick(po.getWebElement()).perform();
-                EventSystem.fireEvent(new DoubleClickedEvent(po));
+                ActionTemplate.markSideEffectPerformed();
+                if (EventSystem.hasListenersFor(DoubleClickedEvent.class, po.getBrowser().getIdentification())) {
+                    EventSystem.fireEvent(new DoubleClickedEvent(po));
+                }
                 Marker.markAsUsed(po);
             }
 
@@ -97,9 +104,12 @@ public final class Mouse {
         pageObject.executeAction(new PageObjectCallback() {
 
             @Override
-            public void execute(PageObject po) {
+            public void execute(final PageObject po) {
                 startActionSequence(po).contextClick(po.getWebElement()).perform();
-                EventSystem.fireEvent(new ContextClickedEvent(po));
+                ActionTemplate.markSideEffectPerformed();
+                if (EventSystem.hasListenersFor(ContextClickedEvent.class, po.getBrowser().getIdentification())) {
+                    EventSystem.fireEvent(new ContextClickedEvent(po));
+                }
                 Marker.markAsUsed(po);
             }
 
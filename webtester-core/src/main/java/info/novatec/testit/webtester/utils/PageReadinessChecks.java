@@ -0,0 +1,147 @@
+package info.novatec.testit.webtester.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang.StringUtils;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+import info.novatec.testit.webtester.utils.readiness.AngularIdleCheck;
+import info.novatec.testit.webtester.utils.readiness.DocumentReadyCheck;
+import info.novatec.testit.webtester.utils.readiness.JQueryIdleCheck;
+import info.novatec.testit.webtester.utils.readiness.PendingRequestsCheck;
+import info.novatec.testit.webtester.utils.readiness.ScriptCheck;
+
+
+/**
+ * Utility class used to produce all kinds of {@link PageReadinessCheck page
+ * readiness check} instances. Readiness checks are used by {@link Waits} to
+ * determine if a page is ready to be used after it was opened, refreshed,
+ * navigated to or after a form was submitted.
+ *
+ * @since 1.3.0
+ */
+public final class PageReadinessChecks {
+
+    private static final String DOCUMENT = "document";
+    private static final String REQUESTS = "requests";
+    private static final String JQUERY = "jquery";
+    private static final String ANGULAR = "angular";
+
+    private PageReadinessChecks() {
+        // utility class constructor
+    }
+
+    /**
+     * @return a check which is met once the document was completely loaded
+     * @since 1.3.0
+     */
+    public static DocumentReadyCheck documentReady() {
+        return new DocumentReadyCheck();
+    }
+
+    /**
+     * @return a check which is met once there were no pending XHR or fetch
+     * requests for the {@link PendingRequestsCheck#DEFAULT_QUIET_PERIOD default
+     * quiet period}
+     * @since 1.3.0
+     */
+    public static PendingRequestsCheck noPendingRequests() {
+        return new PendingRequestsCheck();
+    }
+
+    /**
+     * @param quietPeriod the number of milliseconds without pending requests
+     * @return a check which is met once there were no pending XHR or fetch
+     * requests for the given quiet period
+     * @since 1.3.0
+     */
+    public static PendingRequestsCheck noPendingRequests(long quietPeriod) {
+        return new PendingRequestsCheck(quietPeriod);
+    }
+
+    /**
+     * @return a check which is met while jQuery has no active AJAX requests
+     * @since 1.3.0
+     */
+    public static JQueryIdleCheck jQueryIdle() {
+        return new JQueryIdleCheck();
+    }
+
+    /**
+     * @return a check which is met while Angular / AngularJS is idle
+     * @since 1.3.0
+     */
+    public static AngularIdleCheck angularIdle() {
+        return new AngularIdleCheck();
+    }
+
+    /**
+     * Creates a check which is met while the given JavaScript expression
+     * evaluates to a truthy value.
+     *
+     * @param expression the JavaScript expression
+     * @return the created check
+     * @since 1.3.0
+     */
+    public static ScriptCheck script(String expression) {
+        return new ScriptCheck(expression);
+    }
+
+    /**
+     * Creates the checks described by the given {@link Configuration
+     * configuration}. The {@link Configuration#getPageReadinessChecks() page
+     * readiness checks} property is a comma separated list of built-in checks
+     * and the {@link Configuration#getPageReadinessScript() page readiness
+     * script} property adds a custom {@link ScriptCheck script check}.
+     *
+     * @param configuration the configuration to use
+     * @return the created checks, might be empty
+     * @throws IllegalArgumentException if a configured check is unknown
+     * @since 1.3.0
+     */
+    public static List<PageReadinessCheck> fromConfiguration(Configuration configuration) {
+        List<PageReadinessCheck> checks = new ArrayList<PageReadinessCheck>();
+        String names = configuration.getPageReadinessChecks();
+        if (StringUtils.isNotBlank(names)) {
+            for (String name : StringUtils.split(names, ',')) {
+                checks.add(forName(name.trim()));
+            }
+        }
+        String script = configuration.getPageReadinessScript();
+        if (StringUtils.isNotBlank(script)) {
+            checks.add(script(script));
+        }
+        return checks;
+    }
+
+    private static PageReadinessCheck forName(String name) {
+        if (DOCUMENT.equalsIgnoreCase(name)) {
+            return documentReady();
+        }
+        if (REQUESTS.equalsIgnoreCase(name)) {
+            return noPendingRequests();
+        }
+        if (JQUERY.equalsIgnoreCase(name)) {
+            return jQueryIdle();
+        }
+        if (ANGULAR.equalsIgnoreCase(name)) {
+            return angularIdle();
+        }
+        throw new IllegalArgumentException("unknown page readiness check: " + name);
+    }
+
+    /**
+     * Combines the scripts of all given checks into a single script which
+     * returns <code>true</code> if all checks are met.
+     */
+    static String combine(List<? extends PageReadinessCheck> checks) {
+        StringBuilder script = new StringBuilder("return true");
+        for (PageReadinessCheck check : checks) {
+            script.append(" && (function() { ").append(check.getScript()).append(" })() === true");
+        }
+        return script.append(';').toString();
+    }
+
+}
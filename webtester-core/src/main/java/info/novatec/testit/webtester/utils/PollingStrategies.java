@@ -0,0 +1,101 @@
+package info.novatec.testit.webtester.utils;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
+import info.novatec.testit.webtester.utils.polling.BackoffPollingStrategy;
+import info.novatec.testit.webtester.utils.polling.FixedIntervalPollingStrategy;
+
+
+/**
+ * Utility class used to produce all kinds of {@link PollingStrategy polling
+ * strategy} instances. Polling strategies are used by {@link Waits} to
+ * determine the delay between two checks of a condition.
+ *
+ * @since 1.3.0
+ */
+public final class PollingStrategies {
+
+    private static final String FIXED = "fixed";
+    private static final String BACKOFF = "backoff";
+    private static final String JITTER = "jitter";
+
+    private static final double BACKOFF_FACTOR = 2.0d;
+
+    private PollingStrategies() {
+        // utility class constructor
+    }
+
+    /**
+     * Creates a strategy which always waits the given number of milliseconds
+     * between two checks.
+     *
+     * @param interval the interval in milliseconds
+     * @return the created strategy
+     * @since 1.3.0
+     */
+    public static FixedIntervalPollingStrategy fixedInterval(long interval) {
+        return new FixedIntervalPollingStrategy(interval);
+    }
+
+    /**
+     * Creates a strategy which starts with the given initial delay and doubles
+     * it after each check until the maximum delay is reached.
+     *
+     * @param initialDelay the first delay in milliseconds
+     * @param maximumDelay the maximum delay in milliseconds
+     * @return the created strategy
+     * @since 1.3.0
+     */
+    public static BackoffPollingStrategy exponentialBackoff(long initialDelay, long maximumDelay) {
+        return new BackoffPollingStrategy(initialDelay, BACKOFF_FACTOR, maximumDelay, false);
+    }
+
+    /**
+     * Creates a strategy which starts with the given initial delay and doubles
+     * it after each check until the maximum delay is reached. Each delay is
+     * randomized between half and all of its value.
+     *
+     * @param initialDelay the first delay in milliseconds
+     * @param maximumDelay the maximum delay in milliseconds
+     * @return the created strategy
+     * @since 1.3.0
+     */
+    public static BackoffPollingStrategy jitteredBackoff(long initialDelay, long maximumDelay) {
+        return new BackoffPollingStrategy(initialDelay, BACKOFF_FACTOR, maximumDelay, true);
+    }
+
+    /**
+     * Creates the strategy described by the given {@link Configuration
+     * configuration}. The {@link Configuration#getWaitPollingStrategy() polling
+     * strategy} property selects the kind of strategy, the
+     * {@link Configuration#getWaitInterval() wait interval} is used as the
+     * (initial) delay and the {@link Configuration#getWaitIntervalMaximum()
+     * maximum wait interval} as the upper limit for backoff strategies.
+     *
+     * @param configuration the configuration to use
+     * @return the created strategy
+     * @throws IllegalArgumentException if the configured strategy is unknown
+     * @since 1.3.0
+     */
+    public static PollingStrategy fromConfiguration(Configuration configuration) {
+        return fromConfiguration(ConfigurationSnapshot.of(configuration));
+    }
+
+    private static PollingStrategy fromConfiguration(ConfigurationSnapshot configuration) {
+        String strategy = configuration.getWaitPollingStrategy();
+        long interval = configuration.getWaitInterval();
+        if (strategy == null || FIXED.equalsIgnoreCase(strategy)) {
+            return fixedInterval(interval);
+        }
+        long maximum = Math.max(interval, configuration.getWaitIntervalMaximum());
+        if (BACKOFF.equalsIgnoreCase(strategy)) {
+            return exponentialBackoff(interval, maximum);
+        }
+        if (JITTER.equalsIgnoreCase(strategy)) {
+            return jitteredBackoff(interval, maximum);
+        }
+        throw new IllegalArgumentException("unknown polling strategy: " + strategy);
+    }
+
+}
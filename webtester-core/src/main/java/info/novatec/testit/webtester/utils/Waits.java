@@ -1,5 +1,11 @@
 package info.novatec.testit.webtester.utils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.TimeoutException;
@@ -12,8 +18,16 @@ import com.google.common.base.Supplier;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.config.ConfigurationSnapshot;
 import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.browser.ExceptionEvent;
+import info.novatec.testit.webtester.internal.DomChangeWatcher;
+import info.novatec.testit.webtester.internal.ElementSnapshots;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -21,6 +35,37 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * Provides methods for waiting. Among these are standard 'Wait a given amount
  * of time' waits as well as more complicated 'wait for a specific state of an
  * page object waits'.
+ * <p>
+ * Conditions are always checked immediately and wait operations return as soon
+ * as their condition is met. The delay between two checks is decided by a
+ * {@link PollingStrategy polling strategy}. Wait operations on page objects
+ * use the strategy {@link PollingStrategies#fromConfiguration(Configuration)
+ * configured} for their browser.
+ * <p>
+ * If {@link Configuration#browserSideWaitingIsActivated() browser side
+ * waiting} is active, wait operations on page objects with
+ * {@link info.novatec.testit.webtester.api.utils.ObservableCondition
+ * observable conditions} let the browser watch the page object for changes
+ * instead of sleeping between checks. The condition is still checked in Java
+ * and the polling strategy is used whenever the browser can't watch the page
+ * object.
+ * <p>
+ * If {@link Configuration#conditionSnapshotsAreActivated() condition
+ * snapshots} are active, {@link SnapshotCondition snapshot conditions} (even
+ * composite ones like <code>is(interactable())</code>) are evaluated against a
+ * single {@link ElementSnapshot snapshot} of the page object's element per
+ * check.
+ * <p>
+ * Multiple page objects can be waited on at once (e.g.
+ * {@link #waitUntilAll(Collection, Predicate) all} or
+ * {@link #waitUntilAtLeast(int, Collection, Predicate) at least some} of
+ * them). These operations check all page objects in one polling loop within a
+ * single timeout and stop checking as soon as the outcome of a check is
+ * decided.
+ * <p>
+ * {@link Marker#applyBufferedMarkings(Browser) Buffered markings} of the
+ * waited on page objects' browser are applied before waiting, so they are
+ * visible while the wait is in progress.
  *
  * @since 0.9.6
  */
@@ -30,6 +75,7 @@ public final class Waits {
 
     private static final String TIMEOUT_MESSAGE = "condition not met within the given timeout";
     private static final long DEFAULT_INTERVAL = 100L;
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1L);
 
     /**
      * Waits the given duration in seconds.
@@ -154,35 +200,154 @@ public final class Waits {
      * <code>true</code> within the allowed time frame
      * @since 0.9.8
      */
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public static void waitUntil(long timeout, TimeUnit unit, long interval, Supplier<Boolean> condition) {
+        waitUntil(timeout, unit, PollingStrategies.fixedInterval(interval), condition);
+    }
 
-        long effectiveTimeout = unit.toMillis(timeout);
-        long start = now();
+    /**
+     * Waits until the given {@link Supplier condition} is met within the
+     * allowed time frame (timeout). Allows for the configuration of the used
+     * {@link TimeUnit time unit} and the {@link PollingStrategy polling
+     * strategy} deciding how long to wait between checks.
+     * <p>
+     * The condition is checked immediately and the method returns as soon as
+     * it is met. Delays are never longer than the remaining time frame.
+     * <p>
+     * All runtime exceptions occurring within the callback's method will be
+     * ignored until the timeout is reached. At which point the latest exception
+     * (if any) will be used as the cause of the thrown {@link TimeoutException}
+     * .
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param strategy the polling strategy to use
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @throws TimeoutException in case the callback did not return
+     * <code>true</code> within the allowed time frame
+     * @since 1.3.0
+     */
+    public static void waitUntil(long timeout, TimeUnit unit, PollingStrategy strategy, Supplier<Boolean> condition) {
+        waitUntil(timeout, unit, new PollingPause(strategy), condition);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void waitUntil(long timeout, TimeUnit unit, Pause pause, Supplier<Boolean> condition) {
+
+        long deadline = now() + unit.toNanos(timeout);
+        int numberOfChecks = 0;
 
         boolean conditionMet = false;
         RuntimeException lastException = null;
 
-        do {
+        while (true) {
             try {
                 conditionMet = condition.get();
                 logger.trace("condition '{}' met: {}", condition, conditionMet);
-                waitMilliseconds(interval);
             } catch (RuntimeException e) {
                 lastException = e;
             }
-        } while (!conditionMet && timeSince(start) < effectiveTimeout);
+            numberOfChecks++;
+            if (conditionMet || !pause.pauseBeforeNextCheck(numberOfChecks, deadline)) {
+                break;
+            }
+        }
 
         if (!conditionMet) {
-            logger.debug("condition not met: {}", condition);
+            logger.debug("condition not met after {} checks: {}", numberOfChecks, condition);
             if (lastException != null) {
                 throw new TimeoutException(TIMEOUT_MESSAGE, lastException);
             }
             throw new TimeoutException(TIMEOUT_MESSAGE);
         } else {
-            logger.debug("condition met: {}", condition);
+            logger.debug("condition met after {} checks: {}", numberOfChecks, condition);
+        }
+
+    }
+
+    /**
+     * Sleeps for the given delay, but not beyond the deadline.
+     *
+     * @return whether or not there is time left for another check
+     */
+    private static boolean sleepBeforeNextCheck(long delayInMillis, long deadline) {
+        long remainingMillis = remainingMillis(deadline);
+        if (remainingMillis <= 0) {
+            return false;
+        }
+        try {
+            Thread.sleep(Math.min(delayInMillis, remainingMillis));
+        } catch (InterruptedException e) {
+            logger.debug("wait was interrupted", e);
         }
+        return now() - deadline < 0;
+    }
 
+    /**
+     * Returns the milliseconds until the deadline, rounded up so the deadline
+     * is not missed because of truncated sub-millisecond remainders.
+     */
+    private static long remainingMillis(long deadline) {
+        long remaining = deadline - now();
+        if (remaining <= 0) {
+            return 0;
+        }
+        return ( remaining + NANOS_PER_MILLI - 1 ) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Waits until the page currently displayed by the given {@link Browser
+     * browser} is ready. The {@link PageReadinessCheck readiness checks} and
+     * the timeout are taken from the browser's {@link Configuration
+     * configuration}. If no checks are configured the method returns
+     * immediately.
+     * <p>
+     * This is done automatically after a page was opened, refreshed or
+     * navigated to and after a form was submitted.
+     *
+     * @param browser the browser displaying the page
+     * @throws TimeoutException in case the page did not become ready within the
+     * configured time frame
+     * @see PageReadinessChecks#fromConfiguration(Configuration)
+     * @since 1.3.0
+     */
+    public static void waitUntilPageIsReady(Browser browser) {
+        Configuration configuration = browser.getConfiguration();
+        List<PageReadinessCheck> checks = PageReadinessChecks.fromConfiguration(configuration);
+        int timeout = ConfigurationSnapshot.of(configuration).getPageReadinessTimeout();
+        waitUntilPageIsReady(timeout, TimeUnit.SECONDS, browser, checks);
+    }
+
+    /**
+     * Waits until all of the given {@link PageReadinessCheck readiness checks}
+     * are met by the page currently displayed by the given {@link Browser
+     * browser}. All checks are combined into a single script, so each check of
+     * the page requires only one round trip to the browser. The delay between
+     * two checks is decided by the browser's configured polling strategy.
+     *
+     * @param timeout the maximum amount of time to wait
+     * @param unit the time unit to use when interpreting the timeout
+     * @param browser the browser displaying the page
+     * @param checks the readiness checks which have to be met
+     * @throws TimeoutException in case the page did not become ready within the
+     * given time frame
+     * @since 1.3.0
+     */
+    public static void waitUntilPageIsReady(long timeout, TimeUnit unit, Browser browser,
+        List<? extends PageReadinessCheck> checks) {
+        if (checks.isEmpty()) {
+            return;
+        }
+        ReadinessCheck check = new ReadinessCheck(browser, checks);
+        try {
+            waitUntil(timeout, unit, new PollingPause(PollingStrategies.fromConfiguration(browser.getConfiguration())),
+                check);
+        } catch (TimeoutException e) {
+            TimeoutException exception = new TimeoutException("page did not become ready: " + checks, e.getCause());
+            EventSystem.fireEvent(new ExceptionEvent(browser, exception));
+            throw exception;
+        }
     }
 
     /**
@@ -211,15 +376,14 @@ public final class Waits {
      * @since 0.9.6
      */
     public static WebDriverWait getWait(Browser browser, int timeout) {
-        Configuration configuration = browser.getConfiguration();
-        long interval = configuration.getWaitInterval();
+        long interval = ConfigurationSnapshot.of(browser.getConfiguration()).getWaitInterval();
         return new WebDriverWait(browser.getWebDriver(), timeout, interval);
     }
 
     /**
      * Waits until the given {@link Predicate condition} is met by the provided
      * {@link PageObject page object}. The page object's browser's configuration
-     * is used to retrieve the timeout (in seconds) and check interval to use.
+     * is used to retrieve the timeout (in seconds) and polling strategy to use.
      * <p>
      * All runtime exceptions occurring within the callback's method will be
      * ignored until the timeout is reached. At which point the latest exception
@@ -242,7 +406,7 @@ public final class Waits {
     /**
      * Waits until the given {@link Predicate condition} is met by the provided
      * {@link PageObject page object}. The timeout must be provided in
-     * milliseconds. The check interval of the page object's browser's
+     * milliseconds. The polling strategy of the page object's browser's
      * configuration is used.
      * <p>
      * All runtime exceptions occurring within the callback's method will be
@@ -269,8 +433,8 @@ public final class Waits {
     /**
      * Waits until the given {@link Predicate condition} is met by the provided
      * {@link PageObject page object}. The timeout must be provided in
-     * seconds.The check interval of the page object's browser's configuration
-     * is used.
+     * seconds. The polling strategy of the page object's browser's
+     * configuration is used.
      * <p>
      * All runtime exceptions occurring within the callback's method will be
      * ignored until the timeout is reached. At which point the latest exception
@@ -294,7 +458,7 @@ public final class Waits {
     /**
      * Waits until the given {@link Predicate condition} is met by the provided
      * {@link PageObject page object}. Allows for the configuration of the
-     * timeout's {@link TimeUnit time unit}. The check interval of the page
+     * timeout's {@link TimeUnit time unit}. The polling strategy of the page
      * object's browser's configuration is used.
      * <p>
      * All runtime exceptions occurring within the callback's method will be
@@ -316,7 +480,7 @@ public final class Waits {
      */
     public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, T pageObject,
         Predicate<? super T> condition) {
-        return waitUntil(timeout, unit, getWaitInterval(pageObject), pageObject, condition);
+        return waitUntil(timeout, unit, getPollingStrategy(pageObject), pageObject, condition);
     }
 
     /**
@@ -343,23 +507,41 @@ public final class Waits {
      * <code>true</code> within the allowed time frame
      * @since 0.9.8
      */
+    public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, long interval, T pageObject,
+        Predicate<? super T> condition) {
+        return waitUntil(timeout, unit, PollingStrategies.fixedInterval(interval), pageObject, condition);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by the provided
+     * {@link PageObject page object}. Allows for the configuration of the
+     * timeout's {@link TimeUnit time unit} and the {@link PollingStrategy
+     * polling strategy} deciding how long to wait between checks.
+     * <p>
+     * All runtime exceptions occurring within the callback's method will be
+     * ignored until the timeout is reached. At which point the latest exception
+     * (if any) will be used as the cause of the thrown {@link TimeoutException}
+     * .
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param strategy the polling strategy to use
+     * @param pageObject the page object on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page object
+     * @return the page object instance from the parameters for use in fluent API calls
+     * @throws TimeoutException in case the callback did not return
+     * <code>true</code> within the allowed time frame
+     * @since 1.3.0
+     */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, long interval, final T pageObject,
-        final Predicate<? super T> condition) {
+    public static <T extends PageObject> T waitUntil(long timeout, TimeUnit unit, PollingStrategy strategy,
+        final T pageObject, final Predicate<? super T> condition) {
+        Marker.applyBufferedMarkings(pageObject.getBrowser());
         try {
-            waitUntil(timeout, unit, interval, new Supplier<Boolean>() {
-
-                @Override
-                public Boolean get() {
-                    return condition.apply(pageObject);
-                }
-
-                @Override
-                public String toString() {
-                    return condition.toString();
-                }
-
-            });
+            waitUntil(timeout, unit, getPause(strategy, pageObject, condition), getCheck(pageObject, condition));
         } catch (RuntimeException e) {
             EventSystem.fireEvent(new ExceptionEvent(pageObject, e));
             throw e;
@@ -367,23 +549,508 @@ public final class Waits {
         return pageObject;
     }
 
-    private static long timeSince(long start) {
-        return now() - start;
+    /**
+     * Waits until the given {@link Predicate condition} is met by all of the
+     * provided {@link PageObject page objects}. The browser configuration of
+     * the first page object is used to retrieve the timeout (in seconds) and
+     * polling strategy. All page objects are checked in a single polling loop
+     * within one shared timeout.
+     *
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check
+     * @throws TimeoutException in case the condition was not met by all page
+     * objects within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilAll(Collection<? extends T> pageObjects,
+        Predicate<? super T> condition) {
+        return waitUntilAll(getWaitTimeout(pageObjects), TimeUnit.SECONDS, pageObjects, condition);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by all of the
+     * provided {@link PageObject page objects}. All page objects are checked
+     * in a single polling loop within one shared timeout.
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check
+     * @throws TimeoutException in case the condition was not met by all page
+     * objects within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilAll(long timeout, TimeUnit unit,
+        Collection<? extends T> pageObjects, Predicate<? super T> condition) {
+        int size = pageObjects.size();
+        return waitUntilCount(timeout, unit, pageObjects, condition, new ExpectedCount(size, size, "all"));
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by any of the
+     * provided {@link PageObject page objects}. The browser configuration of
+     * the first page object is used to retrieve the timeout (in seconds) and
+     * polling strategy. All page objects are checked in a single polling loop
+     * within one shared timeout.
+     *
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check -
+     * since checking stops with the first match this is a single page object
+     * and not necessarily all of the matching ones
+     * @throws TimeoutException in case the condition was not met by any page
+     * object within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilAny(Collection<? extends T> pageObjects,
+        Predicate<? super T> condition) {
+        return waitUntilAny(getWaitTimeout(pageObjects), TimeUnit.SECONDS, pageObjects, condition);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by any of the
+     * provided {@link PageObject page objects}. All page objects are checked
+     * in a single polling loop within one shared timeout.
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check -
+     * since checking stops with the first match this is a single page object
+     * and not necessarily all of the matching ones
+     * @throws TimeoutException in case the condition was not met by any page
+     * object within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilAny(long timeout, TimeUnit unit,
+        Collection<? extends T> pageObjects, Predicate<? super T> condition) {
+        return waitUntilCount(timeout, unit, pageObjects, condition, new ExpectedCount(1, Integer.MAX_VALUE, "any"));
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by at least the
+     * given number of the provided {@link PageObject page objects}. The
+     * browser configuration of the first page object is used to retrieve the
+     * timeout (in seconds) and polling strategy. All page objects are checked
+     * in a single polling loop within one shared timeout.
+     *
+     * @param count the minimum number of page objects meeting the condition
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check -
+     * since checking stops once enough matches are found these are exactly
+     * <code>count</code> page objects and not necessarily all of the matching
+     * ones
+     * @throws TimeoutException in case the condition was not met by enough
+     * page objects within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilAtLeast(int count, Collection<? extends T> pageObjects,
+        Predicate<? super T> condition) {
+        return waitUntilAtLeast(getWaitTimeout(pageObjects), TimeUnit.SECONDS, count, pageObjects, condition);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by at least the
+     * given number of the provided {@link PageObject page objects}. All page
+     * objects are checked in a single polling loop within one shared timeout.
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param count the minimum number of page objects meeting the condition
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check -
+     * since checking stops once enough matches are found these are exactly
+     * <code>count</code> page objects and not necessarily all of the matching
+     * ones
+     * @throws TimeoutException in case the condition was not met by enough
+     * page objects within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilAtLeast(long timeout, TimeUnit unit, int count,
+        Collection<? extends T> pageObjects, Predicate<? super T> condition) {
+        ExpectedCount expected = new ExpectedCount(count, Integer.MAX_VALUE, "at least " + count);
+        return waitUntilCount(timeout, unit, pageObjects, condition, expected);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by exactly the
+     * given number of the provided {@link PageObject page objects}. The
+     * browser configuration of the first page object is used to retrieve the
+     * timeout (in seconds) and polling strategy. All page objects are checked
+     * in a single polling loop within one shared timeout.
+     *
+     * @param count the exact number of page objects meeting the condition
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check
+     * @throws TimeoutException in case the condition was not met by exactly
+     * the given number of page objects within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilExactly(int count, Collection<? extends T> pageObjects,
+        Predicate<? super T> condition) {
+        return waitUntilExactly(getWaitTimeout(pageObjects), TimeUnit.SECONDS, count, pageObjects, condition);
+    }
+
+    /**
+     * Waits until the given {@link Predicate condition} is met by exactly the
+     * given number of the provided {@link PageObject page objects}. All page
+     * objects are checked in a single polling loop within one shared timeout.
+     *
+     * @param timeout the maximum amount of time the operation is retried - the
+     * unit decides if its milliseconds, seconds or weeks
+     * @param unit the time unit to use when interpreting the timeout
+     * @param count the exact number of page objects meeting the condition
+     * @param pageObjects the page objects on which the condition is invoked
+     * @param condition the callback logic to invoke in order to check
+     * of the condition is met
+     * @param <T> type of the page objects
+     * @return the page objects found to meet the condition by the last check
+     * @throws TimeoutException in case the condition was not met by exactly
+     * the given number of page objects within the allowed time frame
+     * @since 1.3.0
+     */
+    public static <T extends PageObject> List<T> waitUntilExactly(long timeout, TimeUnit unit, int count,
+        Collection<? extends T> pageObjects, Predicate<? super T> condition) {
+        ExpectedCount expected = new ExpectedCount(count, count, "exactly " + count);
+        return waitUntilCount(timeout, unit, pageObjects, condition, expected);
+    }
+
+    private static <T extends PageObject> List<T> waitUntilCount(long timeout, TimeUnit unit,
+        Collection<? extends T> pageObjects, Predicate<? super T> condition, ExpectedCount expected) {
+
+        List<T> candidates = new ArrayList<T>(pageObjects);
+        // without page objects there is no browser to wait for
+        long effectiveTimeout = candidates.isEmpty() ? 0L : timeout;
+        if (!candidates.isEmpty()) {
+            Marker.applyBufferedMarkings(candidates.get(0).getBrowser());
+        }
+        MultiCheck<T> check = new MultiCheck<T>(candidates, condition, expected);
+        try {
+            waitUntil(effectiveTimeout, unit, new PollingPause(getPollingStrategy(candidates)), check);
+        } catch (TimeoutException e) {
+            TimeoutException exception = new TimeoutException(check.describeFailure(), check.getLastException());
+            if (!candidates.isEmpty()) {
+                EventSystem.fireEvent(new ExceptionEvent(candidates.get(0).getBrowser(), exception));
+            }
+            throw exception;
+        }
+        return check.getMatching();
+
+    }
+
+    private static <T extends PageObject> Supplier<Boolean> getCheck(T pageObject, Predicate<? super T> condition) {
+        ConfigurationSnapshot configuration = ConfigurationSnapshot.of(pageObject.getBrowser().getConfiguration());
+        if (configuration.conditionSnapshotsAreActivated() && ElementSnapshots.canEvaluate(condition)) {
+            return new SnapshotCheck<T>(pageObject, condition);
+        }
+        return new PredicateCheck<T>(pageObject, condition);
+    }
+
+    private static Pause getPause(PollingStrategy strategy, PageObject pageObject, Predicate<?> condition) {
+        ConfigurationSnapshot configuration = ConfigurationSnapshot.of(pageObject.getBrowser().getConfiguration());
+        if (configuration.browserSideWaitingIsActivated()) {
+            String observedState = ObservedStates.of(condition);
+            if (observedState != null) {
+                return new BrowserSidePause(strategy, pageObject, observedState, configuration.getWaitIntervalMaximum());
+            }
+        }
+        return new PollingPause(strategy);
     }
 
     private static long now() {
-        return System.currentTimeMillis();
+        return System.nanoTime();
     }
 
     private static int getWaitTimeout(PageObject pageObject) {
-        return pageObject.getBrowser().getConfiguration().getWaitTimeout();
+        return ConfigurationSnapshot.of(pageObject.getBrowser().getConfiguration()).getWaitTimeout();
+    }
+
+    private static int getWaitTimeout(Collection<? extends PageObject> pageObjects) {
+        Iterator<? extends PageObject> iterator = pageObjects.iterator();
+        return iterator.hasNext() ? getWaitTimeout(iterator.next()) : 0;
     }
 
-    private static long getWaitInterval(PageObject pageObject) {
-        return pageObject.getBrowser().getConfiguration().getWaitInterval();
+    private static PollingStrategy getPollingStrategy(List<? extends PageObject> pageObjects) {
+        if (pageObjects.isEmpty()) {
+            return PollingStrategies.fixedInterval(DEFAULT_INTERVAL);
+        }
+        return getPollingStrategy(pageObjects.get(0));
+    }
+
+    private static PollingStrategy getPollingStrategy(PageObject pageObject) {
+        return PollingStrategies.fromConfiguration(pageObject.getBrowser().getConfiguration());
     }
 
     private Waits() {
     }
 
+    /**
+     * Checks the readiness of a page by executing the combined script of all
+     * readiness checks.
+     */
+    private static class ReadinessCheck implements Supplier<Boolean> {
+
+        private final Browser browser;
+        private final List<? extends PageReadinessCheck> checks;
+        private final String script;
+
+        ReadinessCheck(Browser browser, List<? extends PageReadinessCheck> checks) {
+            this.browser = browser;
+            this.checks = checks;
+            this.script = PageReadinessChecks.combine(checks);
+        }
+
+        @Override
+        public Boolean get() {
+            Object ready = browser.javaScript().executeWithReturn(script);
+            return Boolean.TRUE.equals(ready);
+        }
+
+        @Override
+        public String toString() {
+            return "page is ready: " + checks;
+        }
+
+    }
+
+    /**
+     * Checks a condition by applying it to a page object.
+     */
+    private static class PredicateCheck<T extends PageObject> implements Supplier<Boolean> {
+
+        protected final T pageObject;
+        protected final Predicate<? super T> condition;
+
+        PredicateCheck(T pageObject, Predicate<? super T> condition) {
+            this.pageObject = pageObject;
+            this.condition = condition;
+        }
+
+        @Override
+        public Boolean get() {
+            return condition.apply(pageObject);
+        }
+
+        @Override
+        public String toString() {
+            return condition.toString();
+        }
+
+    }
+
+    /**
+     * Checks a {@link SnapshotCondition snapshot condition} by evaluating it
+     * against a single snapshot of the page object's element. Falls back to
+     * applying the condition if no snapshot can be read (e.g. because the
+     * page object is not present).
+     */
+    private static class SnapshotCheck<T extends PageObject> extends PredicateCheck<T> {
+
+        private final Set<String> attributeNames;
+
+        SnapshotCheck(T pageObject, Predicate<? super T> condition) {
+            super(pageObject, condition);
+            this.attributeNames = ElementSnapshots.requiredAttributes(( SnapshotCondition ) condition);
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public Boolean get() {
+            ElementSnapshot snapshot;
+            try {
+                snapshot = ElementSnapshots.read(pageObject, attributeNames);
+            } catch (RuntimeException e) {
+                logger.trace("could not read snapshot, applying condition instead", e);
+                return super.get();
+            }
+            return ElementSnapshots.evaluate(condition, snapshot);
+        }
+
+    }
+
+    /**
+     * Describes how many page objects have to meet a condition.
+     */
+    private static class ExpectedCount {
+
+        private final int minimum;
+        private final int maximum;
+        private final String description;
+
+        ExpectedCount(int minimum, int maximum, String description) {
+            if (minimum < 0) {
+                throw new IllegalArgumentException("expected count must not be negative: " + minimum);
+            }
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.description = description;
+        }
+
+        boolean isMetBy(int matching) {
+            return matching >= minimum && matching <= maximum;
+        }
+
+        /**
+         * @return whether or not the remaining page objects can't change the
+         * outcome of the current check anymore
+         */
+        boolean isDecided(int matching, int unchecked) {
+            boolean minimumReached = matching >= minimum;
+            boolean minimumUnreachable = matching + unchecked < minimum;
+            boolean maximumExceeded = matching > maximum;
+            return minimumReached && maximum == Integer.MAX_VALUE || minimumUnreachable || maximumExceeded;
+        }
+
+    }
+
+    /**
+     * Checks a condition for all of a number of page objects in one go and
+     * remembers the page objects which met it.
+     */
+    private static class MultiCheck<T extends PageObject> implements Supplier<Boolean> {
+
+        private final List<T> pageObjects;
+        private final List<Supplier<Boolean>> checks;
+        private final Predicate<? super T> condition;
+        private final ExpectedCount expected;
+
+        private List<T> matching = Collections.emptyList();
+        private RuntimeException lastException;
+
+        MultiCheck(List<T> pageObjects, Predicate<? super T> condition, ExpectedCount expected) {
+            this.pageObjects = pageObjects;
+            this.condition = condition;
+            this.expected = expected;
+            this.checks = new ArrayList<Supplier<Boolean>>(pageObjects.size());
+            for (T pageObject : pageObjects) {
+                checks.add(getCheck(pageObject, condition));
+            }
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public Boolean get() {
+            List<T> currentlyMatching = new ArrayList<T>();
+            for (int i = 0; i < pageObjects.size(); i++) {
+                if (expected.isDecided(currentlyMatching.size(), pageObjects.size() - i)) {
+                    break;
+                }
+                try {
+                    if (checks.get(i).get()) {
+                        currentlyMatching.add(pageObjects.get(i));
+                    }
+                } catch (RuntimeException e) {
+                    lastException = e;
+                }
+            }
+            matching = currentlyMatching;
+            return expected.isMetBy(currentlyMatching.size());
+        }
+
+        List<T> getMatching() {
+            return matching;
+        }
+
+        RuntimeException getLastException() {
+            return lastException;
+        }
+
+        String describeFailure() {
+            return String.format("expected %s of %s page objects to be '%s' but there were %s", expected.description,
+                pageObjects.size(), condition, matching.size());
+        }
+
+        @Override
+        public String toString() {
+            return expected.description + " of " + pageObjects.size() + ": " + condition;
+        }
+
+    }
+
+    /**
+     * Pauses the calling thread between two checks of a condition.
+     */
+    private interface Pause {
+
+        /**
+         * @return whether or not there is time left for another check
+         */
+        boolean pauseBeforeNextCheck(int numberOfChecks, long deadline);
+
+    }
+
+    /**
+     * Sleeps as long as the {@link PollingStrategy polling strategy} decides.
+     */
+    private static class PollingPause implements Pause {
+
+        private final PollingStrategy strategy;
+
+        PollingPause(PollingStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        @Override
+        public boolean pauseBeforeNextCheck(int numberOfChecks, long deadline) {
+            return sleepBeforeNextCheck(strategy.getDelay(numberOfChecks), deadline);
+        }
+
+    }
+
+    /**
+     * Lets the browser watch the page object for changes of the condition's
+     * observed state. Falls back to the {@link PollingStrategy polling
+     * strategy} whenever the browser can't watch the page object.
+     */
+    private static class BrowserSidePause extends PollingPause {
+
+        private final PageObject pageObject;
+        private final DomChangeWatcher watcher;
+        private final long maximumWatchTime;
+
+        BrowserSidePause(PollingStrategy strategy, PageObject pageObject, String observedState,
+            long maximumWatchTime) {
+            super(strategy);
+            this.pageObject = pageObject;
+            this.watcher = new DomChangeWatcher(observedState);
+            this.maximumWatchTime = maximumWatchTime;
+        }
+
+        @Override
+        public boolean pauseBeforeNextCheck(int numberOfChecks, long deadline) {
+            long remainingMillis = remainingMillis(deadline);
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            if (watcher.awaitChange(pageObject, Math.min(remainingMillis, maximumWatchTime))) {
+                return now() - deadline < 0;
+            }
+            return super.pauseBeforeNextCheck(numberOfChecks, deadline);
+        }
+
+    }
+
 }
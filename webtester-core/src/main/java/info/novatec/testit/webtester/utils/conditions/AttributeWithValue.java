@@ -1,8 +1,14 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Objects;
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -12,7 +18,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class AttributeWithValue implements Predicate<PageObject> {
+public class AttributeWithValue implements Predicate<PageObject>, ObservableCondition, SnapshotCondition {
 
     private String attributeName;
     private String expectedValue;
@@ -28,6 +34,26 @@ public class AttributeWithValue implements Predicate<PageObject> {
         return Objects.equal(expectedValue, actualValue);
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        attributeNames.add(attributeName);
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return Objects.equal(expectedValue, snapshot.getAttribute(attributeName));
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.attribute(attributeName);
+    }
+
     @Override
     public String toString() {
         return String.format("attribute '%s' with value '%s'", attributeName, expectedValue);
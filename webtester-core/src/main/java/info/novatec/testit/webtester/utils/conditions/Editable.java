@@ -1,7 +1,13 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -15,7 +21,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * @see Visible
  * @since 0.9.9
  */
-public class Editable implements Predicate<PageObject> {
+public class Editable implements Predicate<PageObject>, ObservableCondition, SnapshotCondition {
 
     private ReadOnly readOnly = new ReadOnly();
     private Enabled enabled = new Enabled();
@@ -38,6 +44,27 @@ public class Editable implements Predicate<PageObject> {
         return visible.apply(pageObject);
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        readOnly.collectRequiredAttributes(attributeNames);
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return !readOnly.evaluate(snapshot) && enabled.evaluate(snapshot) && visible.evaluate(snapshot);
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.combine(ObservedStates.attribute("readonly"), ObservedStates.ENABLEMENT,
+            ObservedStates.VISIBILITY);
+    }
+
     @Override
     public String toString() {
         return "editable";
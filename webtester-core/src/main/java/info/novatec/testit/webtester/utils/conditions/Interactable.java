@@ -1,7 +1,13 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,7 +17,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Interactable implements Predicate<PageObject> {
+public class Interactable implements Predicate<PageObject>, ObservableCondition, SnapshotCondition {
 
     private Enabled enabled = new Enabled();
     private Visible visible = new Visible();
@@ -29,6 +35,26 @@ public class Interactable implements Predicate<PageObject> {
         return visible.apply(pageObject);
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        // no attributes required
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return enabled.evaluate(snapshot) && visible.evaluate(snapshot);
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.combine(ObservedStates.ENABLEMENT, ObservedStates.VISIBILITY);
+    }
+
     @Override
     public String toString() {
         return "interactable";
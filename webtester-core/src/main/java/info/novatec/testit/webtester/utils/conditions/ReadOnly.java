@@ -1,7 +1,13 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -15,11 +21,14 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class ReadOnly implements Predicate<PageObject> {
+public class ReadOnly implements Predicate<PageObject>, ObservableCondition, SnapshotCondition {
 
     @Override
     public boolean apply(PageObject pageObject) {
-        String attributeValue = pageObject.getAttribute("readonly");
+        return isReadOnly(pageObject.getAttribute("readonly"));
+    }
+
+    private boolean isReadOnly(String attributeValue) {
         return isHtmlReadOnly(attributeValue) || isXhtmlReadOnly(attributeValue);
     }
 
@@ -31,6 +40,26 @@ public class ReadOnly implements Predicate<PageObject> {
         return "readonly".equals(value);
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        attributeNames.add("readonly");
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return isReadOnly(snapshot.getAttribute("readonly"));
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.attribute("readonly");
+    }
+
     @Override
     public String toString() {
         return "read-only";
@@ -1,8 +1,14 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.pageobjects.traits.Selectable;
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -12,13 +18,33 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Selected implements Predicate<Selectable> {
+public class Selected implements Predicate<Selectable>, ObservableCondition, SnapshotCondition {
 
     @Override
     public boolean apply(Selectable selectable) {
         return selectable.isSelected();
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        // no attributes required
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return snapshot.isSelected();
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.SELECTION;
+    }
+
     @Override
     public String toString() {
         return "selected";
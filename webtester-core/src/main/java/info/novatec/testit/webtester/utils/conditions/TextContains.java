@@ -3,6 +3,8 @@ package info.novatec.testit.webtester.utils.conditions;
 import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.pageobjects.traits.HasText;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -12,7 +14,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class TextContains implements Predicate<HasText> {
+public class TextContains implements Predicate<HasText>, ObservableCondition {
 
     private String partialText;
 
@@ -25,6 +27,11 @@ public class TextContains implements Predicate<HasText> {
         return hasText.getText().contains(partialText);
     }
 
+    @Override
+    public String getObservedState() {
+        return ObservedStates.TEXT;
+    }
+
     @Override
     public String toString() {
         return String.format("text contains: %s", partialText);
@@ -3,7 +3,9 @@ package info.novatec.testit.webtester.utils.conditions;
 import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.pageobjects.traits.HasText;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
 import info.novatec.testit.webtester.internal.Objects;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -13,7 +15,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class TextEquals implements Predicate<HasText> {
+public class TextEquals implements Predicate<HasText>, ObservableCondition {
 
     private String text;
 
@@ -26,6 +28,11 @@ public class TextEquals implements Predicate<HasText> {
         return Objects.equals(text, hasText.getText());
     }
 
+    @Override
+    public String getObservedState() {
+        return ObservedStates.TEXT;
+    }
+
     @Override
     public String toString() {
         return String.format("text equals: %s", text);
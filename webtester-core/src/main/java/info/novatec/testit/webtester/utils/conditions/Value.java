@@ -3,7 +3,9 @@ package info.novatec.testit.webtester.utils.conditions;
 import com.google.common.base.Predicate;
 
 import info.novatec.testit.webtester.api.pageobjects.traits.HasValue;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
 import info.novatec.testit.webtester.internal.Objects;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -14,7 +16,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  * @param <T> the type of the value
  * @since 0.9.9
  */
-public class Value<T> implements Predicate<HasValue<T>> {
+public class Value<T> implements Predicate<HasValue<T>>, ObservableCondition {
 
     private T value;
 
@@ -27,6 +29,11 @@ public class Value<T> implements Predicate<HasValue<T>> {
         return Objects.equals(value, hasValue.getValue());
     }
 
+    @Override
+    public String getObservedState() {
+        return ObservedStates.TEXT;
+    }
+
     @Override
     public String toString() {
         return String.format("value: %s", value);
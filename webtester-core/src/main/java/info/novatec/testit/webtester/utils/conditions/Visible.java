@@ -1,7 +1,13 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,13 +17,33 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class Visible implements Predicate<PageObject> {
+public class Visible implements Predicate<PageObject>, ObservableCondition, SnapshotCondition {
 
     @Override
     public boolean apply(PageObject pageObject) {
         return pageObject.isVisible();
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        // no attributes required
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return snapshot.isDisplayed();
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.VISIBILITY;
+    }
+
     @Override
     public String toString() {
         return "visible";
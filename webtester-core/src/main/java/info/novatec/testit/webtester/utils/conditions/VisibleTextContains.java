@@ -1,7 +1,13 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -11,7 +17,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class VisibleTextContains implements Predicate<PageObject> {
+public class VisibleTextContains implements Predicate<PageObject>, ObservableCondition, SnapshotCondition {
 
     private String partialText;
 
@@ -24,6 +30,26 @@ public class VisibleTextContains implements Predicate<PageObject> {
         return pageObject.getVisibleText().contains(partialText);
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        // no attributes required
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return snapshot.getVisibleText().contains(partialText);
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.VISIBLE_TEXT;
+    }
+
     @Override
     public String toString() {
         return String.format("visible text contains: %s", partialText);
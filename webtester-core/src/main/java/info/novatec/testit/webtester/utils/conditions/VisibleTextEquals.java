@@ -1,8 +1,14 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
 import info.novatec.testit.webtester.internal.Objects;
+import info.novatec.testit.webtester.internal.ObservedStates;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -12,7 +18,7 @@ import info.novatec.testit.webtester.pageobjects.PageObject;
  *
  * @since 0.9.9
  */
-public class VisibleTextEquals implements Predicate<PageObject> {
+public class VisibleTextEquals implements Predicate<PageObject>, ObservableCondition, SnapshotCondition {
 
     private String text;
 
@@ -25,6 +31,26 @@ public class VisibleTextEquals implements Predicate<PageObject> {
         return Objects.equals(text, pageObject.getVisibleText());
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return true;
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        // no attributes required
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return Objects.equals(text, snapshot.getVisibleText());
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.VISIBLE_TEXT;
+    }
+
     @Override
     public String toString() {
         return String.format("visible text equals: %s", text);
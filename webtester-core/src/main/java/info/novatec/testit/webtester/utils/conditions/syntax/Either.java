@@ -2,11 +2,18 @@ package info.novatec.testit.webtester.utils.conditions.syntax;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ElementSnapshots;
+import info.novatec.testit.webtester.internal.ObservedStates;
+
 
 /**
  * Predicate which returns the result of any number of OR evaluated predicates.
@@ -19,7 +26,7 @@ import com.google.common.base.Predicate;
  * @param <T> type of the wrapped predicate
  * @since 0.9.9
  */
-public class Either<T> implements Predicate<T> {
+public class Either<T> implements Predicate<T>, ObservableCondition, SnapshotCondition {
 
     private List<Predicate<T>> predicates;
 
@@ -38,6 +45,33 @@ public class Either<T> implements Predicate<T> {
         return false;
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return ElementSnapshots.canEvaluateAll(predicates);
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        for (Predicate<T> predicate : predicates) {
+            ElementSnapshots.collectRequiredAttributes(predicate, attributeNames);
+        }
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        for (Predicate<T> predicate : predicates) {
+            if (ElementSnapshots.evaluate(predicate, snapshot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.ofAll(predicates);
+    }
+
     @Override
     public String toString() {
         return "either(" + StringUtils.join(predicates, ", ") + ')';
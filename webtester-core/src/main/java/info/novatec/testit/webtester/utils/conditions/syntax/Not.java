@@ -1,7 +1,15 @@
 package info.novatec.testit.webtester.utils.conditions.syntax;
 
+import java.util.Set;
+
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.api.utils.ObservableCondition;
+import info.novatec.testit.webtester.api.utils.SnapshotCondition;
+import info.novatec.testit.webtester.internal.ElementSnapshots;
+import info.novatec.testit.webtester.internal.ObservedStates;
+
 
 /**
  * Predicate which returns the <b>negated</b> result of another predicate. This
@@ -12,7 +20,7 @@ import com.google.common.base.Predicate;
  * @param <T> type of the wrapped predicate
  * @since 0.9.9
  */
-public class Not<T> implements Predicate<T> {
+public class Not<T> implements Predicate<T>, ObservableCondition, SnapshotCondition {
 
     private Predicate<T> predicate;
 
@@ -25,6 +33,26 @@ public class Not<T> implements Predicate<T> {
         return !predicate.apply(pageObject);
     }
 
+    @Override
+    public boolean canEvaluateSnapshot() {
+        return ElementSnapshots.canEvaluate(predicate);
+    }
+
+    @Override
+    public void collectRequiredAttributes(Set<String> attributeNames) {
+        ElementSnapshots.collectRequiredAttributes(predicate, attributeNames);
+    }
+
+    @Override
+    public boolean evaluate(ElementSnapshot snapshot) {
+        return !ElementSnapshots.evaluate(predicate, snapshot);
+    }
+
+    @Override
+    public String getObservedState() {
+        return ObservedStates.of(predicate);
+    }
+
     @Override
     public String toString() {
         return "not(" + predicate + ')';
@@ -0,0 +1,60 @@
+package info.novatec.testit.webtester.utils.polling;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+
+
+/**
+ * {@link PollingStrategy Polling strategy} which starts with an initial delay
+ * and multiplies it by a factor after each check until a maximum delay is
+ * reached. Conditions which are met quickly are therefore checked often, while
+ * long running waits put less load on the browser.
+ * <p>
+ * Optionally jitter can be applied. In that case each delay is randomized
+ * between half and all of its calculated value. This prevents many parallel
+ * wait operations from checking their conditions in lockstep.
+ *
+ * @since 1.3.0
+ */
+public class BackoffPollingStrategy implements PollingStrategy {
+
+    private final long initialDelay;
+    private final double factor;
+    private final long maximumDelay;
+    private final boolean jitter;
+
+    public BackoffPollingStrategy(long initialDelay, double factor, long maximumDelay, boolean jitter) {
+        if (initialDelay < 0) {
+            throw new IllegalArgumentException("initial delay must not be negative: " + initialDelay);
+        }
+        if (factor < 1.0d) {
+            throw new IllegalArgumentException("factor must be at least 1: " + factor);
+        }
+        if (maximumDelay < initialDelay) {
+            throw new IllegalArgumentException("maximum delay must not be less than initial delay: " + maximumDelay);
+        }
+        this.initialDelay = initialDelay;
+        this.factor = factor;
+        this.maximumDelay = maximumDelay;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public long getDelay(int numberOfChecks) {
+        double delay = initialDelay * Math.pow(factor, Math.max(0, numberOfChecks - 1));
+        long cappedDelay = ( long ) Math.min(delay, maximumDelay);
+        if (jitter && cappedDelay > 1) {
+            long half = cappedDelay / 2;
+            return half + ThreadLocalRandom.current().nextLong(cappedDelay - half + 1);
+        }
+        return cappedDelay;
+    }
+
+    @Override
+    public String toString() {
+        return ( jitter ? "jittered " : "" ) + "backoff from " + initialDelay + "ms to " + maximumDelay + "ms (x"
+            + factor + ")";
+    }
+
+}
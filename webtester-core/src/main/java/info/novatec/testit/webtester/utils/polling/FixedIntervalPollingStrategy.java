@@ -0,0 +1,33 @@
+package info.novatec.testit.webtester.utils.polling;
+
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+
+
+/**
+ * {@link PollingStrategy Polling strategy} which always waits the same number
+ * of milliseconds between two checks.
+ *
+ * @since 1.3.0
+ */
+public class FixedIntervalPollingStrategy implements PollingStrategy {
+
+    private final long interval;
+
+    public FixedIntervalPollingStrategy(long interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("interval must not be negative: " + interval);
+        }
+        this.interval = interval;
+    }
+
+    @Override
+    public long getDelay(int numberOfChecks) {
+        return interval;
+    }
+
+    @Override
+    public String toString() {
+        return "fixed interval of " + interval + "ms";
+    }
+
+}
@@ -0,0 +1,41 @@
+package info.novatec.testit.webtester.utils.readiness;
+
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+
+
+/**
+ * {@link PageReadinessCheck Readiness check} which is met while Angular is
+ * idle. For Angular (2 and later) all testabilities have to be stable, for
+ * AngularJS there must not be any pending <code>$http</code> requests. Pages
+ * without Angular are always considered ready.
+ *
+ * @since 1.3.0
+ */
+public class AngularIdleCheck implements PageReadinessCheck {
+
+    private static final String SCRIPT = ""
+        + "if (window.getAllAngularTestabilities) {"
+        + "  var testabilities = window.getAllAngularTestabilities();"
+        + "  for (var i = 0; i < testabilities.length; i++) {"
+        + "    if (!testabilities[i].isStable()) { return false; }"
+        + "  }"
+        + "  return true;"
+        + "}"
+        + "if (window.angular) {"
+        + "  var root = document.querySelector('[ng-app], [data-ng-app], .ng-scope');"
+        + "  var injector = root ? window.angular.element(root).injector() : null;"
+        + "  return !injector || injector.get('$http').pendingRequests.length === 0;"
+        + "}"
+        + "return true;";
+
+    @Override
+    public String getScript() {
+        return SCRIPT;
+    }
+
+    @Override
+    public String toString() {
+        return "Angular idle";
+    }
+
+}
@@ -0,0 +1,25 @@
+package info.novatec.testit.webtester.utils.readiness;
+
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+
+
+/**
+ * {@link PageReadinessCheck Readiness check} which is met as soon as the
+ * document and all of its resources have finished loading (i.e. the
+ * document's <code>readyState</code> is <code>complete</code>).
+ *
+ * @since 1.3.0
+ */
+public class DocumentReadyCheck implements PageReadinessCheck {
+
+    @Override
+    public String getScript() {
+        return "return document.readyState === 'complete';";
+    }
+
+    @Override
+    public String toString() {
+        return "document ready";
+    }
+
+}
@@ -0,0 +1,24 @@
+package info.novatec.testit.webtester.utils.readiness;
+
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+
+
+/**
+ * {@link PageReadinessCheck Readiness check} which is met while jQuery has no
+ * active AJAX requests. Pages without jQuery are always considered ready.
+ *
+ * @since 1.3.0
+ */
+public class JQueryIdleCheck implements PageReadinessCheck {
+
+    @Override
+    public String getScript() {
+        return "return !window.jQuery || !window.jQuery.active;";
+    }
+
+    @Override
+    public String toString() {
+        return "jQuery idle";
+    }
+
+}
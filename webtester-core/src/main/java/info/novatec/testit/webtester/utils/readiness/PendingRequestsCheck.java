@@ -0,0 +1,90 @@
+package info.novatec.testit.webtester.utils.readiness;
+
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+
+
+/**
+ * {@link PageReadinessCheck Readiness check} which is met once there were no
+ * pending <code>XMLHttpRequest</code> or <code>fetch</code> requests for a
+ * quiet period (default: {@value #DEFAULT_QUIET_PERIOD} milliseconds).
+ * <p>
+ * Requests are counted by instrumenting both APIs the first time the check is
+ * executed on a page. That execution is never met, since requests which were
+ * started before (e.g. while the page was still loading) are not known to the
+ * check. The quiet period gives such requests, as well as requests started in
+ * reaction to a finished one, the chance to be counted. Since the
+ * instrumentation is part of the page, it has to be installed again after
+ * each page load.
+ *
+ * @since 1.3.0
+ */
+public class PendingRequestsCheck implements PageReadinessCheck {
+
+    /** The default quiet period in milliseconds. */
+    public static final long DEFAULT_QUIET_PERIOD = 100L;
+
+    private static final String SCRIPT_TEMPLATE = ""
+        + "var now = new Date().getTime();"
+        + "if (window.__webtesterPendingRequests === undefined) {"
+        + "  window.__webtesterPendingRequests = 0;"
+        + "  window.__webtesterRequestsIdleSince = now;"
+        + "  var started = function() { window.__webtesterPendingRequests++; };"
+        + "  var done = function() {"
+        + "    if (--window.__webtesterPendingRequests <= 0) {"
+        + "      window.__webtesterRequestsIdleSince = new Date().getTime();"
+        + "    }"
+        + "  };"
+        + "  if (window.XMLHttpRequest) {"
+        + "    var send = window.XMLHttpRequest.prototype.send;"
+        + "    window.XMLHttpRequest.prototype.send = function() {"
+        + "      started();"
+        + "      this.addEventListener('loadend', done);"
+        + "      try { return send.apply(this, arguments); } catch (e) { done(); throw e; }"
+        + "    };"
+        + "  }"
+        + "  if (window.fetch) {"
+        + "    var fetch = window.fetch;"
+        + "    window.fetch = function() {"
+        + "      started();"
+        + "      try {"
+        + "        return fetch.apply(this, arguments).then("
+        + "          function(response) { done(); return response; },"
+        + "          function(error) { done(); throw error; });"
+        + "      } catch (e) { done(); throw e; }"
+        + "    };"
+        + "  }"
+        + "  return false;"
+        + "}"
+        + "return window.__webtesterPendingRequests <= 0"
+        + "  && now - window.__webtesterRequestsIdleSince >= %d;";
+
+    private final long quietPeriod;
+
+    public PendingRequestsCheck() {
+        this(DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * @param quietPeriod the number of milliseconds without pending requests
+     * before the check is met
+     * @throws IllegalArgumentException if the quiet period is negative
+     * @since 1.3.0
+     */
+    public PendingRequestsCheck(long quietPeriod) {
+        if (quietPeriod < 0) {
+            throw new IllegalArgumentException("quiet period must not be negative");
+        }
+        this.quietPeriod = quietPeriod;
+    }
+
+    @Override
+    public String getScript() {
+        return String.format(SCRIPT_TEMPLATE, quietPeriod);
+    }
+
+    @Override
+    public String toString() {
+        return "no pending requests for " + quietPeriod + "ms";
+    }
+
+}
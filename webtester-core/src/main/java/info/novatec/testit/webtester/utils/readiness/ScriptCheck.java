@@ -0,0 +1,32 @@
+package info.novatec.testit.webtester.utils.readiness;
+
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+
+
+/**
+ * {@link PageReadinessCheck Readiness check} which is met while a custom
+ * JavaScript expression evaluates to a truthy value.
+ * <p>
+ * <b>Example:</b> <code>new ScriptCheck("window.appReady === true")</code>
+ *
+ * @since 1.3.0
+ */
+public class ScriptCheck implements PageReadinessCheck {
+
+    private final String expression;
+
+    public ScriptCheck(String expression) {
+        this.expression = expression;
+    }
+
+    @Override
+    public String getScript() {
+        return "return !!(" + expression + ");";
+    }
+
+    @Override
+    public String toString() {
+        return "script: " + expression;
+    }
+
+}
@@ -0,0 +1,239 @@
+package info.novatec.testit.webtester.browser.pool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.browser.factories.BaseBrowserFactory;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.eventsystem.events.browser.ClosedBrowserEvent;
+
+
+public class BrowserPoolTest {
+
+    private static final String MAIN_WINDOW = "main";
+    private static final String POPUP_WINDOW = "popup";
+
+    BaseBrowserFactory<?> factory;
+    BrowserPool cut;
+
+    @Before
+    public void setUp() {
+        factory = mock(BaseBrowserFactory.class);
+        when(factory.createWebDriver()).thenAnswer(new Answer<WebDriver>() {
+
+            @Override
+            public WebDriver answer(InvocationOnMock invocation) {
+                return newWebDriver();
+            }
+
+        });
+        cut = new BrowserPool(factory, 1, 0, TimeUnit.SECONDS);
+    }
+
+    @After
+    public void closePool() {
+        cut.close();
+    }
+
+    @Test
+    public void testThatLeasedBrowsersArePooledBrowsers() {
+        assertThat(cut.lease(), is(instanceOf(PooledBrowser.class)));
+    }
+
+    @Test
+    public void testThatReturnedBrowsersAreReused() {
+
+        Browser browser = cut.lease();
+        browser.close();
+
+        assertThat(cut.lease(), is(sameInstance(browser)));
+        assertThat(cut.getMetrics().getCreated(), is(1L));
+        assertThat(cut.getMetrics().getReused(), is(1L));
+
+    }
+
+    @Test
+    public void testThatReturnedBrowsersAreNotQuit() {
+        Browser browser = cut.lease();
+        browser.close();
+        verify(browser.getWebDriver(), never()).quit();
+    }
+
+    @Test
+    public void testThatStateOfReturnedBrowsersIsReset() {
+
+        Browser browser = cut.lease();
+        WebDriver webDriver = browser.getWebDriver();
+        doReturn(new LinkedHashSet<String>(Arrays.asList(MAIN_WINDOW, POPUP_WINDOW))).when(webDriver).getWindowHandles();
+        browser.close();
+
+        InOrder inOrder = inOrder(webDriver, webDriver.switchTo().window(POPUP_WINDOW), webDriver.manage());
+        inOrder.verify(webDriver.switchTo().window(POPUP_WINDOW)).close();
+        inOrder.verify(( JavascriptExecutor ) webDriver).executeScript(anyString());
+        inOrder.verify(webDriver.manage()).deleteAllCookies();
+        inOrder.verify(webDriver).get("about:blank");
+
+    }
+
+    @Test
+    public void testThatListenersOfReturnedBrowsersAreDeregistered() {
+
+        Browser browser = cut.lease();
+        EventSystem.registerListener(browser.getIdentification(), mock(EventListener.class));
+        browser.close();
+
+        assertThat(EventSystem.hasListenersFor(Event.class, browser.getIdentification()), is(false));
+
+    }
+
+    @Test
+    public void testThatListenersAreNotifiedAboutReturnedBrowsersBeforeBeingDeregistered() {
+
+        Browser browser = cut.lease();
+        EventListener listener = mock(EventListener.class);
+        EventSystem.registerListener(browser.getIdentification(), listener);
+        browser.close();
+
+        ArgumentCaptor<Event> event = ArgumentCaptor.forClass(Event.class);
+        verify(listener).eventOccurred(event.capture());
+        assertThat(event.getValue(), is(instanceOf(ClosedBrowserEvent.class)));
+        assertThat(event.getValue().getBrowserIdentification(), is(browser.getIdentification()));
+
+    }
+
+    @Test
+    public void testThatBrowsersWhichCantBeResetAreQuit() {
+
+        Browser browser = cut.lease();
+        WebDriver webDriver = browser.getWebDriver();
+        doThrow(new WebDriverException()).when(webDriver).get("about:blank");
+        browser.close();
+
+        verify(webDriver).quit();
+        assertThat(cut.getMetrics().getIdle(), is(0));
+        assertThat(cut.getMetrics().getDiscarded(), is(1L));
+
+    }
+
+    @Test
+    public void testThatUnhealthyBrowsersAreNotReused() {
+
+        Browser browser = cut.lease();
+        WebDriver webDriver = browser.getWebDriver();
+        browser.close();
+        doThrow(new WebDriverException()).when(webDriver).getWindowHandles();
+
+        Browser secondBrowser = cut.lease();
+
+        assertThat(secondBrowser, is(not(sameInstance(browser))));
+        verify(webDriver).quit();
+        assertThat(cut.getMetrics().getCreated(), is(2L));
+
+    }
+
+    @Test
+    public void testThatBrowsersExceedingThePoolSizeAreQuit() {
+
+        Browser first = cut.lease();
+        Browser second = cut.lease();
+        first.close();
+        second.close();
+
+        verify(first.getWebDriver(), never()).quit();
+        verify(second.getWebDriver()).quit();
+        assertThat(cut.getMetrics().getIdle(), is(1));
+        assertThat(cut.getMetrics().getLeased(), is(0));
+
+    }
+
+    @Test
+    public void testThatBrowsersIdleForTooLongAreEvicted() throws InterruptedException {
+
+        cut.close();
+        cut = new BrowserPool(factory, 1, 1, TimeUnit.MILLISECONDS);
+
+        Browser browser = cut.lease();
+        browser.close();
+        Thread.sleep(5);
+
+        assertThat(cut.lease(), is(not(sameInstance(browser))));
+        verify(browser.getWebDriver()).quit();
+        assertThat(cut.getMetrics().getEvicted(), is(1L));
+
+    }
+
+    @Test
+    public void testThatReturningABrowserTwiceHasNoEffect() {
+
+        Browser browser = cut.lease();
+        browser.close();
+        browser.close();
+
+        assertThat(cut.getMetrics().getIdle(), is(1));
+        verify(browser.getWebDriver()).get("about:blank");
+
+    }
+
+    @Test
+    public void testThatClosingThePoolQuitsIdleBrowsers() {
+
+        Browser idle = cut.lease();
+        Browser leased = cut.lease();
+        idle.close();
+        cut.close();
+
+        verify(idle.getWebDriver()).quit();
+        verify(leased.getWebDriver(), never()).quit();
+
+        leased.close();
+        verify(leased.getWebDriver()).quit();
+
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testThatClosedPoolsCantLeaseBrowsers() {
+        cut.close();
+        cut.lease();
+    }
+
+    static WebDriver newWebDriver() {
+        WebDriver webDriver =
+            mock(WebDriver.class, withSettings().defaultAnswer(RETURNS_DEEP_STUBS).extraInterfaces(JavascriptExecutor.class));
+        doReturn(MAIN_WINDOW).when(webDriver).getWindowHandle();
+        doReturn(Collections.singleton(MAIN_WINDOW)).when(webDriver).getWindowHandles();
+        return webDriver;
+    }
+
+}
@@ -2,6 +2,7 @@ package info.novatec.testit.webtester.config.Adapters;
 
 import static info.novatec.testit.webtester.config.adapters.ClasspathPropertiesFileConfigurationAdapter.Importance.REQUIRED;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -10,6 +11,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import org.junit.Test;
 
 import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.config.TrackableConfigurationAdapter;
 import info.novatec.testit.webtester.config.adapters.ClasspathPropertiesFileConfigurationAdapter;
 
 
@@ -62,4 +64,17 @@ public class ClasspathPropertiesFileConfigurationAdapterTest {
         cut.adapt(mock(Configuration.class));
     }
 
+    @Test
+    public void existingFileIsTrackedByItsModification() {
+        cut = new ClasspathPropertiesFileConfigurationAdapter(PATH);
+        assertThat(cut.getLastModified(), is(not(TrackableConfigurationAdapter.UNTRACKABLE)));
+    }
+
+    @Test
+    public void subclassesAreNotTrackedUnlessTheyOptIn() {
+        cut = new ClasspathPropertiesFileConfigurationAdapter(PATH) {
+        };
+        assertThat(cut.getLastModified(), is(TrackableConfigurationAdapter.UNTRACKABLE));
+    }
+
 }
@@ -4,7 +4,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.inOrder;
 
 import org.junit.Before;
@@ -14,6 +16,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.support.Color;
 
 import info.novatec.testit.webtester.api.config.ConfigurationExporter;
 import info.novatec.testit.webtester.api.exceptions.config.InvalidValueTypeException;
@@ -179,6 +182,86 @@ public class BaseConfigurationTest {
 
     }
 
+    public static class SnapshotTests extends BaseTest {
+
+        @Test
+        public void testThatSnapshotIsReusedAsLongAsNothingChanges() {
+            ConfigurationSnapshot snapshot = cut.getSnapshot();
+            assertThat(cut.getSnapshot(), is(sameInstance(snapshot)));
+            assertThat(ConfigurationSnapshot.of(cut), is(sameInstance(snapshot)));
+        }
+
+        @Test
+        public void testThatSnapshotContainsDefaultsOfNamedProperties() {
+            ConfigurationSnapshot snapshot = cut.getSnapshot();
+            assertThat(snapshot.getWaitTimeout(), is(2));
+            assertThat(snapshot.getWaitInterval(), is(100L));
+            assertThat(snapshot.markingsAreActivated(), is(false));
+        }
+
+        @Test
+        public void testThatMarkingColorsAreOnlyReadIfMarkingsAreActivated() {
+            assertThat(cut.getSnapshot().getMarkingsColorUsedBackground(), is(nullValue()));
+            cut.setMarkingsActivated(true);
+            assertThat(cut.getSnapshot().getMarkingsColorUsedBackground(), is(Color.fromString("#ffd2a5")));
+        }
+
+        @Test
+        public void testThatSettingPropertyReplacesSnapshot() {
+            ConfigurationSnapshot snapshot = cut.getSnapshot();
+            cut.setWaitTimeout(5).setMarkingsActivated(true).setMarkingsColorReadOutline(Color.fromString("#123456"));
+            assertThat(cut.getSnapshot(), is(not(sameInstance(snapshot))));
+            assertThat(cut.getSnapshot().getWaitTimeout(), is(5));
+            assertThat(cut.getSnapshot().getMarkingsColorReadOutline(), is(Color.fromString("#123456")));
+        }
+
+        @Test
+        public void testThatSnapshotContainsPageObjectListMemoization() {
+            cut.setPageObjectListMemoization(500L);
+            assertThat(cut.getSnapshot().getPageObjectListMemoization(), is(500L));
+        }
+
+        @Test
+        public void testThatRemovingPropertyReplacesSnapshot() {
+            cut.setMarkingsActivated(true);
+            ConfigurationSnapshot snapshot = cut.getSnapshot();
+            cut.removeProperty("markings.activated");
+            assertThat(cut.getSnapshot(), is(not(sameInstance(snapshot))));
+            assertThat(cut.getSnapshot().markingsAreActivated(), is(false));
+        }
+
+    }
+
+    public static class CopyTests extends BaseTest {
+
+        @Test
+        public void testThatCopyContainsAllProperties() {
+            cut.setProperty("foo", "fooValue");
+            BaseConfiguration copy = cut.copy();
+            assertThat(copy.getStringProperty("foo"), is("fooValue"));
+            assertThat(copy.getKeys(), containsInAnyOrder("foo"));
+        }
+
+        @Test
+        public void testThatChangesOfCopyDoNotAffectOriginal() {
+            cut.setProperty("foo", "fooValue");
+            BaseConfiguration copy = cut.copy();
+            copy.setProperty("foo", "changed");
+            copy.setProperty("bar", "barValue");
+            assertThat(cut.getStringProperty("foo"), is("fooValue"));
+            assertThat(cut.getStringProperty("bar"), is(nullValue()));
+        }
+
+        @Test
+        public void testThatChangesOfOriginalDoNotAffectCopy() {
+            cut.setProperty("foo", "fooValue");
+            BaseConfiguration copy = cut.copy();
+            cut.removeProperty("foo");
+            assertThat(copy.getStringProperty("foo"), is("fooValue"));
+        }
+
+    }
+
     @RunWith(MockitoJUnitRunner.class)
     public static class BehaviorTests extends BaseTest {
 
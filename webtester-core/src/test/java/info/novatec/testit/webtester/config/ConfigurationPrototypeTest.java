@@ -0,0 +1,138 @@
+package info.novatec.testit.webtester.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
+import info.novatec.testit.webtester.api.config.ConfigurationExporter;
+import info.novatec.testit.webtester.api.config.TrackableConfigurationAdapter;
+
+
+public class ConfigurationPrototypeTest {
+
+    TestAdapter adapter = new TestAdapter();
+    ConfigurationExporter exporter = mock(ConfigurationExporter.class);
+
+    ConfigurationPrototype cut =
+        new ConfigurationPrototype(Collections.singletonList(adapter), Collections.singletonList(exporter));
+
+    @Test
+    public void testThatTrackableAdaptersAreOnlyUsedOnceAsLongAsTheirSourceIsUnchanged() {
+
+        cut.create();
+        cut.create();
+        cut.create();
+
+        assertThat(adapter.adaptations, is(1));
+        verify(exporter, times(1)).export("foo", "fooValue");
+
+    }
+
+    @Test
+    public void testThatConfigurationIsBuiltAgainWhenSourceChanged() {
+
+        cut.create();
+        adapter.lastModified = 42L;
+        Configuration configuration = cut.create();
+
+        assertThat(adapter.adaptations, is(2));
+        assertThat(configuration.getStringProperty("foo"), is("fooValue"));
+
+    }
+
+    @Test
+    public void testThatCreatedConfigurationsAreIndependentOfEachOther() {
+
+        BaseConfiguration first = cut.create();
+        BaseConfiguration second = cut.create();
+        first.setProperty("foo", "changed");
+        second.removeProperty("foo");
+
+        assertThat(first, is(not(sameInstance(second))));
+        assertThat(first.getStringProperty("foo"), is("changed"));
+        assertThat(second.getStringProperty("foo"), is(nullValue()));
+        assertThat(cut.create().getStringProperty("foo"), is("fooValue"));
+
+    }
+
+    @Test
+    public void testThatChangesOfCreatedConfigurationsAreStillExported() {
+        cut.create().setProperty("bar", "barValue");
+        verify(exporter).export("bar", "barValue");
+    }
+
+    @Test
+    public void testThatUntrackableAdaptersAreUsedForEveryConfiguration() {
+
+        ConfigurationAdapter untrackable = mock(ConfigurationAdapter.class);
+        ConfigurationPrototype prototype = new ConfigurationPrototype(Arrays.asList(adapter, untrackable),
+            Collections.<ConfigurationExporter> emptyList());
+
+        prototype.create();
+        prototype.create();
+
+        assertThat(adapter.adaptations, is(2));
+        verify(untrackable, times(2)).adapt(any(Configuration.class));
+
+    }
+
+    @Test
+    public void testThatAdaptersReportingUntrackableSourceAreUsedForEveryConfiguration() {
+
+        adapter.lastModified = TrackableConfigurationAdapter.UNTRACKABLE;
+
+        cut.create();
+        cut.create();
+
+        assertThat(adapter.adaptations, is(2));
+
+    }
+
+    @Test
+    public void testThatBuildersSharingPrototypeShareTheMemoizedConfiguration() {
+
+        new BaseConfigurationBuilder(cut).build();
+        new BaseConfigurationBuilder(cut).build();
+        assertThat(adapter.adaptations, is(1));
+
+        ConfigurationAdapter additional = mock(ConfigurationAdapter.class);
+        doReturn(true).when(additional).adapt(any(Configuration.class));
+        new BaseConfigurationBuilder(cut).withAdapter(additional).build();
+        assertThat(adapter.adaptations, is(2));
+
+    }
+
+    private static class TestAdapter implements TrackableConfigurationAdapter {
+
+        int adaptations;
+        long lastModified = 1L;
+
+        @Override
+        public boolean adapt(Configuration configuration) {
+            adaptations++;
+            configuration.setProperty("foo", "fooValue");
+            return true;
+        }
+
+        @Override
+        public long getLastModified() {
+            return lastModified;
+        }
+
+    }
+
+}
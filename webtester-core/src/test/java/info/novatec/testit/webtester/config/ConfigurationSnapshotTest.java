@@ -0,0 +1,38 @@
+package info.novatec.testit.webtester.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+
+
+public class ConfigurationSnapshotTest {
+
+    Configuration configuration = mock(Configuration.class);
+
+    @Test
+    public void testThatSnapshotOfOtherConfigurationsReflectsTheirCurrentValues() {
+
+        doReturn(1).when(configuration).getWaitTimeout();
+        assertThat(ConfigurationSnapshot.of(configuration).getWaitTimeout(), is(1));
+
+        doReturn(2).when(configuration).getWaitTimeout();
+        assertThat(ConfigurationSnapshot.of(configuration).getWaitTimeout(), is(2));
+
+    }
+
+    @Test
+    public void testThatMarkingColorsAreNotReadIfMarkingsAreDeactivated() {
+        ConfigurationSnapshot snapshot = ConfigurationSnapshot.of(configuration);
+        assertThat(snapshot.getMarkingsColorUsedBackground(), is(nullValue()));
+        verify(configuration, never()).getMarkingsColorUsedBackground();
+    }
+
+}
@@ -0,0 +1,224 @@
+package info.novatec.testit.webtester.eventsystem;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+
+
+public class AsynchronousEventDispatcherTest {
+
+    private final RecordingListener listener = new RecordingListener();
+    private AsynchronousEventDispatcher cut;
+
+    @After
+    public void shutdownDispatcher() {
+        listener.release();
+        if (cut != null) {
+            cut.shutdown();
+        }
+    }
+
+    @Test
+    public void testThatEventsOfTheSameBrowserAreDeliveredInOrder() {
+
+        cut = start(10, BackPressurePolicy.BLOCK, 4);
+        BrowserIdentification browser = new BrowserIdentification();
+        List<Event> events = new ArrayList<Event>();
+        for (int i = 0; i < 50; i++) {
+            Event event = event(browser);
+            events.add(event);
+            cut.dispatch(event, listeners());
+        }
+        cut.flush();
+
+        assertThat(listener.getEvents(), is(events));
+
+    }
+
+    @Test
+    public void testThatEventsAreDiscardedWhenQueueIsFullAndPolicyIsDrop() throws InterruptedException {
+
+        cut = start(1, BackPressurePolicy.DROP, 1);
+        BrowserIdentification browser = new BrowserIdentification();
+        Event blocking = event(browser);
+        Event queued = event(browser);
+        Event dropped = event(browser);
+
+        listener.blockOn(blocking);
+        cut.dispatch(blocking, listeners());
+        listener.awaitBlocked();
+        cut.dispatch(queued, listeners());
+        cut.dispatch(dropped, listeners());
+        listener.release();
+        cut.flush();
+
+        assertThat(listener.getEvents(), contains(blocking, queued));
+        assertThat(cut.getNumberOfDroppedEvents(), is(1L));
+
+    }
+
+    @Test
+    public void testThatPendingEventOfSameTypeAndBrowserIsReplacedWhenPolicyIsCoalesce()
+        throws InterruptedException {
+
+        cut = start(1, BackPressurePolicy.COALESCE, 1);
+        BrowserIdentification browser = new BrowserIdentification();
+        Event blocking = event(browser);
+        Event superseded = event(browser);
+        Event latest = event(browser);
+
+        listener.blockOn(blocking);
+        cut.dispatch(blocking, listeners());
+        listener.awaitBlocked();
+        cut.dispatch(superseded, listeners());
+        cut.dispatch(latest, listeners());
+        listener.release();
+        cut.flush();
+
+        assertThat(listener.getEvents(), contains(blocking, latest));
+        assertThat(cut.getNumberOfDroppedEvents(), is(1L));
+
+    }
+
+    @Test
+    public void testThatCoalescedEventKeepsPositionOfReplacedEvent() throws InterruptedException {
+
+        cut = start(2, BackPressurePolicy.COALESCE, 1);
+        BrowserIdentification browser = new BrowserIdentification();
+        Event blocking = event(browser);
+        Event superseded = event(browser);
+        Event other = event(new BrowserIdentification());
+        Event latest = event(browser);
+
+        listener.blockOn(blocking);
+        cut.dispatch(blocking, listeners());
+        listener.awaitBlocked();
+        cut.dispatch(superseded, listeners());
+        cut.dispatch(other, listeners());
+        cut.dispatch(latest, listeners());
+        listener.release();
+        cut.flush();
+
+        assertThat(listener.getEvents(), contains(blocking, latest, other));
+        assertThat(cut.getNumberOfDroppedEvents(), is(1L));
+
+    }
+
+    @Test
+    public void testThatEventsFiredByListenersAreQueuedEvenIfQueueIsFull() {
+
+        cut = start(1, BackPressurePolicy.BLOCK, 1);
+        final BrowserIdentification browser = new BrowserIdentification();
+        final Event followUp = event(browser);
+        Event trigger = event(browser);
+
+        EventListener firingListener = new EventListener() {
+
+            @Override
+            public void eventOccurred(Event event) {
+                if (event != followUp) {
+                    cut.dispatch(followUp, listeners());
+                    cut.dispatch(followUp, listeners());
+                    cut.flush();
+                }
+            }
+
+        };
+        List<EventListener> listeners = new ArrayList<EventListener>(listeners());
+        listeners.add(0, firingListener);
+        cut.dispatch(trigger, listeners);
+        cut.flush();
+
+        assertThat(listener.getEvents(), contains(trigger, followUp, followUp));
+
+    }
+
+    @Test
+    public void testThatEventsAreNotQueuedAfterShutdown() {
+        cut = start(1, BackPressurePolicy.BLOCK, 1);
+        cut.shutdown();
+        assertThat(cut.dispatch(event(new BrowserIdentification()), listeners()), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatQueueCapacityMustBePositive() {
+        new AsynchronousEventDispatcher(0, BackPressurePolicy.BLOCK, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatPolicyIsRequired() {
+        new AsynchronousEventDispatcher(1, null, 1);
+    }
+
+    private static AsynchronousEventDispatcher start(int capacity, BackPressurePolicy policy, int lanes) {
+        AsynchronousEventDispatcher dispatcher = new AsynchronousEventDispatcher(capacity, policy, lanes);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    private List<EventListener> listeners() {
+        return Collections.<EventListener> singletonList(listener);
+    }
+
+    private static Event event(BrowserIdentification browser) {
+        Event event = mock(Event.class);
+        when(event.getBrowserIdentification()).thenReturn(browser);
+        return event;
+    }
+
+    private static class RecordingListener implements EventListener {
+
+        private final List<Event> events = Collections.synchronizedList(new ArrayList<Event>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile Event blockingEvent;
+
+        @Override
+        public void eventOccurred(Event event) {
+            events.add(event);
+            if (event == blockingEvent) {
+                blocked.countDown();
+                try {
+                    released.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        void blockOn(Event event) {
+            blockingEvent = event;
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS), is(true));
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<Event> getEvents() {
+            synchronized ( events ) {
+                return new ArrayList<Event>(events);
+            }
+        }
+
+    }
+
+}
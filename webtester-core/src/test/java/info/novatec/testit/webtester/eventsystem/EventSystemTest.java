@@ -13,6 +13,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 import org.junit.After;
 import org.junit.Before;
@@ -26,9 +27,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
 import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.events.EventListener;
 import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.eventsystem.events.browser.AbstractBrowserEvent;
 import info.novatec.testit.webtester.eventsystem.events.browser.RefreshedPageEvent;
 
 
@@ -51,9 +54,159 @@ public class EventSystemTest {
     @Before
     @After
     public void clearRegistry() {
+        EventSystem.disableAsynchronousDispatch();
         EventSystem.clearListeners();
     }
 
+    @Test
+    public void testThatBrowserScopedListenersAreOnlyNotifiedOfEventsOfTheirBrowser() {
+
+        BrowserIdentification browser = new BrowserIdentification();
+        Event ownEvent = eventOfBrowser(browser);
+        Event otherEvent = eventOfBrowser(new BrowserIdentification());
+
+        registerListener(browser, listener1);
+        fireEvent(ownEvent);
+        fireEvent(otherEvent);
+        fireEvent(event);
+
+        verify(listener1).eventOccurred(ownEvent);
+        verifyNoMoreInteractions(listener1);
+
+    }
+
+    @Test
+    public void testThatTypeScopedListenersAreOnlyNotifiedOfEventsOfTheirTypes() {
+
+        Event refreshedEvent = new RefreshedPageEvent(WebDriverBrowser.forWebDriver(mock(WebDriver.class)).build());
+
+        registerListener(null, listener1, AbstractBrowserEvent.class);
+        fireEvent(event);
+        fireEvent(refreshedEvent);
+
+        verify(listener1).eventOccurred(refreshedEvent);
+        verifyNoMoreInteractions(listener1);
+
+    }
+
+    @Test
+    public void testThatScopedAndGlobalListenersAreNotifiedInOrderOfTheirRegistration() {
+
+        BrowserIdentification browser = new BrowserIdentification();
+        Event browserEvent = eventOfBrowser(browser);
+
+        registerListener(browser, listener1);
+        registerListener(listener2);
+        registerListener(browser, listener2);
+        fireEvent(browserEvent);
+
+        InOrder inOrder = inOrder(listener1, listener2);
+        inOrder.verify(listener1).eventOccurred(browserEvent);
+        inOrder.verify(listener2, times(2)).eventOccurred(browserEvent);
+        inOrder.verifyNoMoreInteractions();
+
+    }
+
+    @Test
+    public void testThatDeregisteringRemovesOnlyTheEarliestRegistrationOfAListener() {
+
+        BrowserIdentification browser = new BrowserIdentification();
+        Event browserEvent = eventOfBrowser(browser);
+
+        registerListener(browser, listener1);
+        registerListener(listener1);
+        deregisterListener(listener1);
+        fireEvent(browserEvent);
+        deregisterListener(listener1);
+        fireEvent(browserEvent);
+
+        verify(listener1).eventOccurred(browserEvent);
+        verifyNoMoreInteractions(listener1);
+
+    }
+
+    @Test
+    public void testThatDeregisteringListenersOfABrowserKeepsGlobalListeners() {
+
+        BrowserIdentification browser = new BrowserIdentification();
+        Event browserEvent = eventOfBrowser(browser);
+
+        registerListener(browser, listener1);
+        registerListener(listener2);
+        EventSystem.deregisterListeners(browser);
+        fireEvent(browserEvent);
+
+        verify(listener2).eventOccurred(browserEvent);
+        verifyZeroInteractions(listener1);
+        assertThat(EventSystem.hasListenersFor(Event.class, browser), is(true));
+
+    }
+
+    @Test
+    public void testThatClosingABrowserDeregistersItsListeners() {
+
+        Browser browser = WebDriverBrowser.forWebDriver(mock(WebDriver.class)).build();
+        registerListener(browser.getIdentification(), listener1);
+
+        browser.close();
+
+        assertThat(EventSystem.hasListenersFor(Event.class, browser.getIdentification()), is(false));
+
+    }
+
+    @Test
+    public void testThatInterestInEventTypesCanBeQueried() {
+
+        BrowserIdentification browser = new BrowserIdentification();
+        assertThat(EventSystem.hasListenersFor(RefreshedPageEvent.class, browser), is(false));
+
+        registerListener(browser, listener1, AbstractBrowserEvent.class);
+        assertThat(EventSystem.hasListenersFor(RefreshedPageEvent.class, browser), is(true));
+        assertThat(EventSystem.hasListenersFor(Event.class, browser), is(false));
+        assertThat(EventSystem.hasListenersFor(RefreshedPageEvent.class, new BrowserIdentification()), is(false));
+
+    }
+
+    @Test
+    public void testThatEventsAreDispatchedSynchronouslyByDefault() {
+        assertThat(EventSystem.isAsynchronousDispatchActive(), is(false));
+    }
+
+    @Test
+    public void testThatAsynchronouslyDispatchedEventsAreDeliveredOnFlush() {
+
+        EventSystem.enableAsynchronousDispatch(10, BackPressurePolicy.BLOCK);
+        registerListener(listener1);
+        registerListener(listener2);
+        fireEvent(event);
+        EventSystem.flush();
+
+        InOrder inOrder = inOrder(listener1, listener2);
+        inOrder.verify(listener1).eventOccurred(event);
+        inOrder.verify(listener2).eventOccurred(event);
+        inOrder.verifyNoMoreInteractions();
+
+    }
+
+    @Test
+    public void testThatDisablingAsynchronousDispatchDeliversPendingEvents() {
+
+        EventSystem.enableAsynchronousDispatch(10, BackPressurePolicy.BLOCK, 2);
+        registerListener(listener1);
+        fireEvent(event);
+        EventSystem.disableAsynchronousDispatch();
+
+        verify(listener1).eventOccurred(event);
+        assertThat(EventSystem.isAsynchronousDispatchActive(), is(false));
+
+    }
+
+    @Test
+    public void testThatFlushDoesNothingInSynchronousMode() {
+        EventSystem.flush();
+        assertThat(EventSystem.getNumberOfDroppedEvents(), is(0L));
+    }
+
     @Test
     public void testThatListenersAreNotifiedOfEventsInOrderOfTheirRegistration() {
 
@@ -165,6 +318,12 @@ public class EventSystemTest {
 
     }
 
+    private static Event eventOfBrowser(BrowserIdentification browser) {
+        Event browserEvent = mock(Event.class);
+        when(browserEvent.getBrowserIdentification()).thenReturn(browser);
+        return browserEvent;
+    }
+
     private Thread createAndStartThread(final Runnable runnable) {
         Thread thread = new Thread(new Runnable() {
 
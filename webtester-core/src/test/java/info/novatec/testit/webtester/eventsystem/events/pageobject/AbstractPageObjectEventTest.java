@@ -0,0 +1,76 @@
+package info.novatec.testit.webtester.eventsystem.events.pageobject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserIdentification;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class AbstractPageObjectEventTest {
+
+    private CountingPageObject pageObject;
+
+    @Before
+    public void setUp() {
+        Browser browser = mock(Browser.class);
+        doReturn(new BrowserIdentification()).when(browser).getIdentification();
+        doReturn(mock(WebDriver.class)).when(browser).getWebDriver();
+        pageObject = new CountingPageObject(browser);
+    }
+
+    @Test
+    public void testThatSubjectNameIsNotRenderedOnCreation() {
+        new ClickedEvent(pageObject);
+        assertThat(pageObject.renderings, is(0));
+    }
+
+    @Test
+    public void testThatSubjectNameIsRenderedOnlyOnce() {
+
+        ClickedEvent event = new ClickedEvent(pageObject);
+
+        assertThat(event.getSubjectName(), is("subject"));
+        assertThat(event.getEventMessage(), is("clicked on subject"));
+        assertThat(pageObject.renderings, is(1));
+
+    }
+
+    @Test
+    public void testThatMonotonicCreationTimeIsCaptured() {
+        long before = System.nanoTime();
+        ClickedEvent event = new ClickedEvent(pageObject);
+        assertThat(event.getCreationNanoTime() - before, is(greaterThanOrEqualTo(0L)));
+    }
+
+    private static class CountingPageObject extends PageObject {
+
+        private final Browser browser;
+        private int renderings;
+
+        CountingPageObject(Browser browser) {
+            this.browser = browser;
+        }
+
+        @Override
+        public Browser getBrowser() {
+            return browser;
+        }
+
+        @Override
+        public String toString() {
+            renderings++;
+            return "subject";
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package info.novatec.testit.webtester.internal;
+
+import static java.util.Arrays.asList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.Color;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class BufferedMarkingsTest {
+
+    static final Color RED = Color.fromString("#ff0000");
+    static final Color GREEN = Color.fromString("#00ff00");
+    static final Color BLUE = Color.fromString("#0000ff");
+
+    Configuration configuration = mock(Configuration.class);
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+    Browser browser = mock(Browser.class);
+
+    WebElement firstElement = mock(WebElement.class);
+    WebElement secondElement = mock(WebElement.class);
+    PageObject first = pageObject(firstElement);
+    PageObject second = pageObject(secondElement);
+
+    @Before
+    public void stubBrowser() {
+        doReturn(configuration).when(browser).getConfiguration();
+        doReturn(javaScript).when(browser).javaScript();
+        doReturn(60000).when(configuration).getMarkingsBufferedInterval();
+    }
+
+    @Test
+    public void testThatMarkingsAreBufferedUntilFlushed() {
+
+        BufferedMarkings.mark(first, RED, RED);
+        BufferedMarkings.mark(second, GREEN, GREEN);
+        verify(javaScript, never()).execute(anyString(), any(), any(), any());
+
+        BufferedMarkings.flush(browser);
+        verify(javaScript, times(1)).execute(anyString(), eq(asList(firstElement, secondElement)),
+            eq(asList("#ff0000", "#00ff00")), eq(asList("#ff0000", "#00ff00")));
+
+    }
+
+    @Test
+    public void testThatElementsAreOnlyMarkedOncePerBatchWithTheLastColors() {
+
+        BufferedMarkings.mark(first, RED, RED);
+        BufferedMarkings.mark(second, GREEN, GREEN);
+        BufferedMarkings.mark(first, BLUE, GREEN);
+        BufferedMarkings.flush(browser);
+
+        verify(javaScript, times(1)).execute(anyString(), eq(asList(firstElement, secondElement)),
+            eq(asList("#0000ff", "#00ff00")), eq(asList("#00ff00", "#00ff00")));
+
+    }
+
+    @Test
+    public void testThatMarkingsAreAppliedWhenIntervalHasPassed() {
+
+        doReturn(0).when(configuration).getMarkingsBufferedInterval();
+        BufferedMarkings.mark(first, RED, RED);
+
+        verify(javaScript, times(1)).execute(anyString(), eq(Collections.singletonList(firstElement)),
+            eq(Collections.singletonList("#ff0000")), eq(Collections.singletonList("#ff0000")));
+
+    }
+
+    @Test
+    public void testThatFlushingEmptyBufferDoesNotExecuteScript() {
+        BufferedMarkings.flush(browser);
+        BufferedMarkings.mark(first, RED, RED);
+        BufferedMarkings.flush(browser);
+        BufferedMarkings.flush(browser);
+        verify(javaScript, times(1)).execute(anyString(), any(), any(), any());
+    }
+
+    @Test
+    public void testThatStaleElementsAreSkippedWhenApplyingMarkings() {
+
+        doThrow(new StaleElementReferenceException("stale")).when(javaScript)
+            .execute(anyString(), eq(asList(firstElement, secondElement)), any(), any());
+        doThrow(new StaleElementReferenceException("stale")).when(javaScript)
+            .execute(anyString(), eq(Collections.singletonList(firstElement)), any(), any());
+
+        BufferedMarkings.mark(first, RED, RED);
+        BufferedMarkings.mark(second, GREEN, GREEN);
+        BufferedMarkings.flush(browser);
+
+        verify(javaScript, times(1)).execute(anyString(), eq(Collections.singletonList(secondElement)),
+            eq(Collections.singletonList("#00ff00")), eq(Collections.singletonList("#00ff00")));
+
+    }
+
+    @Test
+    public void testThatDiscardedMarkingsAreNotApplied() {
+        BufferedMarkings.mark(first, RED, RED);
+        BufferedMarkings.discard(browser);
+        BufferedMarkings.flush(browser);
+        verify(javaScript, never()).execute(anyString(), any(), any(), any());
+    }
+
+    private PageObject pageObject(WebElement webElement) {
+        PageObject pageObject = mock(PageObject.class);
+        doReturn(browser).when(pageObject).getBrowser();
+        doReturn(webElement).when(pageObject).getWebElement();
+        return pageObject;
+    }
+
+}
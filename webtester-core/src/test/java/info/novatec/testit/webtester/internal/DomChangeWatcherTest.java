@@ -0,0 +1,115 @@
+package info.novatec.testit.webtester.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class DomChangeWatcherTest {
+
+    Browser browser;
+    WebDriver webDriver;
+    JavascriptExecutor javascriptExecutor;
+    WebDriver.Timeouts timeouts;
+    WebElement webElement;
+    PageObject pageObject;
+
+    DomChangeWatcher cut = new DomChangeWatcher(ObservedStates.VISIBILITY);
+
+    @Before
+    public void setUp() {
+
+        webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        javascriptExecutor = ( JavascriptExecutor ) webDriver;
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        timeouts = mock(WebDriver.Timeouts.class);
+        doReturn(options).when(webDriver).manage();
+        doReturn(timeouts).when(options).timeouts();
+
+        browser = mock(Browser.class);
+        doReturn(webDriver).when(browser).getWebDriver();
+        webElement = mock(WebElement.class);
+        pageObject = mock(PageObject.class);
+        doReturn(browser).when(pageObject).getBrowser();
+        doReturn(webElement).when(pageObject).getWebElement();
+
+    }
+
+    @Test
+    public void testThatStateReturnedByBrowserIsExpectedOnNextCall() {
+
+        doReturn("state").when(javascriptExecutor).executeAsyncScript(anyString(), anyVararg());
+
+        assertThat(cut.awaitChange(pageObject, 100L), is(true));
+        assertThat(cut.awaitChange(pageObject, 100L), is(true));
+
+        verify(javascriptExecutor).executeAsyncScript(anyString(), eq(webElement), eq(null), eq(100L));
+        verify(javascriptExecutor).executeAsyncScript(anyString(), eq(webElement), eq("state"), eq(100L));
+
+    }
+
+    @Test
+    public void testThatBrowserCantWatchDetachedElement() {
+
+        doReturn(ObservedStates.DETACHED).when(javascriptExecutor).executeAsyncScript(anyString(), anyVararg());
+
+        assertThat(cut.awaitChange(pageObject, 100L), is(false));
+        assertThat(cut.awaitChange(pageObject, 100L), is(false));
+
+        verify(javascriptExecutor, times(2)).executeAsyncScript(anyString(), eq(webElement), eq(null), eq(100L));
+
+    }
+
+    @Test
+    public void testThatScriptTimeoutIsOnlyRaisedIfNecessary() {
+
+        DomChangeWatcher other = new DomChangeWatcher(ObservedStates.TEXT);
+        cut.awaitChange(pageObject, 1000L);
+        other.awaitChange(pageObject, 500L);
+
+        verify(timeouts, times(1)).setScriptTimeout(anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(timeouts).setScriptTimeout(2000L, TimeUnit.MILLISECONDS);
+
+    }
+
+    @Test
+    public void testThatBrowserCantWatchIfScriptFails() {
+        doThrow(WebDriverException.class).when(javascriptExecutor).executeAsyncScript(anyString(), anyVararg());
+        assertThat(cut.awaitChange(pageObject, 100L), is(false));
+    }
+
+    @Test
+    public void testThatBrowserCantWatchIfElementIsNotPresent() {
+        doThrow(WebDriverException.class).when(pageObject).getWebElement();
+        assertThat(cut.awaitChange(pageObject, 100L), is(false));
+    }
+
+    @Test
+    public void testThatBrowserCantWatchWithoutJavaScriptSupport() {
+        WebDriver webDriverWithoutJavaScript = mock(WebDriver.class);
+        doReturn(webDriverWithoutJavaScript).when(browser).getWebDriver();
+        assertThat(cut.awaitChange(pageObject, 100L), is(false));
+    }
+
+}
@@ -0,0 +1,47 @@
+package info.novatec.testit.webtester.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import com.google.common.base.Predicate;
+
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.conditions.AttributeWithValue;
+import info.novatec.testit.webtester.utils.conditions.Interactable;
+import info.novatec.testit.webtester.utils.conditions.ReadOnly;
+import info.novatec.testit.webtester.utils.conditions.syntax.Either;
+import info.novatec.testit.webtester.utils.conditions.syntax.Is;
+import info.novatec.testit.webtester.utils.conditions.syntax.Not;
+
+
+public class ElementSnapshotsTest {
+
+    @Test
+    public void testThatAttributesOfNestedConditionsAreCollected() {
+        Either<PageObject> condition = new Either<PageObject>(new Is<PageObject>(new ReadOnly()),
+            new Not<PageObject>(new AttributeWithValue("foo", "bar")), new Interactable());
+        assertThat(ElementSnapshots.requiredAttributes(condition), contains("foo", "readonly"));
+    }
+
+    @Test
+    public void testThatNestedConditionsCanBeEvaluated() {
+        assertThat(ElementSnapshots.canEvaluate(new Not<PageObject>(new Is<PageObject>(new Interactable()))), is(true));
+    }
+
+    @Test
+    public void testThatCustomPredicatesCantBeEvaluated() {
+        Predicate<PageObject> custom = customPredicate();
+        assertThat(ElementSnapshots.canEvaluate(custom), is(false));
+        assertThat(ElementSnapshots.canEvaluate(new Is<PageObject>(custom)), is(false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<PageObject> customPredicate() {
+        return mock(Predicate.class);
+    }
+
+}
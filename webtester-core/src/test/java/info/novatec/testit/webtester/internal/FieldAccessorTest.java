@@ -0,0 +1,69 @@
+package info.novatec.testit.webtester.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+import utils.testclasses.ClassWithFields;
+
+
+public class FieldAccessorTest {
+
+    private static final String TEST_VALUE = "testValue";
+
+    @Test
+    public final void testSet_PublicField_ValueSet() throws Exception {
+        ClassWithFields instance = new ClassWithFields();
+        accessorFor("publicValue").set(instance, TEST_VALUE);
+        assertThat(instance.getPublicValue(), is(TEST_VALUE));
+    }
+
+    @Test
+    public final void testSet_PrivateField_ValueSet() throws Exception {
+        ClassWithFields instance = new ClassWithFields();
+        accessorFor("privateValue").set(instance, TEST_VALUE);
+        assertThat(instance.getPrivateValue(), is(TEST_VALUE));
+    }
+
+    @Test
+    public final void testSet_ProtectedField_ValueSet() throws Exception {
+        ClassWithFields instance = new ClassWithFields();
+        accessorFor("protectedValue").set(instance, TEST_VALUE);
+        assertThat(instance.getProtectedValue(), is(TEST_VALUE));
+    }
+
+    @Test
+    public final void testSet_PackageProtectedField_ValueSet() throws Exception {
+        ClassWithFields instance = new ClassWithFields();
+        accessorFor("packageProtectedValue").set(instance, TEST_VALUE);
+        assertThat(instance.getPackageProtectedValue(), is(TEST_VALUE));
+    }
+
+    @Test
+    public final void testGet_PrivateField_ValueReturned() throws Exception {
+        ClassWithFields instance = new ClassWithFields();
+        FieldAccessor accessor = accessorFor("privateValue");
+        accessor.set(instance, TEST_VALUE);
+        assertThat(accessor.get(instance), equalTo(( Object ) TEST_VALUE));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public final void testSet_ValueOfWrongType_ClassCastException() throws Exception {
+        accessorFor("privateValue").set(new ClassWithFields(), Integer.valueOf(42));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public final void testGet_InstanceOfWrongType_ClassCastException() throws Exception {
+        accessorFor("privateValue").get(new Object());
+    }
+
+    private static FieldAccessor accessorFor(String fieldName) throws ReflectiveOperationException {
+        Field field = ClassWithFields.class.getDeclaredField(fieldName);
+        return FieldAccessor.forField(field);
+    }
+
+}
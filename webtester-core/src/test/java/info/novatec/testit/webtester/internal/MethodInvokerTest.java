@@ -0,0 +1,92 @@
+package info.novatec.testit.webtester.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+
+import utils.testclasses.ClassWithMethods;
+
+
+public class MethodInvokerTest {
+
+    @Test
+    public final void testInvoke_PublicMethod_MethodInvoked() throws Exception {
+        assertThat(invoke("publicMethod"), equalTo(( Object ) "public"));
+    }
+
+    @Test
+    public final void testInvoke_PrivateMethod_MethodInvoked() throws Exception {
+        assertThat(invoke("privateMethod"), equalTo(( Object ) "private"));
+    }
+
+    @Test
+    public final void testInvoke_ProtectedMethod_MethodInvoked() throws Exception {
+        assertThat(invoke("protectedMethod"), equalTo(( Object ) "protected"));
+    }
+
+    @Test
+    public final void testInvoke_PackageProtectedMethod_MethodInvoked() throws Exception {
+        assertThat(invoke("packageProtectedMethod"), equalTo(( Object ) "package protected"));
+    }
+
+    @Test
+    public final void testInvoke_VoidMethod_NullReturned() throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(TestClass.class.getDeclaredMethod("voidMethod"));
+        assertThat(invoker.invoke(new TestClass()), nullValue());
+    }
+
+    @Test
+    public final void testInvoke_StaticMethod_InstanceIgnored() throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(TestClass.class.getDeclaredMethod("staticMethod"));
+        assertThat(invoker.invoke(null), equalTo(( Object ) "static"));
+    }
+
+    @Test
+    public final void testInvoke_ExceptionInMethod_ExceptionIsWrapped() throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(TestClass.class.getDeclaredMethod("throwingMethod"));
+        try {
+            invoker.invoke(new TestClass());
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), instanceOf(UnsupportedOperationException.class));
+            return;
+        }
+        throw new AssertionError("exception was not thrown");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testForMethod_MethodWithParameters_Exception() throws Exception {
+        MethodInvoker.forMethod(TestClass.class.getDeclaredMethod("methodWithParameter", String.class));
+    }
+
+    private static Object invoke(String methodName) throws Exception {
+        MethodInvoker invoker = MethodInvoker.forMethod(ClassWithMethods.class.getDeclaredMethod(methodName));
+        return invoker.invoke(new ClassWithMethods());
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestClass {
+
+        void voidMethod() {
+            // nothing to do
+        }
+
+        static String staticMethod() {
+            return "static";
+        }
+
+        void throwingMethod() {
+            throw new UnsupportedOperationException();
+        }
+
+        void methodWithParameter(String value) {
+            // nothing to do
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package info.novatec.testit.webtester.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.common.base.Predicate;
+
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.conditions.AttributeWithValue;
+import info.novatec.testit.webtester.utils.conditions.Enabled;
+import info.novatec.testit.webtester.utils.conditions.Visible;
+import info.novatec.testit.webtester.utils.conditions.syntax.Either;
+import info.novatec.testit.webtester.utils.conditions.syntax.Is;
+import info.novatec.testit.webtester.utils.conditions.syntax.Not;
+
+
+public class ObservedStatesTest {
+
+    @Test
+    public void testThatStringsAreQuotedAsJavaScriptLiterals() {
+        assertThat(ObservedStates.quote("it's \"quoted\"\n"), is("'it\\'s \\\"quoted\\\"\\n'"));
+        assertThat(ObservedStates.quote(null), is("null"));
+    }
+
+    @Test
+    public void testThatAttributeNamesAreQuoted() {
+        assertThat(new AttributeWithValue("data-'x'", "foo").getObservedState(),
+            is("element.getAttribute('data-\\'x\\'')+'/'+element['data-\\'x\\'']"));
+    }
+
+    @Test
+    public void testThatSyntaxConditionsDelegateToWrappedCondition() {
+        assertThat(new Is<PageObject>(new Visible()).getObservedState(), is(ObservedStates.VISIBILITY));
+        assertThat(new Not<PageObject>(new Visible()).getObservedState(), is(ObservedStates.VISIBILITY));
+    }
+
+    @Test
+    public void testThatCombinedStatesContainAllExpressions() {
+        String combined = new Either<PageObject>(new Visible(), new Enabled()).getObservedState();
+        assertThat(combined, is(ObservedStates.combine(ObservedStates.VISIBILITY, ObservedStates.ENABLEMENT)));
+        assertThat(combined, is("''+'|'+(" + ObservedStates.VISIBILITY + ")+'|'+(" + ObservedStates.ENABLEMENT + ')'));
+    }
+
+    @Test
+    public void testThatCustomPredicatesCantBeObserved() {
+        assertThat(ObservedStates.of(new CustomPredicate()), is(nullValue()));
+        assertThat(new Is<PageObject>(new CustomPredicate()).getObservedState(), is(nullValue()));
+        assertThat(ObservedStates.ofAll(Arrays.asList(new Visible(), new CustomPredicate())), is(nullValue()));
+    }
+
+    private static class CustomPredicate implements Predicate<PageObject> {
+
+        @Override
+        public boolean apply(PageObject pageObject) {
+            return true;
+        }
+
+    }
+
+}
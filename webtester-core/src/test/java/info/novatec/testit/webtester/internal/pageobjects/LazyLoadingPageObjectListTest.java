@@ -0,0 +1,121 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.AbstractPageObjectTest;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectFactory;
+import info.novatec.testit.webtester.api.pageobjects.PageObjectList;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+public class LazyLoadingPageObjectListTest extends AbstractPageObjectTest {
+
+    WebElement first = mock(WebElement.class);
+    WebElement second = mock(WebElement.class);
+    WebElement third = mock(WebElement.class);
+
+    PageObjectFactory factory = mock(PageObjectFactory.class, delegatesTo(new DefaultPageObjectFactory()));
+
+    LazyLoadingPageObjectList<PageObject> cut;
+
+    @Before
+    public void setUp() {
+        doReturn(factory).when(browser).getPageObjectFactory();
+        elementsOnPage(first, second, third);
+        cut = new LazyLoadingPageObjectList<>(PageObject.class, model);
+    }
+
+    @Test
+    public void testThatSizeDoesNotCreatePageObjects() {
+        assertThat(cut.size(), is(3));
+        verify(factory, never()).create(eq(PageObject.class), any(PageObjectModel.class), any(WebElement.class));
+    }
+
+    @Test
+    public void testThatIndexBasedAccessOnlyCreatesRequestedPageObject() {
+        PageObject pageObject = cut.get(1);
+        assertThat(pageObject.getWebElement(), is(sameInstance(second)));
+        verify(factory, times(1)).create(eq(PageObject.class), any(PageObjectModel.class), any(WebElement.class));
+    }
+
+    @Test
+    public void testThatListIsResolvedForEachOperationWithoutMemoization() {
+        cut.size();
+        cut.get(0);
+        cut.iterator();
+        verify(webDriver, times(3)).findElements(any(By.class));
+    }
+
+    @Test
+    public void testThatListIsResolvedOnlyOnceWithinMemoizationWindow() {
+        doReturn(60000L).when(configuration).getPageObjectListMemoization();
+        cut.iterator();
+        cut.size();
+        cut.get(0);
+        verify(webDriver, times(1)).findElements(any(By.class));
+    }
+
+    @Test
+    public void testThatMemoizedListIsResolvedAgainIfPageChanged() {
+        doReturn(60000L).when(configuration).getPageObjectListMemoization();
+        cut.iterator();
+        WebElementCacheGenerations.invalidate(browser);
+        cut.size();
+        verify(webDriver, times(2)).findElements(any(By.class));
+    }
+
+    @Test
+    public void testThatSnapshotIsNotLinkedToList() {
+
+        PageObjectList<PageObject> snapshot = cut.snapshot();
+        elementsOnPage(first);
+
+        assertThat(snapshot.size(), is(3));
+        assertThat(cut.size(), is(1));
+        verify(webDriver, times(2)).findElements(any(By.class));
+
+    }
+
+    @Test
+    public void testThatMemoizedListCantBeChangedThroughIterators() {
+
+        doReturn(60000L).when(configuration).getPageObjectListMemoization();
+        Iterator<PageObject> iterator = cut.iterator();
+        iterator.next();
+
+        try {
+            iterator.remove();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        assertThat(cut.size(), is(3));
+        assertThat(cut.snapshot().size(), is(3));
+
+    }
+
+    private void elementsOnPage(WebElement... elements) {
+        List<WebElement> list = Arrays.asList(elements);
+        doReturn(list).when(webDriver).findElements(any(By.class));
+    }
+
+}
@@ -0,0 +1,137 @@
+package info.novatec.testit.webtester.internal.pageobjects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.reflect.Method;
+import java.util.LinkedList;
+import java.util.List;
+import javax.annotation.PostConstruct;
+
+import org.junit.Test;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.annotations.Visible;
+import info.novatec.testit.webtester.internal.MethodInvoker;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectBlueprint.InjectableField;
+import info.novatec.testit.webtester.internal.pageobjects.PageObjectBlueprint.VisibleField;
+import info.novatec.testit.webtester.pageobjects.Button;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.TextField;
+
+
+public class PageObjectBlueprintTest {
+
+    @Test
+    public void testThatBlueprintsAreOnlyComputedOncePerClass() {
+        PageObjectBlueprint<ChildPage> first = PageObjectBlueprint.forClass(ChildPage.class);
+        PageObjectBlueprint<ChildPage> second = PageObjectBlueprint.forClass(ChildPage.class);
+        assertThat(first, is(sameInstance(second)));
+    }
+
+    @Test
+    public void testThatInjectableFieldsAreCollectedInOrderOfClassAncestry() {
+
+        List<InjectableField> fields = PageObjectBlueprint.forClass(ChildPage.class).getInjectableFields();
+        assertThat(fields, hasSize(3));
+
+        assertThat(fields.get(0).getField().getName(), is("button"));
+        assertThat(fields.get(0).getKind(), is(InjectableField.Kind.PAGE_OBJECT));
+        assertThat(fields.get(0).getName(), is("The Button"));
+        assertThat(fields.get(0).getIdentification().getSeleniumBy().toString(), is("By.id: button"));
+        assertThat(fields.get(0).getPageObjectClass(), equalTo(( Class ) Button.class));
+
+        assertThat(fields.get(1).getField().getName(), is("textFields"));
+        assertThat(fields.get(1).getKind(), is(InjectableField.Kind.PAGE_OBJECT_LIST));
+        assertThat(fields.get(1).getPageObjectClass(), equalTo(( Class ) TextField.class));
+
+        assertThat(fields.get(2).getField().getName(), is("unsupported"));
+        assertThat(fields.get(2).getKind(), is(InjectableField.Kind.UNSUPPORTED));
+        assertThat(fields.get(2).getUnsupportedClass(), equalTo(( Class ) String.class));
+
+    }
+
+    @Test
+    public void testThatPostConstructMethodsAreCollectedInOrderOfClassAncestry() throws NoSuchMethodException {
+
+        Method parentMethod = ParentPage.class.getDeclaredMethod("parentInit");
+        Method childMethod = ChildPage.class.getDeclaredMethod("childInit");
+
+        List<MethodInvoker> invokers = PageObjectBlueprint.forClass(ChildPage.class).getPostConstructMethods();
+        assertThat(invokers, hasSize(2));
+        assertThat(invokers.get(0).getMethod(), is(parentMethod));
+        assertThat(invokers.get(1).getMethod(), is(childMethod));
+
+    }
+
+    @Test
+    public void testThatVisibleFieldsAreCollectedWithTheirExpectedNumberOfVisibleElements() {
+
+        List<VisibleField> fields = PageObjectBlueprint.forClass(ChildPage.class).getVisibleFields();
+        assertThat(fields, hasSize(2));
+
+        assertThat(fields.get(0).getField().getName(), is("button"));
+        assertThat(fields.get(0).isList(), is(false));
+
+        assertThat(fields.get(1).getField().getName(), is("textFields"));
+        assertThat(fields.get(1).isList(), is(true));
+        assertThat(fields.get(1).getExpectedVisible(), is(2));
+
+    }
+
+    @Test
+    public void testThatInstancesCanBeCreatedViaNonPublicConstructors() throws ReflectiveOperationException {
+        ChildPage instance = PageObjectBlueprint.forClass(ChildPage.class).newInstance();
+        assertThat(instance.getClass(), equalTo(( Class ) ChildPage.class));
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testThatMissingDefaultConstructorIsReportedOnInstanceCreation() throws ReflectiveOperationException {
+        PageObjectBlueprint.forClass(PageWithoutDefaultConstructor.class).newInstance();
+    }
+
+    public static class ParentPage extends PageObject {
+
+        @Visible
+        @IdentifyUsing(value = "button", elementname = "The Button")
+        Button button;
+
+        @PostConstruct
+        void parentInit() {
+            // nothing to do
+        }
+
+    }
+
+    public static class ChildPage extends ParentPage {
+
+        @Visible(2)
+        @IdentifyUsing(".text")
+        List<TextField> textFields = new LinkedList<TextField>();
+
+        @IdentifyUsing("unsupported")
+        String unsupported;
+
+        TextField notInjected;
+
+        private ChildPage() {
+        }
+
+        @PostConstruct
+        void childInit() {
+            // nothing to do
+        }
+
+    }
+
+    public static class PageWithoutDefaultConstructor extends PageObject {
+
+        public PageWithoutDefaultConstructor(String value) {
+        }
+
+    }
+
+}
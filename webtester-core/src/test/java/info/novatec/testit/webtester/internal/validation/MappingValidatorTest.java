@@ -0,0 +1,143 @@
+package info.novatec.testit.webtester.internal.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+
+import info.novatec.testit.webtester.api.annotations.Mapping;
+import info.novatec.testit.webtester.api.annotations.Mappings;
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+
+
+public class MappingValidatorTest {
+
+    @Test
+    public void testThatValidatorsAreOnlyCreatedOncePerClass() {
+        MappingValidator first = MappingValidator.forClass(MappedClass.class);
+        MappingValidator second = MappingValidator.forClass(MappedClass.class);
+        assertThat(first, is(sameInstance(second)));
+    }
+
+    @Test
+    public void testThatUnmappedClassesCantBeValidated() {
+        assertThat(MappingValidator.forClass(Object.class).canValidate(), is(false));
+    }
+
+    @Test
+    public void testThatElementMatchingAnyMappingIsValid() {
+        MappingValidator.forClass(MappedClass.class).assertValidity(elementWithTag("span"));
+    }
+
+    @Test
+    public void testThatElementMatchingNoMappingIsInvalidAndAllMappingsAreDescribed() {
+        try {
+            MappingValidator.forClass(MappedClass.class).assertValidity(elementWithTag("p"));
+        } catch (WrongElementClassException e) {
+            assertThat(e.getMessage(), containsString("'div'"));
+            assertThat(e.getMessage(), containsString("'span'"));
+            return;
+        }
+        throw new AssertionError("exception was not thrown");
+    }
+
+    @Test
+    public void testThatBatchedValidationReadsAllAttributesWithOneScript() {
+
+        WebElement webElement = mock(WebElement.class);
+        Browser browser = browser(true, false);
+        JavaScriptExecutor javaScript = browser.javaScript();
+        doReturn(scriptResult("INPUT", "type", "password")).when(javaScript)
+            .executeWithReturn(anyString(), eq(webElement), eq(Arrays.asList("type", "multiple")));
+
+        MappingValidator.forClass(AttributeMappedClass.class).assertValidity(webElement, browser);
+
+        verify(webElement, never()).getTagName();
+        verify(webElement, never()).getAttribute(anyString());
+
+    }
+
+    @Test(expected = WrongElementClassException.class)
+    public void testThatBatchedValidationDetectsInvalidElements() {
+
+        WebElement webElement = mock(WebElement.class);
+        Browser browser = browser(true, false);
+        JavaScriptExecutor javaScript = browser.javaScript();
+        doReturn(scriptResult("INPUT", "type", "checkbox")).when(javaScript)
+            .executeWithReturn(anyString(), eq(webElement), any(Object[].class));
+
+        MappingValidator.forClass(AttributeMappedClass.class).assertValidity(webElement, browser);
+
+    }
+
+    @Test
+    public void testThatCachedValidationOnlyValidatesElementsOnce() {
+
+        WebElement webElement = elementWithTag("div");
+        Browser browser = browser(false, true);
+
+        MappingValidator validator = MappingValidator.forClass(CachedMappedClass.class);
+        validator.assertValidity(webElement, browser);
+        validator.assertValidity(webElement, browser);
+
+        verify(webElement, times(1)).getTagName();
+
+    }
+
+    private static Browser browser(boolean batched, boolean caching) {
+        Configuration configuration = mock(Configuration.class);
+        doReturn(batched).when(configuration).batchedValidationIsActivated();
+        doReturn(caching).when(configuration).validationCachingIsActivated();
+        Browser browser = mock(Browser.class);
+        doReturn(configuration).when(browser).getConfiguration();
+        doReturn(mock(JavaScriptExecutor.class)).when(browser).javaScript();
+        return browser;
+    }
+
+    private static Map<String, Object> scriptResult(String tag, String attribute, String value) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(attribute, value);
+        Map<String, Object> result = new HashMap<>();
+        result.put("tag", tag);
+        result.put("attributes", attributes);
+        return result;
+    }
+
+    private static WebElement elementWithTag(String tag) {
+        WebElement webElement = mock(WebElement.class);
+        doReturn(tag).when(webElement).getTagName();
+        return webElement;
+    }
+
+    @Mappings({ @Mapping(tag = "div"), @Mapping(tag = "span") })
+    private static class MappedClass {
+    }
+
+    @Mappings({ @Mapping(tag = "input", attribute = "type", values = { "text", "password" }),
+        @Mapping(tag = "select", attribute = "multiple") })
+    private static class AttributeMappedClass {
+    }
+
+    @Mapping(tag = "div")
+    private static class CachedMappedClass {
+    }
+
+}
@@ -1,17 +1,61 @@
 package info.novatec.testit.webtester.pageobjects;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
+import org.openqa.selenium.By;
 
 import info.novatec.testit.webtester.AbstractPageObjectTest;
+import info.novatec.testit.webtester.api.events.Event;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectedByValueEvent;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectionChangedEvent;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.TextSetEvent;
+import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
 
 
 public class FormTest extends AbstractPageObjectTest {
 
+    @Captor
+    ArgumentCaptor<Event> eventCaptor;
+
     @InjectMocks
     Form cut;
 
+    JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+
+    @Before
+    public void stubBrowser() {
+        stubWebElementTag("form");
+        doReturn(javaScript).when(browser).javaScript();
+        doReturn(new DefaultPageObjectFactory()).when(browser).getPageObjectFactory();
+        doReturn(webElement).when(webElement).findElement(any(By.class));
+    }
+
     @Test
     public void testCorrectnessOfClassForWebElement_formTag() {
         stubWebElementTag("form");
@@ -24,4 +68,65 @@ public class FormTest extends AbstractPageObjectTest {
         cut.validate(webElement);
     }
 
+    /* filling */
+
+    @Test
+    public void testThatFillingFormUsesSingleScriptAndFiresFieldEvents() {
+
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("username", "foo");
+        values.put("remember", true);
+        values.put("country", "de");
+
+        Map<String, Object> result = new HashMap<String, Object>();
+        result.put("changes", Arrays.asList(change("username", "text", "", "foo"),
+            change("remember", "checkbox", false, true),
+            change("country", "select", Collections.singletonList("en"), Collections.singletonList("de"))));
+        doReturn(result).when(javaScript)
+            .executeWithReturn(anyString(), eq(webElement), eq(Arrays.asList("username", "remember", "country")),
+                eq(Arrays.<Object> asList("foo", true, "de")));
+
+        cut.fill(values);
+
+        verify(listener, times(3)).eventOccurred(eventCaptor.capture());
+        List<Event> events = eventCaptor.getAllValues();
+        TextSetEvent textSet = ( TextSetEvent ) events.get(0);
+        assertThat(textSet.getBefore(), is(""));
+        assertThat(textSet.getAfter(), is("foo"));
+        assertThat((( SelectionChangedEvent ) events.get(1)).getAfter(), is(true));
+        assertThat((( SelectedByValueEvent ) events.get(2)).getValue(), is("de"));
+        verify(webElement, never()).sendKeys(any(CharSequence[].class));
+
+    }
+
+    @Test
+    public void testThatFieldsToTypeAreFilledWithKeystrokes() {
+
+        doReturn("old").when(webElement).getAttribute("value");
+
+        cut.fill(Collections.singletonMap("username", "foo"), Collections.singleton("username"));
+
+        InOrder inOrder = inOrder(webElement, listener);
+        inOrder.verify(webElement).clear();
+        inOrder.verify(webElement).sendKeys("foo");
+        inOrder.verify(listener).eventOccurred(any(TextSetEvent.class));
+        verify(javaScript, never()).executeWithReturn(anyString(), anyVararg());
+
+    }
+
+    @Test
+    public void testThatFillingWithoutValuesDoesNotExecuteScript() {
+        cut.fill(Collections.<String, Object> emptyMap());
+        verify(javaScript, never()).executeWithReturn(anyString(), anyVararg());
+    }
+
+    private static Map<String, Object> change(String name, String kind, Object before, Object after) {
+        Map<String, Object> change = new HashMap<String, Object>();
+        change.put("name", name);
+        change.put("kind", kind);
+        change.put("before", before);
+        change.put("after", after);
+        return change;
+    }
+
 }
@@ -4,6 +4,7 @@ import info.novatec.testit.webtester.AbstractPageObjectTest;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.PageObjectIsInvisibleException;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextAppendedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextClearedEvent;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.TextSetEvent;
@@ -104,6 +105,13 @@ public class GenericTextFieldTest extends AbstractPageObjectTest {
         cut.clearText();
     }
 
+    @Test
+    public void testThatClearingTextResolvesWebElementOnlyOnce() {
+        cut.clearText();
+        // every resolution of the web element validates its tag
+        verify(webElement, times(1)).getTagName();
+    }
+
     /* setting text */
 
     @Test
@@ -157,6 +165,25 @@ public class GenericTextFieldTest extends AbstractPageObjectTest {
         cut.setText("foo");
     }
 
+    @Test
+    public void testThatNewTextIsNotReadIfNobodyNeedsIt() {
+
+        EventSystem.deregisterListener(listener);
+        doReturn("old").when(webElement).getAttribute("value");
+
+        cut.setText("foo");
+
+        verify(webElement, times(1)).getAttribute("value");
+
+    }
+
+    @Test
+    public void testThatSettingTextResolvesWebElementOnlyOnce() {
+        cut.setText("foo");
+        // every resolution of the web element validates its tag
+        verify(webElement, times(1)).getTagName();
+    }
+
     /* appending text */
 
     @Test
@@ -208,6 +235,13 @@ public class GenericTextFieldTest extends AbstractPageObjectTest {
         cut.appendText("foo");
     }
 
+    @Test
+    public void testThatAppendingTextResolvesWebElementOnlyOnce() {
+        cut.appendText("foo");
+        // every resolution of the web element validates its tag
+        verify(webElement, times(1)).getTagName();
+    }
+
     /* pressing ENTER */
 
     @Test
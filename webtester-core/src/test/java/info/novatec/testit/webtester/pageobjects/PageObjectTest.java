@@ -2,16 +2,28 @@ package info.novatec.testit.webtester.pageobjects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
 
 import info.novatec.testit.webtester.AbstractPageObjectTest;
+import info.novatec.testit.webtester.api.callbacks.PageObjectCallback;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.eventsystem.events.pageobject.ClickedEvent;
+import info.novatec.testit.webtester.internal.pageobjects.ActionTemplate;
+import info.novatec.testit.webtester.internal.pageobjects.DefaultPageObjectFactory;
+import info.novatec.testit.webtester.internal.pageobjects.WebElementCacheGenerations;
 
 
 public class PageObjectTest extends AbstractPageObjectTest {
@@ -31,6 +43,17 @@ public class PageObjectTest extends AbstractPageObjectTest {
 
     }
 
+    @Test
+    public void testThatNoEventIsCreatedIfNoListenerIsRegistered() {
+
+        EventSystem.deregisterListener(listener);
+        cut.click();
+
+        verify(webElement).click();
+        verify(webDriver, never()).getWindowHandle();
+
+    }
+
     @Test
     public void testThatGetVisibleTextDelegatesToWebElementAndFiresEvent() {
         doReturn("foo").when(webElement).getText();
@@ -38,4 +61,90 @@ public class PageObjectTest extends AbstractPageObjectTest {
         assertThat(visibleText, is("foo"));
     }
 
+    @Test
+    public void testThatWebElementIsResolvedForEachAccessIfCachingIsInactive() {
+        PageObject proxy = createProxyPageObject();
+        proxy.getWebElement();
+        proxy.getWebElement();
+        verify(webDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatWebElementIsResolvedOnlyOnceIfCachingIsActive() {
+        PageObject proxy = createProxyPageObject();
+        doReturn(true).when(configuration).pageObjectCachingIsActivated();
+        proxy.getWebElement();
+        proxy.getWebElement();
+        verify(webDriver, times(1)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatCachedWebElementIsResolvedAgainAfterInvalidation() {
+        PageObject proxy = createProxyPageObject();
+        doReturn(true).when(configuration).pageObjectCachingIsActivated();
+        proxy.getWebElement();
+        WebElementCacheGenerations.invalidate(browser);
+        proxy.getWebElement();
+        verify(webDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatPresenceCheckAlwaysResolvesWebElement() {
+        PageObject proxy = createProxyPageObject();
+        doReturn(true).when(configuration).pageObjectCachingIsActivated();
+        proxy.getWebElement();
+        assertThat(proxy.isPresent(), is(true));
+        verify(webDriver, times(2)).findElement(any(By.class));
+    }
+
+    @Test
+    public void testThatActionIsRetriedOnceForStaleCachedWebElement() {
+
+        PageObject proxy = createProxyPageObject();
+
+        doReturn(true).when(configuration).pageObjectCachingIsActivated();
+        doThrow(StaleElementReferenceException.class).doNothing().when(webElement).click();
+
+        proxy.click();
+
+        verify(webDriver, times(2)).findElement(any(By.class));
+        verify(webElement, times(2)).click();
+
+    }
+
+    @Test
+    public void testThatActionIsNotRetriedIfWebElementBecameStaleAfterItsSideEffect() {
+
+        PageObject proxy = createProxyPageObject();
+        doReturn(true).when(configuration).pageObjectCachingIsActivated();
+
+        try {
+            proxy.executeAction(new PageObjectCallback() {
+
+                @Override
+                public void execute(PageObject pageObject) {
+                    pageObject.getWebElement().click();
+                    ActionTemplate.markSideEffectPerformed();
+                    throw new StaleElementReferenceException("stale after navigation");
+                }
+
+            });
+            fail("exception expected");
+        } catch (StaleElementReferenceException e) {
+            verify(webElement, times(1)).click();
+        }
+
+    }
+
+    @Test(expected = StaleElementReferenceException.class)
+    public void testThatActionIsNotRetriedForStaleWebElementIfCachingIsInactive() {
+        PageObject proxy = createProxyPageObject();
+        doThrow(StaleElementReferenceException.class).doNothing().when(webElement).click();
+        proxy.click();
+    }
+
+    private PageObject createProxyPageObject() {
+        return new DefaultPageObjectFactory().create(PageObject.class, model);
+    }
+
 }
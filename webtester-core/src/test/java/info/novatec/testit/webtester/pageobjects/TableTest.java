@@ -4,11 +4,20 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -17,6 +26,7 @@ import org.mockito.Spy;
 
 import info.novatec.testit.webtester.AbstractPageObjectTest;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
 
 
 public class TableTest extends AbstractPageObjectTest {
@@ -77,6 +87,22 @@ public class TableTest extends AbstractPageObjectTest {
 
     }
 
+    /* bulk operations */
+
+    @Test
+    public void testThatStreamingRowsDoesNotReadAnythingUntilIterated() {
+        JavaScriptExecutor javaScript = mockJavaScript();
+        Iterator<TableRowData> iterator = cut.streamRows(10).iterator();
+        verify(javaScript, times(0)).executeWithReturn(anyString(), eq(cut), anyInt(), anyInt());
+        doReturn(chunk(0)).when(javaScript).executeWithReturn(anyString(), eq(cut), eq(0), eq(10));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatChunkSizeMustBePositive() {
+        cut.streamRows(0);
+    }
+
     /* correctness of class */
 
     @Test
@@ -98,4 +124,19 @@ public class TableTest extends AbstractPageObjectTest {
         tableRows.add(row2);
     }
 
+    private JavaScriptExecutor mockJavaScript() {
+        stubWebElementTag("table");
+        JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+        doReturn(javaScript).when(browser).javaScript();
+        return javaScript;
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> chunk(long total, List<List<Object>>... rows) {
+        Map<String, Object> chunk = new HashMap<String, Object>();
+        chunk.put("total", total);
+        chunk.put("rows", Arrays.asList(rows));
+        return chunk;
+    }
+
 }
@@ -0,0 +1,84 @@
+package info.novatec.testit.webtester.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.PageReadinessCheck;
+import info.novatec.testit.webtester.utils.readiness.AngularIdleCheck;
+import info.novatec.testit.webtester.utils.readiness.DocumentReadyCheck;
+import info.novatec.testit.webtester.utils.readiness.JQueryIdleCheck;
+import info.novatec.testit.webtester.utils.readiness.PendingRequestsCheck;
+import info.novatec.testit.webtester.utils.readiness.ScriptCheck;
+
+
+@RunWith(MockitoJUnitRunner.class)
+public class PageReadinessChecksTest {
+
+    @Mock
+    Configuration configuration;
+
+    @Test
+    public void noChecksAreCreatedByDefault() {
+        assertThat(PageReadinessChecks.fromConfiguration(configuration), is(empty()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void builtInChecksAreCreatedFromConfigurationInOrder() {
+        doReturn("document, Requests,jquery , angular").when(configuration).getPageReadinessChecks();
+        List<PageReadinessCheck> checks = PageReadinessChecks.fromConfiguration(configuration);
+        assertThat(checks, contains(instanceOf(DocumentReadyCheck.class), instanceOf(PendingRequestsCheck.class),
+            instanceOf(JQueryIdleCheck.class), instanceOf(AngularIdleCheck.class)));
+    }
+
+    @Test
+    public void pendingRequestsCheckRequiresQuietPeriod() {
+        assertThat(PageReadinessChecks.noPendingRequests().getScript(), containsString(">= 100;"));
+        assertThat(PageReadinessChecks.noPendingRequests(250L).getScript(), containsString(">= 250;"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pendingRequestsCheckRejectsNegativeQuietPeriod() {
+        PageReadinessChecks.noPendingRequests(-1L);
+    }
+
+    @Test
+    public void customScriptIsAddedAsLastCheck() {
+        doReturn("document").when(configuration).getPageReadinessChecks();
+        doReturn("window.appReady").when(configuration).getPageReadinessScript();
+        List<PageReadinessCheck> checks = PageReadinessChecks.fromConfiguration(configuration);
+        assertThat(checks.get(1), is(instanceOf(ScriptCheck.class)));
+        assertThat(checks.get(1).getScript(), containsString("window.appReady"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownChecksAreRejected() {
+        doReturn("document, unknown").when(configuration).getPageReadinessChecks();
+        PageReadinessChecks.fromConfiguration(configuration);
+    }
+
+    @Test
+    public void checksAreCombinedIntoSingleScript() {
+        String script = PageReadinessChecks.combine(Arrays.asList(PageReadinessChecks.documentReady(),
+            PageReadinessChecks.script("window.appReady")));
+        assertThat(script, startsWith("return true && "));
+        assertThat(script, containsString("document.readyState"));
+        assertThat(script, containsString("window.appReady"));
+    }
+
+}
@@ -0,0 +1,92 @@
+package info.novatec.testit.webtester.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.doReturn;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+import info.novatec.testit.webtester.utils.polling.BackoffPollingStrategy;
+import info.novatec.testit.webtester.utils.polling.FixedIntervalPollingStrategy;
+
+
+@RunWith(MockitoJUnitRunner.class)
+public class PollingStrategiesTest {
+
+    @Mock
+    Configuration configuration;
+
+    @Test
+    public void fixedIntervalAlwaysReturnsTheSameDelay() {
+        PollingStrategy strategy = PollingStrategies.fixedInterval(100L);
+        assertThat(strategy.getDelay(1), is(100L));
+        assertThat(strategy.getDelay(10), is(100L));
+    }
+
+    @Test
+    public void exponentialBackoffDoublesDelayUpToTheMaximum() {
+        PollingStrategy strategy = PollingStrategies.exponentialBackoff(10L, 50L);
+        assertThat(strategy.getDelay(1), is(10L));
+        assertThat(strategy.getDelay(2), is(20L));
+        assertThat(strategy.getDelay(3), is(40L));
+        assertThat(strategy.getDelay(4), is(50L));
+        assertThat(strategy.getDelay(100), is(50L));
+    }
+
+    @Test
+    public void jitteredBackoffRandomizesDelayBetweenHalfAndAllOfItsValue() {
+        PollingStrategy strategy = PollingStrategies.jitteredBackoff(100L, 400L);
+        for (int i = 0; i < 100; i++) {
+            assertThat(strategy.getDelay(3), is(allOf(greaterThanOrEqualTo(200L), lessThanOrEqualTo(400L))));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void backoffMaximumMustNotBeLessThanInitialDelay() {
+        PollingStrategies.exponentialBackoff(100L, 50L);
+    }
+
+    @Test
+    public void fixedIntervalIsCreatedFromConfigurationByDefault() {
+        doReturn(100L).when(configuration).getWaitInterval();
+        PollingStrategy strategy = PollingStrategies.fromConfiguration(configuration);
+        assertThat(strategy, is(instanceOf(FixedIntervalPollingStrategy.class)));
+        assertThat(strategy.getDelay(5), is(100L));
+    }
+
+    @Test
+    public void backoffIsCreatedFromConfiguration() {
+        doReturn("backoff").when(configuration).getWaitPollingStrategy();
+        doReturn(10L).when(configuration).getWaitInterval();
+        doReturn(30L).when(configuration).getWaitIntervalMaximum();
+        PollingStrategy strategy = PollingStrategies.fromConfiguration(configuration);
+        assertThat(strategy, is(instanceOf(BackoffPollingStrategy.class)));
+        assertThat(strategy.getDelay(1), is(10L));
+        assertThat(strategy.getDelay(3), is(30L));
+    }
+
+    @Test
+    public void jitterIsCreatedFromConfiguration() {
+        doReturn("jitter").when(configuration).getWaitPollingStrategy();
+        doReturn(10L).when(configuration).getWaitInterval();
+        doReturn(30L).when(configuration).getWaitIntervalMaximum();
+        PollingStrategy strategy = PollingStrategies.fromConfiguration(configuration);
+        assertThat(strategy.getDelay(1), is(allOf(greaterThanOrEqualTo(5L), lessThanOrEqualTo(10L))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownStrategyInConfigurationIsRejected() {
+        doReturn("unknown").when(configuration).getWaitPollingStrategy();
+        PollingStrategies.fromConfiguration(configuration);
+    }
+
+}
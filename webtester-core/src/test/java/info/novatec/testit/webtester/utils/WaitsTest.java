@@ -1,30 +1,68 @@
 package info.novatec.testit.webtester.utils;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.Color;
 
+import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
 
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.api.utils.PollingStrategy;
+import info.novatec.testit.webtester.browser.operations.JavaScriptExecutor;
+import info.novatec.testit.webtester.internal.BufferedMarkings;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.conditions.Interactable;
+import info.novatec.testit.webtester.utils.conditions.Visible;
+import info.novatec.testit.webtester.utils.conditions.syntax.Is;
+import info.novatec.testit.webtester.utils.conditions.syntax.Not;
+
 
 @RunWith(MockitoJUnitRunner.class)
 public class WaitsTest {
 
+    static final Color RED = Color.fromString("#ff0000");
+
     @Mock
     Supplier<Boolean> supplier;
 
@@ -57,6 +95,52 @@ public class WaitsTest {
         }
     }
 
+    @Test
+    public void metConditionReturnsImmediatelyWithoutWaitingForTheInterval() {
+
+        doReturn(true).when(supplier).get();
+
+        long start = System.nanoTime();
+        Waits.waitUntil(5, TimeUnit.SECONDS, 5000, supplier);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(lessThan(1000L)));
+        verify(supplier, times(1)).get();
+
+    }
+
+    @Test
+    public void pollingStrategyIsAskedForDelayAfterEachFailedCheck() {
+
+        PollingStrategy strategy = mock(PollingStrategy.class);
+        doReturn(1L).when(strategy).getDelay(anyInt());
+        when(supplier.get()).thenReturn(false, false, true);
+
+        Waits.waitUntil(1, TimeUnit.SECONDS, strategy, supplier);
+
+        InOrder inOrder = inOrder(strategy);
+        inOrder.verify(strategy).getDelay(1);
+        inOrder.verify(strategy).getDelay(2);
+        inOrder.verifyNoMoreInteractions();
+
+    }
+
+    @Test
+    public void delaysAreLimitedToTheRemainingTimeout() {
+
+        PollingStrategy strategy = mock(PollingStrategy.class);
+        doReturn(60000L).when(strategy).getDelay(anyInt());
+        doReturn(false).when(supplier).get();
+
+        long start = System.nanoTime();
+        try {
+            Waits.waitUntil(50, TimeUnit.MILLISECONDS, strategy, supplier);
+            Assert.fail("exception not reached");
+        } catch (TimeoutException e) {
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(lessThan(5000L)));
+        }
+
+    }
+
     @Test
     public void conditionIsCheckedAtLeastOnceEvenWithoutTimeout() {
 
@@ -69,4 +153,317 @@ public class WaitsTest {
 
     }
 
+    @Test
+    public void browserWatchesPageObjectBetweenChecksOfObservableConditions() {
+
+        PageObject pageObject = pageObjectWithBrowserSideWaiting();
+        JavascriptExecutor javascriptExecutor = ( JavascriptExecutor ) pageObject.getBrowser().getWebDriver();
+        when(pageObject.isVisible()).thenReturn(false, false, true);
+
+        Waits.waitUntil(pageObject, new Visible());
+
+        verify(javascriptExecutor, times(2)).executeAsyncScript(anyString(), anyVararg());
+
+    }
+
+    @Test
+    public void customConditionsArePolledEvenIfBrowserSideWaitingIsActive() {
+
+        PageObject pageObject = pageObjectWithBrowserSideWaiting();
+        JavascriptExecutor javascriptExecutor = ( JavascriptExecutor ) pageObject.getBrowser().getWebDriver();
+        @SuppressWarnings("unchecked")
+        Predicate<PageObject> condition = mock(Predicate.class);
+        when(condition.apply(pageObject)).thenReturn(false, true);
+
+        Waits.waitUntil(pageObject, condition);
+
+        verify(condition, times(2)).apply(pageObject);
+        verify(javascriptExecutor, never()).executeAsyncScript(anyString(), anyVararg());
+
+    }
+
+    @Test
+    public void compositeConditionsAreEvaluatedAgainstOneSnapshotPerCheck() {
+
+        PageObject pageObject = pageObjectWithConditionSnapshots();
+        JavaScriptExecutor javaScript = pageObject.getBrowser().javaScript();
+        Map<String, Object> hidden = snapshotResult(false);
+        Map<String, Object> displayed = snapshotResult(true);
+        when(javaScript.executeWithReturn(anyString(), anyVararg())).thenReturn(hidden, displayed);
+
+        Waits.waitUntil(pageObject, new Is<PageObject>(new Interactable()));
+
+        verify(javaScript, times(2)).executeWithReturn(anyString(), anyVararg());
+        verify(pageObject, never()).isVisible();
+        verify(pageObject, never()).isEnabled();
+
+    }
+
+    @Test
+    public void conditionIsAppliedIfNoSnapshotCanBeRead() {
+
+        PageObject pageObject = pageObjectWithConditionSnapshots();
+        doThrow(NoSuchElementException.class).when(pageObject).getWebElement();
+        when(pageObject.isVisible()).thenReturn(false);
+
+        Waits.waitUntil(pageObject, new Not<PageObject>(new Visible()));
+
+        verify(pageObject).isVisible();
+
+    }
+
+    private static PageObject pageObjectWithConditionSnapshots() {
+
+        Configuration configuration = mock(Configuration.class);
+        doReturn(true).when(configuration).conditionSnapshotsAreActivated();
+        doReturn(1).when(configuration).getWaitTimeout();
+        doReturn(10L).when(configuration).getWaitInterval();
+
+        Browser browser = mock(Browser.class);
+        doReturn(configuration).when(browser).getConfiguration();
+        doReturn(mock(JavaScriptExecutor.class)).when(browser).javaScript();
+
+        PageObject pageObject = mock(PageObject.class);
+        doReturn(browser).when(pageObject).getBrowser();
+        doReturn(mock(WebElement.class)).when(pageObject).getWebElement();
+        return pageObject;
+
+    }
+
+    private static Map<String, Object> snapshotResult(boolean displayed) {
+        Map<String, Object> result = new HashMap<String, Object>();
+        result.put("displayed", displayed);
+        result.put("enabled", true);
+        result.put("tag", "input");
+        return result;
+    }
+
+    @Test
+    public void waitingForAllPageObjectsReturnsThemOnceAllMeetTheCondition() {
+
+        PageObject first = pageObject();
+        PageObject second = pageObject();
+        when(first.isVisible()).thenReturn(true);
+        when(second.isVisible()).thenReturn(false, true);
+
+        List<PageObject> matching = Waits.waitUntilAll(Arrays.asList(first, second), new Visible());
+
+        assertThat(matching, contains(first, second));
+
+    }
+
+    @Test
+    public void waitingForAnyPageObjectStopsCheckingAfterTheFirstMatch() {
+
+        PageObject first = pageObject();
+        PageObject second = pageObject();
+        when(first.isVisible()).thenReturn(true);
+
+        List<PageObject> matching = Waits.waitUntilAny(Arrays.asList(first, second), new Visible());
+
+        assertThat(matching, contains(first));
+        verify(second, never()).isVisible();
+
+    }
+
+    @Test
+    public void waitingForAtLeastSomePageObjectsIgnoresTheRest() {
+
+        PageObject first = pageObject();
+        PageObject second = pageObject();
+        PageObject third = pageObject();
+        when(first.isVisible()).thenReturn(false);
+        when(second.isVisible()).thenReturn(true);
+        when(third.isVisible()).thenReturn(true);
+
+        List<PageObject> matching = Waits.waitUntilAtLeast(2, Arrays.asList(first, second, third), new Visible());
+
+        assertThat(matching, contains(second, third));
+
+    }
+
+    @Test
+    public void waitingForExactlySomePageObjectsFailsIfTooManyMeetTheCondition() {
+
+        PageObject first = pageObject();
+        PageObject second = pageObject();
+        when(first.isVisible()).thenReturn(true);
+        when(second.isVisible()).thenReturn(true);
+
+        try {
+            Waits.waitUntilExactly(100, TimeUnit.MILLISECONDS, 1, Arrays.asList(first, second), new Visible());
+            Assert.fail("exception not reached");
+        } catch (TimeoutException e) {
+            assertThat(e.getMessage(), startsWith("expected exactly 1 of 2 page objects to be 'visible' but there were 2"));
+        }
+
+    }
+
+    @Test
+    public void waitingOnPageObjectAppliesBufferedMarkingsFirst() {
+
+        PageObject pageObject = pageObjectWithBufferedMarkings();
+        when(pageObject.isVisible()).thenReturn(true);
+        JavaScriptExecutor javaScript = pageObject.getBrowser().javaScript();
+
+        BufferedMarkings.mark(pageObject, RED, RED);
+        verify(javaScript, never()).execute(anyString(), any(), any(), any());
+
+        Waits.waitUntil(pageObject, new Visible());
+        verify(javaScript).execute(anyString(), any(), any(), any());
+
+    }
+
+    @Test
+    public void waitingOnMultiplePageObjectsAppliesBufferedMarkingsFirst() {
+
+        PageObject pageObject = pageObjectWithBufferedMarkings();
+        when(pageObject.isVisible()).thenReturn(true);
+        JavaScriptExecutor javaScript = pageObject.getBrowser().javaScript();
+
+        BufferedMarkings.mark(pageObject, RED, RED);
+        Waits.waitUntilAll(Arrays.asList(pageObject), new Visible());
+
+        verify(javaScript).execute(anyString(), any(), any(), any());
+
+    }
+
+    @Test
+    public void allPageObjectsShareOneTimeout() {
+
+        List<PageObject> pageObjects = Arrays.asList(pageObject(), pageObject(), pageObject(), pageObject());
+
+        long start = System.nanoTime();
+        try {
+            Waits.waitUntilAll(200, TimeUnit.MILLISECONDS, pageObjects, new Visible());
+            Assert.fail("exception not reached");
+        } catch (TimeoutException e) {
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(lessThan(700L)));
+        }
+
+    }
+
+    @Test
+    public void exceptionsOfSinglePageObjectsCountAsNotMeetingTheCondition() {
+
+        PageObject first = pageObject();
+        PageObject second = pageObject();
+        RuntimeException exception = new IllegalStateException();
+        when(first.isVisible()).thenThrow(exception);
+        when(second.isVisible()).thenReturn(true);
+
+        try {
+            Waits.waitUntilAll(50, TimeUnit.MILLISECONDS, Arrays.asList(first, second), new Visible());
+            Assert.fail("exception not reached");
+        } catch (TimeoutException e) {
+            assertThat(e.getCause(), is(sameInstance(( Throwable ) exception)));
+        }
+        assertThat(Waits.waitUntilAny(Arrays.asList(first, second), new Visible()), contains(second));
+
+    }
+
+    @Test
+    public void waitingForAllOfNoPageObjectsReturnsImmediately() {
+        assertThat(Waits.waitUntilAll(Collections.<PageObject> emptyList(), new Visible()), is(empty()));
+    }
+
+    @Test
+    public void pageReadinessWaitIsSkippedWithoutChecks() {
+        Browser browser = browserWithReadinessChecks(null);
+        Waits.waitUntilPageIsReady(browser);
+        verify(browser, never()).javaScript();
+    }
+
+    @Test
+    public void pageReadinessChecksAreCombinedIntoOneScriptPerCheck() {
+
+        Browser browser = browserWithReadinessChecks("document, jquery");
+        JavaScriptExecutor javaScript = browser.javaScript();
+        when(javaScript.executeWithReturn(anyString(), anyVararg())).thenReturn(false, true);
+
+        Waits.waitUntilPageIsReady(browser);
+
+        verify(javaScript, times(2)).executeWithReturn(anyString(), anyVararg());
+
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void pageReadinessWaitTimesOutIfPageNeverBecomesReady() {
+        Browser browser = browserWithReadinessChecks("document");
+        when(browser.javaScript().executeWithReturn(anyString(), anyVararg())).thenReturn(false);
+        Waits.waitUntilPageIsReady(50, TimeUnit.MILLISECONDS, browser, PageReadinessChecks.fromConfiguration(
+            browser.getConfiguration()));
+    }
+
+    private static Browser browserWithReadinessChecks(String checks) {
+
+        Configuration configuration = mock(Configuration.class);
+        doReturn(checks).when(configuration).getPageReadinessChecks();
+        doReturn(1).when(configuration).getPageReadinessTimeout();
+        doReturn(10L).when(configuration).getWaitInterval();
+
+        JavaScriptExecutor javaScript = mock(JavaScriptExecutor.class);
+        Browser browser = mock(Browser.class);
+        doReturn(configuration).when(browser).getConfiguration();
+        doReturn(javaScript).when(browser).javaScript();
+        return browser;
+
+    }
+
+    private static PageObject pageObject() {
+
+        Configuration configuration = mock(Configuration.class);
+        doReturn(1).when(configuration).getWaitTimeout();
+        doReturn(10L).when(configuration).getWaitInterval();
+
+        Browser browser = mock(Browser.class);
+        doReturn(configuration).when(browser).getConfiguration();
+
+        PageObject pageObject = mock(PageObject.class);
+        doReturn(browser).when(pageObject).getBrowser();
+        return pageObject;
+
+    }
+
+    private static PageObject pageObjectWithBufferedMarkings() {
+
+        Configuration configuration = mock(Configuration.class);
+        doReturn(60000).when(configuration).getMarkingsBufferedInterval();
+        doReturn(1).when(configuration).getWaitTimeout();
+        doReturn(10L).when(configuration).getWaitInterval();
+
+        Browser browser = mock(Browser.class);
+        doReturn(configuration).when(browser).getConfiguration();
+        doReturn(mock(JavaScriptExecutor.class)).when(browser).javaScript();
+
+        PageObject pageObject = mock(PageObject.class);
+        doReturn(browser).when(pageObject).getBrowser();
+        doReturn(mock(WebElement.class)).when(pageObject).getWebElement();
+        return pageObject;
+
+    }
+
+    private static PageObject pageObjectWithBrowserSideWaiting() {
+
+        Configuration configuration = mock(Configuration.class);
+        doReturn(true).when(configuration).browserSideWaitingIsActivated();
+        doReturn(1).when(configuration).getWaitTimeout();
+        doReturn(10L).when(configuration).getWaitInterval();
+        doReturn(100L).when(configuration).getWaitIntervalMaximum();
+
+        WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        doReturn(mock(WebDriver.Options.class, RETURNS_DEEP_STUBS)).when(webDriver).manage();
+        doReturn("state").when(( JavascriptExecutor ) webDriver).executeAsyncScript(anyString(), anyVararg());
+
+        Browser browser = mock(Browser.class);
+        doReturn(configuration).when(browser).getConfiguration();
+        doReturn(webDriver).when(browser).getWebDriver();
+
+        PageObject pageObject = mock(PageObject.class);
+        doReturn(browser).when(pageObject).getBrowser();
+        doReturn(mock(WebElement.class)).when(pageObject).getWebElement();
+        return pageObject;
+
+    }
+
 }
@@ -1,11 +1,17 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static utils.TestObjectFactory.pageObject;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.Test;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -31,4 +37,21 @@ public class AttributeWithValueTest {
         assertThat(cut.apply(pageObject), is(false));
     }
 
+    @Test
+    public void testThatSnapshotIsEvaluatedUsingTheRequiredAttribute() {
+
+        AttributeWithValue cut = new AttributeWithValue("foo", "bar");
+        Set<String> attributeNames = new HashSet<String>();
+        cut.collectRequiredAttributes(attributeNames);
+
+        assertThat(attributeNames, contains("foo"));
+        assertThat(cut.evaluate(snapshotWithAttribute("foo", "bar")), is(true));
+        assertThat(cut.evaluate(snapshotWithAttribute("foo", "xur")), is(false));
+
+    }
+
+    ElementSnapshot snapshotWithAttribute(String name, String value) {
+        return new ElementSnapshot(true, true, false, "div", null, "", Collections.singletonMap(name, value));
+    }
+
 }
@@ -1,11 +1,17 @@
 package info.novatec.testit.webtester.utils.conditions;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static utils.TestObjectFactory.pageObject;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.Test;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -37,4 +43,22 @@ public class EditableTest {
         assertThat(cut.apply(pageObject), is(false));
     }
 
+    @Test
+    public void testThatReadOnlyAttributeIsRequiredForSnapshots() {
+        Set<String> attributeNames = new HashSet<String>();
+        cut.collectRequiredAttributes(attributeNames);
+        assertThat(attributeNames, contains("readonly"));
+    }
+
+    @Test
+    public void testThatReadOnlySnapshotEvaluatesToFalse() {
+        assertThat(cut.evaluate(snapshot(null)), is(true));
+        assertThat(cut.evaluate(snapshot("true")), is(false));
+    }
+
+    ElementSnapshot snapshot(String readOnly) {
+        return new ElementSnapshot(true, true, false, "input", null, "",
+            Collections.singletonMap("readonly", readOnly));
+    }
+
 }
@@ -4,8 +4,11 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static utils.TestObjectFactory.pageObject;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 
 
@@ -37,4 +40,19 @@ public class InteractableTest {
         assertThat(cut.apply(pageObject), is(false));
     }
 
+    @Test
+    public void testThatEnabledDisplayedSnapshotEvaluatesToTrue() {
+        assertThat(cut.evaluate(snapshot(true, true)), is(true));
+    }
+
+    @Test
+    public void testThatDisabledOrHiddenSnapshotsEvaluateToFalse() {
+        assertThat(cut.evaluate(snapshot(false, true)), is(false));
+        assertThat(cut.evaluate(snapshot(true, false)), is(false));
+    }
+
+    ElementSnapshot snapshot(boolean displayed, boolean enabled) {
+        return new ElementSnapshot(displayed, enabled, false, "input", null, "", Collections.<String, String> emptyMap());
+    }
+
 }
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -17,7 +18,10 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import com.google.common.base.Predicate;
 
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
 import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.utils.conditions.AttributeWithValue;
+import info.novatec.testit.webtester.utils.conditions.Visible;
 
 
 @SuppressWarnings("unchecked")
@@ -133,4 +137,18 @@ public class EitherTest {
 
     }
 
+    @Test
+    public void testThatSnapshotIsEvaluatedAgainstAllWrappedConditions() {
+        Either<PageObject> cut = new Either<PageObject>(new Visible(), new AttributeWithValue("foo", "bar"));
+        ElementSnapshot hiddenWithAttribute =
+            new ElementSnapshot(false, true, false, "div", null, "", Collections.singletonMap("foo", "bar"));
+        assertThat(cut.canEvaluateSnapshot(), is(true));
+        assertThat(cut.evaluate(hiddenWithAttribute), is(true));
+    }
+
+    @Test
+    public void testThatSnapshotCantBeEvaluatedIfAnyWrappedConditionDoesNotSupportIt() {
+        Either<PageObject> cut = buildClassUnderTest().addPredicate(new Visible()).addPredicateReturning(true).build();
+        assertThat(cut.canEvaluateSnapshot(), is(false));
+    }
 }
@@ -44,6 +44,11 @@ public class VisibleIntegrationTest extends AbstractWebTesterIntegrationTest {
         getBrowser().create(MultiVisiblePageWrongCount.class);
     }
 
+    @Test(expected = VisiblePageObjectListFieldException.class)
+    public void testThatVisibleAnnotationOnPageObjectListLeadsToExceptionIfThereAreTooManyVisibleObjects() {
+        getBrowser().create(MultiVisiblePageTooManyVisible.class);
+    }
+
     @Test
     public void testThatAnnotationOnContentsOfInvisibleContainerBoNotLeadToException(){
        getBrowser().create(PageWithInvisibleContainer.class);
@@ -80,6 +85,14 @@ public class VisibleIntegrationTest extends AbstractWebTesterIntegrationTest {
 
     }
     
+    public static class MultiVisiblePageTooManyVisible extends PageObject {
+
+        @Visible(1)
+        @IdentifyUsing(method = Method.ID_STARTS_WITH, value = "multi:textfield")
+        List<TextField> multipleTextFields;
+
+    }
+
     public static class InvisibleContainer extends PageObject{
         @Visible
         @IdentifyUsing("invisible:textfield")
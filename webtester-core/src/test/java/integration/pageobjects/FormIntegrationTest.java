@@ -1,29 +1,58 @@
 package integration.pageobjects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
 
 import integration.AbstractWebTesterIntegrationTest;
 
 import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.events.Event;
+import info.novatec.testit.webtester.api.events.EventListener;
+import info.novatec.testit.webtester.api.exceptions.PageObjectIsDisabledException;
 import info.novatec.testit.webtester.api.exceptions.WrongElementClassException;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
+import info.novatec.testit.webtester.eventsystem.events.pageobject.SelectionChangedEvent;
+import info.novatec.testit.webtester.pageobjects.Checkbox;
 import info.novatec.testit.webtester.pageobjects.Form;
+import info.novatec.testit.webtester.pageobjects.MultiSelect;
 import info.novatec.testit.webtester.pageobjects.PageObject;
+import info.novatec.testit.webtester.pageobjects.RadioButton;
+import info.novatec.testit.webtester.pageobjects.SingleSelect;
+import info.novatec.testit.webtester.pageobjects.TextArea;
+import info.novatec.testit.webtester.pageobjects.TextField;
 
 
 
 public class FormIntegrationTest extends AbstractWebTesterIntegrationTest{
 
     FormTestPage page;
+    RecordingListener listener = new RecordingListener();
 
     @Before
     public void initPage() {
         page = getBrowser().create(FormTestPage.class);
     }
 
+    @After
+    public void deregisterListener() {
+        EventSystem.deregisterListener(listener);
+    }
+
     @Override
     protected String getHTMLFilePath() {
         return "html/pageobjects/form.html";
@@ -42,6 +71,122 @@ public class FormIntegrationTest extends AbstractWebTesterIntegrationTest{
         page.notAForm.submit();
     }
 
+    /* fill */
+
+    @Test
+    public final void testThatAllKindsOfFieldsAreFilled() {
+
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("username", "new");
+        values.put("comment", "some comment");
+        values.put("remember", true);
+        values.put("gender", "f");
+        values.put("country", "de");
+        values.put("colors", Arrays.asList("red", "blue"));
+        page.fillForm.fill(values);
+
+        assertThat(page.username.getText(), is("new"));
+        assertThat(page.comment.getText(), is("some comment"));
+        assertThat(page.remember.isSelected(), is(true));
+        assertThat(page.genderMale.isSelected(), is(false));
+        assertThat(page.genderFemale.isSelected(), is(true));
+        assertThat(page.country.getSelectionValue(), is("de"));
+        assertThat(page.colors.getAllSelectedValues(), contains("red", "blue"));
+
+    }
+
+    @Test
+    public final void testThatCheckboxSharingItsNameIsChosenByValue() {
+        page.fillForm.fill(Collections.singletonMap("topics", "offers"));
+        assertThat(page.topicNews.isSelected(), is(false));
+        assertThat(page.topicOffers.isSelected(), is(true));
+    }
+
+    @Test
+    public final void testThatSelectionEventsIdentifyTheChosenElement() {
+
+        EventSystem.registerListener(listener);
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("gender", "f");
+        values.put("topics", "offers");
+        page.fillForm.fill(values);
+
+        List<SelectionChangedEvent> events = listener.getSelectionChangedEvents();
+        assertThat(events.size(), is(2));
+        assertThat(events.get(0).getSubjectName(), containsString("[value=\"f\"]"));
+        assertThat(events.get(1).getSubjectName(), containsString("[value=\"offers\"]"));
+
+    }
+
+    @Test
+    public final void testThatFieldsToTypeAreFilledWithKeystrokes() {
+
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("username", "new");
+        values.put("typed", "typed text");
+        page.fillForm.fill(values, Collections.singleton("typed"));
+
+        assertThat(page.username.getText(), is("new"));
+        assertThat(page.typed.getText(), is("typed text"));
+
+    }
+
+    @Test
+    public final void testThatHiddenInputsCantBeFilled() {
+        assertThatFillingFailsWithoutChanges("token", IllegalStateException.class);
+    }
+
+    @Test
+    public final void testThatInvisibleFieldsCantBeFilled() {
+        assertThatFillingFailsWithoutChanges("invisible", IllegalStateException.class);
+    }
+
+    @Test
+    public final void testThatDisabledFieldsCantBeFilled() {
+        assertThatFillingFailsWithoutChanges("locked", IllegalStateException.class);
+    }
+
+    @Test
+    public final void testThatUnknownFieldsCantBeFilled() {
+        assertThatFillingFailsWithoutChanges("unknown", NoSuchElementException.class);
+    }
+
+    @Test
+    public final void testThatUnknownFieldToTypeIsReportedBeforeAnythingIsFilled() {
+        assertThatTypingFailsWithoutChanges("unknownTyped", NoSuchElementException.class);
+    }
+
+    @Test
+    public final void testThatDisabledFieldToTypeIsReportedBeforeAnythingIsFilled() {
+        assertThatTypingFailsWithoutChanges("lockedTyped", PageObjectIsDisabledException.class);
+    }
+
+    private void assertThatFillingFailsWithoutChanges(String fieldName, Class<? extends Exception> exceptionType) {
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("username", "new");
+        values.put(fieldName, "value");
+        try {
+            page.fillForm.fill(values);
+            fail("exception expected");
+        } catch (Exception e) {
+            assertThat(exceptionType.isInstance(e), is(true));
+            assertThat(page.username.getText(), is("old"));
+        }
+    }
+
+    private void assertThatTypingFailsWithoutChanges(String fieldName, Class<? extends Exception> exceptionType) {
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("username", "new");
+        values.put(fieldName, "value");
+        try {
+            page.fillForm.fill(values, Collections.singleton(fieldName));
+            fail("exception expected");
+        } catch (Exception e) {
+            assertThat(exceptionType.isInstance(e), is(true));
+            assertThat(page.username.getText(), is("old"));
+        }
+    }
+
     /* validation of mapping */
 
     @Test
@@ -64,5 +209,55 @@ public class FormIntegrationTest extends AbstractWebTesterIntegrationTest{
         @IdentifyUsing("notAForm")
         Form notAForm;
 
+        @IdentifyUsing("fillForm")
+        Form fillForm;
+
+        @IdentifyUsing("username")
+        TextField username;
+
+        @IdentifyUsing("comment")
+        TextArea comment;
+
+        @IdentifyUsing("remember")
+        Checkbox remember;
+
+        @IdentifyUsing("topicNews")
+        Checkbox topicNews;
+
+        @IdentifyUsing("topicOffers")
+        Checkbox topicOffers;
+
+        @IdentifyUsing("genderMale")
+        RadioButton genderMale;
+
+        @IdentifyUsing("genderFemale")
+        RadioButton genderFemale;
+
+        @IdentifyUsing("country")
+        SingleSelect country;
+
+        @IdentifyUsing("colors")
+        MultiSelect colors;
+
+        @IdentifyUsing("typed")
+        TextField typed;
+
+    }
+
+    public static class RecordingListener implements EventListener {
+
+        private final List<SelectionChangedEvent> selectionChangedEvents = new ArrayList<SelectionChangedEvent>();
+
+        @Override
+        public void eventOccurred(Event event) {
+            if (event instanceof SelectionChangedEvent) {
+                selectionChangedEvents.add(( SelectionChangedEvent ) event);
+            }
+        }
+
+        public List<SelectionChangedEvent> getSelectionChangedEvents() {
+            return selectionChangedEvents;
+        }
+
     }
 }
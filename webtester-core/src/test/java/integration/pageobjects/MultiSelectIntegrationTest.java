@@ -4,6 +4,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -124,6 +128,61 @@ public class MultiSelectIntegrationTest extends AbstractWebTesterIntegrationTest
         page.multiSelect.selectByIndices(42);
     }
 
+    /* select all in bulk */
+
+    @Test
+    public final void testThatOptionsAreSelectedInBulkByTexts() {
+        page.multiSelectWithSelection.selectAllByTexts(Arrays.asList("one", "three"));
+        assertThat(page.multiSelectWithSelection.getAllSelectedTexts(), contains("one", "two", "three"));
+    }
+
+    @Test
+    public final void testThatOptionsAreSelectedInBulkByValues() {
+        page.multiSelect.selectAllByValues(Arrays.asList("1", "3"));
+        assertThat(page.multiSelect.getAllSelectedValues(), contains("1", "3"));
+    }
+
+    @Test
+    public final void testThatOptionsAreSelectedInBulkByIndices() {
+        page.multiSelect.selectAllByIndices(Arrays.asList(0, 2));
+        assertThat(page.multiSelect.getAllSelectedIndices(), contains(0, 2));
+    }
+
+    @Test
+    public final void testThatBulkSelectionDispatchesSingleInputAndChangeEvent() {
+        page.multiSelectWithDisabledOption.selectAllByTexts(Arrays.asList("one", "three"));
+        assertThat(page.inputEvents.getVisibleText(), is("1"));
+        assertThat(page.changeEvents.getVisibleText(), is("1"));
+    }
+
+    @Test
+    public final void testThatBulkSelectionWithoutChangesDispatchesNoEvents() {
+        page.multiSelectWithDisabledOption.selectAllByTexts(Collections.<String> emptyList());
+        assertThat(page.inputEvents.getVisibleText(), is("0"));
+        assertThat(page.changeEvents.getVisibleText(), is("0"));
+    }
+
+    @Test
+    public final void testThatUnknownOptionInBulkSelectionLeavesSelectionUnchanged() {
+        try {
+            page.multiSelect.selectAllByTexts(Arrays.asList("one", "unknown"));
+            fail("exception expected");
+        } catch (NoSuchElementException e) {
+            assertThat(page.multiSelect.getAllSelectedTexts(), is(empty()));
+        }
+    }
+
+    @Test
+    public final void testThatDisabledOptionInBulkSelectionLeavesSelectionUnchanged() {
+        try {
+            page.multiSelectWithDisabledOption.selectAllByValues(Arrays.asList("1", "2"));
+            fail("exception expected");
+        } catch (UnsupportedOperationException e) {
+            assertThat(page.multiSelectWithDisabledOption.getAllSelectedTexts(), is(empty()));
+            assertThat(page.changeEvents.getVisibleText(), is("0"));
+        }
+    }
+
     /* deselect all */
 
     @Test
@@ -282,6 +341,15 @@ public class MultiSelectIntegrationTest extends AbstractWebTesterIntegrationTest
         @IdentifyUsing("multiSelectWithSelection")
         MultiSelect multiSelectWithSelection;
 
+        @IdentifyUsing("multiSelectWithDisabledOption")
+        MultiSelect multiSelectWithDisabledOption;
+
+        @IdentifyUsing("inputEvents")
+        PageObject inputEvents;
+
+        @IdentifyUsing("changeEvents")
+        PageObject changeEvents;
+
         @IdentifyUsing("singleSelect")
         MultiSelect singleSelect;
 
@@ -2,7 +2,9 @@ package integration.pageobjects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -13,6 +15,7 @@ import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 import info.novatec.testit.webtester.pageobjects.Select;
+import info.novatec.testit.webtester.pageobjects.utils.OptionsSnapshot;
 
 
 /**
@@ -197,6 +200,41 @@ public class SelectIntegrationTest extends AbstractWebTesterIntegrationTest {
         assertThat(page.multiSelect.getNumberOfOptions(), is(3));
     }
 
+    /* options snapshot */
+
+    @Test
+    public void testThatOptionsSnapshotContainsAllOptionsAndTheirSelection() {
+
+        OptionsSnapshot snapshot = page.multiSelectWithSelection.getOptionsSnapshot();
+
+        assertThat(snapshot.isMultiple(), is(true));
+        assertThat(snapshot.getTexts(), contains("one", "two", "three"));
+        assertThat(snapshot.getValues(), contains("1", "2", "3"));
+        assertThat(snapshot.getSelectedIndices(), contains(1, 2));
+        assertThat(snapshot.getFirstSelectedOption().getText(), is("two"));
+
+    }
+
+    @Test
+    public void testThatOptionsSnapshotOfSingleSelectIsNotMultiple() {
+        OptionsSnapshot snapshot = page.singleSelectWithSelection.getOptionsSnapshot();
+        assertThat(snapshot.isMultiple(), is(false));
+        assertThat(snapshot.getSelectedValues(), contains("2"));
+    }
+
+    @Test
+    public void testThatOptionsSnapshotOfSelectWithoutOptionsIsEmpty() {
+        OptionsSnapshot snapshot = page.emptySelect.getOptionsSnapshot();
+        assertThat(snapshot.getOptions(), is(empty()));
+        assertThat(snapshot.getFirstSelectedOption(), is(nullValue()));
+    }
+
+    @Test
+    public void testThatOptionsSnapshotContainsTextsOfHiddenSelect() {
+        OptionsSnapshot snapshot = page.hiddenMultiSelect.getOptionsSnapshot();
+        assertThat(snapshot.getSelectedTexts(), contains("two", "three"));
+    }
+
     /* utilities */
 
     public static class SelectTestPage extends PageObject {
@@ -211,6 +249,11 @@ public class SelectIntegrationTest extends AbstractWebTesterIntegrationTest {
         @IdentifyUsing("multiSelectWithSelection")
         Select multiSelectWithSelection;
 
+        @IdentifyUsing("emptySelect")
+        Select emptySelect;
+        @IdentifyUsing("hiddenMultiSelect")
+        Select hiddenMultiSelect;
+
     }
 
 }
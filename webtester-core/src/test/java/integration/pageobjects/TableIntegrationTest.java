@@ -1,9 +1,12 @@
 package integration.pageobjects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Before;
@@ -16,7 +19,9 @@ import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.pageobjects.PageObject;
 import info.novatec.testit.webtester.pageobjects.Table;
 import info.novatec.testit.webtester.pageobjects.TableField;
+import info.novatec.testit.webtester.pageobjects.TableFieldData;
 import info.novatec.testit.webtester.pageobjects.TableRow;
+import info.novatec.testit.webtester.pageobjects.TableRowData;
 
 
 /**
@@ -199,6 +204,94 @@ public class TableIntegrationTest extends AbstractWebTesterIntegrationTest {
         assertThat(page.referenceTable.getRow(ROW_ONE).isHeaderRow(), is(false));
     }
 
+    /* bulk reading */
+
+    /**
+     * This test verifies that the texts read in bulk are the same as the ones
+     * read field by field.
+     */
+    @Test
+    public final void testThatMatrixContainsSameTextsAsFields() {
+
+        List<List<String>> matrix = page.referenceTable.toMatrix();
+
+        List<TableRow> rows = page.referenceTable.getRows();
+        assertThat(matrix, hasSize(rows.size()));
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            List<TableField> fields = rows.get(rowIndex).getFields();
+            assertThat(matrix.get(rowIndex), hasSize(fields.size()));
+            for (int columnIndex = 0; columnIndex < fields.size(); columnIndex++) {
+                assertThat(matrix.get(rowIndex).get(columnIndex), is(fields.get(columnIndex).getVisibleText()));
+            }
+        }
+
+    }
+
+    /**
+     * This test verifies that classical tables without the thead, tbody and
+     * tfoot tags can be read in bulk.
+     */
+    @Test
+    public final void testThatMatrixCanBeReadIfTableDoesNotIncludeHTML5Tags() {
+        List<List<String>> matrix = page.minimalTable.toMatrix();
+        assertThat(matrix, hasSize(5));
+        assertThat(matrix.get(HEADER), contains("Header 1", "Header 2", "Header 3"));
+        assertThat(matrix.get(FOOTER), contains("Footer 1", "Footer 2", "Footer 3"));
+    }
+
+    /**
+     * This test verifies that empty tables and rows are read in bulk.
+     */
+    @Test
+    public final void testThatEmptyTablesAndRowsCanBeReadInBulk() {
+        assertThat(page.emptyTable.toMatrix(), is(empty()));
+        List<List<String>> matrix = page.emptyRowTable.toMatrix();
+        assertThat(matrix, hasSize(1));
+        assertThat(matrix.get(0), is(empty()));
+    }
+
+    /**
+     * This test verifies that header flags, spans and trimmed texts are read
+     * and that rows of nested tables are not included.
+     */
+    @Test
+    public final void testThatRowDataContainsHeaderInformationAndSpans() {
+
+        List<TableRowData> rows = page.spanningTable.readRows();
+
+        assertThat(rows, hasSize(3));
+        assertThat(rows.get(0).isHeaderRow(), is(true));
+        assertThat(rows.get(1).isHeaderRow(), is(false));
+
+        TableFieldData spanningHeader = rows.get(0).getFields().get(0);
+        assertThat(spanningHeader.getText(), is("Spanning Header"));
+        assertThat(spanningHeader.getColumnSpan(), is(2));
+        assertThat(spanningHeader.getRowSpan(), is(1));
+
+        TableFieldData spanningField = rows.get(1).getFields().get(0);
+        assertThat(spanningField.getRowSpan(), is(2));
+        assertThat(spanningField.getColumnSpan(), is(1));
+
+        assertThat(rows.get(2).getTexts(), contains("R2F2", "R2F3"));
+
+    }
+
+    /**
+     * This test verifies that streaming the rows in chunks returns the same
+     * rows as reading all of them at once.
+     */
+    @Test
+    public final void testThatStreamedRowsAreTheSameAsReadRows() {
+
+        List<List<String>> streamed = new ArrayList<List<String>>();
+        for (TableRowData row : page.referenceTable.streamRows(2)) {
+            streamed.add(row.getTexts());
+        }
+
+        assertThat(streamed, is(page.referenceTable.toMatrix()));
+
+    }
+
     /* utilities */
 
     public static class TableTestPage extends PageObject {
@@ -211,6 +304,8 @@ public class TableIntegrationTest extends AbstractWebTesterIntegrationTest {
         Table emptyTable;
         @IdentifyUsing("emptyRowTable")
         Table emptyRowTable;
+        @IdentifyUsing("spanningTable")
+        Table spanningTable;
 
     }
 
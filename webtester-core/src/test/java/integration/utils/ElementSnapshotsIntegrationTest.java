@@ -0,0 +1,157 @@
+package integration.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+
+import integration.AbstractWebTesterIntegrationTest;
+
+import info.novatec.testit.webtester.api.annotations.IdentifyUsing;
+import info.novatec.testit.webtester.api.utils.ElementSnapshot;
+import info.novatec.testit.webtester.internal.ElementSnapshots;
+import info.novatec.testit.webtester.pageobjects.PageObject;
+
+
+/**
+ * These tests check that the {@link ElementSnapshot element snapshots} read by
+ * JavaScript match the answers Selenium gives for the same elements.
+ */
+public class ElementSnapshotsIntegrationTest extends AbstractWebTesterIntegrationTest {
+
+    ElementSnapshotsTestPage page;
+
+    @Before
+    public void initPage() {
+        page = getBrowser().create(ElementSnapshotsTestPage.class);
+    }
+
+    @Override
+    protected String getHTMLFilePath() {
+        return "html/utils/elementSnapshots.html";
+    }
+
+    /* displayed */
+
+    @Test
+    public final void testThatDisplayedStateMatchesSelenium() {
+        for (PageObject pageObject : Arrays.asList(page.visibleSpan, page.spanInInvisibleContainer,
+            page.spanWithHiddenVisibility, page.spanWithoutOpacity, page.divWithoutSize, page.divWithSizedChild,
+            page.hiddenInput, page.enabledInput, page.option, page.optionInInvisibleSelect)) {
+            assertThat(pageObject.toString(), snapshot(pageObject).isDisplayed(),
+                is(pageObject.getWebElement().isDisplayed()));
+        }
+    }
+
+    /* enabled */
+
+    @Test
+    public final void testThatEnabledStateMatchesSelenium() {
+        for (PageObject pageObject : Arrays.asList(page.visibleSpan, page.enabledInput, page.disabledInput,
+            page.inputInDisabledFieldset, page.option, page.optionInDisabledGroup)) {
+            assertThat(pageObject.toString(), snapshot(pageObject).isEnabled(),
+                is(pageObject.getWebElement().isEnabled()));
+        }
+    }
+
+    /* selected */
+
+    @Test
+    public final void testThatSelectedStateMatchesSelenium() {
+        for (PageObject pageObject : Arrays.asList(page.checkedCheckbox, page.enabledInput, page.option,
+            page.selectedOption)) {
+            assertThat(pageObject.toString(), snapshot(pageObject).isSelected(),
+                is(pageObject.getWebElement().isSelected()));
+        }
+    }
+
+    /* tag, value and text */
+
+    @Test
+    public final void testThatTagNameAndValueMatchSelenium() {
+        WebElement webElement = page.enabledInput.getWebElement();
+        ElementSnapshot snapshot = snapshot(page.enabledInput);
+        assertThat(snapshot.getTagName(), is(webElement.getTagName()));
+        assertThat(snapshot.getValue(), is(webElement.getAttribute("value")));
+    }
+
+    @Test
+    public final void testThatVisibleTextMatchesSelenium() {
+        assertThat(snapshot(page.visibleSpan).getVisibleText(), is(page.visibleSpan.getWebElement().getText()));
+    }
+
+    @Test
+    public final void testThatInvisibleElementsHaveNoVisibleText() {
+        assertThat(snapshot(page.spanInInvisibleContainer).getVisibleText(), is(""));
+    }
+
+    /* attributes */
+
+    @Test
+    public final void testThatRequestedAttributesMatchSelenium() {
+        ElementSnapshot snapshot =
+            ElementSnapshots.read(page.readOnlyInput, new HashSet<String>(Arrays.asList("readonly", "unknown")));
+        WebElement webElement = page.readOnlyInput.getWebElement();
+        assertThat(snapshot.getAttribute("readonly"), is(webElement.getAttribute("readonly")));
+        assertThat(snapshot.getAttribute("unknown"), is(nullValue()));
+    }
+
+    @Test
+    public final void testThatDataAttributesAreRead() {
+        ElementSnapshot snapshot = ElementSnapshots.read(page.visibleSpan, Collections.singleton("data-foo"));
+        assertThat(snapshot.getAttribute("data-foo"), is("bar"));
+    }
+
+    /* utilities */
+
+    private static ElementSnapshot snapshot(PageObject pageObject) {
+        return ElementSnapshots.read(pageObject, Collections.<String> emptySet());
+    }
+
+    public static class ElementSnapshotsTestPage extends PageObject {
+
+        @IdentifyUsing("visibleSpan")
+        PageObject visibleSpan;
+        @IdentifyUsing("spanInInvisibleContainer")
+        PageObject spanInInvisibleContainer;
+        @IdentifyUsing("spanWithHiddenVisibility")
+        PageObject spanWithHiddenVisibility;
+        @IdentifyUsing("spanWithoutOpacity")
+        PageObject spanWithoutOpacity;
+        @IdentifyUsing("divWithoutSize")
+        PageObject divWithoutSize;
+        @IdentifyUsing("divWithSizedChild")
+        PageObject divWithSizedChild;
+
+        @IdentifyUsing("hiddenInput")
+        PageObject hiddenInput;
+        @IdentifyUsing("enabledInput")
+        PageObject enabledInput;
+        @IdentifyUsing("disabledInput")
+        PageObject disabledInput;
+        @IdentifyUsing("readOnlyInput")
+        PageObject readOnlyInput;
+        @IdentifyUsing("inputInDisabledFieldset")
+        PageObject inputInDisabledFieldset;
+        @IdentifyUsing("checkedCheckbox")
+        PageObject checkedCheckbox;
+
+        @IdentifyUsing("option")
+        PageObject option;
+        @IdentifyUsing("selectedOption")
+        PageObject selectedOption;
+        @IdentifyUsing("optionInDisabledGroup")
+        PageObject optionInDisabledGroup;
+        @IdentifyUsing("optionInInvisibleSelect")
+        PageObject optionInInvisibleSelect;
+
+    }
+
+}
@@ -3,14 +3,19 @@ package info.novatec.testit.webtester.junit.runner;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Resource;
 
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.runner.Description;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
@@ -18,6 +23,7 @@ import org.junit.runners.model.Statement;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.internal.ReflectionUtils;
 import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
 import info.novatec.testit.webtester.junit.annotations.CreateUsing;
@@ -27,6 +33,7 @@ import info.novatec.testit.webtester.junit.exceptions.NoManagedBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoPrimaryBrowserException;
 import info.novatec.testit.webtester.junit.exceptions.NoUniquePrimaryBrowserException;
 import info.novatec.testit.webtester.junit.runner.internal.AbstractTestBrowser;
+import info.novatec.testit.webtester.junit.runner.internal.BrowserPrewarmer;
 import info.novatec.testit.webtester.junit.runner.internal.ClassTestBrowser;
 import info.novatec.testit.webtester.junit.runner.internal.ConfigurationValueInjector;
 import info.novatec.testit.webtester.junit.runner.internal.MethodTestBrowser;
@@ -43,6 +50,8 @@ import info.novatec.testit.webtester.junit.runner.internal.TestClassPlausibility
  * <li>Injection of configuration properties into static and instance fields.
  * </li>
  * <li>Closing {@link Browser browsers} at the end of their natural scope.</li>
+ * <li>{@link EventSystem#flush() Flushing} asynchronously dispatched events
+ * at the end of each test.</li>
  * </ul>
  * More precisely, any {@link Field field} of type {@link Browser browser}
  * annotated with {@link Resource @Resource} and a value of <code>null</code>
@@ -57,6 +66,20 @@ import info.novatec.testit.webtester.junit.runner.internal.TestClassPlausibility
  * are using more then one browser, {@link Primary @Primary} has to be used to
  * declare one of them as the primary browser.
  * <p>
+ * Browsers of fields with {@link CreateUsing#prewarm() pre-warming} enabled
+ * are started in the background before they are needed: static browsers when
+ * the test class starts running, instance browsers for the next test while the
+ * current test is running. Injection only waits for the pre-warmed browser to
+ * be ready.
+ * <p>
+ * The runner supports parallel execution of test methods and classes, e.g.
+ * with JUnit's <code>ParallelComputer</code> or Surefire's
+ * <code>parallel</code> setting. Instance browsers are confined to the thread
+ * executing their test and the primary browser is determined per thread.
+ * Static browsers are shared by all of the class' tests, so they should only
+ * be used if the tests of a class don't run in parallel. Opening their entry
+ * point is synchronized, but nothing more.
+ * <p>
  * All of these operations are done regardless of field visibility (private,
  * default, protected or public). Reflection is used to break open all
  * visibility modifiers.
@@ -136,14 +159,87 @@ import info.novatec.testit.webtester.junit.runner.internal.TestClassPlausibility
  */
 public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
 
-    private List<ClassTestBrowser> classBrowsers = new ArrayList<ClassTestBrowser>();
-    private List<MethodTestBrowser> methodBrowsers = new ArrayList<MethodTestBrowser>();
+    private volatile List<ClassTestBrowser> classBrowsers = Collections.emptyList();
+    private final ThreadLocal<List<MethodTestBrowser>> methodBrowsers = new ThreadLocal<List<MethodTestBrowser>>() {
+
+        @Override
+        protected List<MethodTestBrowser> initialValue() {
+            return Collections.emptyList();
+        }
+
+    };
+
+    private final BrowserPrewarmer prewarmer = new BrowserPrewarmer();
+    private final AtomicInteger remainingTests = new AtomicInteger();
 
     public WebTesterJUnitRunner(Class<?> testClass) throws InitializationError {
         super(testClass);
         new TestClassPlausibilityChecker(testClass).assertPlausibilityOfTestClass();
     }
 
+    @Override
+    protected Statement classBlock(final RunNotifier notifier) {
+        return new Statement() {
+
+            @Override
+            public void evaluate() throws Throwable {
+                remainingTests.set(countTestsToRun(getDescription()));
+                try {
+                    if (remainingTests.get() > 0) {
+                        prewarmClassBrowsers();
+                    }
+                    evaluateClassBlockFromSuperClass();
+                } finally {
+                    prewarmer.discardAll();
+                }
+            }
+
+            private void evaluateClassBlockFromSuperClass() throws Throwable {
+                WebTesterJUnitRunner.super.classBlock(notifier).evaluate();
+            }
+
+        };
+    }
+
+    /**
+     * Counts the tests of the given description which are not ignored. Only
+     * these tests need a browser.
+     */
+    private static int countTestsToRun(Description description) {
+        if (description.isTest()) {
+            return description.getAnnotation(Ignore.class) == null ? 1 : 0;
+        }
+        int count = 0;
+        for (Description child : description.getChildren()) {
+            count += countTestsToRun(child);
+        }
+        return count;
+    }
+
+    /**
+     * Starts the creation of all static browsers which aren't initialized yet
+     * before any class rules are executed.
+     */
+    private void prewarmClassBrowsers() {
+        try {
+            Class<?> testClass = getTestClass().getJavaClass();
+            for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
+                boolean fieldIsStatic = Modifier.isStatic(field.getModifiers());
+                boolean fieldIsABrowser = Browser.class.isAssignableFrom(field.getType());
+                boolean fieldIsAnnotatedAsResource = field.getAnnotation(Resource.class) != null;
+                if (fieldIsStatic && fieldIsABrowser && fieldIsAnnotatedAsResource) {
+                    field.setAccessible(true);
+                    if (field.get(null) == null) {
+                        prewarmer.prewarm(field);
+                    }
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException | LinkageError e) {
+            /* creation will be retried (and fail) synchronously */
+            prewarmer.discardAll();
+        }
+    }
+
     @Override
     protected Statement withBeforeClasses(final Statement statement) {
         return new Statement() {
@@ -157,16 +253,17 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             }
 
             private void initializeClassLevel() {
-                classBrowsers.clear();
+                List<ClassTestBrowser> browsers = new ArrayList<ClassTestBrowser>();
                 Class<?> testClass = getTestClass().getJavaClass();
                 for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
                     boolean fieldIsStatic = Modifier.isStatic(field.getModifiers());
                     boolean fieldIsABrowser = Browser.class.isAssignableFrom(field.getType());
                     boolean fieldIsAnnotatedAsResource = field.getAnnotation(Resource.class) != null;
                     if (fieldIsStatic && fieldIsABrowser && fieldIsAnnotatedAsResource) {
-                        classBrowsers.add(new ClassTestBrowser(field));
+                        browsers.add(new ClassTestBrowser(field, prewarmer));
                     }
                 }
+                classBrowsers = Collections.unmodifiableList(browsers);
             }
 
             private void injectConfigurationValuesIntoStaticFields() {
@@ -220,9 +317,11 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             }
 
             private void executeAfterClassForAllBrowsers() {
+                EventSystem.flush();
                 for (ClassTestBrowser browser : classBrowsers) {
                     browser.afterClass();
                 }
+                EventSystem.flush();
             }
 
         };
@@ -236,32 +335,49 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             public void evaluate() throws Throwable {
                 initializeMethodLevel();
                 executeBeforeTestForAllBrowsers();
+                prewarmMethodBrowsersForNextTest();
                 injectConfigurationValuesIntoInstanceFields();
                 evaluateWithBeforesFromSuperClass();
             }
 
             private void initializeMethodLevel() {
-                methodBrowsers.clear();
+                List<MethodTestBrowser> browsers = new ArrayList<MethodTestBrowser>();
                 Class<?> testClass = getTestClass().getJavaClass();
                 for (Field field : ReflectionUtils.getAllFieldsOfClassHierarchy(testClass)) {
                     boolean fieldIsNonStatic = !Modifier.isStatic(field.getModifiers());
                     boolean fieldIsABrowser = Browser.class.isAssignableFrom(field.getType());
                     boolean fieldIsAnnotatedAsResource = field.getAnnotation(Resource.class) != null;
                     if (fieldIsNonStatic && fieldIsABrowser && fieldIsAnnotatedAsResource) {
-                        methodBrowsers.add(new MethodTestBrowser(field, target));
+                        browsers.add(new MethodTestBrowser(field, target, prewarmer));
                     }
                 }
+                methodBrowsers.set(browsers);
             }
 
             private void executeBeforeTestForAllBrowsers() throws ReflectiveOperationException {
                 for (ClassTestBrowser browser : classBrowsers) {
                     browser.beforeTest();
                 }
-                for (MethodTestBrowser browser : methodBrowsers) {
+                for (MethodTestBrowser browser : methodBrowsers.get()) {
                     browser.beforeTest();
                 }
             }
 
+            /**
+             * Starts the creation of the browsers for the next test while
+             * this test is running. Fields initialized by the test class
+             * itself are not pre-warmed.
+             */
+            private void prewarmMethodBrowsersForNextTest() {
+                if (remainingTests.decrementAndGet() > 0) {
+                    for (MethodTestBrowser browser : methodBrowsers.get()) {
+                        if (browser.isCreated()) {
+                            prewarmer.prewarm(browser.getField());
+                        }
+                    }
+                }
+            }
+
             private void injectConfigurationValuesIntoInstanceFields() {
                 if (configurationValuesAnnotationIsUsedOnMethodLevel()) {
                     Configuration configuration = getPrimaryBrowser().getBrowser().getConfiguration();
@@ -308,11 +424,17 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
             }
 
             private void executeAfterTestForAllBrowsers() {
-                for (MethodTestBrowser browser : methodBrowsers) {
-                    browser.afterTest();
-                }
-                for (ClassTestBrowser browser : classBrowsers) {
-                    browser.afterTest();
+                try {
+                    EventSystem.flush();
+                    for (MethodTestBrowser browser : methodBrowsers.get()) {
+                        browser.afterTest();
+                    }
+                    for (ClassTestBrowser browser : classBrowsers) {
+                        browser.afterTest();
+                    }
+                    EventSystem.flush();
+                } finally {
+                    methodBrowsers.remove();
                 }
             }
 
@@ -336,7 +458,7 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
     }
 
     private int numberOfManagedBrowsers() {
-        return classBrowsers.size() + methodBrowsers.size();
+        return classBrowsers.size() + methodBrowsers.get().size();
     }
 
     private AbstractTestBrowser getUniquePrimaryBrowserCandidate() {
@@ -359,7 +481,7 @@ public class WebTesterJUnitRunner extends BlockJUnit4ClassRunner {
     private List<AbstractTestBrowser> getAllBrowsersRegardlessOfScope() {
         List<AbstractTestBrowser> allBrowser = new LinkedList<AbstractTestBrowser>();
         allBrowser.addAll(classBrowsers);
-        allBrowser.addAll(methodBrowsers);
+        allBrowser.addAll(methodBrowsers.get());
         return allBrowser;
     }
 
@@ -17,11 +17,13 @@ import info.novatec.testit.webtester.junit.exceptions.NoBrowserFactoryProvidedEx
 public abstract class AbstractTestBrowser {
 
     private Field field;
+    private BrowserPrewarmer prewarmer;
 
     private Browser browser;
     private String entryPoint;
     private boolean primaryCandidate;
     private boolean closeBrowser;
+    private boolean created;
 
     public AbstractTestBrowser(Field browserField) {
         this.field = browserField;
@@ -31,6 +33,11 @@ public abstract class AbstractTestBrowser {
         initializeCloseBrowserFlag();
     }
 
+    public AbstractTestBrowser(Field browserField, BrowserPrewarmer prewarmer) {
+        this(browserField);
+        this.prewarmer = prewarmer;
+    }
+
     private void initializeEntryPoint() {
         EntryPoint annotation = this.field.getAnnotation(EntryPoint.class);
         if (annotation != null) {
@@ -61,10 +68,19 @@ public abstract class AbstractTestBrowser {
         } else {
             browser = createNewBrowser();
             field.set(target, browser);
+            created = true;
         }
     }
 
     private Browser createNewBrowser() throws ReflectiveOperationException {
+        Browser prewarmedBrowser = prewarmer != null ? prewarmer.take(field) : null;
+        if (prewarmedBrowser != null) {
+            return prewarmedBrowser;
+        }
+        return createNewBrowser(field);
+    }
+
+    static Browser createNewBrowser(Field field) throws ReflectiveOperationException {
         CreateUsing annotation = field.getAnnotation(CreateUsing.class);
         if (annotation == null) {
             throw new NoBrowserFactoryProvidedException();
@@ -72,7 +88,7 @@ public abstract class AbstractTestBrowser {
         return createNewBrowserFromAnnotation(annotation);
     }
 
-    private Browser createNewBrowserFromAnnotation(CreateUsing annotation)
+    private static Browser createNewBrowserFromAnnotation(CreateUsing annotation)
         throws InstantiationException, IllegalAccessException {
         ProxyConfiguration proxyConfiguration = annotation.proxy().newInstance();
         return annotation.value().newInstance().withProxyConfiguration(proxyConfiguration).createBrowser();
@@ -109,6 +125,14 @@ public abstract class AbstractTestBrowser {
 
     public abstract void afterTest();
 
+    public boolean isCreated() {
+        return created;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
     public boolean isPrimaryCandidate() {
         return primaryCandidate;
     }
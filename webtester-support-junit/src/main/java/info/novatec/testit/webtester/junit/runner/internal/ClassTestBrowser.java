@@ -14,13 +14,18 @@ public class ClassTestBrowser extends AbstractTestBrowser {
         super(browserField);
     }
 
+    public ClassTestBrowser(Field browserField, BrowserPrewarmer prewarmer) {
+        super(browserField, prewarmer);
+    }
+
     public void beforeClass() throws ReflectiveOperationException {
         LOGGER.debug("beforeClass");
         createBrowserAndSetStaticField();
     }
 
     @Override
-    public void beforeTest() {
+    public synchronized void beforeTest() {
+        /* tests of the same class might be executed in parallel */
         LOGGER.debug("beforeTest");
         openEntryPointIfSet();
     }
@@ -17,6 +17,11 @@ public class MethodTestBrowser extends AbstractTestBrowser {
         this.target = target;
     }
 
+    public MethodTestBrowser(Field browserField, Object target, BrowserPrewarmer prewarmer) {
+        super(browserField, prewarmer);
+        this.target = target;
+    }
+
     @Override
     public void beforeTest() throws ReflectiveOperationException {
         LOGGER.debug("beforeTest");
@@ -0,0 +1,98 @@
+package info.novatec.testit.webtester.junit.runner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Resource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.ParallelComputer;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.openqa.selenium.WebDriver;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.junit.annotations.ConfigurationValue;
+import info.novatec.testit.webtester.junit.annotations.CreateUsing;
+import info.novatec.testit.webtester.junit.annotations.KeepAlive;
+import info.novatec.testit.webtester.junit.annotations.Primary;
+import info.novatec.testit.webtester.junit.runner.WebTesterJUnitRunnerPrewarmingTest.RecordingBrowserFactory;
+
+
+public class WebTesterJUnitRunnerParallelTest {
+
+    static final int NUMBER_OF_TESTS = 3;
+
+    static Set<Browser> usedBrowsers = Collections.newSetFromMap(new IdentityHashMap<Browser, Boolean>());
+    static CyclicBarrier barrier;
+
+    @Before
+    public void reset() {
+        usedBrowsers.clear();
+        barrier = new CyclicBarrier(NUMBER_OF_TESTS);
+    }
+
+    @Test
+    public void testThatMethodsCanBeExecutedInParallel() {
+
+        Result result = JUnitCore.runClasses(ParallelComputer.methods(), ParallelTestClass.class);
+
+        assertThat(result.getFailures().toString(), result.wasSuccessful(), is(true));
+        assertThat(usedBrowsers, hasSize(NUMBER_OF_TESTS));
+
+    }
+
+    static void useBrowser(Browser browser) throws Exception {
+        synchronized (usedBrowsers) {
+            usedBrowsers.add(browser);
+        }
+        /* makes sure all tests are running at the same time */
+        barrier.await(10, TimeUnit.SECONDS);
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class ParallelTestClass {
+
+        @Resource
+        @KeepAlive
+        static Browser sharedBrowser = WebDriverBrowser.buildForWebDriver(mock(WebDriver.class));
+
+        @Primary
+        @Resource
+        @CreateUsing(RecordingBrowserFactory.class)
+        Browser browser;
+
+        @ConfigurationValue("custom.string")
+        String customString;
+
+        @Test
+        public void test1() throws Exception {
+            assertThat(customString, is("foo bar"));
+            useBrowser(browser);
+        }
+
+        @Test
+        public void test2() throws Exception {
+            assertThat(customString, is("foo bar"));
+            useBrowser(browser);
+        }
+
+        @Test
+        public void test3() throws Exception {
+            assertThat(customString, is("foo bar"));
+            useBrowser(browser);
+        }
+
+    }
+
+}
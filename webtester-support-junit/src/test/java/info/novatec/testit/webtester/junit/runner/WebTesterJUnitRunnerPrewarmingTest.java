@@ -0,0 +1,257 @@
+package info.novatec.testit.webtester.junit.runner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Resource;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.rules.TestRule;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.junit.annotations.CreateUsing;
+import info.novatec.testit.webtester.junit.annotations.Primary;
+
+
+public class WebTesterJUnitRunnerPrewarmingTest {
+
+    static List<String> creatingThreads = new CopyOnWriteArrayList<String>();
+    static AtomicInteger closedBrowsers = new AtomicInteger();
+
+    @Before
+    public void reset() {
+        creatingThreads.clear();
+        closedBrowsers.set(0);
+    }
+
+    @Test
+    public void testThatBrowsersArePrewarmedInTheBackground() {
+
+        Result result = JUnitCore.runClasses(PrewarmedTestClass.class);
+
+        assertThat(result.getFailures().toString(), result.wasSuccessful(), is(true));
+        /* the first method browser is created synchronously, because the runner can't know in advance whether the
+         * field is initialized by the test class itself */
+        assertThat(creatingThreads, hasSize(4));
+        assertThat(prewarmedBrowsers(), is(3));
+
+    }
+
+    @Test
+    public void testThatBrowsersAreNotPrewarmedByDefault() {
+
+        Result result = JUnitCore.runClasses(NotPrewarmedTestClass.class);
+
+        assertThat(result.getFailures().toString(), result.wasSuccessful(), is(true));
+        assertThat(creatingThreads, hasSize(2));
+        assertThat(prewarmedBrowsers(), is(0));
+
+    }
+
+    @Test
+    public void testThatNoBrowserIsPrewarmedForIgnoredTests() {
+
+        Result result = JUnitCore.runClasses(PartlyIgnoredTestClass.class);
+
+        assertThat(result.getFailures().toString(), result.wasSuccessful(), is(true));
+        assertThat(creatingThreads, hasSize(1));
+        assertThat(closedBrowsers.get(), is(1));
+
+    }
+
+    @Test
+    public void testThatNoBrowserIsPrewarmedIfAllTestsAreIgnored() {
+
+        Result result = JUnitCore.runClasses(IgnoredTestClass.class);
+
+        assertThat(result.getFailures().toString(), result.wasSuccessful(), is(true));
+        assertThat(creatingThreads, is(empty()));
+
+    }
+
+    @Test
+    public void testThatPrewarmedBrowsersAreClosedIfClassRuleFails() {
+
+        Result result = JUnitCore.runClasses(FailingClassRuleTestClass.class);
+
+        assertThat(result.wasSuccessful(), is(false));
+        assertThat(creatingThreads, hasSize(1));
+        assertThat(closedBrowsers.get(), is(1));
+
+    }
+
+    private int prewarmedBrowsers() {
+        int prewarmed = 0;
+        for (String thread : creatingThreads) {
+            if (thread.startsWith("webtester-browser-prewarmer")) {
+                prewarmed++;
+            }
+        }
+        return prewarmed;
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class PrewarmedTestClass {
+
+        @Primary
+        @Resource
+        @CreateUsing(value = RecordingBrowserFactory.class, prewarm = true)
+        static Browser classBrowser;
+
+        @Resource
+        @CreateUsing(value = RecordingBrowserFactory.class, prewarm = true)
+        Browser methodBrowser;
+
+        @Test
+        public void test1() {
+            assertThat(methodBrowser, is(not(classBrowser)));
+        }
+
+        @Test
+        public void test2() {
+            assertThat(methodBrowser, is(not(classBrowser)));
+        }
+
+        @Test
+        public void test3() {
+            assertThat(methodBrowser, is(not(classBrowser)));
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class NotPrewarmedTestClass {
+
+        @Resource
+        @CreateUsing(RecordingBrowserFactory.class)
+        Browser methodBrowser;
+
+        @Test
+        public void test1() {
+            assertThat(methodBrowser, is(not(( Browser ) null)));
+        }
+
+        @Test
+        public void test2() {
+            assertThat(methodBrowser, is(not(( Browser ) null)));
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class PartlyIgnoredTestClass {
+
+        @Resource
+        @CreateUsing(value = RecordingBrowserFactory.class, prewarm = true)
+        Browser methodBrowser;
+
+        @Test
+        public void test1() {
+            assertThat(methodBrowser, is(not(( Browser ) null)));
+        }
+
+        @Ignore
+        @Test
+        public void test2() {
+            assertThat(methodBrowser, is(not(( Browser ) null)));
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class IgnoredTestClass {
+
+        @Resource
+        @CreateUsing(value = RecordingBrowserFactory.class, prewarm = true)
+        static Browser classBrowser;
+
+        @Ignore
+        @Test
+        public void test() {
+            assertThat(classBrowser, is(not(( Browser ) null)));
+        }
+
+    }
+
+    @RunWith(WebTesterJUnitRunner.class)
+    public static class FailingClassRuleTestClass {
+
+        @ClassRule
+        public static TestRule failingRule = new ExternalResource() {
+
+            @Override
+            protected void before() {
+                throw new IllegalStateException("class rule failed");
+            }
+
+        };
+
+        @Resource
+        @CreateUsing(value = RecordingBrowserFactory.class, prewarm = true)
+        static Browser classBrowser;
+
+        @Test
+        public void test() {
+            assertThat(classBrowser, is(not(( Browser ) null)));
+        }
+
+    }
+
+    public static class RecordingBrowserFactory implements BrowserFactory {
+
+        @Override
+        public Browser createBrowser() {
+            creatingThreads.add(Thread.currentThread().getName());
+            WebDriver webDriver = mock(WebDriver.class);
+            doAnswer(new Answer<Void>() {
+
+                @Override
+                public Void answer(InvocationOnMock invocation) {
+                    closedBrowsers.incrementAndGet();
+                    return null;
+                }
+
+            }).when(webDriver).quit();
+            return WebDriverBrowser.buildForWebDriver(webDriver);
+        }
+
+        @Override
+        public Browser createBrowser(WebDriver webDriver) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Browser createBrowser(DesiredCapabilities capabilities) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BrowserFactory withProxyConfiguration(ProxyConfiguration configuration) {
+            return this;
+        }
+
+    }
+
+}
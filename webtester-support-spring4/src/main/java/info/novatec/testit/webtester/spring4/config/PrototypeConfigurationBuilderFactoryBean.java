@@ -10,6 +10,7 @@ import info.novatec.testit.webtester.api.config.ConfigurationAdapter;
 import info.novatec.testit.webtester.api.config.ConfigurationBuilder;
 import info.novatec.testit.webtester.api.config.ConfigurationExporter;
 import info.novatec.testit.webtester.config.BaseConfigurationBuilder;
+import info.novatec.testit.webtester.config.ConfigurationPrototype;
 
 
 /**
@@ -23,6 +24,12 @@ import info.novatec.testit.webtester.config.BaseConfigurationBuilder;
  * You can set configuration {@link ConfigurationAdapter adapters} and
  * {@link ConfigurationExporter exporters} to be used when creating the builder
  * instance.
+ * <p>
+ * All builders created by this factory share the same
+ * {@link ConfigurationPrototype configuration prototype}. As long as their
+ * adapters and exporters aren't changed, the configurations they build are
+ * copies of a memoized configuration which is only adapted again if the
+ * sources of the adapters changed.
  *
  * @see #setAdapters(List)
  * @see #setExporters(List)
@@ -36,10 +43,18 @@ public class PrototypeConfigurationBuilderFactoryBean implements SmartFactoryBea
 
     private List<ConfigurationAdapter> adapters = new LinkedList<ConfigurationAdapter>();
     private List<ConfigurationExporter> exporters = new LinkedList<ConfigurationExporter>();
+    private ConfigurationPrototype prototype;
 
     @Override
     public ConfigurationBuilder getObject() {
-        return new BaseConfigurationBuilder().withAdapters(adapters).withExporters(exporters);
+        return new BaseConfigurationBuilder(getPrototype());
+    }
+
+    private synchronized ConfigurationPrototype getPrototype() {
+        if (prototype == null) {
+            prototype = new ConfigurationPrototype(adapters, exporters);
+        }
+        return prototype;
     }
 
     @Override
@@ -68,8 +83,9 @@ public class PrototypeConfigurationBuilderFactoryBean implements SmartFactoryBea
      *
      * @param adapters the adapters
      */
-    public void setAdapters(List<ConfigurationAdapter> adapters) {
+    public synchronized void setAdapters(List<ConfigurationAdapter> adapters) {
         this.adapters = adapters;
+        this.prototype = null;
     }
 
     /**
@@ -78,8 +94,9 @@ public class PrototypeConfigurationBuilderFactoryBean implements SmartFactoryBea
      *
      * @param exporters the exporters
      */
-    public void setExporters(List<ConfigurationExporter> exporters) {
+    public synchronized void setExporters(List<ConfigurationExporter> exporters) {
         this.exporters = exporters;
+        this.prototype = null;
     }
 
 }
@@ -44,4 +44,16 @@ public @interface CreateUsing {
      */
     Class<? extends ProxyConfiguration> proxy() default NoProxyConfiguration.class;
 
+    /**
+     * Whether or not the {@link WebTesterTestNGListener WebTester TestNG
+     * listener} may start the annotated {@link Browser browser} in the
+     * background before it is needed. Class level browsers of all test classes
+     * are started in parallel, method level browsers for the next test while
+     * the current test is running. Pre-warming is disabled by default.
+     *
+     * @return true if the browser may be pre-warmed, otherwise false
+     * @since 1.3.0
+     */
+    boolean prewarm() default false;
+
 }
@@ -7,6 +7,7 @@ import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Resource;
 
 import org.testng.IInvokedMethod;
@@ -19,6 +20,7 @@ import org.testng.annotations.Test;
 
 import info.novatec.testit.webtester.api.browser.Browser;
 import info.novatec.testit.webtester.api.config.Configuration;
+import info.novatec.testit.webtester.eventsystem.EventSystem;
 import info.novatec.testit.webtester.internal.ReflectionUtils;
 import info.novatec.testit.webtester.testng.annotations.ConfigurationValue;
 import info.novatec.testit.webtester.testng.annotations.CreateUsing;
@@ -28,6 +30,7 @@ import info.novatec.testit.webtester.testng.exceptions.NoManagedBrowserException
 import info.novatec.testit.webtester.testng.exceptions.NoPrimaryBrowserException;
 import info.novatec.testit.webtester.testng.exceptions.NoUniquePrimaryBrowserException;
 import info.novatec.testit.webtester.testng.listener.internal.AbstractTestBrowser;
+import info.novatec.testit.webtester.testng.listener.internal.BrowserPrewarmer;
 import info.novatec.testit.webtester.testng.listener.internal.ClassTestBrowser;
 import info.novatec.testit.webtester.testng.listener.internal.ConfigurationValueInjector;
 import info.novatec.testit.webtester.testng.listener.internal.MethodTestBrowser;
@@ -45,6 +48,8 @@ import info.novatec.testit.webtester.testng.listener.internal.WebTesterTestNGLis
  * <li>Injection of configuration properties into static and instance fields.
  * </li>
  * <li>Closing {@link Browser browsers} at the end of their natural scope.</li>
+ * <li>{@link EventSystem#flush() Flushing} asynchronously dispatched events
+ * at the end of each test.</li>
  * </ul>
  * More precisely, any {@link Field field} of type {@link Browser browser}
  * annotated with {@link Resource @Resource} and a value of <code>null</code>
@@ -59,6 +64,12 @@ import info.novatec.testit.webtester.testng.listener.internal.WebTesterTestNGLis
  * are using more then one browser, {@link Primary @Primary} has to be used to
  * declare one of them as the primary browser.
  * <p>
+ * Browsers of fields with {@link CreateUsing#prewarm() pre-warming} enabled
+ * are started in the background before they are needed: the static browsers
+ * of all test classes in parallel when the test context starts, instance
+ * browsers for the next test while the current test is running. Injection only
+ * waits for the pre-warmed browser to be ready.
+ * <p>
  * All of these operations are done regardless of field visibility (private,
  * default, protected or public). Reflection is used to break open all
  * visibility modifiers.
@@ -110,6 +121,9 @@ public class WebTesterTestNGListener extends WebTesterTestNGListenerAdapter {
     private List<Field> classBrowserFields = new ArrayList<>();
     private List<MethodTestBrowser> methodBrowsers = new ArrayList<>();
 
+    private final BrowserPrewarmer prewarmer = new BrowserPrewarmer();
+    private final AtomicInteger remainingTests = new AtomicInteger();
+
     public WebTesterTestNGListener() {
     }
 
@@ -120,6 +134,8 @@ public class WebTesterTestNGListener extends WebTesterTestNGListenerAdapter {
     @Override
     public void onStart(ITestContext iTestContext) {
         initializeClassLevel(iTestContext);
+        initializeRemainingTests(iTestContext);
+        prewarmClassBrowsers();
         executeBeforeClassForAllBrowsers();
         injectConfigurationValuesIntoStaticFields(iTestContext);
     }
@@ -136,8 +152,32 @@ public class WebTesterTestNGListener extends WebTesterTestNGListenerAdapter {
                 boolean isNoDuplicate = fieldIsNoDuplicateOfAnExistingClassBrowserField(field);
                 if (fieldIsStatic && fieldIsABrowser && fieldIsAnnotatedAsResource && isNoDuplicate) {
                     classBrowserFields.add(field);
-                    classBrowsers.add(new ClassTestBrowser(field));
+                    classBrowsers.add(new ClassTestBrowser(field, prewarmer));
+                }
+            }
+        }
+    }
+
+    private void initializeRemainingTests(ITestContext iTestContext) {
+        int numberOfTests = 0;
+        for (ITestNGMethod method : iTestContext.getAllTestMethods()) {
+            numberOfTests += method.getInvocationCount();
+        }
+        remainingTests.set(numberOfTests);
+    }
+
+    /**
+     * Starts the creation of all static browsers which aren't initialized yet,
+     * so the browsers of all test classes are started in parallel.
+     */
+    private void prewarmClassBrowsers() {
+        for (Field field : classBrowserFields) {
+            try {
+                if (field.get(null) == null) {
+                    prewarmer.prewarm(field);
                 }
+            } catch (IllegalAccessException e) {
+                throw new UndeclaredThrowableException(e);
             }
         }
     }
@@ -199,6 +239,7 @@ public class WebTesterTestNGListener extends WebTesterTestNGListenerAdapter {
         if (method.isAnnotationPresent(BeforeMethod.class) || method.isAnnotationPresent(Test.class)) {
             initializeMethodLevel(iTestResult);
             executeBeforeTestForAllBrowsers();
+            prewarmMethodBrowsersForNextTest();
             injectConfigurationValuesIntoInstanceFields(iTestResult);
         }
     }
@@ -211,7 +252,7 @@ public class WebTesterTestNGListener extends WebTesterTestNGListenerAdapter {
             boolean fieldIsABrowser = Browser.class.isAssignableFrom(field.getType());
             boolean fieldIsAnnotatedAsResource = field.getAnnotation(Resource.class) != null;
             if (fieldIsNonStatic && fieldIsABrowser && fieldIsAnnotatedAsResource) {
-                methodBrowsers.add(new MethodTestBrowser(field, iTestResult.getInstance()));
+                methodBrowsers.add(new MethodTestBrowser(field, iTestResult.getInstance(), prewarmer));
             }
         }
     }
@@ -229,6 +270,24 @@ public class WebTesterTestNGListener extends WebTesterTestNGListenerAdapter {
         }
     }
 
+    /**
+     * Starts the creation of the browsers for the next test while this test is
+     * running. Fields initialized by the test class itself are not pre-warmed.
+     */
+    private void prewarmMethodBrowsersForNextTest() {
+        List<Field> createdBrowserFields = new ArrayList<>();
+        for (MethodTestBrowser browser : methodBrowsers) {
+            if (browser.isCreated()) {
+                createdBrowserFields.add(browser.getField());
+            }
+        }
+        if (!createdBrowserFields.isEmpty() && remainingTests.decrementAndGet() > 0) {
+            for (Field field : createdBrowserFields) {
+                prewarmer.prewarm(field);
+            }
+        }
+    }
+
     private void injectConfigurationValuesIntoInstanceFields(ITestResult iTestResult) {
         if (configurationValuesAnnotationIsUsedOnMethodLevel(iTestResult)) {
             Configuration configuration = getPrimaryBrowser().getBrowser().getConfiguration();
@@ -258,23 +317,31 @@ public class WebTesterTestNGListener extends WebTesterTestNGListenerAdapter {
     }
 
     private void executeAfterTestForAllBrowsers() {
+        EventSystem.flush();
         for (MethodTestBrowser browser : methodBrowsers) {
             browser.afterTest();
         }
         for (ClassTestBrowser browser : classBrowsers) {
             browser.afterTest();
         }
+        EventSystem.flush();
     }
 
     @Override
     public void onFinish(ITestContext iTestContext) {
-        executeAfterClassForAllBrowsers();
+        try {
+            executeAfterClassForAllBrowsers();
+        } finally {
+            prewarmer.discardAll();
+        }
     }
 
     private void executeAfterClassForAllBrowsers() {
+        EventSystem.flush();
         for (ClassTestBrowser browser : classBrowsers) {
             browser.afterClass();
         }
+        EventSystem.flush();
     }
 
     private AbstractTestBrowser getPrimaryBrowser() {
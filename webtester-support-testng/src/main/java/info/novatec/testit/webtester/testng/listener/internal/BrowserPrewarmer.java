@@ -0,0 +1,147 @@
+package info.novatec.testit.webtester.testng.listener.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.testng.annotations.CreateUsing;
+
+
+/**
+ * Starts {@link Browser browsers} for {@link CreateUsing @CreateUsing}
+ * annotated fields in the background, so they are (nearly) ready when they
+ * are injected. Browsers which were started but never taken have to be
+ * {@link #discardAll() discarded}.
+ */
+public class BrowserPrewarmer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserPrewarmer.class);
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "webtester-browser-prewarmer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    });
+
+    private final Map<Field, Deque<Future<Browser>>> browsers = new HashMap<Field, Deque<Future<Browser>>>();
+
+    /**
+     * Starts the creation of a browser for the given field in the background.
+     * Does nothing if the field isn't annotated with
+     * {@link CreateUsing @CreateUsing} or pre-warming is disabled for it.
+     *
+     * @param field the field to create a browser for
+     */
+    public void prewarm(final Field field) {
+        CreateUsing annotation = field.getAnnotation(CreateUsing.class);
+        if (annotation == null || !annotation.prewarm()) {
+            return;
+        }
+        Future<Browser> browser = EXECUTOR.submit(new Callable<Browser>() {
+
+            @Override
+            public Browser call() throws ReflectiveOperationException {
+                LOGGER.debug("pre-warming browser for field: {}", field);
+                return AbstractTestBrowser.createNewBrowser(field);
+            }
+
+        });
+        synchronized (browsers) {
+            Deque<Future<Browser>> fieldBrowsers = browsers.get(field);
+            if (fieldBrowsers == null) {
+                fieldBrowsers = new ArrayDeque<Future<Browser>>();
+                browsers.put(field, fieldBrowsers);
+            }
+            fieldBrowsers.addLast(browser);
+        }
+    }
+
+    /**
+     * Takes the oldest pre-warmed browser of the given field, waiting for its
+     * creation to finish if necessary.
+     *
+     * @param field the field to take a browser for
+     * @return the browser or null if none was pre-warmed for the field
+     * @throws ReflectiveOperationException if the browser factory or proxy
+     * configuration couldn't be instantiated
+     */
+    public Browser take(Field field) throws ReflectiveOperationException {
+        Future<Browser> browser;
+        synchronized (browsers) {
+            Deque<Future<Browser>> fieldBrowsers = browsers.get(field);
+            browser = fieldBrowsers != null ? fieldBrowsers.pollFirst() : null;
+        }
+        return browser != null ? await(browser) : null;
+    }
+
+    /**
+     * Closes all pre-warmed browsers which weren't taken.
+     */
+    public void discardAll() {
+        List<Future<Browser>> discarded = new ArrayList<Future<Browser>>();
+        synchronized (browsers) {
+            for (Deque<Future<Browser>> fieldBrowsers : browsers.values()) {
+                discarded.addAll(fieldBrowsers);
+            }
+            browsers.clear();
+        }
+        for (Future<Browser> browser : discarded) {
+            try {
+                await(browser).close();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.debug("could not discard pre-warmed browser: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Browser await(Future<Browser> browser) throws ReflectiveOperationException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return browser.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ReflectiveOperationException) {
+                throw ( ReflectiveOperationException ) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw ( RuntimeException ) cause;
+            } else if (cause instanceof Error) {
+                throw ( Error ) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
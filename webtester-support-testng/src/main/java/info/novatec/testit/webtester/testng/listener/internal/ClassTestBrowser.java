@@ -13,6 +13,10 @@ public class ClassTestBrowser extends AbstractTestBrowser {
         super(browserField);
     }
 
+    public ClassTestBrowser(Field browserField, BrowserPrewarmer prewarmer) {
+        super(browserField, prewarmer);
+    }
+
     public void beforeClass() throws ReflectiveOperationException {
         LOGGER.debug("beforeClass");
         createBrowserAndSetStaticField();
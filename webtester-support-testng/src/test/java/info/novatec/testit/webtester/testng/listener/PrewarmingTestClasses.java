@@ -0,0 +1,139 @@
+package info.novatec.testit.webtester.testng.listener;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Resource;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import info.novatec.testit.webtester.api.browser.Browser;
+import info.novatec.testit.webtester.api.browser.BrowserFactory;
+import info.novatec.testit.webtester.api.browser.ProxyConfiguration;
+import info.novatec.testit.webtester.browser.WebDriverBrowser;
+import info.novatec.testit.webtester.testng.annotations.CreateUsing;
+import info.novatec.testit.webtester.testng.annotations.Primary;
+
+
+/**
+ * Test classes run by {@link WebTesterTestNGListenerPrewarmingTest}. They are
+ * kept out of the test class itself, because TestNG would run them as part
+ * of the surrounding suite otherwise.
+ */
+public final class PrewarmingTestClasses {
+
+    private static final List<String> CREATING_THREADS = new CopyOnWriteArrayList<String>();
+    private static final AtomicInteger CLOSED_BROWSERS = new AtomicInteger();
+
+    private PrewarmingTestClasses() {
+        // utility class constructor
+    }
+
+    static void reset() {
+        CREATING_THREADS.clear();
+        CLOSED_BROWSERS.set(0);
+    }
+
+    static List<String> creatingThreads() {
+        return CREATING_THREADS;
+    }
+
+    static int closedBrowsers() {
+        return CLOSED_BROWSERS.get();
+    }
+
+    @Listeners(WebTesterTestNGListener.class)
+    public static class PrewarmedTestClass {
+
+        @Primary
+        @Resource
+        @CreateUsing(value = RecordingBrowserFactory.class, prewarm = true)
+        static Browser classBrowser;
+
+        @Resource
+        @CreateUsing(value = RecordingBrowserFactory.class, prewarm = true)
+        Browser methodBrowser;
+
+        @Test
+        public void test1() {
+            assertThat(methodBrowser, is(not(classBrowser)));
+        }
+
+        @Test
+        public void test2() {
+            assertThat(methodBrowser, is(not(classBrowser)));
+        }
+
+        @Test
+        public void test3() {
+            assertThat(methodBrowser, is(not(classBrowser)));
+        }
+
+    }
+
+    @Listeners(WebTesterTestNGListener.class)
+    public static class NotPrewarmedTestClass {
+
+        @Resource
+        @CreateUsing(RecordingBrowserFactory.class)
+        Browser methodBrowser;
+
+        @Test
+        public void test1() {
+            assertThat(methodBrowser, is(not(( Browser ) null)));
+        }
+
+        @Test
+        public void test2() {
+            assertThat(methodBrowser, is(not(( Browser ) null)));
+        }
+
+    }
+
+    public static class RecordingBrowserFactory implements BrowserFactory {
+
+        @Override
+        public Browser createBrowser() {
+            CREATING_THREADS.add(Thread.currentThread().getName());
+            WebDriver webDriver = mock(WebDriver.class);
+            doAnswer(new Answer<Void>() {
+
+                @Override
+                public Void answer(InvocationOnMock invocation) {
+                    CLOSED_BROWSERS.incrementAndGet();
+                    return null;
+                }
+
+            }).when(webDriver).quit();
+            return WebDriverBrowser.buildForWebDriver(webDriver);
+        }
+
+        @Override
+        public Browser createBrowser(WebDriver webDriver) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Browser createBrowser(DesiredCapabilities capabilities) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BrowserFactory withProxyConfiguration(ProxyConfiguration configuration) {
+            return this;
+        }
+
+    }
+
+}
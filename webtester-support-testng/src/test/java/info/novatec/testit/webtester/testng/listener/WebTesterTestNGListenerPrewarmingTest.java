@@ -0,0 +1,74 @@
+package info.novatec.testit.webtester.testng.listener;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static info.novatec.testit.webtester.testng.listener.PrewarmingTestClasses.closedBrowsers;
+import static info.novatec.testit.webtester.testng.listener.PrewarmingTestClasses.creatingThreads;
+
+import org.testng.ITestNGListener;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import info.novatec.testit.webtester.testng.listener.PrewarmingTestClasses.NotPrewarmedTestClass;
+import info.novatec.testit.webtester.testng.listener.PrewarmingTestClasses.PrewarmedTestClass;
+
+
+public class WebTesterTestNGListenerPrewarmingTest {
+
+    @BeforeMethod
+    public void reset() {
+        PrewarmingTestClasses.reset();
+    }
+
+    @Test
+    public void testThatBrowsersArePrewarmedInTheBackground() {
+
+        TestListenerAdapter result = run(PrewarmedTestClass.class);
+
+        assertThat(result.getFailedTests().toString(), result.getFailedTests(), is(empty()));
+        assertThat(result.getPassedTests(), hasSize(3));
+        /* the first method browser is created synchronously, because the listener can't know in advance whether the
+         * field is initialized by the test class itself */
+        assertThat(creatingThreads(), hasSize(4));
+        assertThat(prewarmedBrowsers(), is(3));
+        assertThat(closedBrowsers(), is(4));
+
+    }
+
+    @Test
+    public void testThatBrowsersAreNotPrewarmedByDefault() {
+
+        TestListenerAdapter result = run(NotPrewarmedTestClass.class);
+
+        assertThat(result.getFailedTests().toString(), result.getFailedTests(), is(empty()));
+        assertThat(result.getPassedTests(), hasSize(2));
+        assertThat(creatingThreads(), hasSize(2));
+        assertThat(prewarmedBrowsers(), is(0));
+
+    }
+
+    private static TestListenerAdapter run(Class<?> testClass) {
+        TestListenerAdapter listener = new TestListenerAdapter();
+        TestNG testNG = new TestNG(false);
+        testNG.setVerbose(0);
+        testNG.setTestClasses(new Class<?>[] { testClass });
+        testNG.addListener(( ITestNGListener ) listener);
+        testNG.run();
+        return listener;
+    }
+
+    private int prewarmedBrowsers() {
+        int prewarmed = 0;
+        for (String thread : creatingThreads()) {
+            if (thread.startsWith("webtester-browser-prewarmer")) {
+                prewarmed++;
+            }
+        }
+        return prewarmed;
+    }
+
+}